@@ -0,0 +1,29 @@
+package com.loopers.application.archive;
+
+import com.loopers.domain.order.ArchivedOrderRepository;
+import com.loopers.domain.point.ArchivedPointHistoryRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 청크 하나를 아카이브 테이블로 이동한다. 복사와 삭제가 한 트랜잭션에서 수행되므로 중간 실패 시 원본이 그대로 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchiveChunkMover {
+
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedPointHistoryRepository archivedPointHistoryRepository;
+
+    @Transactional
+    public int moveOrders(List<Long> orderIds) {
+        return archivedOrderRepository.archive(orderIds);
+    }
+
+    @Transactional
+    public int movePointHistories(List<Long> historyIds) {
+        return archivedPointHistoryRepository.archive(historyIds);
+    }
+}
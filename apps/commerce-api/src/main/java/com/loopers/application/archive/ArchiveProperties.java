@@ -0,0 +1,18 @@
+package com.loopers.application.archive;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled 아카이브 잡 활성화 여부
+ * @param retentionDays 핫 테이블에 유지할 기간 (이보다 오래된 행을 아카이브로 이동)
+ * @param chunkSize 한 트랜잭션에서 이동할 행 수
+ * @param throttle 청크 사이 대기 시간 (복제 지연/버퍼 풀 오염 완화)
+ */
+@ConfigurationProperties(value = "archive")
+public record ArchiveProperties(
+    boolean enabled,
+    int retentionDays,
+    int chunkSize,
+    Duration throttle
+) { }
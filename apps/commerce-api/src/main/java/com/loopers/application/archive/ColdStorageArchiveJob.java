@@ -0,0 +1,88 @@
+package com.loopers.application.archive;
+
+import com.loopers.domain.order.ArchivedOrderRepository;
+import com.loopers.domain.point.ArchivedPointHistoryRepository;
+import com.loopers.support.lock.JobLock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 기간이 지난 주문/주문 항목/포인트 이력을 아카이브 테이블로 옮겨 핫 테이블을 작게 유지한다.
+ *
+ * <p>대상은 PK 키셋(id &gt; lastId ORDER BY id LIMIT n)으로 순회하여 OFFSET 스캔 없이 청크를 조회하고,
+ * 청크마다 별도 트랜잭션으로 이동한 뒤 {@link ArchiveProperties#throttle()} 만큼 쉬어 운영 트래픽에 주는 영향을 줄인다.
+ * 아카이브된 데이터는 주문/포인트 이력 조회 API 에서 투명하게 함께 조회된다.</p>
+ *
+ * <p>여러 노드 중 {@link JobLock} 을 얻은 한 노드만 실행한다. 락 리스를 잃어 두 노드가 겹치더라도 복사는 INSERT IGNORE 라 중복 키로 중단되지 않는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ColdStorageArchiveJob {
+
+    private static final String LOCK_NAME = "cold-storage-archive";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+
+    private final ArchiveProperties archiveProperties;
+    private final ArchiveChunkMover archiveChunkMover;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedPointHistoryRepository archivedPointHistoryRepository;
+    private final JobLock jobLock;
+
+    @Scheduled(cron = "${archive.cron}")
+    public void run() {
+        if (!archiveProperties.enabled()) {
+            return;
+        }
+        jobLock.runExclusively(LOCK_NAME, LOCK_LEASE, this::archiveAll);
+    }
+
+    private void archiveAll() {
+        ZonedDateTime createdBefore = ZonedDateTime.now().minusDays(archiveProperties.retentionDays());
+        int orders = archive(
+            afterId -> archivedOrderRepository.findArchivableIds(createdBefore, afterId,
+                archiveProperties.chunkSize()),
+            archiveChunkMover::moveOrders
+        );
+        int histories = archive(
+            afterId -> archivedPointHistoryRepository.findArchivableIds(createdBefore, afterId,
+                archiveProperties.chunkSize()),
+            archiveChunkMover::movePointHistories
+        );
+        log.info("아카이브 완료. 기준={}, 주문={}건, 포인트 이력={}건", createdBefore, orders, histories);
+    }
+
+    private int archive(Function<Long, List<Long>> nextChunk, Function<List<Long>, Integer> mover) {
+        int total = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = nextChunk.apply(lastId);
+            if (ids.isEmpty()) {
+                return total;
+            }
+            total += mover.apply(ids);
+            lastId = ids.get(ids.size() - 1);
+
+            if (!throttle()) {
+                return total;
+            }
+        }
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(archiveProperties.throttle().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("아카이브 잡이 중단되었습니다.");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.application.brand;
+
+/**
+ * 브랜드 생성/수정 이벤트. 트랜잭션 커밋 이후 브랜드 레지스트리를 다시 적재하고 다른 노드에 알리는 데 사용된다.
+ *
+ * @param brandId 변경된 브랜드 ID
+ */
+public record BrandChangedEvent(Long brandId) {
+
+}
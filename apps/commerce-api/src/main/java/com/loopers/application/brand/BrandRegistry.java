@@ -0,0 +1,142 @@
+package com.loopers.application.brand;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 브랜드의 프로세스 내 레지스트리.
+ *
+ * <p>기동 시 전체 브랜드를 id → 브랜드, 이름 → 브랜드 불변 맵으로 적재하고, 브랜드가 변경되면 새 맵을 만들어 참조만 교체한다.
+ * 조회는 락과 I/O 없이 현재 스냅샷을 읽는다. 변경을 커밋한 노드는 Redis Pub/Sub 으로 알리고, 나머지 노드는 메시지를 받아 다시 적재한다.
+ * 메시지가 유실되어도 캐시 미스는 DB 에서 읽어 반영하므로 새 브랜드 조회가 실패하지는 않는다.</p>
+ */
+@Slf4j
+@Component
+public class BrandRegistry implements MessageListener {
+
+    public static final String CHANNEL = "brand:changed";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final BrandRepository brandRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    public BrandRegistry(
+        BrandRepository brandRepository,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer
+    ) {
+        this.brandRepository = brandRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, ChannelTopic.of(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        snapshot = Snapshot.of(brandRepository.findAll().stream()
+            .map(BrandInfo::from)
+            .toList());
+        log.debug("브랜드 레지스트리를 적재했습니다. 브랜드={}개", snapshot.byId().size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBrandChanged(BrandChangedEvent event) {
+        refresh();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("브랜드 변경 알림 발행에 실패했습니다. brandId={}", event.brandId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("브랜드 레지스트리 재적재에 실패했습니다.", e);
+        }
+    }
+
+    public BrandInfo get(Long brandId) {
+        return find(brandId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "브랜드를 찾을 수 없습니다."));
+    }
+
+    public Optional<BrandInfo> find(Long brandId) {
+        BrandInfo cached = snapshot.byId().get(brandId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return load(brandRepository.findById(brandId));
+    }
+
+    public Optional<BrandInfo> findByName(String name) {
+        BrandInfo cached = snapshot.byName().get(name);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return load(brandRepository.findByName(name));
+    }
+
+    private Optional<BrandInfo> load(Optional<Brand> brand) {
+        Optional<BrandInfo> loaded = brand.map(BrandInfo::from);
+        loaded.ifPresent(this::add);
+        return loaded;
+    }
+
+    private synchronized void add(BrandInfo brand) {
+        List<BrandInfo> brands = new ArrayList<>(snapshot.byId().values());
+        brands.removeIf(existing -> existing.id().equals(brand.id()));
+        brands.add(brand);
+        snapshot = Snapshot.of(brands);
+    }
+
+    private record Snapshot(Map<Long, BrandInfo> byId, Map<String, BrandInfo> byName) {
+
+        static Snapshot of(Collection<BrandInfo> brands) {
+            return new Snapshot(
+                brands.stream().collect(Collectors.toUnmodifiableMap(BrandInfo::id, Function.identity())),
+                // 놓친 변경으로 같은 이름이 겹치면 나중에 생성된 브랜드를 우선한다.
+                brands.stream().collect(Collectors.toUnmodifiableMap(BrandInfo::name, Function.identity(),
+                    (left, right) -> left.id() > right.id() ? left : right))
+            );
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.loopers.domain.brand.BrandRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class BrandService {
 
     private final BrandRepository brandRepository;
+    private final BrandRegistry brandRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Brand createBrand(String name, String description) {
@@ -26,22 +29,30 @@ public class BrandService {
             .description(description)
             .build();
 
-        return brandRepository.save(brand);
+        Brand savedBrand = brandRepository.save(brand);
+        eventPublisher.publishEvent(new BrandChangedEvent(savedBrand.getId()));
+        return savedBrand;
     }
 
-    public Brand getBrand(Long id) {
-        return brandRepository.findById(id)
-            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "브랜드를 찾을 수 없습니다."));
+    /**
+     * 브랜드 레지스트리(메모리)에서 조회합니다.
+     */
+    public BrandInfo getBrand(Long id) {
+        return brandRegistry.get(id);
     }
 
-    public Brand getBrandByName(String name) {
-        return brandRepository.findByName(name)
+    /**
+     * 브랜드 레지스트리(메모리)에서 조회합니다.
+     */
+    public BrandInfo getBrandByName(String name) {
+        return brandRegistry.findByName(name)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "브랜드를 찾을 수 없습니다."));
     }
 
     @Transactional
     public Brand updateBrand(Long id, String name, String description) {
-        Brand brand = getBrand(id);
+        Brand brand = brandRepository.findById(id)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "브랜드를 찾을 수 없습니다."));
 
         if (name != null && !name.equals(brand.getName())) {
             if (brandRepository.existsByName(name)) {
@@ -54,6 +65,7 @@ public class BrandService {
             brand.updateDescription(description);
         }
 
+        eventPublisher.publishEvent(new BrandChangedEvent(brand.getId()));
         return brand;
     }
 }
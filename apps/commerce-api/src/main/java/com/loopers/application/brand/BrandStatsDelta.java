@@ -0,0 +1,72 @@
+package com.loopers.application.brand;
+
+import java.math.BigDecimal;
+
+/**
+ * 브랜드 통계 변화 이벤트. 상품/재고 변경 트랜잭션이 커밋되면 {@link BrandStatsDeltaBuffer} 에 모였다가 brand_stats 에 증분으로 반영된다.
+ *
+ * @param brandId 브랜드 ID
+ * @param productCountDelta 상품 수 변화량
+ * @param inStockCountDelta 재고 보유 상품 수 변화량 (재고가 0 을 넘나들 때만 ±1)
+ * @param likeCountDelta 좋아요 수 변화량
+ * @param price 범위에 포함시킬 가격 (없으면 null)
+ * @param priceRangeStale 가격 범위가 좁아졌을 수 있어 다시 계산해야 하는지 여부
+ */
+public record BrandStatsDelta(
+    Long brandId,
+    int productCountDelta,
+    int inStockCountDelta,
+    long likeCountDelta,
+    BigDecimal price,
+    boolean priceRangeStale
+) {
+
+    public static BrandStatsDelta productCreated(Long brandId, int stock, BigDecimal price) {
+        return new BrandStatsDelta(brandId, 1, stock > 0 ? 1 : 0, 0L, price, false);
+    }
+
+    public static BrandStatsDelta productUpdated(Long brandId, int stockBefore, int stockAfter,
+        BigDecimal priceBefore, BigDecimal priceAfter) {
+        boolean priceChanged = priceBefore.compareTo(priceAfter) != 0;
+        return new BrandStatsDelta(brandId, 0, inStockDelta(stockBefore, stockAfter), 0L,
+            priceChanged ? priceAfter : null, priceChanged);
+    }
+
+    public static BrandStatsDelta stockChanged(Long brandId, int stockBefore, int stockAfter) {
+        return new BrandStatsDelta(brandId, 0, inStockDelta(stockBefore, stockAfter), 0L, null, false);
+    }
+
+    public static BrandStatsDelta likeChanged(Long brandId, long likeCountDelta) {
+        return new BrandStatsDelta(brandId, 0, 0, likeCountDelta, null, false);
+    }
+
+    /**
+     * 같은 브랜드의 변화량을 합친다. 범위에 넣을 가격이 둘 다 있으면 하나로 표현할 수 없으므로 범위 재계산으로 대신한다.
+     */
+    public BrandStatsDelta merge(BrandStatsDelta other) {
+        boolean bothPriced = price != null && other.price != null;
+        return new BrandStatsDelta(
+            brandId,
+            productCountDelta + other.productCountDelta,
+            inStockCountDelta + other.inStockCountDelta,
+            likeCountDelta + other.likeCountDelta,
+            bothPriced ? null : (price != null ? price : other.price),
+            priceRangeStale || other.priceRangeStale || bothPriced
+        );
+    }
+
+    public boolean isEmpty() {
+        return productCountDelta == 0 && inStockCountDelta == 0 && likeCountDelta == 0 && price == null
+            && !priceRangeStale;
+    }
+
+    private static int inStockDelta(int stockBefore, int stockAfter) {
+        if (stockBefore <= 0 && stockAfter > 0) {
+            return 1;
+        }
+        if (stockBefore > 0 && stockAfter <= 0) {
+            return -1;
+        }
+        return 0;
+    }
+}
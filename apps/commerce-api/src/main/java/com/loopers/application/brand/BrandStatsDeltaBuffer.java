@@ -0,0 +1,84 @@
+package com.loopers.application.brand;
+
+import com.loopers.application.like.LikeChangedEvent;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 브랜드 통계 변화량을 메모리에 모았다가 주기적으로 브랜드당 UPDATE 한 번으로 반영한다.
+ *
+ * <p>인기 브랜드의 brand_stats 행은 좋아요마다 갱신하면 요청 스레드끼리 행 락을 두고 줄을 서므로, 요청 경로에서는 맵에 더하기만 한다.
+ * 좋아요는 상품 단위로 모아 두고 반영할 때 상품 IN 조회 한 번으로 브랜드를 찾는다.
+ * 반영 전에 노드가 죽으면 그 사이 변화량은 유실되며, 주기적인 전체 재계산({@link BrandStatsRecomputeJob})이 바로잡는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandStatsDeltaBuffer {
+
+    private final BrandStatsService brandStatsService;
+    private final ProductRepository productRepository;
+
+    private final Map<Long, BrandStatsDelta> pendingByBrand = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pendingLikesByProduct = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDelta(BrandStatsDelta delta) {
+        if (!delta.isEmpty()) {
+            pendingByBrand.merge(delta.brandId(), delta, BrandStatsDelta::merge);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        pendingLikesByProduct.merge(event.productId(), event.liked() ? 1L : -1L, Long::sum);
+    }
+
+    @Scheduled(fixedDelayString = "${brand.stats.flush-interval}")
+    public void flush() {
+        drainLikes();
+        for (Long brandId : pendingByBrand.keySet()) {
+            BrandStatsDelta delta = pendingByBrand.remove(brandId);
+            if (delta != null && !delta.isEmpty()) {
+                brandStatsService.apply(delta);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void drainLikes() {
+        Map<Long, Long> likes = new HashMap<>();
+        for (Long productId : pendingLikesByProduct.keySet()) {
+            Long delta = pendingLikesByProduct.remove(productId);
+            if (delta != null && delta != 0L) {
+                likes.put(productId, delta);
+            }
+        }
+        if (likes.isEmpty()) {
+            return;
+        }
+        try {
+            // 삭제된 상품은 조회되지 않으며, 재계산도 삭제된 상품의 좋아요를 세지 않는다.
+            for (Product product : productRepository.findByIdIn(List.copyOf(likes.keySet()))) {
+                onDelta(BrandStatsDelta.likeChanged(product.getBrand().getId(), likes.get(product.getId())));
+            }
+        } catch (RuntimeException e) {
+            log.warn("좋아요 변화량의 브랜드 조회에 실패했습니다. 다음 재계산에서 보정됩니다. 상품={}개", likes.size(), e);
+        }
+    }
+}
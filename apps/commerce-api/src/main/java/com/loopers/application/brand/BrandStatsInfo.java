@@ -0,0 +1,27 @@
+package com.loopers.application.brand;
+
+import com.loopers.domain.brand.BrandStats;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+public record BrandStatsInfo(
+    Long brandId,
+    long productCount,
+    long inStockCount,
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    long likeCount,
+    ZonedDateTime updatedAt
+) {
+    public static BrandStatsInfo from(BrandStats stats) {
+        return new BrandStatsInfo(
+            stats.getBrandId(),
+            stats.getProductCount(),
+            stats.getInStockCount(),
+            stats.getMinPrice(),
+            stats.getMaxPrice(),
+            stats.getLikeCount(),
+            stats.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.loopers.application.brand;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.support.lock.JobLock;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 증분 반영에서 생긴 오차를 바로잡기 위해 모든 브랜드의 통계를 주기적으로 다시 계산한다.
+ * 브랜드마다 별도 트랜잭션으로 계산하여 한 번에 products/likes 전체를 잠그거나 오래 붙잡지 않는다.
+ * 여러 노드 중 {@link JobLock} 을 얻은 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandStatsRecomputeJob {
+
+    private static final String LOCK_NAME = "brand-stats-recompute";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+
+    private final BrandRepository brandRepository;
+    private final BrandStatsService brandStatsService;
+    private final JobLock jobLock;
+
+    @Scheduled(cron = "${brand.stats.recompute-cron}")
+    public void run() {
+        jobLock.runExclusively(LOCK_NAME, LOCK_LEASE, this::recomputeAll);
+    }
+
+    private void recomputeAll() {
+        List<Long> brandIds = brandRepository.findAll().stream()
+            .map(Brand::getId)
+            .toList();
+        for (Long brandId : brandIds) {
+            try {
+                brandStatsService.recompute(brandId);
+            } catch (RuntimeException e) {
+                log.warn("브랜드 통계 재계산에 실패했습니다. brandId={}", brandId, e);
+            }
+        }
+        log.info("브랜드 통계 재계산 완료. 브랜드={}개", brandIds.size());
+    }
+}
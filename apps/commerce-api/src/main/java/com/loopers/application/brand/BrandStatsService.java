@@ -0,0 +1,73 @@
+package com.loopers.application.brand;
+
+import com.loopers.domain.brand.BrandStatsRepository;
+import java.time.ZonedDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 브랜드 통계(brand_stats) 관리.
+ *
+ * <p>상품 수/재고 보유 상품 수/좋아요 수는 {@link BrandStatsDeltaBuffer} 가 브랜드별로 합쳐 주기적으로 증분 UPDATE 하고, 최저/최고가는 범위가 넓어질 때만 증분으로,
+ * 좁아질 수 있을 때는 해당 브랜드만 다시 계산한다. 반영 실패나 경합으로 생긴 오차는 주기적인 전체 재계산
+ * ({@link BrandStatsRecomputeJob})이 바로잡는다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BrandStatsService {
+
+    private final BrandStatsRepository brandStatsRepository;
+    private final BrandRegistry brandRegistry;
+
+    /**
+     * 브랜드 통계를 조회합니다. 아직 집계되지 않은 브랜드는 그 자리에서 계산합니다.
+     */
+    @Transactional
+    public BrandStatsInfo getStats(Long brandId) {
+        brandRegistry.get(brandId);
+        return brandStatsRepository.findByBrandId(brandId)
+            .or(() -> {
+                brandStatsRepository.recompute(brandId, ZonedDateTime.now());
+                return brandStatsRepository.findByBrandId(brandId);
+            })
+            .map(BrandStatsInfo::from)
+            .orElseThrow();
+    }
+
+    /**
+     * 합쳐진 변화량 하나를 별도 트랜잭션으로 반영합니다. 실패해도 예외를 던지지 않고 재계산에 맡깁니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void apply(BrandStatsDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        try {
+            ZonedDateTime now = ZonedDateTime.now();
+            boolean applied = brandStatsRepository.addDelta(delta.brandId(), delta.productCountDelta(),
+                delta.inStockCountDelta(), delta.likeCountDelta(), delta.price(), now);
+            if (!applied) {
+                // 집계 행이 없으면 증분 대신 현재 값으로 새로 만든다 (이미 커밋된 변경이 포함된다).
+                brandStatsRepository.recompute(delta.brandId(), now);
+                return;
+            }
+            if (delta.priceRangeStale()) {
+                brandStatsRepository.refreshPriceRange(delta.brandId(), now);
+            }
+        } catch (RuntimeException e) {
+            log.warn("브랜드 통계 반영에 실패했습니다. 다음 재계산에서 보정됩니다. delta={}", delta, e);
+        }
+    }
+
+    /**
+     * 해당 브랜드의 통계를 products/likes 기준으로 다시 계산합니다.
+     */
+    @Transactional
+    public void recompute(Long brandId) {
+        brandStatsRepository.recompute(brandId, ZonedDateTime.now());
+    }
+}
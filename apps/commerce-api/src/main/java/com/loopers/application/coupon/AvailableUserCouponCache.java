@@ -0,0 +1,90 @@
+package com.loopers.application.coupon;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 사용 가능 쿠폰 목록의 Redis 캐시.
+ *
+ * <p>쿠폰 발급/사용이 커밋되면 해당 사용자의 캐시를 짧은 수명의 톰스톤으로 덮어쓴다. 적재는 키가 비어 있을 때만(SET NX) 하므로,
+ * 커밋 전에 DB 를 읽은 조회가 무효화 이후에 늦게 적재하더라도 톰스톤에 막혀 오래된 목록이 남지 않는다.
+ * Redis 장애는 캐시 미스로 취급하여 DB 조회로 대체한다.</p>
+ */
+@Slf4j
+@Component
+public class AvailableUserCouponCache {
+
+    private static final String KEY_PREFIX = "coupon:available:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    // 무효화 직전에 시작된 조회가 끝날 때까지 적재를 막는 시간. 이보다 오래 걸린 조회는 DB 조회 타임아웃으로 끊긴다고 본다.
+    private static final Duration TOMBSTONE_TTL = Duration.ofSeconds(10);
+    private static final String TOMBSTONE = "__evicted__";
+    private static final TypeReference<List<UserCouponInfo>> TYPE = new TypeReference<>() {
+    };
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public AvailableUserCouponCache(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<List<UserCouponInfo>> get(String userId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(key(userId));
+            if (cached == null || TOMBSTONE.equals(cached)) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, TYPE));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("사용 가능 쿠폰 캐시 조회에 실패했습니다. userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String userId, List<UserCouponInfo> userCoupons) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key(userId), objectMapper.writeValueAsString(userCoupons), TTL);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("사용 가능 쿠폰 캐시 저장에 실패했습니다. userId={}", userId, e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserCouponChanged(UserCouponChangedEvent event) {
+        try {
+            Expiration expiration = Expiration.from(TOMBSTONE_TTL);
+            byte[] tombstone = TOMBSTONE.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                event.userIds().forEach(userId -> connection.stringCommands().set(
+                    key(userId).getBytes(StandardCharsets.UTF_8), tombstone, expiration, SetOption.upsert()));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("사용 가능 쿠폰 캐시 제거에 실패했습니다. userIds={}", event.userIds(), e);
+        }
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,108 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponRepository;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 쿠폰 정의의 프로세스 내 캐시.
+ *
+ * <p>쿠폰 정의는 생성 이후 변경되지 않으므로 전체를 불변 스냅샷으로 들고 있다가, 변경 시 새 스냅샷을 만들어 참조만 교체한다.
+ * 조회는 락 없이 현재 스냅샷을 읽는다. 다른 노드에서 생성된 쿠폰은 캐시 미스 시 DB 에서 읽어 반영하고, 주기적인 재적재로도 수렴한다.</p>
+ *
+ * <p>DB 에도 없는 쿠폰 ID 는 잠시 기억해 두어, 존재하지 않는 ID 로 반복 요청해도 매번 DB 를 조회하지 않는다.
+ * 기억해 둔 ID 는 재적재 시 모두 잊으므로, 다른 노드에서 막 생성된 쿠폰도 늦어도 다음 재적재에는 보인다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCatalog {
+
+    private static final long MISS_TTL_NANOS = Duration.ofSeconds(10).toNanos();
+    private static final int MAX_MISSES = 10_000;
+
+    private final CouponRepository couponRepository;
+
+    private final Map<Long, Long> misses = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${coupon.catalog.refresh-interval}",
+        initialDelayString = "${coupon.catalog.refresh-interval}")
+    public void refresh() {
+        snapshot = Snapshot.of(couponRepository.findAll());
+        misses.clear();
+        log.debug("쿠폰 카탈로그를 적재했습니다. 쿠폰={}개", snapshot.all().size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCouponChanged(CouponChangedEvent event) {
+        refresh();
+    }
+
+    public Optional<Coupon> find(Long couponId) {
+        Coupon cached = snapshot.byId().get(couponId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Long missedAt = misses.get(couponId);
+        if (missedAt != null && System.nanoTime() - missedAt < MISS_TTL_NANOS) {
+            return Optional.empty();
+        }
+
+        Optional<Coupon> loaded = couponRepository.findById(couponId);
+        if (loaded.isPresent()) {
+            add(loaded.get());
+            misses.remove(couponId);
+        } else {
+            // 임의의 ID 로 채워지지 않도록 상한을 넘으면 비운다.
+            if (misses.size() >= MAX_MISSES) {
+                misses.clear();
+            }
+            misses.put(couponId, System.nanoTime());
+        }
+        return loaded;
+    }
+
+    public List<Coupon> findAll() {
+        return snapshot.all();
+    }
+
+    private synchronized void add(Coupon coupon) {
+        Map<Long, Coupon> coupons = new HashMap<>(snapshot.byId());
+        coupons.put(coupon.getId(), coupon);
+        snapshot = Snapshot.of(coupons.values());
+    }
+
+    private record Snapshot(Map<Long, Coupon> byId, List<Coupon> all) {
+
+        static Snapshot of(Collection<Coupon> coupons) {
+            List<Coupon> all = coupons.stream()
+                .sorted(Comparator.comparing(Coupon::getId))
+                .toList();
+            return new Snapshot(
+                all.stream().collect(Collectors.toUnmodifiableMap(Coupon::getId, Function.identity())),
+                all
+            );
+        }
+    }
+}
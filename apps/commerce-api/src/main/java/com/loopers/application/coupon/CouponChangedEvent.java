@@ -0,0 +1,10 @@
+package com.loopers.application.coupon;
+
+/**
+ * 쿠폰 정의 변경 이벤트. 트랜잭션 커밋 이후 쿠폰 카탈로그를 다시 적재하는 데 사용된다.
+ *
+ * @param couponId 변경된 쿠폰 ID
+ */
+public record CouponChangedEvent(Long couponId) {
+
+}
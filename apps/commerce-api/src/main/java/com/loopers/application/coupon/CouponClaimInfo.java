@@ -0,0 +1,13 @@
+package com.loopers.application.coupon;
+
+/**
+ * 선착순 쿠폰 발급 결과.
+ *
+ * @param issueNumber 발급 순번 (1부터 시작)
+ * @param pending 발급 큐 적재 확인을 기다리다 시간이 초과된 경우 true. 순번은 확보되어 있고, 적재가 최종 실패하면 반납된다.
+ */
+public record CouponClaimInfo(
+    long issueNumber,
+    boolean pending
+) {
+}
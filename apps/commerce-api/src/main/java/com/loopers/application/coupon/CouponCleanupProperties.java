@@ -0,0 +1,16 @@
+package com.loopers.application.coupon;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled 만료 쿠폰 정리 잡 활성화 여부
+ * @param chunkSize 한 트랜잭션에서 소프트 삭제할 사용자 쿠폰 수
+ * @param throttle 청크 사이 대기 시간
+ */
+@ConfigurationProperties(value = "coupon.cleanup")
+public record CouponCleanupProperties(
+    boolean enabled,
+    int chunkSize,
+    Duration throttle
+) { }
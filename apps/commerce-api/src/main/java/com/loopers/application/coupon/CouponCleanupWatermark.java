@@ -0,0 +1,56 @@
+package com.loopers.application.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 쿠폰 정리 잡이 마지막으로 끝까지 정리한 쿠폰의 (valid_until, id).
+ *
+ * <p>다음 실행은 이 위치 이후에 만료된 쿠폰만 조회한다. 값을 잃으면 처음부터 다시 훑을 뿐이므로 Redis 에 둔다.</p>
+ */
+@Slf4j
+@Component
+public class CouponCleanupWatermark {
+
+    private static final String KEY = "coupon:cleanup:watermark";
+    private static final Position INITIAL = new Position(Instant.EPOCH.atZone(ZoneOffset.UTC), 0L);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CouponCleanupWatermark(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public Position load() {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY);
+            if (value == null) {
+                return INITIAL;
+            }
+            String[] parts = value.split("\\|");
+            return new Position(Instant.parse(parts[0]).atZone(ZoneOffset.UTC), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            log.warn("만료 쿠폰 정리 워터마크를 읽지 못해 처음부터 조회합니다.", e);
+            return INITIAL;
+        }
+    }
+
+    public void advance(ZonedDateTime validUntil, Long couponId) {
+        try {
+            redisTemplate.opsForValue().set(KEY, validUntil.toInstant() + "|" + couponId);
+        } catch (RuntimeException e) {
+            log.warn("만료 쿠폰 정리 워터마크 저장에 실패했습니다. couponId={}", couponId, e);
+        }
+    }
+
+    public record Position(ZonedDateTime validUntil, Long couponId) {
+    }
+}
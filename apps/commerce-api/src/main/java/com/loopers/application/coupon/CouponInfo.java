@@ -0,0 +1,34 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponType;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+public record CouponInfo(
+    Long id,
+    String name,
+    CouponType type,
+    BigDecimal discountValue,
+    String description,
+    Integer issueLimit,
+    ZonedDateTime validFrom,
+    ZonedDateTime validUntil
+) {
+    public static CouponInfo from(Coupon coupon) {
+        return new CouponInfo(
+            coupon.getId(),
+            coupon.getName(),
+            coupon.getType(),
+            coupon.getDiscountValue(),
+            coupon.getDescription(),
+            coupon.getIssueLimit(),
+            coupon.getValidFrom(),
+            coupon.getValidUntil()
+        );
+    }
+
+    public boolean isValidAt(ZonedDateTime at) {
+        return (validFrom == null || !at.isBefore(validFrom)) && (validUntil == null || at.isBefore(validUntil));
+    }
+}
@@ -0,0 +1,180 @@
+package com.loopers.application.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponIssuance;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+/**
+ * 선착순 쿠폰 발급 엔진.
+ *
+ * <p>수량/중복 판정은 Redis 에서 원자적으로 끝내고(SISMEMBER → INCR → SADD), 발급이 확정된 요청만 Kafka 발급 큐에 적재한다.
+ * user_coupons 저장은 배치 컨슈머({@code CouponIssueConsumer})가 모아서 수행하므로, 수만 건의 요청이 몰려도 MySQL 에는 성공한 발급만 도달한다.</p>
+ */
+@Slf4j
+@Component
+public class CouponIssueEngine {
+
+    private static final String KEY_PREFIX = "coupon:issue:";
+    private static final long ALREADY_ISSUED = -1L;
+    private static final long NOT_SEEDED = -2L;
+    private static final int SEED_CHUNK_SIZE = 1000;
+    private static final long SOLD_OUT = 0L;
+    private static final long PUBLISH_TIMEOUT_SECONDS = 3L;
+
+    /**
+     * KEYS[1]: 발급 수량 카운터, KEYS[2]: 발급 사용자 집합, ARGV[1]: userId, ARGV[2]: 총 발급 수량
+     * 반환: -2 카운터 없음(복원 필요), -1 이미 발급, 0 소진, 그 외 발급 순번
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -2
+        end
+        if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+            return -1
+        end
+        local issued = redis.call('INCR', KEYS[1])
+        if issued > tonumber(ARGV[2]) then
+            redis.call('DECR', KEYS[1])
+            return 0
+        end
+        redis.call('SADD', KEYS[2], ARGV[1])
+        return issued
+        """, Long.class);
+
+    private final CouponService couponService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final String topicName;
+
+    public CouponIssueEngine(
+        CouponService couponService,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        KafkaTemplate<Object, Object> kafkaTemplate,
+        @Value("${coupon.issue.topic-name}") String topicName
+    ) {
+        this.couponService = couponService;
+        this.redisTemplate = redisTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topicName = topicName;
+    }
+
+    /**
+     * 선착순 쿠폰 발급을 요청한다. 반환 시점에는 순번이 확보되어 있고, user_coupons 저장은 비동기로 수행된다.
+     * 큐 적재 확인이 시간 안에 오지 않으면 {@link CouponClaimInfo#pending()} 으로 응답한다.
+     */
+    public CouponClaimInfo issue(String userId, Long couponId) {
+        Coupon coupon = couponService.getCoupon(couponId);
+        if (!coupon.isLimited()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "선착순 쿠폰이 아닙니다.");
+        }
+        if (coupon.isExpiredAt(ZonedDateTime.now())) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "사용 기간이 지난 쿠폰입니다.");
+        }
+
+        String countKey = countKey(couponId);
+        String usersKey = usersKey(couponId);
+        Long result = claim(countKey, usersKey, userId, coupon.getIssueLimit());
+        if (result != null && result == NOT_SEEDED) {
+            seed(couponId, countKey, usersKey);
+            result = claim(countKey, usersKey, userId, coupon.getIssueLimit());
+        }
+        if (result == null || result == NOT_SEEDED) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "쿠폰 발급 처리 중 오류가 발생했습니다.");
+        }
+        if (result == ALREADY_ISSUED) {
+            throw new CoreException(ErrorType.CONFLICT, "이미 발급받은 쿠폰입니다.");
+        }
+        if (result == SOLD_OUT) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "쿠폰이 모두 소진되었습니다.");
+        }
+
+        boolean pending = publish(new CouponIssuance(couponId, userId, ZonedDateTime.now()), countKey, usersKey);
+        return new CouponClaimInfo(result, pending);
+    }
+
+    private Long claim(String countKey, String usersKey, String userId, int issueLimit) {
+        return redisTemplate.execute(ISSUE_SCRIPT, List.of(countKey, usersKey), userId, String.valueOf(issueLimit));
+    }
+
+    /**
+     * Redis 에 발급 상태가 없으면(최초 발급, 키 유실, 장애 조치) DB 의 발급분으로 사용자 집합과 카운터를 복원한다.
+     * 사용자 집합을 먼저 채우고 카운터는 SET NX 로 한 노드만 기록하므로, 여러 노드가 동시에 복원해도 발급 수량이 줄어들지 않는다.
+     * 아직 저장되지 않은 큐의 발급분은 복원되지 않지만, 같은 사용자의 중복 저장은 (user_id, limited_coupon_id) 유니크 키가 막는다.
+     */
+    private void seed(Long couponId, String countKey, String usersKey) {
+        List<String> issuedUserIds = couponService.getIssuedUserIds(couponId);
+        for (int from = 0; from < issuedUserIds.size(); from += SEED_CHUNK_SIZE) {
+            List<String> chunk = issuedUserIds.subList(from, Math.min(from + SEED_CHUNK_SIZE, issuedUserIds.size()));
+            redisTemplate.opsForSet().add(usersKey, chunk.toArray(String[]::new));
+        }
+        Boolean seeded = redisTemplate.opsForValue().setIfAbsent(countKey, String.valueOf(issuedUserIds.size()));
+        if (Boolean.TRUE.equals(seeded)) {
+            log.info("선착순 쿠폰 발급 상태를 DB 에서 복원했습니다. couponId={}, issued={}", couponId, issuedUserIds.size());
+        }
+    }
+
+    /**
+     * 발급 큐에 적재한다. 선점한 순번은 적재 실패가 확정된 경우에만 반납한다.
+     * 시간 초과는 실패가 아니다. 프로듀서가 계속 재시도하여 레코드가 나중에 적재될 수 있으므로, 이때 반납하면 다음 사용자가 같은 순번을 받아
+     * 발급 수량을 넘겨 저장된다. 따라서 순번을 유지한 채 대기 상태로 응답하고, 적재가 최종 실패하면 그때 반납한다.
+     *
+     * @return 적재 확인을 기다리다 시간이 초과되었으면 true
+     */
+    private boolean publish(CouponIssuance issuance, String countKey, String usersKey) {
+        CompletableFuture<SendResult<Object, Object>> future =
+            kafkaTemplate.send(topicName, issuance.couponId() + ":" + issuance.userId(), issuance);
+        try {
+            future.get(PUBLISH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return false;
+        } catch (ExecutionException e) {
+            release(issuance, countKey, usersKey);
+            log.error("쿠폰 발급 큐 적재에 실패했습니다. couponId={}, userId={}", issuance.couponId(), issuance.userId(), e);
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "쿠폰 발급 처리 중 오류가 발생했습니다.");
+        } catch (InterruptedException | TimeoutException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            future.whenComplete((result, failure) -> {
+                if (failure != null) {
+                    release(issuance, countKey, usersKey);
+                    log.error("대기 중이던 쿠폰 발급의 큐 적재가 실패하여 순번을 반납했습니다. couponId={}, userId={}",
+                        issuance.couponId(), issuance.userId(), failure);
+                }
+            });
+            log.warn("쿠폰 발급 큐 적재 확인이 지연되어 대기 상태로 응답합니다. couponId={}, userId={}",
+                issuance.couponId(), issuance.userId());
+            return true;
+        }
+    }
+
+    // 선점한 수량과 사용자를 반납하여 다른 요청이 발급받을 수 있도록 한다.
+    private void release(CouponIssuance issuance, String countKey, String usersKey) {
+        redisTemplate.opsForSet().remove(usersKey, issuance.userId());
+        redisTemplate.opsForValue().decrement(countKey);
+    }
+
+    private static String countKey(Long couponId) {
+        return KEY_PREFIX + couponId + ":count";
+    }
+
+    private static String usersKey(Long couponId) {
+        return KEY_PREFIX + couponId + ":users";
+    }
+}
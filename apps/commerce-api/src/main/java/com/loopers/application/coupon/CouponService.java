@@ -1,13 +1,18 @@
 package com.loopers.application.coupon;
 
 import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponIssuance;
 import com.loopers.domain.coupon.CouponRepository;
 import com.loopers.domain.coupon.UserCoupon;
 import com.loopers.domain.coupon.UserCouponRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.retry.OptimisticLockRetryExecutor;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,30 +22,34 @@ public class CouponService {
 
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final CouponCatalog couponCatalog;
+    private final AvailableUserCouponCache availableUserCouponCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 쿠폰을 생성합니다.
      */
     @Transactional
     public Coupon createCoupon(Coupon coupon) {
-        return couponRepository.save(coupon);
+        Coupon savedCoupon = couponRepository.save(coupon);
+        eventPublisher.publishEvent(new CouponChangedEvent(savedCoupon.getId()));
+        return savedCoupon;
     }
 
     /**
-     * 쿠폰을 조회합니다.
+     * 쿠폰을 조회합니다 (쿠폰 카탈로그 캐시).
      */
-    @Transactional(readOnly = true)
     public Coupon getCoupon(Long couponId) {
-        return couponRepository.findById(couponId)
+        return couponCatalog.find(couponId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "쿠폰을 찾을 수 없습니다."));
     }
 
     /**
-     * 모든 쿠폰을 조회합니다.
+     * 모든 쿠폰을 조회합니다 (쿠폰 카탈로그 캐시).
      */
-    @Transactional(readOnly = true)
     public List<Coupon> getAllCoupons() {
-        return couponRepository.findAll();
+        return couponCatalog.findAll();
     }
 
     /**
@@ -48,14 +57,46 @@ public class CouponService {
      */
     @Transactional
     public UserCoupon issueCouponToUser(String userId, Long couponId) {
-        Coupon coupon = getCoupon(couponId);
+        Coupon coupon = couponRepository.findById(couponId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "쿠폰을 찾을 수 없습니다."));
+        if (coupon.isLimited()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "선착순 쿠폰은 선착순 발급으로만 받을 수 있습니다.");
+        }
+        if (coupon.isExpiredAt(ZonedDateTime.now())) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "사용 기간이 지난 쿠폰입니다.");
+        }
 
         UserCoupon userCoupon = UserCoupon.builder()
             .userId(userId)
             .coupon(coupon)
             .build();
 
-        return userCouponRepository.save(userCoupon);
+        UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
+        eventPublisher.publishEvent(UserCouponChangedEvent.of(userId));
+        return savedUserCoupon;
+    }
+
+    /**
+     * 쿠폰을 발급받은 사용자 ID 를 조회합니다 (선착순 발급 상태 복원용).
+     */
+    @Transactional(readOnly = true)
+    public List<String> getIssuedUserIds(Long couponId) {
+        return userCouponRepository.findUserIdsByCouponId(couponId);
+    }
+
+    /**
+     * 선착순 발급이 확정된 쿠폰을 일괄 저장합니다 (발급 큐 배치 컨슈머용).
+     */
+    @Transactional
+    public int saveIssuances(List<CouponIssuance> issuances) {
+        if (issuances.isEmpty()) {
+            return 0;
+        }
+        int saved = userCouponRepository.saveAllIfAbsent(issuances);
+        eventPublisher.publishEvent(new UserCouponChangedEvent(issuances.stream()
+            .map(CouponIssuance::userId)
+            .collect(Collectors.toUnmodifiableSet())));
+        return saved;
     }
 
     /**
@@ -75,26 +116,89 @@ public class CouponService {
     }
 
     /**
-     * 사용자 쿠폰을 조회합니다 (락 사용).
+     * 사용자의 사용 가능한 쿠폰을 조회합니다 (사용자별 Redis 캐시, 발급/사용 커밋 시 무효화).
+     */
+    public List<UserCouponInfo> getAvailableUserCouponInfos(String userId) {
+        // 캐시된 목록에는 그 사이 사용 기간이 끝난 쿠폰이 남아있을 수 있으므로 조회 시점 기준으로 다시 거른다.
+        ZonedDateTime now = ZonedDateTime.now();
+        List<UserCouponInfo> userCoupons = availableUserCouponCache.get(userId).orElseGet(() -> {
+            List<UserCouponInfo> loaded = userCouponRepository.findByUserIdAndIsAvailable(userId).stream()
+                .map(UserCouponInfo::from)
+                .toList();
+            availableUserCouponCache.put(userId, loaded);
+            return loaded;
+        });
+        return userCoupons.stream()
+            .filter(userCoupon -> userCoupon.coupon().isValidAt(now))
+            .toList();
+    }
+
+    /**
+     * 워터마크 이후에 사용 기간이 끝난 쿠폰을 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Coupon> findExpiredCoupons(ZonedDateTime afterValidUntil, Long afterId, ZonedDateTime expiredBefore) {
+        return couponRepository.findExpiredAfter(afterValidUntil, afterId, expiredBefore);
+    }
+
+    /**
+     * 만료된 쿠폰의 미사용 사용자 쿠폰 ID 를 키셋으로 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findUnusedUserCouponIds(Long couponId, Long afterId, int limit) {
+        return userCouponRepository.findUnusedIdsByCouponId(couponId, afterId, limit);
+    }
+
+    /**
+     * 만료된 미사용 사용자 쿠폰을 한 청크씩 소프트 삭제합니다.
      */
     @Transactional
-    public UserCoupon getUserCouponWithLock(Long userCouponId) {
-        return userCouponRepository.findByIdWithLock(userCouponId)
+    public int expireUserCoupons(List<Long> userCouponIds) {
+        return userCouponRepository.softDeleteUnused(userCouponIds, ZonedDateTime.now());
+    }
+
+    /**
+     * 사용자 쿠폰을 조회합니다 (락 미사용).
+     */
+    @Transactional(readOnly = true)
+    public UserCoupon getUserCoupon(Long userCouponId) {
+        return userCouponRepository.findById(userCouponId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자 쿠폰을 찾을 수 없습니다."));
     }
 
     /**
-     * 쿠폰을 사용합니다 (동시성 제어 포함).
+     * 주문에 쿠폰을 사용합니다.
+     * 조회 후 잠금 없이 조건부 UPDATE 의 반영 건수로 사용 여부를 판정한다. UPDATE 도 쿠폰 행의 배타 락을 커밋까지 유지하므로,
+     * 같은 쿠폰을 쓰는 다른 주문은 그동안 대기한 뒤 반영 건수 0 으로 실패한다. 락 구간을 줄이려면 주문 트랜잭션의 마지막에 호출한다.
+     * 반영되지 않은 경우에만 쿠폰을 다시 읽어 실패 사유를 알려준다. 할인 계산에 필요한 쿠폰은 호출자가 사전 검증 때 이미 읽었으므로,
+     * 성공한 경우에는 쿠폰 행을 다시 읽지 않는다.
      */
     @Transactional
-    public void useCoupon(Long userCouponId) {
-        UserCoupon userCoupon = getUserCouponWithLock(userCouponId);
-
-        if (!userCoupon.isAvailable()) {
+    public void useCouponForOrder(String userId, Long userCouponId) {
+        if (!userCouponRepository.markUsedIfAvailable(userCouponId, userId, ZonedDateTime.now())) {
+            UserCoupon userCoupon = getUserCoupon(userCouponId);
+            userCoupon.validateOwnership(userId);
+            userCoupon.validateAvailability();
             throw new CoreException(ErrorType.BAD_REQUEST, "사용할 수 없는 쿠폰입니다.");
         }
 
-        userCoupon.use();
-        userCouponRepository.save(userCoupon);
+        eventPublisher.publishEvent(UserCouponChangedEvent.of(userId));
+    }
+
+    /**
+     * 쿠폰을 사용합니다 (동시성 제어 포함).
+     * 행 락 대신 버전 검사로 중복 사용을 막고, 충돌하면 재시도하여 이미 사용된 쿠폰이면 BAD_REQUEST 로 응답한다.
+     */
+    public void useCoupon(Long userCouponId) {
+        retryExecutor.execute("coupon.use", () -> {
+            UserCoupon userCoupon = userCouponRepository.findById(userCouponId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자 쿠폰을 찾을 수 없습니다."));
+
+            userCoupon.validateAvailability();
+
+            userCoupon.use();
+            userCouponRepository.save(userCoupon);
+            eventPublisher.publishEvent(UserCouponChangedEvent.of(userCoupon.getUserId()));
+        });
     }
 }
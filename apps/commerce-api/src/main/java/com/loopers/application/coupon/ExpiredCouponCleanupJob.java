@@ -0,0 +1,94 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.support.lock.JobLock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용 기간이 끝난 쿠폰의 미사용 사용자 쿠폰을 소프트 삭제하여 user_coupons 조회가 만료분을 계속 읽지 않도록 한다.
+ *
+ * <p>만료된 쿠폰마다 (coupon_id, is_used, deleted_at) 인덱스를 따라 PK 키셋으로 청크를 조회하고,
+ * 청크마다 짧은 트랜잭션으로 UPDATE 한 뒤 {@link CouponCleanupProperties#throttle()} 만큼 쉰다.
+ * 사용된 쿠폰은 주문 이력으로 남겨두기 위해 삭제하지 않는다.</p>
+ *
+ * <p>끝까지 정리한 쿠폰은 {@link CouponCleanupWatermark} 로 넘겨 다음 실행부터 다시 조회하지 않는다. 발급 큐에 남아 있던 발급분이
+ * 만료 직후에 저장될 수 있으므로, 만료된 지 {@link #LATE_ISSUANCE_GRACE} 가 지난 쿠폰만 정리한다.
+ * 여러 노드 중 {@link JobLock} 을 얻은 한 노드만 실행한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredCouponCleanupJob {
+
+    static final Duration LATE_ISSUANCE_GRACE = Duration.ofHours(1);
+    private static final String LOCK_NAME = "expired-coupon-cleanup";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+
+    private final CouponCleanupProperties cleanupProperties;
+    private final CouponService couponService;
+    private final CouponCleanupWatermark watermark;
+    private final JobLock jobLock;
+
+    @Scheduled(cron = "${coupon.cleanup.cron}")
+    public void run() {
+        if (!cleanupProperties.enabled()) {
+            return;
+        }
+        jobLock.runExclusively(LOCK_NAME, LOCK_LEASE, this::cleanupAll);
+    }
+
+    private void cleanupAll() {
+        CouponCleanupWatermark.Position position = watermark.load();
+        ZonedDateTime expiredBefore = ZonedDateTime.now().minus(LATE_ISSUANCE_GRACE);
+        int total = 0;
+        for (Coupon coupon : couponService.findExpiredCoupons(position.validUntil(), position.couponId(),
+            expiredBefore)) {
+            int expired = cleanup(coupon.getId());
+            if (expired < 0) {
+                break;
+            }
+            total += expired;
+            watermark.advance(coupon.getValidUntil(), coupon.getId());
+        }
+        if (total > 0) {
+            log.info("만료 쿠폰 정리 완료. 사용자 쿠폰={}건", total);
+        }
+    }
+
+    /**
+     * @return 삭제 건수, 중단된 경우 -1
+     */
+    private int cleanup(Long couponId) {
+        int total = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = couponService.findUnusedUserCouponIds(couponId, lastId, cleanupProperties.chunkSize());
+            if (ids.isEmpty()) {
+                return total;
+            }
+            total += couponService.expireUserCoupons(ids);
+            lastId = ids.get(ids.size() - 1);
+
+            if (!throttle()) {
+                return -1;
+            }
+        }
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(cleanupProperties.throttle().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("만료 쿠폰 정리 잡이 중단되었습니다.");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.application.coupon;
+
+import java.util.Set;
+
+/**
+ * 사용자 쿠폰의 발급/사용 이벤트. 트랜잭션 커밋 이후 사용 가능 쿠폰 캐시를 무효화하는 데 사용된다.
+ *
+ * @param userIds 보유 쿠폰이 변경된 사용자 ID 목록
+ */
+public record UserCouponChangedEvent(Set<String> userIds) {
+
+    public static UserCouponChangedEvent of(String userId) {
+        return new UserCouponChangedEvent(Set.of(userId));
+    }
+}
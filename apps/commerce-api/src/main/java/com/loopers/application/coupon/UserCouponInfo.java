@@ -0,0 +1,24 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.UserCoupon;
+import java.time.ZonedDateTime;
+
+public record UserCouponInfo(
+    Long id,
+    String userId,
+    CouponInfo coupon,
+    boolean isUsed,
+    ZonedDateTime usedAt,
+    ZonedDateTime createdAt
+) {
+    public static UserCouponInfo from(UserCoupon userCoupon) {
+        return new UserCouponInfo(
+            userCoupon.getId(),
+            userCoupon.getUserId(),
+            CouponInfo.from(userCoupon.getCoupon()),
+            userCoupon.isUsed(),
+            userCoupon.getUsedAt(),
+            userCoupon.getCreatedAt()
+        );
+    }
+}
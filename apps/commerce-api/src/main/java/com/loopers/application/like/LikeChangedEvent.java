@@ -0,0 +1,9 @@
+package com.loopers.application.like;
+
+/**
+ * 좋아요 상태가 실제로 바뀌었을 때 발행된다. 커밋 이후 Redis 좋아요 수 카운터에 반영된다.
+ *
+ * @param liked 좋아요 등록이면 true, 취소면 false
+ */
+public record LikeChangedEvent(String userId, Long productId, boolean liked) {
+}
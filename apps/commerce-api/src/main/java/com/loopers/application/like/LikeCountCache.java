@@ -0,0 +1,232 @@
+package com.loopers.application.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품별 좋아요 수의 Redis 카운터. 상세/목록 조회마다 likes 를 COUNT 하지 않도록 한다.
+ *
+ * <p>{@link LikeChangedEvent} 는 likes 행의 상태가 실제로 바뀐 커밋에서만 발행되므로, 커밋 이후 카운터가 있을 때만 INCRBY 로 증감한다.
+ * 카운터가 없을 때는 증감하지 않고 조회 시 DB COUNT 결과로 채운다. 증감 실패로 카운터를 지우지 않으므로 인기 상품에서 재적재가 몰리지 않는다.</p>
+ *
+ * <p>여러 상품은 MGET 한 번으로 읽고 미스난 상품만 DB 에서 한 번에 집계하여 파이프라인으로 적재한다.
+ * 좋아요가 바뀐 상품은 보정 대상 집합에 기록되고, 적재와 증감 사이의 경합으로 생긴 오차는 {@link LikeCountReconcileJob} 이
+ * 이 상품들만 DB 와 비교하여 보정한다. Redis 장애는 DB 조회로 대체한다.</p>
+ */
+@Slf4j
+@Component
+public class LikeCountCache {
+
+    private static final String COUNT_KEY_PREFIX = "like:count:";
+    /** 마지막 보정 이후 좋아요가 바뀐 상품 ID 집합. 원소는 상품 수로 제한되고 보정 잡이 꺼내 간다. */
+    private static final String DIRTY_KEY = "like:count:dirty";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /**
+     * KEYS[1] = 카운터, KEYS[2] = 보정 대상 집합, ARGV[1] = 증감량, ARGV[2] = 상품 ID
+     */
+    private static final RedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('SADD', KEYS[2], ARGV[2])
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+        end
+        return nil
+        """, Long.class);
+
+    /**
+     * KEYS[i] = 카운터, ARGV[2i-1] = 비교 시점에 읽은 값, ARGV[2i] = DB 집계 값.
+     * 읽은 뒤 증감이 끼어들어 값이 달라진 카운터는 덮어쓰지 않고 다음 보정으로 넘긴다.
+     */
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>("""
+        local repaired = 0
+        for i, key in ipairs(KEYS) do
+            if redis.call('GET', key) == ARGV[2 * i - 1] then
+                redis.call('SET', key, ARGV[2 * i], 'KEEPTTL')
+                repaired = repaired + 1
+            end
+        end
+        return repaired
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LikeRepository likeRepository;
+
+    public LikeCountCache(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        LikeRepository likeRepository
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.likeRepository = likeRepository;
+    }
+
+    public long getCount(Long productId) {
+        return getCounts(List.of(productId)).getOrDefault(productId, 0L);
+    }
+
+    /**
+     * 상품별 좋아요 수를 조회한다. 좋아요가 없는 상품도 0 으로 포함된다.
+     */
+    public Map<Long, Long> getCounts(List<Long> productIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return counts;
+        }
+        List<Long> misses = new ArrayList<>();
+
+        List<String> cached = multiGet(productIds);
+        for (int i = 0; i < productIds.size(); i++) {
+            String value = cached == null ? null : cached.get(i);
+            if (value == null) {
+                misses.add(productIds.get(i));
+            } else {
+                counts.put(productIds.get(i), Long.parseLong(value));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, Long> loaded = new HashMap<>(likeRepository.countByProductIds(misses));
+            misses.forEach(productId -> loaded.putIfAbsent(productId, 0L));
+            counts.putAll(loaded);
+            store(loaded);
+        }
+        return counts;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        try {
+            redisTemplate.execute(CHANGE_SCRIPT, List.of(COUNT_KEY_PREFIX + event.productId(), DIRTY_KEY),
+                event.liked() ? "1" : "-1", String.valueOf(event.productId()));
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 카운터 반영에 실패했습니다. 카운터를 제거합니다. event={}", event, e);
+            evict(event.productId());
+        }
+    }
+
+    /**
+     * 보정 대상 집합에서 상품 ID 를 최대 {@code count} 개 꺼낸다. 꺼낸 ID 는 집합에서 제거된다.
+     */
+    public List<Long> popDirty(int count) {
+        try {
+            List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+            return members == null ? List.of() : members.stream().map(Long::valueOf).toList();
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 보정 대상 조회에 실패했습니다.", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 보정하지 못한 상품을 다음 주기에 다시 보정하도록 집합에 되돌린다.
+     */
+    public void markDirty(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForSet().add(DIRTY_KEY, productIds.stream().map(String::valueOf).toArray(String[]::new));
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 보정 대상 기록에 실패했습니다. productIds={}", productIds, e);
+        }
+    }
+
+    /**
+     * 캐시된 카운터를 DB 집계와 비교하여 다른 값만 덮어쓴다. 캐시되지 않은 상품은 건드리지 않으며,
+     * 비교하는 동안 증감된 카운터는 compare-and-set 으로 덮어쓰지 않는다.
+     *
+     * @return 보정한 상품 수
+     */
+    public int reconcile(List<Long> productIds) {
+        List<String> cached = multiGet(productIds);
+        if (cached == null) {
+            return 0;
+        }
+        List<Long> cachedIds = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            if (cached.get(i) != null) {
+                cachedIds.add(productIds.get(i));
+                expected.add(cached.get(i));
+            }
+        }
+        if (cachedIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> actual = likeRepository.countByProductIds(cachedIds);
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        for (int i = 0; i < cachedIds.size(); i++) {
+            long count = actual.getOrDefault(cachedIds.get(i), 0L);
+            if (Long.parseLong(expected.get(i)) != count) {
+                keys.add(COUNT_KEY_PREFIX + cachedIds.get(i));
+                args.add(expected.get(i));
+                args.add(String.valueOf(count));
+            }
+        }
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        try {
+            Long repaired = redisTemplate.execute(RECONCILE_SCRIPT, keys, args.toArray());
+            return repaired == null ? 0 : repaired.intValue();
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 카운터 보정에 실패했습니다.", e);
+            return 0;
+        }
+    }
+
+    private void evict(Long productId) {
+        try {
+            redisTemplate.delete(COUNT_KEY_PREFIX + productId);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 카운터 제거에 실패했습니다. productId={}", productId, e);
+        }
+    }
+
+    private List<String> multiGet(List<Long> productIds) {
+        try {
+            return redisTemplate.opsForValue().multiGet(productIds.stream().map(id -> COUNT_KEY_PREFIX + id).toList());
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 카운터 조회에 실패했습니다.", e);
+            return null;
+        }
+    }
+
+    private void store(Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        try {
+            Expiration expiration = Expiration.from(TTL);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                counts.forEach((productId, count) -> connection.stringCommands().set(
+                    (COUNT_KEY_PREFIX + productId).getBytes(StandardCharsets.UTF_8),
+                    String.valueOf(count).getBytes(StandardCharsets.UTF_8),
+                    expiration,
+                    SetOption.ifAbsent()
+                ));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 카운터 저장에 실패했습니다.", e);
+        }
+    }
+}
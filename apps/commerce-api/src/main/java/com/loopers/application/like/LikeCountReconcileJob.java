@@ -0,0 +1,72 @@
+package com.loopers.application.like;
+
+import com.loopers.support.lock.JobLock;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 좋아요 수 카운터를 likes 집계와 비교하여 어긋난 값을 바로잡는다.
+ *
+ * <p>전체 상품을 훑지 않고, 마지막 보정 이후 좋아요가 바뀐 상품만 {@link LikeCountCache#popDirty(int)} 로 청크씩 꺼내
+ * 청크마다 MGET 한 번과 GROUP BY 집계 한 번으로 비교한다. 청크 사이에는 {@link LikeCountReconcileProperties#throttle()} 만큼 쉬어
+ * DB 와 Redis 에 부하가 몰리지 않도록 하고, 여러 노드 중 {@link JobLock} 을 얻은 한 노드만 실행한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconcileJob {
+
+    private static final String LOCK_NAME = "like-count-reconcile";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+
+    private final LikeCountReconcileProperties reconcileProperties;
+    private final LikeCountCache likeCountCache;
+    private final JobLock jobLock;
+
+    @Scheduled(cron = "${like.count.reconcile.cron}")
+    public void run() {
+        if (!reconcileProperties.enabled()) {
+            return;
+        }
+        jobLock.runExclusively(LOCK_NAME, LOCK_LEASE, this::reconcileDirty);
+    }
+
+    private void reconcileDirty() {
+        int repaired = 0;
+        while (true) {
+            List<Long> productIds = likeCountCache.popDirty(reconcileProperties.chunkSize());
+            if (productIds.isEmpty()) {
+                break;
+            }
+            try {
+                repaired += likeCountCache.reconcile(productIds);
+            } catch (RuntimeException e) {
+                log.warn("좋아요 수 카운터 보정에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+                likeCountCache.markDirty(productIds);
+                return;
+            }
+
+            if (productIds.size() < reconcileProperties.chunkSize() || !throttle()) {
+                break;
+            }
+        }
+        if (repaired > 0) {
+            log.info("좋아요 수 카운터 보정 완료. 상품={}건", repaired);
+        }
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(reconcileProperties.throttle().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("좋아요 수 보정 잡이 중단되었습니다.");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.application.like;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled 좋아요 수 보정 잡 활성화 여부
+ * @param chunkSize 한 번에 비교할 상품 수
+ * @param throttle 청크 사이 대기 시간
+ */
+@ConfigurationProperties(value = "like.count.reconcile")
+public record LikeCountReconcileProperties(
+    boolean enabled,
+    int chunkSize,
+    Duration throttle
+) { }
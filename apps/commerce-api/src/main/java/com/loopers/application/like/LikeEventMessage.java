@@ -0,0 +1,14 @@
+package com.loopers.application.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 좋아요 상태 변경 메시지. 상품 ID 를 키로 발행되어 commerce-streamer 의 추천 갱신에 쓰인다.
+ */
+public record LikeEventMessage(
+    String userId,
+    Long productId,
+    boolean liked,
+    ZonedDateTime occurredAt
+) {
+}
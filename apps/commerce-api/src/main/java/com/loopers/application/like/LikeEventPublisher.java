@@ -0,0 +1,51 @@
+package com.loopers.application.like;
+
+import java.time.ZonedDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 좋아요 변경을 Kafka 로 발행한다. 발행은 비동기이며 실패해도 좋아요 요청에는 영향을 주지 않는다
+ * (추천은 주기적인 전체 재계산으로 따라잡는다).
+ */
+@Slf4j
+@Component
+public class LikeEventPublisher {
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final String topicName;
+    private final boolean enabled;
+
+    public LikeEventPublisher(
+        KafkaTemplate<Object, Object> kafkaTemplate,
+        @Value("${like.event.topic-name}") String topicName,
+        @Value("${like.event.publish-enabled}") boolean enabled
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topicName = topicName;
+        this.enabled = enabled;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        LikeEventMessage message = new LikeEventMessage(event.userId(), event.productId(), event.liked(),
+            ZonedDateTime.now());
+        try {
+            kafkaTemplate.send(topicName, String.valueOf(event.productId()), message)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.warn("좋아요 이벤트 발행에 실패했습니다. event={}", event, e);
+                    }
+                });
+        } catch (RuntimeException e) {
+            log.warn("좋아요 이벤트 발행에 실패했습니다. event={}", event, e);
+        }
+    }
+}
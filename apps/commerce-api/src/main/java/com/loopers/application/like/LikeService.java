@@ -1,12 +1,23 @@
 package com.loopers.application.like;
 
+import com.loopers.application.brand.BrandRegistry;
+import com.loopers.application.product.ProductInfo;
 import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeCursor;
 import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.support.cursor.KeysetCursorCodec;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,44 +28,88 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class LikeService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final LikeRepository likeRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeCountCache likeCountCache;
+    private final BrandRegistry brandRegistry;
 
+    /**
+     * 브랜드 좋아요 수는 커밋된 {@link LikeChangedEvent} 를 브랜드 통계 버퍼가 모아서 반영한다.
+     */
     @Transactional
     public void like(String userId, Long productId) {
         // 상품 존재 여부 확인
-        Product product = productRepository.findById(productId)
+        productRepository.findById(productId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
 
-        // 멱등성 보장: 이미 좋아요한 경우 무시
-        if (likeRepository.existsByUserIdAndProductId(userId, productId)) {
+        // 멱등성 보장: (user_id, product_id) 유니크 키 기반 upsert 한 번으로 처리하며, 이미 좋아요한 경우 상태가 바뀌지 않는다.
+        if (!likeRepository.insertOrRestore(userId, productId, ZonedDateTime.now())) {
             return;
         }
 
-        Like like = Like.builder()
-            .userId(userId)
-            .productId(productId)
-            .build();
-
-        likeRepository.save(like);
+        eventPublisher.publishEvent(new LikeChangedEvent(userId, productId, true));
     }
 
     @Transactional
     public void unlike(String userId, Long productId) {
         // 멱등성 보장: 좋아요하지 않은 경우에도 정상 처리
-        if (!likeRepository.existsByUserIdAndProductId(userId, productId)) {
+        if (!likeRepository.softDelete(userId, productId, ZonedDateTime.now())) {
             return;
         }
 
-        likeRepository.deleteByUserIdAndProductId(userId, productId);
+        eventPublisher.publishEvent(new LikeChangedEvent(userId, productId, false));
     }
 
     public Page<Like> getLikesByUser(String userId, Pageable pageable) {
         return likeRepository.findByUserId(userId, pageable);
     }
 
+    /**
+     * 사용자가 좋아요한 상품을 최근 순으로 (created_at, id) 키셋 페이지 조회합니다.
+     * 페이지 크기와 무관하게 좋아요 1회, 상품 IN 1회, 좋아요 수 MGET 1회로 조합하며 브랜드는 레지스트리에서 읽습니다.
+     * 삭제된 상품의 좋아요는 결과에서 제외되므로 페이지가 요청 크기보다 작을 수 있습니다.
+     */
+    public LikedProductPage getLikedProducts(String userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LikeCursor after = KeysetCursorCodec.decode(cursor, LikeCursor::new);
+        List<Like> likes = likeRepository.findPageByUserId(userId, after, pageSize + 1);
+        boolean hasNext = likes.size() > pageSize;
+        if (hasNext) {
+            likes = likes.subList(0, pageSize);
+        }
+        if (likes.isEmpty()) {
+            return new LikedProductPage(List.of(), null);
+        }
+
+        List<Long> productIds = likes.stream().map(Like::getProductId).toList();
+        Map<Long, Product> products = productRepository.findByIdIn(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, Long> likeCounts = likeCountCache.getCounts(productIds);
+
+        List<LikedProductInfo> likedProducts = new ArrayList<>(likes.size());
+        for (Like like : likes) {
+            Product product = products.get(like.getProductId());
+            if (product == null) {
+                continue;
+            }
+            likedProducts.add(new LikedProductInfo(like.getId(), like.getCreatedAt(), ProductInfo.from(product,
+                likeCounts.getOrDefault(product.getId(), 0L), brandRegistry.get(product.getBrand().getId()))));
+        }
+
+        // 커서는 제외된 상품과 관계없이 이번 페이지에서 읽은 마지막 좋아요 위치로 만든다.
+        Like last = likes.get(likes.size() - 1);
+        String nextCursor = hasNext
+            ? KeysetCursorCodec.encode(last.getCreatedAt(), last.getId())
+            : null;
+        return new LikedProductPage(likedProducts, nextCursor);
+    }
+
     public Long getLikeCount(Long productId) {
-        return likeRepository.countByProductId(productId);
+        return likeCountCache.getCount(productId);
     }
 
     public boolean isLiked(String userId, Long productId) {
@@ -0,0 +1,16 @@
+package com.loopers.application.like;
+
+import com.loopers.application.product.ProductInfo;
+import java.time.ZonedDateTime;
+
+/**
+ * @param likeId 좋아요 ID (커서 위치)
+ * @param likedAt 좋아요를 누른 시각
+ * @param product 상품 정보 (브랜드, 좋아요 수, 재고, 가격 포함)
+ */
+public record LikedProductInfo(
+    Long likeId,
+    ZonedDateTime likedAt,
+    ProductInfo product
+) {
+}
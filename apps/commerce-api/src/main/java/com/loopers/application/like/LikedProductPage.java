@@ -0,0 +1,17 @@
+package com.loopers.application.like;
+
+import java.util.List;
+
+/**
+ * @param products 최근에 좋아요한 순서의 상품
+ * @param nextCursor 다음 페이지 조회용 커서 (마지막 페이지면 null)
+ */
+public record LikedProductPage(
+    List<LikedProductInfo> products,
+    String nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopers.application.order;
+
+/**
+ * 비동기 주문 접수 이벤트. 주문 트랜잭션 커밋 이후 정산 워커의 큐로 전달된다.
+ *
+ * @param orderId 주문 ID
+ * @param primaryProductId 파티션 키로 사용할 대표 상품 ID
+ */
+public record OrderAcceptedEvent(Long orderId, Long primaryProductId) {
+
+}
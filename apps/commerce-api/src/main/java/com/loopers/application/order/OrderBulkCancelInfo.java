@@ -0,0 +1,37 @@
+package com.loopers.application.order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 취소 결과.
+ *
+ * @param canceledOrderIds 취소된 주문
+ * @param skippedOrderIds 존재하지 않거나 취소할 수 없는 상태여서 건너뛴 주문
+ * @param failedOrderIds 처리 중 오류로 롤백된 주문
+ */
+public record OrderBulkCancelInfo(
+    List<Long> canceledOrderIds,
+    List<Long> skippedOrderIds,
+    List<Long> failedOrderIds
+) {
+
+    public static OrderBulkCancelInfo failed(List<Long> orderIds) {
+        return new OrderBulkCancelInfo(List.of(), List.of(), List.copyOf(orderIds));
+    }
+
+    public OrderBulkCancelInfo merge(OrderBulkCancelInfo other) {
+        return new OrderBulkCancelInfo(
+            concat(canceledOrderIds, other.canceledOrderIds),
+            concat(skippedOrderIds, other.skippedOrderIds),
+            concat(failedOrderIds, other.failedOrderIds)
+        );
+    }
+
+    private static List<Long> concat(List<Long> left, List<Long> right) {
+        List<Long> merged = new ArrayList<>(left.size() + right.size());
+        merged.addAll(left);
+        merged.addAll(right);
+        return merged;
+    }
+}
@@ -0,0 +1,86 @@
+package com.loopers.application.order;
+
+import com.loopers.application.brand.BrandStatsDelta;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 주문을 한 트랜잭션에서 취소한다 (관리자 일괄 취소의 청크 단위 처리).
+ *
+ * <p>주문과 주문 항목은 fetch join 한 번으로 조회하고, 재고 복구는 청크 전체의 상품별 수량을 합산해 단일 UPDATE 로 수행한다.
+ * 포인트 환불도 사용자별로 합산하여 사용자당 한 번만 처리한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCancelProcessor {
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final PointService pointService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public OrderBulkCancelInfo cancel(List<Long> orderIds) {
+        List<Order> orders = orderRepository.findAllWithItemsByIdIn(orderIds);
+
+        List<Long> canceledOrderIds = new ArrayList<>();
+        Map<Long, Integer> restockQuantities = new TreeMap<>();
+        Map<String, BigDecimal> refundAmounts = new TreeMap<>();
+        for (Order order : orders) {
+            if (!order.canCancel()) {
+                continue;
+            }
+            order.cancel();
+            canceledOrderIds.add(order.getId());
+            order.getQuantitiesByProductId().forEach((productId, quantity) ->
+                restockQuantities.merge(productId, quantity, Integer::sum));
+            refundAmounts.merge(order.getUserId(), order.getTotalAmount(), BigDecimal::add);
+        }
+
+        restoreStocks(productRepository, eventPublisher, restockQuantities);
+        refundAmounts.forEach((userId, amount) -> {
+            if (amount.compareTo(BigDecimal.ZERO) > 0) {
+                pointService.refundPoint(userId, amount);
+            }
+        });
+
+        Set<Long> canceled = new HashSet<>(canceledOrderIds);
+        List<Long> skippedOrderIds = orderIds.stream()
+            .filter(orderId -> !canceled.contains(orderId))
+            .toList();
+        return new OrderBulkCancelInfo(canceledOrderIds, skippedOrderIds, List.of());
+    }
+
+    static void restoreStocks(ProductRepository productRepository, ApplicationEventPublisher eventPublisher,
+        Map<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+        // 벌크 UPDATE 는 이전 재고를 돌려주지 않으므로, 품절 상태에서 복구되는 상품을 미리 찾아 브랜드 통계에 반영한다.
+        List<Product> soldOut = productRepository.findByIdIn(new ArrayList<>(quantitiesByProductId.keySet())).stream()
+            .filter(product -> product.getStock() == 0)
+            .toList();
+        int updated = productRepository.restoreStocks(quantitiesByProductId);
+        if (updated != quantitiesByProductId.size()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다.");
+        }
+        soldOut.forEach(product -> eventPublisher.publishEvent(BrandStatsDelta.stockChanged(
+            product.getBrand().getId(), 0, quantitiesByProductId.get(product.getId()))));
+    }
+}
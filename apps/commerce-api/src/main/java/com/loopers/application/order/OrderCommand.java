@@ -8,6 +8,10 @@ public class OrderCommand {
 
     }
 
+    public record Preview(List<OrderItemRequest> orderItems) {
+
+    }
+
     public record OrderItemRequest(Long productId, Integer quantity) {
 
     }
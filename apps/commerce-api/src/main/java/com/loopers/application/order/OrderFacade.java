@@ -1,13 +1,20 @@
 package com.loopers.application.order;
 
+import com.loopers.application.brand.BrandStatsDelta;
+import com.loopers.application.coupon.CouponCatalog;
 import com.loopers.application.coupon.CouponService;
+import com.loopers.application.coupon.UserCouponInfo;
 import com.loopers.application.order.OrderCommand.OrderItemRequest;
+import com.loopers.application.product.ProductPriceCache;
 import com.loopers.domain.coupon.UserCoupon;
+import com.loopers.domain.order.ArchivedOrder;
+import com.loopers.domain.order.ArchivedOrderRepository;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderItem;
 import com.loopers.domain.order.OrderRepository;
 import com.loopers.domain.order.OrderStatus;
 import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointBalanceCache;
 import com.loopers.domain.point.PointRepository;
 import com.loopers.domain.point.PointService;
 import com.loopers.domain.product.Product;
@@ -15,29 +22,46 @@ import com.loopers.domain.product.ProductRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderFacade {
 
+    public static final int BULK_CANCEL_CHUNK_SIZE = 100;
+    private static final int PREVIEW_PARALLEL_THRESHOLD = 256; // 이보다 쿠폰이 많을 때만 병렬 평가 (분할 비용 > 계산 비용)
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final PointRepository pointRepository;
     private final PointService pointService;
     private final CouponService couponService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderCancelProcessor orderCancelProcessor;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ProductPriceCache productPriceCache;
+    private final CouponCatalog couponCatalog;
+    private final PointBalanceCache pointBalanceCache;
 
     @Transactional
     public OrderInfo createOrder(String userId, OrderCommand.Create command) {
-        // 1. 쿠폰 검증 및 사용 처리
-        UserCoupon userCoupon = validateAndUseCoupon(userId, command.userCouponId());
+        // 1. 쿠폰 사전 검증 (락 없음) - 여기서 읽은 쿠폰을 할인 계산에도 사용하며, 사용 처리 시에는 다시 읽지 않는다.
+        UserCoupon userCoupon = validateCoupon(userId, command.userCouponId());
 
         // 2. 주문 생성 및 상품 추가
         Order order = createOrderWithItems(userId, command.orderItems());
@@ -48,22 +72,135 @@ public class OrderFacade {
         // 4. 포인트 차감
         deductPoint(userId, finalAmount);
 
-        // 5. 주문 저장
+        // 5. 쿠폰 사용 처리 - 조건부 UPDATE 가 잡는 쿠폰 행 락을 커밋 직전까지로 줄이기 위해 마지막에 수행한다.
+        useCoupon(userId, command.userCouponId());
+
+        // 6. 주문 저장
+        Order savedOrder = orderRepository.save(order);
+
+        return OrderInfo.from(savedOrder);
+    }
+
+    /**
+     * 장바구니의 주문 금액과 사용 가능한 쿠폰별 할인 금액을 계산하여 최적의 쿠폰을 찾습니다.
+     * 장바구니 변경마다 호출되므로 캐시(상품 가격, 사용 가능 쿠폰, 쿠폰 정의)만 읽으며 락을 잡거나 쓰기를 하지 않습니다.
+     */
+    public OrderPreviewInfo previewOrder(String userId, OrderCommand.Preview command) {
+        BigDecimal totalAmount = calculateCartAmount(command.orderItems());
+        if (totalAmount.signum() <= 0) {
+            return new OrderPreviewInfo(totalAmount, BigDecimal.ZERO, totalAmount, null, List.of());
+        }
+
+        List<UserCouponInfo> userCoupons = couponService.getAvailableUserCouponInfos(userId);
+        Stream<UserCouponInfo> stream = userCoupons.size() > PREVIEW_PARALLEL_THRESHOLD
+            ? userCoupons.parallelStream()
+            : userCoupons.stream();
+        List<OrderPreviewInfo.CouponDiscount> discounts = stream
+            .map(userCoupon -> evaluateCoupon(userCoupon, totalAmount))
+            .flatMap(Optional::stream)
+            .sorted(Comparator.comparing(OrderPreviewInfo.CouponDiscount::discountAmount).reversed()
+                .thenComparing(OrderPreviewInfo.CouponDiscount::userCouponId))
+            .toList();
+
+        if (discounts.isEmpty()) {
+            return new OrderPreviewInfo(totalAmount, BigDecimal.ZERO, totalAmount, null, discounts);
+        }
+        OrderPreviewInfo.CouponDiscount best = discounts.get(0);
+        return new OrderPreviewInfo(totalAmount, best.discountAmount(),
+            totalAmount.subtract(best.discountAmount()), best.userCouponId(), discounts);
+    }
+
+    private BigDecimal calculateCartAmount(List<OrderItemRequest> orderItemRequests) {
+        List<Long> productIds = orderItemRequests.stream()
+            .map(OrderItemRequest::productId)
+            .distinct()
+            .toList();
+        Map<Long, BigDecimal> prices = productPriceCache.getPrices(productIds);
+        if (prices.size() != productIds.size()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품이 포함되어 있습니다.");
+        }
+        return orderItemRequests.stream()
+            .map(item -> prices.get(item.productId()).multiply(BigDecimal.valueOf(item.quantity())))
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private Optional<OrderPreviewInfo.CouponDiscount> evaluateCoupon(UserCouponInfo userCoupon,
+        BigDecimal totalAmount) {
+        return couponCatalog.find(userCoupon.coupon().id())
+            .map(coupon -> new OrderPreviewInfo.CouponDiscount(
+                userCoupon.id(),
+                coupon.getId(),
+                coupon.getName(),
+                coupon.calculateDiscountAmount(totalAmount)
+            ));
+    }
+
+    /**
+     * 비동기 주문을 접수합니다.
+     * 락 없이 요청을 검증하고 PENDING 주문만 저장하며, 재고/쿠폰/포인트 차감은 커밋 이후 정산 워커가 수행합니다.
+     */
+    @Transactional
+    public OrderInfo acceptOrder(String userId, OrderCommand.Create command) {
+        // 캐시된 사용 가능 목록은 쿠폰 사용 직후 잠시 오래된 값일 수 있으므로, 쿠폰 행을 기본 키로 읽어 검증한다.
+        validateCoupon(userId, command.userCouponId());
+
+        Map<Long, Product> productMap = loadProducts(command.orderItems());
+
+        Order order = Order.builder()
+            .userId(userId)
+            .status(OrderStatus.PENDING)
+            .build();
+
+        for (OrderItemRequest request : command.orderItems()) {
+            Product product = productMap.get(request.productId());
+            // 빠른 실패를 위한 사전 검증이며, 최종 재고 확인은 정산 시점에 락을 잡고 수행한다.
+            if (product.getStock() < request.quantity()) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다: " + product.getName());
+            }
+            order.addOrderItem(OrderItem.from(product, request.quantity()));
+        }
+
+        order.calculateTotalAmount();
+        order.requestSettlement(command.userCouponId());
         Order savedOrder = orderRepository.save(order);
 
+        eventPublisher.publishEvent(new OrderAcceptedEvent(savedOrder.getId(), savedOrder.getPrimaryProductId()));
         return OrderInfo.from(savedOrder);
     }
 
-    private UserCoupon validateAndUseCoupon(String userId, Long userCouponId) {
+    private Map<Long, Product> loadProducts(List<OrderItemRequest> orderItemRequests) {
+        List<Long> productIds = orderItemRequests.stream()
+            .map(OrderItemRequest::productId)
+            .distinct()
+            .toList();
+
+        Map<Long, Product> productMap = productRepository.findByIdIn(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, product -> product));
+        if (productMap.size() != productIds.size()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품이 포함되어 있습니다.");
+        }
+        return productMap;
+    }
+
+    private UserCoupon validateCoupon(String userId, Long userCouponId) {
         if (userCouponId == null) {
             return null;
         }
 
-        UserCoupon userCoupon = couponService.getUserCouponWithLock(userCouponId);
-        userCoupon.useBy(userId); // 도메인이 검증과 사용 처리를 담당
+        UserCoupon userCoupon = couponService.getUserCoupon(userCouponId);
+        userCoupon.validateOwnership(userId);
+        userCoupon.validateAvailability();
         return userCoupon;
     }
 
+    private void useCoupon(String userId, Long userCouponId) {
+        if (userCouponId == null) {
+            return;
+        }
+
+        couponService.useCouponForOrder(userId, userCouponId);
+    }
+
     private Order createOrderWithItems(String userId, List<OrderItemRequest> orderItemRequests) {
         // 상품 조회 (비관적 락)
         Map<Long, Product> productMap = loadProductsWithLock(orderItemRequests);
@@ -77,7 +214,12 @@ public class OrderFacade {
         // 주문 항목 추가 및 재고 차감
         for (OrderItemRequest request : orderItemRequests) {
             Product product = productMap.get(request.productId());
+            int stockBefore = product.getStock();
             product.deductStock(request.quantity());
+            if (product.getStock() == 0) {
+                eventPublisher.publishEvent(
+                    BrandStatsDelta.stockChanged(product.getBrand().getId(), stockBefore, 0));
+            }
             order.addOrderItem(OrderItem.from(product, request.quantity()));
         }
 
@@ -110,14 +252,20 @@ public class OrderFacade {
     }
 
     private void deductPoint(String userId, BigDecimal amount) {
+        if (pointService.isLedgerEnabled()) {
+            // 원장 모드에서는 points 행을 잠그지 않고 원장에 사용 내역을 추가한다.
+            pointService.usePoint(userId, amount);
+            return;
+        }
         Point point = pointRepository.findByUserIdWithLock(userId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "포인트 정보를 찾을 수 없습니다."));
         point.use(amount);
+        pointBalanceCache.putAfterCommit(List.of(point));
     }
 
     @Transactional
     public void cancelOrder(Long orderId, String userId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithItemsById(orderId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "주문을 찾을 수 없습니다."));
 
         // 권한 확인
@@ -128,27 +276,84 @@ public class OrderFacade {
         // 취소 가능 여부 확인 (Order가 검증 수행)
         order.cancel();
 
-        // 재고 복구 (productId로 Product 조회)
-        for (OrderItem orderItem : order.getOrderItems()) {
-            Product product = productRepository.findById(orderItem.getProductId())
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
-            product.restoreStock(orderItem.getQuantity());
-        }
+        // 재고 복구 (상품별 수량을 합산하여 단일 UPDATE)
+        OrderCancelProcessor.restoreStocks(productRepository, eventPublisher, order.getQuantitiesByProductId());
 
         // 포인트 환불
         pointService.refundPoint(userId, order.getTotalAmount());
     }
 
+    /**
+     * 관리자 일괄 취소. {@link #BULK_CANCEL_CHUNK_SIZE} 건씩 나누어 청크마다 별도 트랜잭션으로 처리하며,
+     * 한 청크가 실패해도 이미 처리된 청크는 유지된다.
+     */
+    public OrderBulkCancelInfo cancelOrders(List<Long> orderIds) {
+        List<Long> distinctOrderIds = orderIds.stream().distinct().toList();
+        OrderBulkCancelInfo result = new OrderBulkCancelInfo(List.of(), List.of(), List.of());
+        for (int from = 0; from < distinctOrderIds.size(); from += BULK_CANCEL_CHUNK_SIZE) {
+            List<Long> chunk = distinctOrderIds.subList(from,
+                Math.min(from + BULK_CANCEL_CHUNK_SIZE, distinctOrderIds.size()));
+            try {
+                result = result.merge(orderCancelProcessor.cancel(chunk));
+            } catch (RuntimeException e) {
+                log.warn("주문 일괄 취소 청크 처리에 실패했습니다. orderIds={}", chunk, e);
+                result = result.merge(OrderBulkCancelInfo.failed(chunk));
+            }
+        }
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public OrderInfo getOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        return orderRepository.findById(orderId)
+            .map(OrderInfo::from)
+            .or(() -> archivedOrderRepository.findWithItemsById(orderId).map(OrderInfo::from))
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "주문을 찾을 수 없습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderStatusInfo getOrderStatus(Long orderId) {
+        return orderRepository.findById(orderId)
+            .map(OrderStatusInfo::from)
+            .or(() -> archivedOrderRepository.findWithItemsById(orderId).map(OrderStatusInfo::from))
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "주문을 찾을 수 없습니다."));
-        return OrderInfo.from(order);
     }
 
+    /**
+     * 핫 테이블 주문을 먼저 채우고, 페이지가 핫 테이블 범위를 넘어가면 아카이브 주문(항상 더 오래된 주문)으로 이어서 채운다.
+     * 핫 주문만으로 채워지는 페이지는 아카이브 테이블을 읽지 않는다.
+     */
     @Transactional(readOnly = true)
     public Page<OrderInfo> getOrdersByUser(String userId, Pageable pageable) {
-        Page<Order> orders = orderRepository.findByUserId(userId, pageable);
-        return orders.map(OrderInfo::from);
+        // 1) 인덱스만으로 ID 페이지 조회 2) 주문 + 항목을 IN 절 fetch join 으로 한 번에 조회
+        List<Long> orderIds = orderRepository.findIdsByUserId(userId, pageable);
+        List<OrderInfo> content = new ArrayList<>(pageable.getPageSize());
+        if (!orderIds.isEmpty()) {
+            Map<Long, Order> orders = orderRepository.findAllWithItemsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+            orderIds.forEach(orderId -> content.add(OrderInfo.from(orders.get(orderId))));
+        }
+
+        if (content.size() == pageable.getPageSize()) {
+            // 3) 페이지가 가득 찬 경우에만 전체 건수를 센다 (핫 + 아카이브를 한 번의 쿼리로)
+            return new PageImpl<>(content, pageable, orderRepository.countByUserIdIncludingArchive(userId));
+        }
+
+        // 핫 주문이 이 페이지에서 끝났다. 페이지가 비어 있으면 핫 주문 수를 알 수 없으므로 그때만 센다.
+        long hotTotal = content.isEmpty() && pageable.getOffset() > 0
+            ? orderRepository.countByUserId(userId)
+            : pageable.getOffset() + content.size();
+        long archiveOffset = pageable.getOffset() + content.size() - hotTotal;
+        int remaining = pageable.getPageSize() - content.size();
+        List<ArchivedOrder> archivedOrders = archivedOrderRepository.findWithItemsByUserId(userId, archiveOffset,
+            remaining);
+        archivedOrders.forEach(order -> content.add(OrderInfo.from(order)));
+
+        // 아카이브 페이지도 가득 차지 않았으면 마지막 페이지이므로 count 없이 전체 건수를 알 수 있다.
+        boolean lastPage = archivedOrders.size() < remaining && (!archivedOrders.isEmpty() || archiveOffset == 0);
+        long archivedTotal = lastPage
+            ? archiveOffset + archivedOrders.size()
+            : archivedOrderRepository.countByUserId(userId);
+        return new PageImpl<>(content, pageable, hotTotal + archivedTotal);
     }
 }
@@ -1,5 +1,6 @@
 package com.loopers.application.order;
 
+import com.loopers.domain.order.ArchivedOrder;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderStatus;
 import java.math.BigDecimal;
@@ -31,4 +32,18 @@ public record OrderInfo(
             .canceledAt(order.getCanceledAt())
             .build();
     }
+
+    public static OrderInfo from(ArchivedOrder order) {
+        return OrderInfo.builder()
+            .id(order.getId())
+            .userId(order.getUserId())
+            .status(order.getStatus())
+            .totalAmount(order.getTotalAmount())
+            .orderItems(order.getOrderItems().stream()
+                .map(OrderItemInfo::from)
+                .toList())
+            .createdAt(order.getCreatedAt())
+            .canceledAt(order.getCanceledAt())
+            .build();
+    }
 }
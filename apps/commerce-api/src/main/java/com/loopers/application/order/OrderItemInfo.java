@@ -1,5 +1,6 @@
 package com.loopers.application.order;
 
+import com.loopers.domain.order.ArchivedOrderItem;
 import com.loopers.domain.order.OrderItem;
 import java.math.BigDecimal;
 import lombok.Builder;
@@ -26,4 +27,16 @@ public record OrderItemInfo(
             .amount(orderItem.calculateAmount())
             .build();
     }
+
+    public static OrderItemInfo from(ArchivedOrderItem orderItem) {
+        return OrderItemInfo.builder()
+            .id(orderItem.getId())
+            .productId(orderItem.getProductId())
+            .productName(orderItem.getProductName())
+            .brandName(orderItem.getBrandName())
+            .quantity(orderItem.getQuantity())
+            .price(orderItem.getPrice())
+            .amount(orderItem.calculateAmount())
+            .build();
+    }
 }
@@ -0,0 +1,30 @@
+package com.loopers.application.order;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 주문 금액 미리보기 결과.
+ *
+ * @param totalAmount 할인 전 주문 금액
+ * @param discountAmount 최적 쿠폰의 할인 금액 (적용 가능한 쿠폰이 없으면 0)
+ * @param paymentAmount 최적 쿠폰 적용 후 결제 금액
+ * @param bestUserCouponId 최적 사용자 쿠폰 ID (없으면 null)
+ * @param coupons 사용 가능한 쿠폰별 할인 금액 (할인 금액 내림차순)
+ */
+public record OrderPreviewInfo(
+    BigDecimal totalAmount,
+    BigDecimal discountAmount,
+    BigDecimal paymentAmount,
+    Long bestUserCouponId,
+    List<CouponDiscount> coupons
+) {
+
+    public record CouponDiscount(
+        Long userCouponId,
+        Long couponId,
+        String couponName,
+        BigDecimal discountAmount
+    ) {
+    }
+}
@@ -0,0 +1,195 @@
+package com.loopers.application.order;
+
+import com.loopers.application.brand.BrandStatsDelta;
+import com.loopers.application.coupon.UserCouponChangedEvent;
+import com.loopers.domain.coupon.UserCoupon;
+import com.loopers.domain.coupon.UserCouponRepository;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointRepository;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비동기 주문의 정산(재고 차감, 쿠폰 사용, 포인트 차감)을 마이크로 배치 단위로 수행한다.
+ *
+ * <p>배치에 포함된 상품/포인트/쿠폰 행은 한 번씩만 락을 잡고, 각 주문은 차감 전에 모든 조건을 먼저 검증한다.
+ * 조건을 만족하지 못한 주문은 아무 것도 차감하지 않은 채 FAILED 로 전이되므로, 한 주문의 실패가 같은 배치의 다른 주문을 롤백시키지 않는다.</p>
+ *
+ * <p>주문은 먼저 조건부 UPDATE 로 선점하므로, 재기동 복구 등으로 여러 노드가 같은 주문을 받아도 한 번만 정산된다.
+ * 락은 항상 주문 -> 상품 -> 포인트 -> 쿠폰 순서로, 각각 ID 오름차순으로 잡는다.
+ * 포인트 차감은 {@link PointService#deduct} 를 거치므로 원장 모드에서도 동기 주문과 같은 원장에 시퀀스 이력으로 남는다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSettlementProcessor {
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final PointRepository pointRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PointService pointService;
+
+    @Transactional
+    public void settle(List<Long> orderIds) {
+        List<Long> claimedIds = orderIds.stream()
+            .distinct()
+            .sorted()
+            .filter(orderId -> orderRepository.claimSettlement(orderId) == 1)
+            .toList();
+        if (claimedIds.isEmpty()) {
+            return;
+        }
+        List<Order> orders = orderRepository.findAllWithItemsByIdIn(claimedIds);
+
+        Map<Long, Product> products = lockProducts(orders);
+        Map<String, Point> points = lockPoints(orders);
+        Map<Long, UserCoupon> userCoupons = lockUserCoupons(orders);
+
+        for (Order order : orders) {
+            Settlement settlement = validate(order, products, points, userCoupons);
+            if (settlement.failureReason() != null) {
+                order.fail(settlement.failureReason());
+                continue;
+            }
+            apply(order, settlement.paymentAmount(), products, points, userCoupons);
+        }
+    }
+
+    @Transactional
+    public void fail(Long orderId, String reason) {
+        if (orderRepository.claimSettlement(orderId) == 1) {
+            orderRepository.findById(orderId).ifPresent(order -> order.fail(reason));
+        }
+    }
+
+    private Map<Long, Product> lockProducts(List<Order> orders) {
+        List<Long> productIds = orders.stream()
+            .flatMap(order -> order.getOrderItems().stream())
+            .map(OrderItem::getProductId)
+            .distinct()
+            .sorted()
+            .toList();
+        return productRepository.findAllByIdInWithLock(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private Map<String, Point> lockPoints(List<Order> orders) {
+        List<String> userIds = orders.stream()
+            .map(Order::getUserId)
+            .distinct()
+            .sorted()
+            .toList();
+        return pointRepository.findAllByUserIdInWithLock(userIds).stream()
+            .collect(Collectors.toMap(Point::getUserId, Function.identity()));
+    }
+
+    private Map<Long, UserCoupon> lockUserCoupons(List<Order> orders) {
+        List<Long> userCouponIds = orders.stream()
+            .map(Order::getUserCouponId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted()
+            .toList();
+        if (userCouponIds.isEmpty()) {
+            return Map.of();
+        }
+        return userCouponRepository.findAllByIdInWithLock(userCouponIds).stream()
+            .collect(Collectors.toMap(UserCoupon::getId, Function.identity()));
+    }
+
+    private Settlement validate(Order order, Map<Long, Product> products, Map<String, Point> points,
+        Map<Long, UserCoupon> userCoupons) {
+        Map<Long, Integer> requiredStocks = order.getOrderItems().stream()
+            .collect(Collectors.groupingBy(OrderItem::getProductId,
+                Collectors.summingInt(OrderItem::getQuantity)));
+
+        for (Map.Entry<Long, Integer> required : requiredStocks.entrySet()) {
+            Product product = products.get(required.getKey());
+            if (product == null || product.getDeletedAt() != null) {
+                return Settlement.failed("존재하지 않는 상품이 포함되어 있습니다.");
+            }
+            if (product.getStock() < required.getValue()) {
+                return Settlement.failed("재고가 부족합니다: " + product.getName());
+            }
+        }
+
+        BigDecimal discountAmount = BigDecimal.ZERO;
+        if (order.getUserCouponId() != null) {
+            UserCoupon userCoupon = userCoupons.get(order.getUserCouponId());
+            if (userCoupon == null) {
+                return Settlement.failed("사용자 쿠폰을 찾을 수 없습니다.");
+            }
+            if (!userCoupon.getUserId().equals(order.getUserId())) {
+                return Settlement.failed("본인의 쿠폰만 사용할 수 있습니다.");
+            }
+            if (!userCoupon.isAvailable()) {
+                return Settlement.failed("사용할 수 없는 쿠폰입니다.");
+            }
+            if (!userCoupon.getCoupon().isValidAt(ZonedDateTime.now())) {
+                return Settlement.failed("사용 기간이 아닌 쿠폰입니다.");
+            }
+            if (order.getTotalAmount().compareTo(BigDecimal.ZERO) > 0) {
+                discountAmount = userCoupon.calculateDiscount(order.getTotalAmount());
+            }
+        }
+
+        BigDecimal paymentAmount = order.applyDiscount(discountAmount);
+        Point point = points.get(order.getUserId());
+        if (point == null) {
+            return Settlement.failed("포인트 정보를 찾을 수 없습니다.");
+        }
+        // 원장 모드에서는 스냅샷 이후 원장(같은 배치에서 먼저 차감한 주문 포함)을 더한 잔액으로 검증한다.
+        if (pointService.getCurrentBalance(point).compareTo(paymentAmount) < 0) {
+            return Settlement.failed("포인트 잔액이 부족합니다.");
+        }
+        return Settlement.succeeded(paymentAmount);
+    }
+
+    private void apply(Order order, BigDecimal paymentAmount, Map<Long, Product> products,
+        Map<String, Point> points, Map<Long, UserCoupon> userCoupons) {
+        for (OrderItem orderItem : order.getOrderItems()) {
+            Product product = products.get(orderItem.getProductId());
+            int stockBefore = product.getStock();
+            product.deductStock(orderItem.getQuantity());
+            if (product.getStock() == 0) {
+                eventPublisher.publishEvent(
+                    BrandStatsDelta.stockChanged(product.getBrand().getId(), stockBefore, 0));
+            }
+        }
+        if (order.getUserCouponId() != null) {
+            userCoupons.get(order.getUserCouponId()).useBy(order.getUserId());
+            eventPublisher.publishEvent(UserCouponChangedEvent.of(order.getUserId()));
+        }
+        if (paymentAmount.compareTo(BigDecimal.ZERO) > 0) {
+            pointService.deduct(points.get(order.getUserId()), paymentAmount, "포인트 사용");
+        }
+        order.complete();
+    }
+
+    private record Settlement(String failureReason, BigDecimal paymentAmount) {
+
+        static Settlement failed(String failureReason) {
+            return new Settlement(failureReason, null);
+        }
+
+        static Settlement succeeded(BigDecimal paymentAmount) {
+            return new Settlement(null, paymentAmount);
+        }
+    }
+}
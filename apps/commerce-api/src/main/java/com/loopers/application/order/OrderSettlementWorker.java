@@ -0,0 +1,149 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 비동기 주문 정산 워커.
+ *
+ * <p>접수된 주문은 대표 상품 ID(가장 작은 상품 ID)로 파티션에 라우팅된다. 파티션마다 단일 스레드가 큐를 비우며 최대 {@link #MAX_BATCH_SIZE} 건을 모으고,
+ * 대표 상품이 같은 주문끼리 묶어 한 트랜잭션(한 번의 락)으로 정산한다. 라우팅 키는 대표 상품뿐이므로, 여러 상품을 담은 주문은
+ * 다른 파티션과 같은 상품 행을 잠글 수 있다. {@link OrderSettlementProcessor} 가 락 순서를 고정하므로 정산 트랜잭션끼리는 교착 없이 대기로만 남고,
+ * 락 대기 시간 초과 등으로 배치가 실패하면 건별 정산으로 다시 시도한다.</p>
+ *
+ * <p>큐는 메모리에만 존재하므로, 재기동 시 정산 대기 상태로 남아있는 주문을 다시 큐에 적재한다.
+ * 여러 노드가 같은 주문을 복구하더라도 정산 시점의 선점(조건부 UPDATE)으로 한 번만 처리된다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSettlementWorker {
+
+    public static final int PARTITION_COUNT = 4;
+    public static final int MAX_BATCH_SIZE = 100;
+    private static final String UNEXPECTED_FAILURE_REASON = "주문 정산 중 오류가 발생했습니다.";
+
+    private final OrderSettlementProcessor orderSettlementProcessor;
+    private final OrderRepository orderRepository;
+
+    private final List<BlockingQueue<OrderAcceptedEvent>> partitions = new ArrayList<>();
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(PARTITION_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "order-settlement-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            BlockingQueue<OrderAcceptedEvent> queue = new LinkedBlockingQueue<>();
+            partitions.add(queue);
+            executor.submit(() -> consume(queue));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        executor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<Long> orderIds = orderRepository.findIdsAwaitingSettlement();
+        for (int from = 0; from < orderIds.size(); from += MAX_BATCH_SIZE) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + MAX_BATCH_SIZE, orderIds.size()));
+            for (Order order : orderRepository.findAllWithItemsByIdIn(chunk)) {
+                enqueue(new OrderAcceptedEvent(order.getId(), order.getPrimaryProductId()));
+            }
+        }
+        if (!orderIds.isEmpty()) {
+            log.info("정산 대기 주문 {}건을 워커 큐에 복구했습니다.", orderIds.size());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderAccepted(OrderAcceptedEvent event) {
+        enqueue(event);
+    }
+
+    private void enqueue(OrderAcceptedEvent event) {
+        partitions.get(partitionOf(event.primaryProductId())).offer(event);
+    }
+
+    private int partitionOf(Long primaryProductId) {
+        return primaryProductId == null ? 0 : Math.floorMod(primaryProductId.hashCode(), PARTITION_COUNT);
+    }
+
+    private void consume(BlockingQueue<OrderAcceptedEvent> queue) {
+        List<OrderAcceptedEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+            Map<Long, List<Long>> orderIdsByProduct = batch.stream()
+                .collect(Collectors.groupingBy(
+                    event -> event.primaryProductId() == null ? 0L : event.primaryProductId(),
+                    LinkedHashMap::new,
+                    Collectors.mapping(OrderAcceptedEvent::orderId, Collectors.toList())
+                ));
+            orderIdsByProduct.values().forEach(this::settle);
+            batch.clear();
+        }
+    }
+
+    private void settle(List<Long> orderIds) {
+        try {
+            orderSettlementProcessor.settle(orderIds);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("주문 배치 정산에 실패하여 건별 정산으로 재시도합니다. orderIds={}", orderIds, e);
+        }
+
+        // 배치 단위 예외(낙관적 락 충돌 등)는 건별로 격리하여 다른 주문이 함께 실패하지 않도록 한다.
+        for (Long orderId : orderIds) {
+            try {
+                orderSettlementProcessor.settle(List.of(orderId));
+            } catch (RuntimeException e) {
+                log.error("주문 정산에 실패했습니다. orderId={}", orderId, e);
+                failQuietly(orderId);
+            }
+        }
+    }
+
+    private void failQuietly(Long orderId) {
+        try {
+            orderSettlementProcessor.fail(orderId, UNEXPECTED_FAILURE_REASON);
+        } catch (RuntimeException e) {
+            log.error("주문 실패 처리에 실패했습니다. 재기동 시 다시 정산됩니다. orderId={}", orderId, e);
+        }
+    }
+}
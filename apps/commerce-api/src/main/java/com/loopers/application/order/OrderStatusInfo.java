@@ -0,0 +1,31 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.ArchivedOrder;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderStatus;
+
+public record OrderStatusInfo(
+    Long orderId,
+    OrderStatus status,
+    boolean settlementPending,
+    String failureReason
+) {
+
+    public static OrderStatusInfo from(Order order) {
+        return new OrderStatusInfo(
+            order.getId(),
+            order.getStatus(),
+            order.isSettlementPending(),
+            order.getFailureReason()
+        );
+    }
+
+    public static OrderStatusInfo from(ArchivedOrder order) {
+        return new OrderStatusInfo(
+            order.getId(),
+            order.getStatus(),
+            false,
+            order.getFailureReason()
+        );
+    }
+}
@@ -1,17 +1,31 @@
 package com.loopers.application.point;
 
+import com.loopers.domain.point.ArchivedPointHistoryRepository;
 import com.loopers.domain.point.Point;
-import com.loopers.domain.point.PointHistory;
+import com.loopers.domain.point.PointBalanceCache;
+import com.loopers.domain.point.PointBalanceSnapshot;
+import com.loopers.domain.point.PointHistoryCondition;
+import com.loopers.domain.point.PointHistoryCursor;
 import com.loopers.domain.point.PointService;
+import com.loopers.support.cursor.KeysetCursorCodec;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
 @Component
 public class PointFacade {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
     private final PointService pointService;
+    private final ArchivedPointHistoryRepository archivedPointHistoryRepository;
+    private final PointBalanceCache pointBalanceCache;
 
     public PointInfo initializePoint(String userId) {
         Point point = pointService.initializePoint(userId);
@@ -19,12 +33,29 @@ public class PointFacade {
     }
 
     public PointInfo getPoint(String userId) {
-        Point point = pointService.getPoint(userId);
-        return PointInfo.from(point);
+        if (pointService.isLedgerEnabled()) {
+            Point point = pointService.getPoint(userId);
+            return PointInfo.from(point, pointService.getCurrentBalance(point));
+        }
+        return PointInfo.from(getBalanceSnapshot(userId));
     }
 
     public BigDecimal getBalance(String userId) {
-        return pointService.getBalance(userId);
+        if (pointService.isLedgerEnabled()) {
+            return pointService.getBalance(userId);
+        }
+        return getBalanceSnapshot(userId).balance();
+    }
+
+    /**
+     * 잔액 캐시를 먼저 읽고, 미스일 때만 DB 에서 읽어 채운다. 원장 모드의 잔액은 원장 합산이 필요하므로 캐시하지 않는다.
+     */
+    private PointBalanceSnapshot getBalanceSnapshot(String userId) {
+        return pointBalanceCache.get(userId).orElseGet(() -> {
+            PointBalanceSnapshot snapshot = PointBalanceSnapshot.from(pointService.getPoint(userId));
+            pointBalanceCache.put(snapshot);
+            return snapshot;
+        });
     }
 
     public BigDecimal chargePoint(String userId, BigDecimal amount) {
@@ -39,10 +70,51 @@ public class PointFacade {
         return pointService.refundPoint(userId, amount);
     }
 
-    public List<PointHistoryInfo> getPointHistories(String userId) {
-        List<PointHistory> histories = pointService.getPointHistories(userId);
-        return histories.stream()
-            .map(PointHistoryInfo::from)
-            .toList();
+    /**
+     * 포인트 이력을 (created_at, id) 키셋으로 페이지 조회한다.
+     * 핫 테이블에서 페이지를 다 채우지 못하면 같은 커서로 아카이브(항상 더 오래된 이력)에서 이어서 채운다.
+     */
+    public PointHistoryPage getPointHistories(String userId, PointHistoryCondition condition, String cursor,
+        int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PointHistoryCursor after = KeysetCursorCodec.decode(cursor, PointHistoryCursor::new);
+        List<PointHistoryInfo> rows = fetch(userId, condition, after, pageSize + 1);
+
+        if (rows.size() <= pageSize) {
+            return new PointHistoryPage(rows, null);
+        }
+        List<PointHistoryInfo> histories = rows.subList(0, pageSize);
+        PointHistoryInfo last = histories.get(pageSize - 1);
+        return new PointHistoryPage(histories, KeysetCursorCodec.encode(last.createdAt(), last.id()));
+    }
+
+    /**
+     * 조건에 맞는 모든 이력을 최신순으로 {@code consumer} 에 전달한다.
+     * 전체 목록을 메모리에 올리지 않도록 {@link #EXPORT_CHUNK_SIZE} 건씩 키셋으로 나누어 조회한다.
+     */
+    public void exportPointHistories(String userId, PointHistoryCondition condition,
+        Consumer<PointHistoryInfo> consumer) {
+        PointHistoryCursor cursor = null;
+        while (true) {
+            List<PointHistoryInfo> chunk = fetch(userId, condition, cursor, EXPORT_CHUNK_SIZE);
+            chunk.forEach(consumer);
+            if (chunk.size() < EXPORT_CHUNK_SIZE) {
+                return;
+            }
+            PointHistoryInfo last = chunk.get(chunk.size() - 1);
+            cursor = new PointHistoryCursor(last.createdAt(), last.id());
+        }
+    }
+
+    private List<PointHistoryInfo> fetch(String userId, PointHistoryCondition condition,
+        PointHistoryCursor cursor, int limit) {
+        List<PointHistoryInfo> rows = new ArrayList<>(limit);
+        pointService.getPointHistories(userId, condition, cursor, limit)
+            .forEach(history -> rows.add(PointHistoryInfo.from(history)));
+        if (rows.size() < limit) {
+            archivedPointHistoryRepository.findPage(userId, condition, cursor, limit - rows.size())
+                .forEach(history -> rows.add(PointHistoryInfo.from(history)));
+        }
+        return rows;
     }
 }
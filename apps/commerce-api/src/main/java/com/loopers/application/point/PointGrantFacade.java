@@ -0,0 +1,70 @@
+package com.loopers.application.point;
+
+import com.loopers.domain.point.PointGrant;
+import com.loopers.domain.point.PointGrantCheckpoint;
+import com.loopers.domain.point.PointGrantDigest;
+import com.loopers.domain.point.PointGrantService;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입력 스트림을 청크로 잘라 일괄 지급한다. 청크마다 별도 트랜잭션으로 반영하므로 긴 트랜잭션이나 대량의 행 락을 오래 잡지 않는다.
+ *
+ * <p>중단된 지급은 같은 지급 ID 와 같은 입력으로 다시 요청하면 체크포인트 위치까지의 줄을 건너뛰고 이어서 처리한다.
+ * 건너뛴 줄의 요약이 체크포인트에 기록된 요약과 다르면 다른 입력으로 보고 재개하지 않는다.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PointGrantFacade {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private final PointGrantService pointGrantService;
+
+    public PointGrantInfo grant(String grantId, String description, Iterator<PointGrant> grants) {
+        PointGrantCheckpoint checkpoint = pointGrantService.open(grantId, description);
+        if (checkpoint.isCompleted()) {
+            return PointGrantInfo.from(checkpoint);
+        }
+
+        PointGrantDigest digest = new PointGrantDigest();
+        long offset = checkpoint.getProcessedCount();
+        long skipped = 0;
+        while (skipped < offset && grants.hasNext()) {
+            digest.update(grants.next());
+            skipped++;
+        }
+        checkpoint.verifyProcessed(skipped, digest.current());
+        if (offset > 0) {
+            log.info("일괄 지급을 체크포인트부터 재개합니다. grantId={}, offset={}", grantId, offset);
+        }
+
+        List<PointGrant> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (grants.hasNext()) {
+            PointGrant grant = grants.next();
+            digest.update(grant);
+            chunk.add(grant);
+            if (chunk.size() == CHUNK_SIZE) {
+                offset = pointGrantService.applyChunk(grantId, offset, chunk, digest.current()).getProcessedCount();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            pointGrantService.applyChunk(grantId, offset, chunk, digest.current());
+        }
+
+        PointGrantCheckpoint completed = pointGrantService.complete(grantId);
+        log.info("일괄 지급 완료. grantId={}, 지급={}명, 미지급={}명", grantId,
+            completed.getGrantedCount(), completed.getSkippedCount());
+        return PointGrantInfo.from(completed);
+    }
+
+    public PointGrantInfo getGrant(String grantId) {
+        return PointGrantInfo.from(pointGrantService.getCheckpoint(grantId));
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.application.point;
+
+import com.loopers.domain.point.PointGrantCheckpoint;
+import java.time.ZonedDateTime;
+
+public record PointGrantInfo(
+    String grantId,
+    String description,
+    long processedCount,
+    long grantedCount,
+    long skippedCount,
+    boolean completed,
+    ZonedDateTime completedAt
+) {
+
+    public static PointGrantInfo from(PointGrantCheckpoint checkpoint) {
+        return new PointGrantInfo(
+            checkpoint.getGrantId(),
+            checkpoint.getDescription(),
+            checkpoint.getProcessedCount(),
+            checkpoint.getGrantedCount(),
+            checkpoint.getSkippedCount(),
+            checkpoint.isCompleted(),
+            checkpoint.getCompletedAt()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.loopers.application.point;
 
+import com.loopers.domain.point.ArchivedPointHistory;
 import com.loopers.domain.point.PointHistory;
 import com.loopers.domain.point.PointTransactionType;
 import java.math.BigDecimal;
@@ -25,4 +26,16 @@ public record PointHistoryInfo(
             history.getCreatedAt()
         );
     }
+
+    public static PointHistoryInfo from(ArchivedPointHistory history) {
+        return new PointHistoryInfo(
+            history.getId(),
+            history.getUserId(),
+            history.getTransactionType(),
+            history.getAmount(),
+            history.getBalanceAfter(),
+            history.getDescription(),
+            history.getCreatedAt()
+        );
+    }
 }
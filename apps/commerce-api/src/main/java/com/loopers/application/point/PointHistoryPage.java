@@ -0,0 +1,17 @@
+package com.loopers.application.point;
+
+import java.util.List;
+
+/**
+ * @param histories 최신순 포인트 이력
+ * @param nextCursor 다음 페이지 조회용 커서 (마지막 페이지면 null)
+ */
+public record PointHistoryPage(
+    List<PointHistoryInfo> histories,
+    String nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.loopers.application.point;
 
 import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointBalanceSnapshot;
 import java.math.BigDecimal;
 
 public record PointInfo(
@@ -9,10 +10,22 @@ public record PointInfo(
     BigDecimal balance
 ) {
     public static PointInfo from(Point point) {
+        return from(point, point.getBalance());
+    }
+
+    public static PointInfo from(Point point, BigDecimal balance) {
         return new PointInfo(
             point.getId(),
             point.getUserId(),
-            point.getBalance()
+            balance
+        );
+    }
+
+    public static PointInfo from(PointBalanceSnapshot snapshot) {
+        return new PointInfo(
+            snapshot.pointId(),
+            snapshot.userId(),
+            snapshot.balance()
         );
     }
 }
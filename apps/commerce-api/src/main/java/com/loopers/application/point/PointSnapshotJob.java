@@ -0,0 +1,51 @@
+package com.loopers.application.point;
+
+import com.loopers.domain.point.PointLedgerProperties;
+import com.loopers.domain.point.PointService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원장 모드에서 스냅샷 이후 쌓인 원장을 주기적으로 points 스냅샷에 반영하여, 잔액 계산 시 합산할 tail 을 짧게 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointSnapshotJob {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PointLedgerProperties ledgerProperties;
+    private final PointService pointService;
+
+    @Scheduled(fixedDelayString = "${point.ledger.snapshot-interval}")
+    public void run() {
+        if (!ledgerProperties.enabled()) {
+            return;
+        }
+
+        String lastUserId = "";
+        int materialized = 0;
+        while (true) {
+            List<String> userIds = pointService.findUserIdsWithLedgerTail(lastUserId, CHUNK_SIZE);
+            for (String userId : userIds) {
+                try {
+                    pointService.materializeSnapshot(userId);
+                    materialized++;
+                } catch (RuntimeException e) {
+                    log.warn("포인트 스냅샷 반영에 실패했습니다. 다음 주기에 재시도합니다. userId={}", userId, e);
+                }
+            }
+            if (userIds.size() < CHUNK_SIZE) {
+                break;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+        if (materialized > 0) {
+            log.info("포인트 스냅샷 반영 완료. 사용자={}명", materialized);
+        }
+    }
+}
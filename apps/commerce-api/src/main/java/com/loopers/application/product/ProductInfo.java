@@ -13,19 +13,18 @@ public record ProductInfo(
     BrandInfo brand,
     Long likeCount
 ) {
-    public static ProductInfo from(Product product, Long likeCount) {
+    /**
+     * 브랜드는 {@code product.getBrand()} 를 지연 로딩하지 않도록 브랜드 레지스트리에서 조회한 값을 받는다.
+     */
+    public static ProductInfo from(Product product, Long likeCount, BrandInfo brand) {
         return new ProductInfo(
             product.getId(),
             product.getName(),
             product.getPrice(),
             product.getStock(),
             product.getDescription(),
-            BrandInfo.from(product.getBrand()),
+            brand,
             likeCount
         );
     }
-
-    public static ProductInfo from(Product product) {
-        return from(product, 0L);
-    }
 }
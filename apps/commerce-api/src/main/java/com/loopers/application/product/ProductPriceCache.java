@@ -0,0 +1,112 @@
+package com.loopers.application.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 가격의 Redis 캐시. 장바구니 미리보기처럼 자주 호출되는 읽기 경로에서 상품 행을 읽지 않도록 한다.
+ *
+ * <p>여러 상품은 MGET 한 번으로 읽고, 미스난 상품만 DB 에서 한 번에 읽어 파이프라인으로 적재한다.
+ * 가격 변경이 커밋되면 {@link #evict(Long)} 가 값을 짧은 톰스톤으로 바꾸고, 적재는 빈 키에만(SET NX) 하므로
+ * 변경 전 가격을 읽어 둔 조회가 뒤늦게 적재해도 덮어쓰지 못한다. Redis 장애는 DB 조회로 대체한다.</p>
+ */
+@Slf4j
+@Component
+public class ProductPriceCache {
+
+    private static final String KEY_PREFIX = "product:price:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration TOMBSTONE_TTL = Duration.ofSeconds(10);
+    private static final String TOMBSTONE = "__evicted__";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+
+    public ProductPriceCache(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        ProductRepository productRepository
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * 상품 가격을 조회한다. 존재하지 않는(삭제된) 상품은 결과에 포함되지 않는다.
+     */
+    public Map<Long, BigDecimal> getPrices(List<Long> productIds) {
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+
+        List<String> cached = multiGet(productIds);
+        for (int i = 0; i < productIds.size(); i++) {
+            String value = cached == null ? null : cached.get(i);
+            if (value == null || TOMBSTONE.equals(value)) {
+                misses.add(productIds.get(i));
+            } else {
+                prices.put(productIds.get(i), new BigDecimal(value));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, BigDecimal> loaded = new HashMap<>();
+            for (Product product : productRepository.findByIdIn(misses)) {
+                loaded.put(product.getId(), product.getPrice());
+            }
+            prices.putAll(loaded);
+            putAll(loaded);
+        }
+        return prices;
+    }
+
+    public void evict(Long productId) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + productId, TOMBSTONE, TOMBSTONE_TTL);
+        } catch (RuntimeException e) {
+            log.warn("상품 가격 캐시 제거에 실패했습니다. productId={}", productId, e);
+        }
+    }
+
+    private List<String> multiGet(List<Long> productIds) {
+        try {
+            return redisTemplate.opsForValue().multiGet(productIds.stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (RuntimeException e) {
+            log.warn("상품 가격 캐시 조회에 실패했습니다.", e);
+            return null;
+        }
+    }
+
+    private void putAll(Map<Long, BigDecimal> prices) {
+        if (prices.isEmpty()) {
+            return;
+        }
+        try {
+            Expiration expiration = Expiration.from(TTL);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                prices.forEach((productId, price) -> connection.stringCommands().set(
+                    (KEY_PREFIX + productId).getBytes(StandardCharsets.UTF_8),
+                    price.toPlainString().getBytes(StandardCharsets.UTF_8),
+                    expiration,
+                    SetOption.ifAbsent()
+                ));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("상품 가격 캐시 저장에 실패했습니다.", e);
+        }
+    }
+}
@@ -1,7 +1,10 @@
-package com.loopers.domain.product;
+package com.loopers.application.product;
 
-import com.loopers.application.product.ProductInfo;
-import com.loopers.domain.like.LikeRepository;
+import com.loopers.application.brand.BrandRegistry;
+import com.loopers.application.like.LikeCountCache;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSortType;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -12,13 +15,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 상품에 브랜드(레지스트리)와 좋아요 수(캐시)를 조합하는 조회 서비스.
+ * 애플리케이션 계층의 캐시를 조합하므로 도메인 계층이 아닌 이곳에 둔다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class ProductDomainService {
+public class ProductQueryService {
 
     private final ProductRepository productRepository;
-    private final LikeRepository likeRepository;
+    private final LikeCountCache likeCountCache;
+    private final BrandRegistry brandRegistry;
 
     /**
      * 상품 상세 조회 (Product + Brand + 좋아요 수 조합)
@@ -27,9 +35,9 @@ public class ProductDomainService {
         Product product = productRepository.findById(productId)
             .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
-        Long likeCount = likeRepository.countByProductId(productId);
+        long likeCount = likeCountCache.getCount(productId);
 
-        return ProductInfo.from(product, likeCount);
+        return ProductInfo.from(product, likeCount, brandRegistry.get(product.getBrand().getId()));
     }
 
     /**
@@ -68,10 +76,11 @@ public class ProductDomainService {
             .map(Product::getId)
             .collect(Collectors.toList());
 
-        Map<Long, Long> likeCountMap = likeRepository.countByProductIds(productIds);
+        Map<Long, Long> likeCountMap = likeCountCache.getCounts(productIds);
 
         List<ProductInfo> productInfos = products.getContent().stream()
-            .map(product -> ProductInfo.from(product, likeCountMap.getOrDefault(product.getId(), 0L)))
+            .map(product -> ProductInfo.from(product, likeCountMap.getOrDefault(product.getId(), 0L),
+                brandRegistry.get(product.getBrand().getId())))
             .collect(Collectors.toList());
 
         return new PageImpl<>(productInfos, products.getPageable(), products.getTotalElements());
@@ -0,0 +1,86 @@
+package com.loopers.application.product;
+
+import com.loopers.application.brand.BrandRegistry;
+import com.loopers.application.like.LikeCountCache;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * "이 상품을 좋아한 고객이 함께 좋아한 상품" 조회.
+ *
+ * <p>이웃 목록은 commerce-streamer 가 상품별 ZSET(reco:colike:{productId})으로 미리 계산해 두므로,
+ * 조회는 레플리카에서 ZREVRANGE 한 번으로 끝난다. 상품 정보는 상품 IN 조회 한 번과 좋아요 수 MGET 한 번으로 채운다.
+ * Redis 장애나 아직 계산되지 않은 상품은 빈 목록을 반환한다.</p>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ProductRecommendationService {
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 20;
+    private static final String KEY_PREFIX = "reco:colike:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+    private final LikeCountCache likeCountCache;
+    private final BrandRegistry brandRegistry;
+
+    public ProductRecommendationService(
+        RedisTemplate<String, String> redisTemplate,
+        ProductRepository productRepository,
+        LikeCountCache likeCountCache,
+        BrandRegistry brandRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.productRepository = productRepository;
+        this.likeCountCache = likeCountCache;
+        this.brandRegistry = brandRegistry;
+    }
+
+    public List<RecommendedProductInfo> getCoLikedProducts(Long productId, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        Set<TypedTuple<String>> neighbors = readNeighbors(productId, limit);
+        if (neighbors == null || neighbors.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> neighborIds = neighbors.stream()
+            .map(neighbor -> Long.valueOf(neighbor.getValue()))
+            .toList();
+        Map<Long, Product> products = productRepository.findByIdIn(neighborIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, Long> likeCounts = likeCountCache.getCounts(neighborIds);
+
+        List<RecommendedProductInfo> recommendations = new ArrayList<>(neighbors.size());
+        for (TypedTuple<String> neighbor : neighbors) {
+            Product product = products.get(Long.valueOf(neighbor.getValue()));
+            if (product == null) {
+                continue; // 계산 이후 삭제된 상품
+            }
+            recommendations.add(new RecommendedProductInfo(neighbor.getScore(), ProductInfo.from(product,
+                likeCounts.getOrDefault(product.getId(), 0L), brandRegistry.get(product.getBrand().getId()))));
+        }
+        return recommendations;
+    }
+
+    private Set<TypedTuple<String>> readNeighbors(Long productId, int limit) {
+        try {
+            return redisTemplate.opsForZSet().reverseRangeWithScores(KEY_PREFIX + productId, 0, limit - 1);
+        } catch (RuntimeException e) {
+            log.warn("추천 상품 조회에 실패했습니다. productId={}", productId, e);
+            return null;
+        }
+    }
+}
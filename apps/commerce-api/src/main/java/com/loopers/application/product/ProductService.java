@@ -1,16 +1,21 @@
 package com.loopers.application.product;
 
+import com.loopers.application.brand.BrandRegistry;
+import com.loopers.application.brand.BrandStatsDelta;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.retry.OptimisticLockRetryExecutor;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -20,12 +25,16 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final BrandRepository brandRepository;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final ProductPriceCache productPriceCache;
+    private final BrandRegistry brandRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Product createProduct(Long brandId, String name, BigDecimal price, Integer stock,
         String description) {
-        Brand brand = brandRepository.findById(brandId)
-            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "브랜드를 찾을 수 없습니다."));
+        brandRegistry.get(brandId);
+        Brand brand = brandRepository.getReferenceById(brandId);
 
         Product product = Product.builder()
             .brand(brand)
@@ -35,7 +44,17 @@ public class ProductService {
             .description(description)
             .build();
 
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(BrandStatsDelta.productCreated(brandId, stock, price));
+        return savedProduct;
+    }
+
+    /**
+     * 상품을 응답용 정보로 변환합니다. 브랜드는 레지스트리에서 조회하므로 브랜드 지연 로딩이 발생하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductInfo toInfo(Product product) {
+        return ProductInfo.from(product, 0L, brandRegistry.get(product.getBrand().getId()));
     }
 
     public Product getProduct(Long id) {
@@ -51,11 +70,22 @@ public class ProductService {
         return productRepository.findByBrandId(brandId, pageable);
     }
 
-    @Transactional
+    /**
+     * 재시도 실행기가 시도마다 트랜잭션을 직접 열어야 하므로 클래스 레벨 읽기 전용 트랜잭션을 적용하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Product updateProduct(Long id, String name, BigDecimal price, Integer stock,
         String description) {
-        Product product = getProduct(id);
-        product.updateInfo(name, price, stock, description);
-        return product;
+        Product updatedProduct = retryExecutor.execute("product.update", () -> {
+            Product product = getProduct(id);
+            int stockBefore = product.getStock();
+            BigDecimal priceBefore = product.getPrice();
+            product.updateInfo(name, price, stock, description);
+            eventPublisher.publishEvent(BrandStatsDelta.productUpdated(product.getBrand().getId(),
+                stockBefore, product.getStock(), priceBefore, product.getPrice()));
+            return product;
+        });
+        productPriceCache.evict(id);
+        return updatedProduct;
     }
 }
@@ -0,0 +1,112 @@
+package com.loopers.application.product;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세 조회 수집기.
+ *
+ * <p>요청 스레드는 샘플링 판정 후 상품 ID 를 락 없는 링 버퍼에 넣기만 하고 바로 돌아간다 (I/O, 할당, 락 없음).
+ * 백그라운드 스레드 하나가 {@link ProductViewProperties#drainInterval()} 마다 버퍼를 비워 상품별로 합산하고,
+ * 상품 ID 를 키로 Kafka 에 비동기 발행한다. 버퍼가 가득 차거나 발행에 실패한 조회는 버리며, 조회 수는 추정치로만 쓴다.</p>
+ */
+@Slf4j
+@Component
+public class ProductViewCollector {
+
+    private final ProductViewProperties properties;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ProductViewRingBuffer buffer;
+
+    private ScheduledExecutorService drainer;
+
+    public ProductViewCollector(ProductViewProperties properties, KafkaTemplate<Object, Object> kafkaTemplate) {
+        if (properties.sampleRate() <= 0 || properties.sampleRate() > 1) {
+            throw new IllegalArgumentException("product.view.sample-rate 는 0 초과 1 이하여야 합니다.");
+        }
+        this.properties = properties;
+        this.kafkaTemplate = kafkaTemplate;
+        this.buffer = new ProductViewRingBuffer(properties.bufferSize());
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-view-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = properties.drainInterval().toMillis();
+        drainer.scheduleWithFixedDelay(this::drainSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (drainer == null) {
+            return;
+        }
+        drainer.shutdown();
+        try {
+            drainer.awaitTermination(properties.drainInterval().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainSafely();
+    }
+
+    public void record(Long productId) {
+        if (!properties.enabled() || productId == null || productId <= 0) {
+            return;
+        }
+        if (properties.sampleRate() < 1 && ThreadLocalRandom.current().nextDouble() >= properties.sampleRate()) {
+            return;
+        }
+        buffer.offer(productId);
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("상품 조회 수 발행에 실패했습니다.", e);
+        }
+    }
+
+    private synchronized void drain() {
+        Map<Long, Integer> sampled = new HashMap<>();
+        buffer.drain(productId -> sampled.merge(productId, 1, Integer::sum));
+
+        long dropped = buffer.takeDropped();
+        if (dropped > 0) {
+            log.warn("상품 조회 버퍼가 가득 차 {}건을 버렸습니다. buffer-size 또는 drain-interval 을 조정하세요.", dropped);
+        }
+        if (sampled.isEmpty()) {
+            return;
+        }
+
+        ZonedDateTime now = ZonedDateTime.now();
+        sampled.forEach((productId, count) -> {
+            long views = Math.round(count / properties.sampleRate());
+            kafkaTemplate.send(properties.topicName(), String.valueOf(productId),
+                    new ProductViewMessage(productId, views, now))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.warn("상품 조회 수 발행에 실패했습니다. productId={}, views={}", productId, views, e);
+                    }
+                });
+        });
+    }
+}
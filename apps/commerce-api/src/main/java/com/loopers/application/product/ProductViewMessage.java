@@ -0,0 +1,17 @@
+package com.loopers.application.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 드레인 주기 동안 집계된 상품 조회 수.
+ *
+ * @param productId 상품 ID (메시지 키)
+ * @param views 샘플링 비율로 보정한 추정 조회 수
+ * @param aggregatedAt 집계 시각
+ */
+public record ProductViewMessage(
+    Long productId,
+    long views,
+    ZonedDateTime aggregatedAt
+) {
+}
@@ -0,0 +1,20 @@
+package com.loopers.application.product;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled 상품 조회 수집 활성화 여부
+ * @param topicName 집계된 조회 수를 발행할 토픽
+ * @param sampleRate 수집 비율 (0 초과 1 이하). 발행 시 1 / sampleRate 를 곱해 추정치로 보정한다.
+ * @param bufferSize 링 버퍼 크기 (2의 거듭제곱). 드레인 주기 동안의 조회를 담을 만큼 잡는다.
+ * @param drainInterval 버퍼를 비워 발행하는 주기
+ */
+@ConfigurationProperties(value = "product.view")
+public record ProductViewProperties(
+    boolean enabled,
+    String topicName,
+    double sampleRate,
+    int bufferSize,
+    Duration drainInterval
+) { }
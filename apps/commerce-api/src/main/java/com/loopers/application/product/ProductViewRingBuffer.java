@@ -0,0 +1,78 @@
+package com.loopers.application.product;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+/**
+ * 다수의 요청 스레드가 쓰고 하나의 드레인 스레드가 읽는 고정 크기 링 버퍼 (락 없음).
+ *
+ * <p>생산자는 CAS 로 슬롯 번호를 선점한 뒤 값을 기록하고, 소비자는 기록이 끝난 슬롯만 순서대로 읽어 비운다.
+ * 가득 차면 기다리지 않고 버리므로 요청 스레드가 막히지 않는다. 값 0 은 빈 슬롯 표시로 쓰이므로 양수만 담는다.</p>
+ */
+final class ProductViewRingBuffer {
+
+    private static final long EMPTY = 0L;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // 다음에 선점할 위치
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long tail; // 다음에 읽을 위치 (드레인 스레드만 갱신)
+
+    ProductViewRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return 담았으면 true, 버퍼가 가득 차 버렸으면 false
+     */
+    boolean offer(long value) {
+        while (true) {
+            long position = head.get();
+            if (position - tail >= slots.length()) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            if (head.compareAndSet(position, position + 1)) {
+                slots.lazySet((int) (position & mask), value);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 기록이 끝난 값을 순서대로 {@code consumer} 에 넘기고 비운다. 드레인 스레드 하나에서만 호출한다.
+     *
+     * @return 읽은 개수
+     */
+    int drain(LongConsumer consumer) {
+        long position = tail;
+        int drained = 0;
+        while (true) {
+            int index = (int) (position & mask);
+            long value = slots.get(index);
+            if (value == EMPTY) {
+                // 아직 비어 있거나, 슬롯을 선점한 생산자가 값을 기록하기 전이다. 다음 드레인에서 이어서 읽는다.
+                break;
+            }
+            slots.lazySet(index, EMPTY);
+            consumer.accept(value);
+            position++;
+            drained++;
+        }
+        tail = position;
+        return drained;
+    }
+
+    /**
+     * @return 마지막 호출 이후 버퍼가 가득 차 버린 개수
+     */
+    long takeDropped() {
+        return dropped.getAndSet(0L);
+    }
+}
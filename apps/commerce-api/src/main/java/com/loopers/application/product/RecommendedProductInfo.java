@@ -0,0 +1,10 @@
+package com.loopers.application.product;
+
+/**
+ * @param score 기준 상품과의 유사도 (0 초과 1 이하)
+ */
+public record RecommendedProductInfo(
+    double score,
+    ProductInfo product
+) {
+}
@@ -5,6 +5,7 @@ import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.math.BigDecimal;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -12,15 +13,34 @@ import org.springframework.stereotype.Component;
 @Component
 public class UserFacade {
     private final UserService userService;
+    private final UserIdFilter userIdFilter;
+    private final UserInfoCache userInfoCache;
 
+    /**
+     * 필터에 없는 ID 는 중복 조회 없이 바로 저장한다.
+     */
     public UserInfo registerUser(User user) {
-        User saved = userService.registerUser(user);
-        return UserInfo.from(saved);
+        User saved = userService.registerUser(user, userIdFilter.mightContain(user.getUserId()));
+        UserInfo userInfo = UserInfo.from(saved);
+        userInfoCache.put(userInfo);
+        userIdFilter.register(saved.getUserId());
+        return userInfo;
     }
 
+    /**
+     * 캐시 → 가입 여부 필터 → DB 순으로 조회한다. 가입하지 않은 ID 는 대부분 필터에서 DB 조회 없이 거절된다.
+     */
     public UserInfo getUser(String userId) {
-        User user = userService.getUser(userId);
-        return UserInfo.from(user);
+        Optional<UserInfo> cached = userInfoCache.get(userId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        if (userIdFilter.isKnownAbsent(userId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 유저입니다: " + userId);
+        }
+        UserInfo userInfo = UserInfo.from(userService.getUser(userId));
+        userInfoCache.put(userInfo);
+        return userInfo;
     }
 
     /**
@@ -36,6 +56,8 @@ public class UserFacade {
      */
     @Deprecated
     public BigDecimal chargePoint(String userId, BigDecimal amount) {
-        return userService.chargePoint(userId, amount);
+        BigDecimal point = userService.chargePoint(userId, amount);
+        userInfoCache.evict(userId);
+        return point;
     }
 }
@@ -0,0 +1,154 @@
+package com.loopers.application.user;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.support.bloom.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입된 User ID 의 프로세스 내 Bloom filter.
+ *
+ * <p>기동 시 전체 User ID 를 키셋으로 읽어 필터를 만들고, 주기적으로 새로 만들어 참조만 교체한다.
+ * 가입을 커밋한 노드는 자신의 필터에 추가한 뒤 Redis Pub/Sub 으로 알리고, 나머지 노드는 메시지를 받아 추가한다.
+ * 재구성 중에 추가된 ID 는 만들고 있는 필터에도 기록하며, 추가와 교체는 같은 락 안에서 일어나므로 교체 시 유실되지 않는다.</p>
+ *
+ * <p>{@link #isKnownAbsent} 가 true 면 가입되지 않은 ID 이므로 DB 를 조회하지 않는다. 재구성 중에는 필터가 교체되는 사이의 알림을
+ * 믿을 수 없으므로 부정 결과도 DB 로 확인한다. 다른 노드의 가입 알림이 도착하기 전의 조회는 {@link UserInfoCache} 가 가입 시점에
+ * 적재한 캐시로 응답하며, 알림이 유실된 경우는 다음 재구성에서 복구된다.</p>
+ */
+@Slf4j
+@Component
+public class UserIdFilter implements MessageListener {
+
+    public static final String CHANNEL = "user:registered";
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UserIdFilterProperties properties;
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // current/building 을 읽고 쓰는 구간을 묶어, 추가가 교체 직전의 필터에만 기록되는 일이 없도록 한다.
+    private final Object swapLock = new Object();
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    public UserIdFilter(
+        UserIdFilterProperties properties,
+        UserRepository userRepository,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer
+    ) {
+        this.properties = properties;
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (properties.enabled()) {
+            listenerContainer.addMessageListener(this, ChannelTopic.of(CHANNEL));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${user.id-filter.rebuild-cron}")
+    public synchronized void rebuild() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long expected = Math.max(properties.expectedInsertions(), userRepository.count() * 2);
+        BloomFilter filter = BloomFilter.create(expected, properties.falsePositiveRate());
+        synchronized (swapLock) {
+            building = filter;
+        }
+        try {
+            String lastUserId = "";
+            long loaded = 0;
+            while (true) {
+                List<String> userIds = userRepository.findUserIdsAfter(lastUserId, CHUNK_SIZE);
+                userIds.forEach(filter::put);
+                loaded += userIds.size();
+                if (userIds.size() < CHUNK_SIZE) {
+                    break;
+                }
+                lastUserId = userIds.get(userIds.size() - 1);
+            }
+            synchronized (swapLock) {
+                current = filter;
+                building = null;
+            }
+            log.info("가입 여부 필터를 구성했습니다. 사용자={}명, 비트={}, 해시={}개",
+                loaded, filter.bitSize(), filter.hashCount());
+        } finally {
+            synchronized (swapLock) {
+                building = null;
+            }
+        }
+    }
+
+    /**
+     * @return false 면 가입되지 않은 ID 다. 필터가 비활성화되었거나 아직 구성되지 않았으면 항상 true 다.
+     */
+    public boolean mightContain(String userId) {
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(userId);
+    }
+
+    /**
+     * @return true 면 가입되지 않은 ID 임이 확실하다. 필터가 없거나 재구성 중이면 확신할 수 없으므로 false 다.
+     */
+    public boolean isKnownAbsent(String userId) {
+        // 교체는 current 를 먼저 바꾸고 building 을 비우므로, building 을 먼저 읽으면 교체 전 필터와 재구성 중 여부가 어긋나지 않는다.
+        if (building != null) {
+            return false;
+        }
+        BloomFilter filter = current;
+        return filter != null && !filter.mightContain(userId);
+    }
+
+    /**
+     * 가입이 커밋된 뒤 호출한다. 커밋 전에 추가하면 재구성 키셋이 아직 보이지 않는 행을 건너뛴 채 교체될 수 있다.
+     */
+    public void register(String userId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        put(userId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId);
+        } catch (RuntimeException e) {
+            log.warn("가입 알림 발행에 실패했습니다. 다음 재구성에서 반영됩니다. userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void put(String userId) {
+        synchronized (swapLock) {
+            if (current != null) {
+                current.put(userId);
+            }
+            if (building != null) {
+                building.put(userId);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.application.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled 가입 여부 필터 사용 여부 (비활성화하면 모든 조회가 DB 를 거친다)
+ * @param expectedInsertions 필터 크기를 정하는 최소 사용자 수 (재구성 시 현재 사용자 수의 2배와 비교해 큰 값을 쓴다)
+ * @param falsePositiveRate 목표 오탐률
+ */
+@ConfigurationProperties(value = "user.id-filter")
+public record UserIdFilterProperties(
+    boolean enabled,
+    long expectedInsertions,
+    double falsePositiveRate
+) { }
@@ -0,0 +1,69 @@
+package com.loopers.application.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 정보의 Redis 캐시.
+ *
+ * <p>가입 시점에 바로 적재하여, 다른 노드의 {@link UserIdFilter} 가 가입 알림을 받기 전에도 새 사용자를 조회할 수 있도록 한다.
+ * 사용자 정보가 바뀌면 제거하며, Redis 장애는 캐시 미스로 취급하여 DB 조회로 대체한다.</p>
+ */
+@Slf4j
+@Component
+public class UserInfoCache {
+
+    private static final String KEY_PREFIX = "user:info:";
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public UserInfoCache(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<UserInfo> get(String userId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(key(userId));
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, UserInfo.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("사용자 캐시 조회에 실패했습니다. userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(UserInfo userInfo) {
+        try {
+            redisTemplate.opsForValue().set(key(userInfo.userId()), objectMapper.writeValueAsString(userInfo), TTL);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("사용자 캐시 저장에 실패했습니다. userId={}", userInfo.userId(), e);
+        }
+    }
+
+    public void evict(String userId) {
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (RuntimeException e) {
+            log.warn("사용자 캐시 제거에 실패했습니다. userId={}", userId, e);
+        }
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
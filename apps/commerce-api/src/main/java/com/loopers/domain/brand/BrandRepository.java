@@ -1,5 +1,6 @@
 package com.loopers.domain.brand;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface BrandRepository {
@@ -10,4 +11,11 @@ public interface BrandRepository {
     Optional<Brand> findByName(String name);
 
     boolean existsByName(String name);
+
+    List<Brand> findAll();
+
+    /**
+     * 조회 없이 연관관계 설정용 참조(프록시)를 얻는다. 존재 여부는 호출 측에서 확인해야 한다.
+     */
+    Brand getReferenceById(Long id);
 }
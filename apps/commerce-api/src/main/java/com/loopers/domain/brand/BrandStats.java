@@ -0,0 +1,45 @@
+package com.loopers.domain.brand;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 브랜드별 상품 통계 집계 (읽기 전용).
+ * 행은 {@link BrandStatsRepository} 의 증분 UPDATE 와 재계산 INSERT ... SELECT 로만 갱신된다.
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "brand_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BrandStats {
+
+    @Id
+    private Long brandId;
+
+    @Column(nullable = false)
+    private long productCount;
+
+    @Column(nullable = false)
+    private long inStockCount;
+
+    @Column(precision = 19, scale = 0)
+    private BigDecimal minPrice;
+
+    @Column(precision = 19, scale = 0)
+    private BigDecimal maxPrice;
+
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(nullable = false)
+    private ZonedDateTime updatedAt;
+}
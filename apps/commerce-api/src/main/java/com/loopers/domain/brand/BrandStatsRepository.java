@@ -0,0 +1,28 @@
+package com.loopers.domain.brand;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public interface BrandStatsRepository {
+
+    Optional<BrandStats> findByBrandId(Long brandId);
+
+    /**
+     * 집계에 변화량을 더한다. 가격이 주어지면 최저/최고가 범위를 넓히는 방향으로만 반영한다.
+     *
+     * @return 집계 행이 있어 반영되었으면 true, 아직 집계 행이 없으면 false
+     */
+    boolean addDelta(Long brandId, int productCountDelta, int inStockCountDelta, long likeCountDelta,
+        BigDecimal price, ZonedDateTime now);
+
+    /**
+     * 상품 가격이 바뀌어 범위가 좁아질 수 있을 때 해당 브랜드의 최저/최고가만 다시 계산한다.
+     */
+    void refreshPriceRange(Long brandId, ZonedDateTime now);
+
+    /**
+     * products/likes 에서 해당 브랜드의 집계를 다시 계산하여 덮어쓴다 (없으면 생성).
+     */
+    void recompute(Long brandId, ZonedDateTime now);
+}
@@ -7,9 +7,11 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.ZonedDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,7 +19,9 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons", indexes = {
+    @Index(name = "idx_coupons_valid_until", columnList = "valid_until")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Coupon extends BaseEntity {
 
@@ -34,16 +38,32 @@ public class Coupon extends BaseEntity {
     @Column(length = 500)
     private String description;
 
+    // 총 발급 수량 (null 이면 무제한). 발급 수량 집계는 Redis 에서 관리한다.
+    private Integer issueLimit;
+
+    // 사용 가능 기간 (null 이면 제한 없음). 종료 시각은 포함하지 않는다.
+    @Column(name = "valid_from")
+    private ZonedDateTime validFrom;
+
+    @Column(name = "valid_until")
+    private ZonedDateTime validUntil;
+
     @Builder
-    private Coupon(String name, CouponType type, BigDecimal discountValue, String description) {
+    private Coupon(String name, CouponType type, BigDecimal discountValue, String description,
+        Integer issueLimit, ZonedDateTime validFrom, ZonedDateTime validUntil) {
         validateName(name);
         validateType(type);
         validateDiscountValue(type, discountValue);
+        validateIssueLimit(issueLimit);
+        validateValidPeriod(validFrom, validUntil);
 
         this.name = name;
         this.type = type;
         this.discountValue = discountValue;
         this.description = description;
+        this.issueLimit = issueLimit;
+        this.validFrom = validFrom;
+        this.validUntil = validUntil;
     }
 
     private void validateName(String name) {
@@ -70,6 +90,42 @@ public class Coupon extends BaseEntity {
         }
     }
 
+    private void validateIssueLimit(Integer issueLimit) {
+        if (issueLimit != null && issueLimit <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "발급 수량은 1개 이상이어야 합니다.");
+        }
+    }
+
+    private void validateValidPeriod(ZonedDateTime validFrom, ZonedDateTime validUntil) {
+        if (validFrom != null && validUntil != null && !validUntil.isAfter(validFrom)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "쿠폰 사용 종료 시각은 시작 시각 이후여야 합니다.");
+        }
+    }
+
+    /**
+     * 주어진 시각에 사용 가능한 기간인지 확인합니다.
+     */
+    public boolean isValidAt(ZonedDateTime at) {
+        if (validFrom != null && at.isBefore(validFrom)) {
+            return false;
+        }
+        return !isExpiredAt(at);
+    }
+
+    /**
+     * 주어진 시각에 사용 기간이 끝났는지 확인합니다.
+     */
+    public boolean isExpiredAt(ZonedDateTime at) {
+        return validUntil != null && !at.isBefore(validUntil);
+    }
+
+    /**
+     * 선착순(수량 한정) 쿠폰인지 확인합니다.
+     */
+    public boolean isLimited() {
+        return issueLimit != null;
+    }
+
     /**
      * 할인 금액을 계산합니다.
      *
@@ -0,0 +1,17 @@
+package com.loopers.domain.coupon;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 선착순 발급이 확정된 쿠폰. 발급 큐를 거쳐 user_coupons 에 일괄 저장된다.
+ *
+ * @param couponId 쿠폰 ID
+ * @param userId 사용자 ID
+ * @param issuedAt 발급 확정 시각
+ */
+public record CouponIssuance(
+    Long couponId,
+    String userId,
+    ZonedDateTime issuedAt
+) {
+}
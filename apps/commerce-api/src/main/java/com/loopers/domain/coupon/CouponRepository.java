@@ -1,5 +1,6 @@
 package com.loopers.domain.coupon;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +11,10 @@ public interface CouponRepository {
     Optional<Coupon> findById(Long id);
 
     List<Coupon> findAll();
+
+    /**
+     * (afterValidUntil, afterId) 이후에 사용 기간이 끝난 쿠폰을 (valid_until, id) 순으로 조회한다.
+     * 이미 정리한 쿠폰까지를 워터마크로 넘겨, 지난 만료분을 매번 다시 읽지 않는다.
+     */
+    List<Coupon> findExpiredAfter(ZonedDateTime afterValidUntil, Long afterId, ZonedDateTime expiredBefore);
 }
@@ -6,9 +6,11 @@ import com.loopers.support.error.ErrorType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
@@ -19,7 +21,14 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "user_coupons")
+@Table(name = "user_coupons", indexes = {
+    @Index(name = "idx_user_coupons_user_available", columnList = "user_id, is_used, deleted_at"),
+    @Index(name = "idx_user_coupons_coupon_available", columnList = "coupon_id, is_used, deleted_at")
+}, uniqueConstraints = {
+    // 선착순 쿠폰은 한 사용자가 한 장만 가진다. 일반 쿠폰은 limited_coupon_id 가 NULL 이므로 제약에 걸리지 않는다.
+    // 발급 큐 재전달 시 중복 저장도 이 제약으로 걸러진다.
+    @UniqueConstraint(name = "uk_user_coupons_user_limited_coupon", columnNames = {"user_id", "limited_coupon_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserCoupon extends BaseEntity {
 
@@ -30,6 +39,12 @@ public class UserCoupon extends BaseEntity {
     @JoinColumn(name = "coupon_id", nullable = false)
     private Coupon coupon;
 
+    /**
+     * 선착순 쿠폰이면 coupon_id, 일반 쿠폰이면 NULL. 한 사용자당 한 장 제약을 선착순 쿠폰에만 걸기 위한 컬럼이다.
+     */
+    @Column(name = "limited_coupon_id")
+    private Long limitedCouponId;
+
     @Column(nullable = false)
     private boolean isUsed;
 
@@ -47,6 +62,7 @@ public class UserCoupon extends BaseEntity {
 
         this.userId = userId;
         this.coupon = coupon;
+        this.limitedCouponId = coupon.isLimited() ? coupon.getId() : null;
         this.isUsed = false;
         this.usedAt = null;
     }
@@ -96,6 +112,9 @@ public class UserCoupon extends BaseEntity {
         if (!isAvailable()) {
             throw new CoreException(ErrorType.BAD_REQUEST, "사용할 수 없는 쿠폰입니다.");
         }
+        if (!coupon.isValidAt(ZonedDateTime.now())) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "사용 기간이 아닌 쿠폰입니다.");
+        }
     }
 
     /**
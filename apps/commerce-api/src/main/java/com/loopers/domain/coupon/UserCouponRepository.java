@@ -1,5 +1,6 @@
 package com.loopers.domain.coupon;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,14 +11,51 @@ public interface UserCouponRepository {
     Optional<UserCoupon> findById(Long id);
 
     /**
-     * 동시성 제어를 위한 비관적 락을 사용하는 조회 메서드
+     * 여러 사용자 쿠폰을 비관적 락으로 조회한다. 데드락 방지를 위해 ID 오름차순으로 락을 획득한다.
      *
-     * @param id UserCoupon ID
-     * @return UserCoupon
+     * @param ids UserCoupon ID 목록
+     * @return UserCoupon 목록
      */
-    Optional<UserCoupon> findByIdWithLock(Long id);
+    List<UserCoupon> findAllByIdInWithLock(List<Long> ids);
 
+    /**
+     * 락 없이 조건부 UPDATE 로 쿠폰을 사용 처리한다. 본인 소유이고 아직 사용되지 않은 쿠폰일 때만 반영된다.
+     *
+     * @return 사용 처리되었으면 true, 조건을 만족하지 않아 반영되지 않았으면 false
+     */
+    boolean markUsedIfAvailable(Long id, String userId, ZonedDateTime usedAt);
+
+    /**
+     * 사용자의 쿠폰을 쿠폰 정의와 함께 조회한다 (fetch join).
+     */
     List<UserCoupon> findByUserId(String userId);
 
+    /**
+     * 사용자의 사용 가능한(미사용, 사용 기간 내) 쿠폰을 쿠폰 정의와 함께 조회한다 (fetch join).
+     */
     List<UserCoupon> findByUserIdAndIsAvailable(String userId);
+
+    /**
+     * 특정 쿠폰의 미사용 사용자 쿠폰 ID 를 키셋(id &gt; afterId ORDER BY id)으로 조회한다.
+     */
+    List<Long> findUnusedIdsByCouponId(Long couponId, Long afterId, int limit);
+
+    /**
+     * 미사용 사용자 쿠폰을 소프트 삭제한다. 그 사이 사용된 쿠폰은 건너뛴다.
+     *
+     * @return 삭제된 건수
+     */
+    int softDeleteUnused(List<Long> ids, ZonedDateTime deletedAt);
+
+    /**
+     * 쿠폰을 발급받은 사용자 ID 를 조회한다 (소프트 삭제된 발급분 포함). 선착순 발급 상태를 Redis 에 복원할 때 사용한다.
+     */
+    List<String> findUserIdsByCouponId(Long couponId);
+
+    /**
+     * 선착순 발급분을 일괄 저장한다. 같은 사용자/쿠폰 조합이 이미 있으면 건너뛰어 메시지 재전달에도 중복 발급되지 않는다.
+     *
+     * @return 저장된 건수
+     */
+    int saveAllIfAbsent(List<CouponIssuance> issuances);
 }
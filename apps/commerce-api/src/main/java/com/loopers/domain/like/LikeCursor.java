@@ -0,0 +1,12 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * (created_at, id) 키셋 커서. 이 위치보다 먼저 누른 좋아요부터 조회한다.
+ */
+public record LikeCursor(
+    ZonedDateTime createdAt,
+    Long id
+) {
+}
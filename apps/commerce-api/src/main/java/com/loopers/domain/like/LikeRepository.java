@@ -1,5 +1,6 @@
 package com.loopers.domain.like;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,10 +14,30 @@ public interface LikeRepository {
 
     boolean existsByUserIdAndProductId(String userId, Long productId);
 
-    void deleteByUserIdAndProductId(String userId, Long productId);
+    /**
+     * 좋아요를 등록한다. (user_id, product_id) 행이 없으면 INSERT 하고, 취소된 행이 있으면 되살린다.
+     * 되살린 경우 created_at 도 갱신하여 좋아요 목록에서 최근에 누른 좋아요로 보이게 한다.
+     *
+     * @return 좋아요 상태가 바뀌었으면 true, 이미 좋아요 상태였으면 false
+     */
+    boolean insertOrRestore(String userId, Long productId, ZonedDateTime now);
+
+    /**
+     * 좋아요를 취소(소프트 삭제)한다.
+     *
+     * @return 좋아요 상태가 바뀌었으면 true, 이미 취소 상태였거나 행이 없으면 false
+     */
+    boolean softDelete(String userId, Long productId, ZonedDateTime now);
 
     Page<Like> findByUserId(String userId, Pageable pageable);
 
+    /**
+     * 사용자의 좋아요를 (created_at, id) 키셋으로 최신순 조회한다.
+     *
+     * @param cursor 이 위치 이전부터 조회 (null 이면 처음부터)
+     */
+    List<Like> findPageByUserId(String userId, LikeCursor cursor, int limit);
+
     Long countByProductId(Long productId);
 
     Map<Long, Long> countByProductIds(List<Long> productIds);
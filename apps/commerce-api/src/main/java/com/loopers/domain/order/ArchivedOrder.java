@@ -0,0 +1,71 @@
+package com.loopers.domain.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 보관 기간이 지나 아카이브 테이블로 이동된 주문 (읽기 전용).
+ * 행은 {@link ArchivedOrderRepository#archive(List)} 의 INSERT ... SELECT 로만 생성되며 ID 는 원본 주문 ID 를 그대로 사용한다.
+ *
+ * <p>압축(ROW_FORMAT=COMPRESSED)과 created_at 기준 월 단위 RANGE 파티션은 JPA 매핑으로 표현할 수 없어 운영 DDL 에서 적용한다.
+ * 스키마 자동 생성(local/test)에서는 비압축 단일 테이블로 만들어지며, 조회/이동 쿼리는 두 경우 모두 동일하게 동작한다.</p>
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "orders_archive", indexes = {
+    @Index(name = "idx_orders_archive_user_deleted_created", columnList = "user_id, deleted_at, created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 10)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(nullable = false, precision = 19, scale = 0)
+    private BigDecimal totalAmount;
+
+    @OneToMany
+    @JoinColumn(name = "order_id")
+    private List<ArchivedOrderItem> orderItems = new ArrayList<>();
+
+    private Long userCouponId;
+
+    @Column(length = 200)
+    private String failureReason;
+
+    private ZonedDateTime canceledAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime updatedAt;
+
+    private ZonedDateTime deletedAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime archivedAt;
+}
@@ -0,0 +1,56 @@
+package com.loopers.domain.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 아카이브된 주문 항목 (읽기 전용).
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "order_items_archive")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrderItem {
+
+    @Id
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, insertable = false, updatable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false, length = 200)
+    private String productName;
+
+    @Column(length = 100)
+    private String brandName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, precision = 19, scale = 0)
+    private BigDecimal price;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime updatedAt;
+
+    private ZonedDateTime deletedAt;
+
+    public BigDecimal calculateAmount() {
+        return this.price.multiply(BigDecimal.valueOf(this.quantity));
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+
+public interface ArchivedOrderRepository {
+
+    Optional<ArchivedOrder> findWithItemsById(Long id);
+
+    long countByUserId(String userId);
+
+    /**
+     * 사용자의 아카이브 주문을 최신순으로 조회한다 (주문 항목 포함).
+     * 핫 테이블 페이지에 이어 붙여야 하므로 오프셋/개수를 직접 받는다.
+     */
+    List<ArchivedOrder> findWithItemsByUserId(String userId, long offset, int limit);
+
+    /**
+     * 아카이브 대상 주문 ID 를 키셋(id 오름차순) 방식으로 조회한다.
+     * 취소/정산이 더 이상 일어나지 않는 종료 상태(COMPLETED, CANCELED, FAILED)의 주문만 대상이다.
+     */
+    List<Long> findArchivableIds(ZonedDateTime createdBefore, Long afterId, int limit);
+
+    /**
+     * 주문과 주문 항목을 아카이브 테이블로 복사한 뒤 원본에서 삭제한다. 이미 복사된 행은 건너뛰므로 여러 번 실행해도 안전하다.
+     *
+     * @return 이동된 주문 수
+     */
+    int archive(List<Long> orderIds);
+}
@@ -8,12 +8,15 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,7 +24,10 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    // 주문 내역 조회(ID 페이지)가 테이블 접근 없이 인덱스만으로 처리되도록 user_id, deleted_at, created_at 순으로 구성
+    @Index(name = "idx_orders_user_deleted_created", columnList = "user_id, deleted_at, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
@@ -40,6 +46,15 @@ public class Order extends BaseEntity {
 
     private ZonedDateTime canceledAt;
 
+    // 비동기 주문: 접수 시점에는 재고/쿠폰/포인트를 차감하지 않고, 정산 워커가 처리한다.
+    private Long userCouponId;
+
+    @Column(nullable = false)
+    private boolean settlementPending;
+
+    @Column(length = 200)
+    private String failureReason;
+
     @Builder
     private Order(String userId, OrderStatus status, BigDecimal totalAmount) {
         validateUserId(userId);
@@ -77,10 +92,14 @@ public class Order extends BaseEntity {
     }
 
     public boolean canCancel() {
-        return this.status == OrderStatus.PENDING;
+        return this.status == OrderStatus.PENDING && !this.settlementPending;
     }
 
     public void cancel() {
+        if (this.settlementPending) {
+            throw new CoreException(ErrorType.BAD_REQUEST,
+                "결제 처리 중인 주문은 취소할 수 없습니다.");
+        }
         if (!canCancel()) {
             throw new CoreException(ErrorType.BAD_REQUEST,
                 "배송 시작 후에는 취소할 수 없습니다.");
@@ -95,5 +114,55 @@ public class Order extends BaseEntity {
                 "대기 중인 주문만 완료할 수 있습니다.");
         }
         this.status = OrderStatus.COMPLETED;
+        this.settlementPending = false;
+    }
+
+    /**
+     * 재고/쿠폰/포인트 차감을 정산 워커에 위임하는 비동기 주문으로 접수합니다.
+     *
+     * @param userCouponId 정산 시 적용할 사용자 쿠폰 ID (없으면 null)
+     */
+    public void requestSettlement(Long userCouponId) {
+        if (this.status != OrderStatus.PENDING) {
+            throw new CoreException(ErrorType.BAD_REQUEST,
+                "대기 중인 주문만 정산을 요청할 수 있습니다.");
+        }
+        this.userCouponId = userCouponId;
+        this.settlementPending = true;
+    }
+
+    /**
+     * 정산에 실패한 주문을 실패 처리합니다. 실패한 주문은 어떤 자원도 차감하지 않은 상태입니다.
+     *
+     * @param reason 실패 사유
+     */
+    public void fail(String reason) {
+        if (this.status != OrderStatus.PENDING) {
+            throw new CoreException(ErrorType.BAD_REQUEST,
+                "대기 중인 주문만 실패 처리할 수 있습니다.");
+        }
+        this.status = OrderStatus.FAILED;
+        this.failureReason = reason;
+        this.settlementPending = false;
+    }
+
+    /**
+     * 상품별 주문 수량 (동일 상품이 여러 항목에 나뉘어 있으면 합산).
+     */
+    public Map<Long, Integer> getQuantitiesByProductId() {
+        return orderItems.stream()
+            .collect(Collectors.groupingBy(OrderItem::getProductId,
+                Collectors.summingInt(OrderItem::getQuantity)));
+    }
+
+    /**
+     * 정산 워커의 파티션 키로 사용할 대표 상품 ID (가장 작은 상품 ID).
+     * 같은 상품을 포함한 주문이 같은 파티션으로 모여 한 번의 락으로 묶어서 처리될 수 있도록 한다.
+     */
+    public Long getPrimaryProductId() {
+        return orderItems.stream()
+            .map(OrderItem::getProductId)
+            .min(Long::compareTo)
+            .orElse(null);
     }
 }
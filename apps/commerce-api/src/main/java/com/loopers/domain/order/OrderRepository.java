@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,4 +11,40 @@ public interface OrderRepository {
     Optional<Order> findById(Long id);
 
     Page<Order> findByUserId(String userId, Pageable pageable);
+
+    /**
+     * 사용자 주문 ID 페이지 (주문 내역 조회 1단계). 컬렉션 fetch join 은 DB 페이징이 불가하므로 ID 만 먼저 페이징한다.
+     * 전체 건수는 필요할 때만 {@link #countByUserId} / {@link #countByUserIdIncludingArchive} 로 따로 센다.
+     */
+    List<Long> findIdsByUserId(String userId, Pageable pageable);
+
+    long countByUserId(String userId);
+
+    /**
+     * 핫 테이블과 아카이브 테이블의 사용자 주문 수를 한 번의 쿼리로 센다.
+     */
+    long countByUserIdIncludingArchive(String userId);
+
+    /**
+     * 주문 항목을 함께 조회한다 (취소 시 재고 복구용).
+     */
+    Optional<Order> findWithItemsById(Long id);
+
+    /**
+     * 주문 항목을 함께 조회한다 (정산 워커의 배치 처리용).
+     */
+    List<Order> findAllWithItemsByIdIn(List<Long> ids);
+
+    /**
+     * 정산 대기 중인 비동기 주문 ID 목록 (재기동 시 워커 큐 복구용).
+     */
+    List<Long> findIdsAwaitingSettlement();
+
+    /**
+     * 정산 대기 중인 주문을 선점한다 (settlement_pending 을 조건부로 내린다).
+     * 여러 노드의 워커가 같은 주문을 받아도 1 을 돌려받은 트랜잭션만 정산하며, 롤백되면 선점도 함께 취소된다.
+     *
+     * @return 선점에 성공하면 1, 이미 다른 트랜잭션이 선점했거나 정산이 끝났으면 0
+     */
+    int claimSettlement(Long id);
 }
@@ -3,5 +3,6 @@ package com.loopers.domain.order;
 public enum OrderStatus {
     PENDING,    // 대기
     COMPLETED,  // 완료
-    CANCELED    // 취소
+    CANCELED,   // 취소
+    FAILED      // 실패 (비동기 정산 실패)
 }
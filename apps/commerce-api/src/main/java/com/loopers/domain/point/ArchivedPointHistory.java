@@ -0,0 +1,60 @@
+package com.loopers.domain.point;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 보관 기간이 지나 아카이브 테이블로 이동된 포인트 이력 (읽기 전용).
+ * 압축과 월 단위 파티션은 {@link com.loopers.domain.order.ArchivedOrder} 와 마찬가지로 운영 DDL 에서 적용한다.
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "point_histories_archive", indexes = {
+    @Index(name = "idx_point_histories_archive_user_created", columnList = "user_id, created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedPointHistory {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PointTransactionType transactionType;
+
+    @Column(nullable = false, precision = 19, scale = 0)
+    private BigDecimal amount;
+
+    @Column(nullable = false, precision = 19, scale = 0)
+    private BigDecimal balanceAfter;
+
+    private String description;
+
+    private Long sequence;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime updatedAt;
+
+    private ZonedDateTime deletedAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime archivedAt;
+}
@@ -0,0 +1,25 @@
+package com.loopers.domain.point;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface ArchivedPointHistoryRepository {
+
+    /**
+     * {@link PointHistoryRepository#findPage} 와 동일한 키셋 페이지 조회를 아카이브 테이블에 수행한다.
+     */
+    List<ArchivedPointHistory> findPage(String userId, PointHistoryCondition condition, PointHistoryCursor cursor,
+        int limit);
+
+    /**
+     * 아카이브 대상 포인트 이력 ID 를 키셋(id 오름차순) 방식으로 조회한다.
+     */
+    List<Long> findArchivableIds(ZonedDateTime createdBefore, Long afterId, int limit);
+
+    /**
+     * 포인트 이력을 아카이브 테이블로 복사한 뒤 원본에서 삭제한다.
+     *
+     * @return 이동된 이력 수
+     */
+    int archive(List<Long> historyIds);
+}
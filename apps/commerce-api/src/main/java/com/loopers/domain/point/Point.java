@@ -30,6 +30,10 @@ public class Point extends BaseEntity {
     @Column(nullable = false)
     private Long version;
 
+    // 원장 모드: balance 는 이 시퀀스까지의 원장을 반영한 스냅샷이다.
+    @Column(nullable = false)
+    private long snapshotSequence;
+
     @Builder
     private Point(String userId, BigDecimal balance) {
         validateUserId(userId);
@@ -71,6 +75,27 @@ public class Point extends BaseEntity {
         this.balance = this.balance.add(amount);
     }
 
+    /**
+     * 스냅샷 이후 원장(tail)을 반영한 계산용 인스턴스를 만든다. 영속화되지 않으며, charge/use/refund 의 검증과 거래 후 잔액 계산에 사용한다.
+     */
+    public Point withLedgerTail(PointLedgerTail tail) {
+        return Point.builder()
+            .userId(this.userId)
+            .balance(this.balance.add(tail.delta()))
+            .build();
+    }
+
+    /**
+     * 스냅샷 이후 원장을 잔액에 반영하고 스냅샷 시퀀스를 전진시킨다. 이미 반영된 시퀀스면 무시한다.
+     */
+    public void applySnapshot(PointLedgerTail tail) {
+        if (tail.lastSequence() <= this.snapshotSequence) {
+            return;
+        }
+        this.balance = this.balance.add(tail.delta());
+        this.snapshotSequence = tail.lastSequence();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) {
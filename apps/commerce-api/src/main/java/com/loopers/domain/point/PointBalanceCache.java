@@ -0,0 +1,23 @@
+package com.loopers.domain.point;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 사용자별 포인트 잔액 캐시. 원장 모드가 아닐 때의 points 행 잔액만 보관한다.
+ */
+public interface PointBalanceCache {
+
+    Optional<PointBalanceSnapshot> get(String userId);
+
+    /**
+     * 캐시된 버전보다 새로운 경우에만 기록한다.
+     */
+    void put(PointBalanceSnapshot snapshot);
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 포인트의 잔액과 버전을 기록한다. 롤백되면 기록하지 않으며, 트랜잭션 밖에서는 바로 기록한다.
+     * 버전은 flush 시점에 증가하므로 커밋 이후의 엔티티 값을 읽는다.
+     */
+    void putAfterCommit(Collection<Point> points);
+}
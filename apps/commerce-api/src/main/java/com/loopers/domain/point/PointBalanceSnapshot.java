@@ -0,0 +1,13 @@
+package com.loopers.domain.point;
+
+import java.math.BigDecimal;
+
+/**
+ * 캐시에 보관하는 포인트 잔액. {@code version} 은 points 행의 낙관적 락 버전으로, 더 오래된 값이 캐시를 덮어쓰지 않도록 비교하는 데 쓴다.
+ */
+public record PointBalanceSnapshot(Long pointId, String userId, long version, BigDecimal balance) {
+
+    public static PointBalanceSnapshot from(Point point) {
+        return new PointBalanceSnapshot(point.getId(), point.getUserId(), point.getVersion(), point.getBalance());
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.domain.point;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.math.BigDecimal;
+
+/**
+ * 일괄 지급 입력 한 건. 캠페인 파일의 한 줄에 해당한다.
+ */
+public record PointGrant(String userId, BigDecimal amount) {
+
+    public PointGrant {
+        if (userId == null || userId.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "User ID는 필수입니다.");
+        }
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "지급 금액은 0보다 커야 합니다.");
+        }
+        if (amount.stripTrailingZeros().scale() > 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "지급 금액은 정수여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.loopers.domain.point;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 지급의 진행 위치. 청크를 반영하는 트랜잭션 안에서 함께 전진하므로, 중단된 지급을 같은 입력으로 다시 요청하면
+ * 이미 반영된 줄은 건너뛰고 이어서 처리한다.
+ */
+@Getter
+@Entity
+@Table(name = "point_grant_checkpoints")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointGrantCheckpoint extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String grantId;
+
+    @Column(nullable = false)
+    private String description;
+
+    // 반영이 끝난 입력 줄 수 (재개 시 건너뛸 줄 수)
+    @Column(nullable = false)
+    private long processedCount;
+
+    // 반영이 끝난 입력 줄의 요약 (재개 요청의 본문이 같은지 확인)
+    @Column(length = 64)
+    private String contentDigest;
+
+    @Column(nullable = false)
+    private long grantedCount;
+
+    // 포인트가 초기화되지 않아 지급하지 못한 사용자 수
+    @Column(nullable = false)
+    private long skippedCount;
+
+    private ZonedDateTime completedAt;
+
+    public PointGrantCheckpoint(String grantId, String description) {
+        if (grantId == null || grantId.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "지급 ID는 필수입니다.");
+        }
+        if (description == null || description.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "지급 사유는 필수입니다.");
+        }
+        this.grantId = grantId;
+        this.description = description;
+    }
+
+    /**
+     * 청크 반영 결과를 누적한다.
+     *
+     * @param consumed 청크에 포함된 입력 줄 수
+     * @param granted 지급된 사용자 수
+     * @param skipped 지급하지 못한 사용자 수
+     * @param contentDigest 이 청크까지 반영한 입력 줄의 요약
+     */
+    public void advance(int consumed, int granted, int skipped, String contentDigest) {
+        if (isCompleted()) {
+            throw new CoreException(ErrorType.CONFLICT, "이미 완료된 일괄 지급입니다: " + grantId);
+        }
+        this.processedCount += consumed;
+        this.contentDigest = contentDigest;
+        this.grantedCount += granted;
+        this.skippedCount += skipped;
+    }
+
+    /**
+     * 재개 요청에서 건너뛴 줄이 이미 반영된 줄과 같은지 확인한다. 다른 본문으로 재개하면 엉뚱한 줄을 건너뛰게 되므로 실패한다.
+     *
+     * @param lines 재개 요청에서 건너뛴 줄 수
+     * @param digest 건너뛴 줄의 요약
+     */
+    public void verifyProcessed(long lines, String digest) {
+        if (processedCount == 0) {
+            return;
+        }
+        if (lines != processedCount || !digest.equals(contentDigest)) {
+            throw new CoreException(ErrorType.CONFLICT,
+                "이미 반영된 " + processedCount + "줄과 입력 내용이 다릅니다: " + grantId);
+        }
+    }
+
+    public void complete() {
+        if (this.completedAt == null) {
+            this.completedAt = ZonedDateTime.now();
+        }
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
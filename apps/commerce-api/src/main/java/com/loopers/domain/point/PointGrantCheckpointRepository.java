@@ -0,0 +1,14 @@
+package com.loopers.domain.point;
+
+import java.util.Optional;
+
+public interface PointGrantCheckpointRepository {
+    PointGrantCheckpoint save(PointGrantCheckpoint checkpoint);
+
+    Optional<PointGrantCheckpoint> findByGrantId(String grantId);
+
+    /**
+     * 같은 지급을 동시에 재개한 요청끼리 청크 반영이 직렬화되도록 비관적 락으로 조회한다.
+     */
+    Optional<PointGrantCheckpoint> findByGrantIdWithLock(String grantId);
+}
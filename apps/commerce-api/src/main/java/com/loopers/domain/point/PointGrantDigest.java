@@ -0,0 +1,40 @@
+package com.loopers.domain.point;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 일괄 지급 입력의 앞부분을 SHA-256 으로 요약한다. 재개 요청의 본문이 이미 반영된 줄과 같은지 확인하는 데 쓴다.
+ *
+ * <p>줄은 "userId,amount" 로 정규화하여 더하므로 공백이나 금액 표기(100 / 100.00) 차이는 같은 입력으로 본다.</p>
+ */
+public final class PointGrantDigest {
+
+    private final MessageDigest digest;
+
+    public PointGrantDigest() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void update(PointGrant grant) {
+        String line = grant.userId() + "," + grant.amount().stripTrailingZeros().toPlainString() + "\n";
+        digest.update(line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 지금까지 더한 줄의 요약. 이후에도 계속 줄을 더할 수 있다.
+     */
+    public String current() {
+        try {
+            return HexFormat.of().formatHex(((MessageDigest) digest.clone()).digest());
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
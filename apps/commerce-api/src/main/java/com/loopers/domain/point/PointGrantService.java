@@ -0,0 +1,99 @@
+package com.loopers.domain.point;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 캠페인 단위의 포인트 일괄 지급.
+ *
+ * <p>사용자별로 조회/갱신/이력 저장을 반복하는 대신, 청크마다 points 를 UPDATE ... JOIN 한 번으로 갱신하고
+ * point_histories 를 INSERT ... SELECT 한 번으로 기록한다. 체크포인트도 같은 트랜잭션에서 전진하므로 청크는 정확히 한 번 반영된다.</p>
+ *
+ * <p>원장 모드에서도 지급액은 points 스냅샷 잔액에 직접 더하고, 이력은 시퀀스 없이 기록하여 원장(tail) 합산에서 제외한다.
+ * 이 경우 이력의 거래 후 잔액은 아직 스냅샷에 반영되지 않은 원장을 포함하지 않는다.</p>
+ */
+@RequiredArgsConstructor
+@Service
+public class PointGrantService {
+
+    private final PointRepository pointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointGrantCheckpointRepository checkpointRepository;
+    private final PointBalanceCache pointBalanceCache;
+
+    /**
+     * 지급을 시작하거나, 이미 시작된 지급의 체크포인트를 반환한다.
+     */
+    @Transactional
+    public PointGrantCheckpoint open(String grantId, String description) {
+        return checkpointRepository.findByGrantId(grantId)
+            .orElseGet(() -> checkpointRepository.save(new PointGrantCheckpoint(grantId, description)));
+    }
+
+    @Transactional(readOnly = true)
+    public PointGrantCheckpoint getCheckpoint(String grantId) {
+        return checkpointRepository.findByGrantId(grantId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND,
+                "일괄 지급 정보를 찾을 수 없습니다: " + grantId));
+    }
+
+    /**
+     * 입력의 {@code offset} 번째 줄부터 시작하는 청크를 반영한다.
+     * 다른 요청이 먼저 같은 위치를 반영했다면 체크포인트 위치가 달라지므로 충돌로 실패한다.
+     *
+     * @param contentDigest 입력 첫 줄부터 이 청크까지의 요약
+     */
+    @Transactional
+    public PointGrantCheckpoint applyChunk(String grantId, long offset, List<PointGrant> chunk,
+        String contentDigest) {
+        PointGrantCheckpoint checkpoint = checkpointRepository.findByGrantIdWithLock(grantId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND,
+                "일괄 지급 정보를 찾을 수 없습니다: " + grantId));
+        if (checkpoint.getProcessedCount() != offset) {
+            throw new CoreException(ErrorType.CONFLICT,
+                "다른 요청이 같은 일괄 지급을 진행 중입니다: " + grantId);
+        }
+
+        List<PointGrant> merged = mergeByUserId(chunk);
+        ZonedDateTime now = ZonedDateTime.now();
+        int granted = pointRepository.grantAll(merged, now);
+        pointHistoryRepository.saveAllGranted(merged, checkpoint.getDescription(), now);
+        // UPDATE ... JOIN 은 엔티티를 거치지 않으므로 갱신된 잔액과 버전을 다시 읽어 캐시에 기록한다.
+        pointBalanceCache.putAfterCommit(
+            pointRepository.findAllByUserIdIn(merged.stream().map(PointGrant::userId).toList()));
+
+        checkpoint.advance(chunk.size(), granted, merged.size() - granted, contentDigest);
+        return checkpoint;
+    }
+
+    @Transactional
+    public PointGrantCheckpoint complete(String grantId) {
+        PointGrantCheckpoint checkpoint = checkpointRepository.findByGrantIdWithLock(grantId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND,
+                "일괄 지급 정보를 찾을 수 없습니다: " + grantId));
+        checkpoint.complete();
+        return checkpoint;
+    }
+
+    /**
+     * UPDATE ... JOIN 은 같은 행을 한 번만 갱신하므로 청크 안의 중복 사용자는 금액을 합친다.
+     * User ID 오름차순으로 정렬하여 다른 다건 락과 같은 순서로 행 락을 잡도록 한다.
+     */
+    static List<PointGrant> mergeByUserId(List<PointGrant> chunk) {
+        Map<String, BigDecimal> amounts = new TreeMap<>();
+        for (PointGrant grant : chunk) {
+            amounts.merge(grant.userId(), grant.amount(), BigDecimal::add);
+        }
+        return amounts.entrySet().stream()
+            .map(entry -> new PointGrant(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+}
@@ -7,7 +7,9 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.math.BigDecimal;
 import java.util.Objects;
 import lombok.AccessLevel;
@@ -17,7 +19,12 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "point_histories")
+@Table(name = "point_histories", indexes = {
+    @Index(name = "idx_point_histories_user_created", columnList = "user_id, created_at")
+}, uniqueConstraints = {
+    // 원장 모드의 낙관적 검사: 같은 시퀀스로 동시에 기록하면 한 쪽만 성공한다.
+    @UniqueConstraint(name = "uk_point_histories_user_sequence", columnNames = {"user_id", "sequence"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PointHistory extends BaseEntity {
 
@@ -36,13 +43,17 @@ public class PointHistory extends BaseEntity {
 
     private String description;
 
+    // 원장 모드에서만 사용하는 사용자별 단조 증가 시퀀스
+    private Long sequence;
+
     @Builder
     private PointHistory(
         String userId,
         PointTransactionType transactionType,
         BigDecimal amount,
         BigDecimal balanceAfter,
-        String description
+        String description,
+        Long sequence
     ) {
         validateUserId(userId);
         validateTransactionType(transactionType);
@@ -54,6 +65,7 @@ public class PointHistory extends BaseEntity {
         this.amount = amount;
         this.balanceAfter = balanceAfter;
         this.description = description;
+        this.sequence = sequence;
     }
 
     private void validateUserId(String userId) {
@@ -0,0 +1,21 @@
+package com.loopers.domain.point;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 포인트 이력 조회 조건. 모든 필드는 선택값이다.
+ *
+ * @param transactionType 거래 유형
+ * @param from 조회 시작 시각 (포함)
+ * @param to 조회 종료 시각 (미포함)
+ */
+public record PointHistoryCondition(
+    PointTransactionType transactionType,
+    ZonedDateTime from,
+    ZonedDateTime to
+) {
+
+    public static PointHistoryCondition none() {
+        return new PointHistoryCondition(null, null, null);
+    }
+}
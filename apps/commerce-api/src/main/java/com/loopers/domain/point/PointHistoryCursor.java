@@ -0,0 +1,12 @@
+package com.loopers.domain.point;
+
+import java.time.ZonedDateTime;
+
+/**
+ * (created_at, id) 키셋 커서. 이 위치보다 오래된 이력부터 조회한다.
+ */
+public record PointHistoryCursor(
+    ZonedDateTime createdAt,
+    Long id
+) {
+}
@@ -1,8 +1,34 @@
 package com.loopers.domain.point;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 public interface PointHistoryRepository {
     PointHistory save(PointHistory pointHistory);
-    List<PointHistory> findByUserIdOrderByCreatedAtDesc(String userId);
+
+    /**
+     * 스냅샷 시퀀스 이후의 원장 요약을 조회한다.
+     */
+    PointLedgerTail findLedgerTail(String userId, long afterSequence);
+
+    /**
+     * 스냅샷에 반영되지 않은 원장이 있는 사용자를 User ID 키셋으로 조회한다.
+     */
+    List<String> findUserIdsWithLedgerTail(String afterUserId, int limit);
+
+    /**
+     * (user_id, created_at, id) 키셋 페이지 조회. 최신순으로 최대 {@code limit} 건을 반환한다.
+     *
+     * @param cursor 이전 페이지의 마지막 위치 (null 이면 첫 페이지)
+     */
+    List<PointHistory> findPage(String userId, PointHistoryCondition condition, PointHistoryCursor cursor,
+        int limit);
+
+    /**
+     * {@link PointRepository#grantAll} 로 지급한 결과를 INSERT ... SELECT 로 한 번에 기록한다.
+     * 거래 후 잔액은 같은 트랜잭션에서 갱신된 points 행에서 읽는다.
+     *
+     * @return 기록된 이력 수
+     */
+    int saveAllGranted(List<PointGrant> grants, String description, ZonedDateTime grantedAt);
 }
@@ -0,0 +1,14 @@
+package com.loopers.domain.point;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled 원장 모드 여부. 켜면 충전/사용/환불은 point_histories 에 INSERT 만 하고 points 행은 갱신하지 않는다.
+ * @param snapshotInterval 원장을 points 스냅샷으로 반영하는 주기
+ */
+@ConfigurationProperties(value = "point.ledger")
+public record PointLedgerProperties(
+    boolean enabled,
+    Duration snapshotInterval
+) { }
@@ -0,0 +1,15 @@
+package com.loopers.domain.point;
+
+import java.math.BigDecimal;
+
+/**
+ * 스냅샷 이후 쌓인 원장 요약.
+ *
+ * @param lastSequence 마지막 원장 시퀀스 (tail 이 없으면 스냅샷 시퀀스)
+ * @param delta 잔액 변화량 합계 (사용은 음수)
+ */
+public record PointLedgerTail(
+    long lastSequence,
+    BigDecimal delta
+) {
+}
@@ -1,5 +1,7 @@
 package com.loopers.domain.point;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PointRepository {
@@ -15,5 +17,23 @@ public interface PointRepository {
      */
     Optional<Point> findByUserIdWithLock(String userId);
 
+    /**
+     * 여러 유저의 포인트를 비관적 락으로 조회한다. 데드락 방지를 위해 User ID 오름차순으로 락을 획득한다.
+     *
+     * @param userIds User ID 목록
+     * @return Point 목록
+     */
+    List<Point> findAllByUserIdInWithLock(List<String> userIds);
+
+    List<Point> findAllByUserIdIn(List<String> userIds);
+
     boolean existsByUserId(String userId);
+
+    /**
+     * 여러 유저의 잔액을 한 번의 UPDATE ... JOIN 으로 증가시킨다. 버전도 함께 올려 동시에 진행 중인 낙관적 락 갱신이 덮어쓰지 않도록 한다.
+     *
+     * @param grants User ID 가 중복되지 않는 지급 목록
+     * @return 지급된 사용자 수 (포인트가 초기화되지 않은 사용자는 제외된다)
+     */
+    int grantAll(List<PointGrant> grants, ZonedDateTime grantedAt);
 }
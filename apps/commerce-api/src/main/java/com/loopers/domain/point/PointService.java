@@ -2,10 +2,15 @@ package com.loopers.domain.point;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.retry.OptimisticLockRetryExecutor;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -14,6 +19,9 @@ public class PointService {
 
     private final PointRepository pointRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerProperties ledgerProperties;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final PointBalanceCache pointBalanceCache;
 
     @Transactional
     public Point initializePoint(String userId) {
@@ -39,74 +47,126 @@ public class PointService {
 
     @Transactional(readOnly = true)
     public BigDecimal getBalance(String userId) {
-        return pointRepository.findByUserId(userId)
-            .map(Point::getBalance)
-            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND,
-                "포인트 정보를 찾을 수 없습니다: " + userId));
+        return getCurrentBalance(getPoint(userId));
+    }
+
+    /**
+     * 현재 잔액. 원장 모드에서는 스냅샷 잔액에 스냅샷 이후 원장(tail)을 더해 계산한다.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getCurrentBalance(Point point) {
+        if (!ledgerProperties.enabled()) {
+            return point.getBalance();
+        }
+        PointLedgerTail tail = pointHistoryRepository.findLedgerTail(point.getUserId(), point.getSnapshotSequence());
+        return point.withLedgerTail(tail).getBalance();
+    }
+
+    public boolean isLedgerEnabled() {
+        return ledgerProperties.enabled();
     }
 
-    @Transactional
     public BigDecimal chargePoint(String userId, BigDecimal amount) {
-        Point point = pointRepository.findByUserId(userId)
-            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND,
-                "포인트 정보를 찾을 수 없습니다: " + userId));
+        return retryExecutor.execute("point.charge", () ->
+            record(userId, PointTransactionType.CHARGE, amount, "포인트 충전", point -> point.charge(amount)));
+    }
 
-        point.charge(amount);
+    public BigDecimal usePoint(String userId, BigDecimal amount) {
+        return retryExecutor.execute("point.use", () ->
+            record(userId, PointTransactionType.USE, amount, "포인트 사용", point -> point.use(amount)));
+    }
 
-        PointHistory history = PointHistory.builder()
-            .userId(userId)
-            .transactionType(PointTransactionType.CHARGE)
-            .amount(amount)
-            .balanceAfter(point.getBalance())
-            .description("포인트 충전")
-            .build();
-        pointHistoryRepository.save(history);
+    public BigDecimal refundPoint(String userId, BigDecimal amount) {
+        return retryExecutor.execute("point.refund", () ->
+            record(userId, PointTransactionType.REFUND, amount, "포인트 환불", point -> point.refund(amount)));
+    }
 
-        return point.getBalance();
+    /**
+     * 호출한 트랜잭션(주문 정산) 안에서 포인트를 차감하고 이력을 남긴다. 재고/쿠폰 차감과 함께 커밋되어야 하므로 여기서는 재시도하지 않는다.
+     * 원장 모드에서는 {@code point} 를 스냅샷으로만 읽고 최신 원장 뒤에 다음 시퀀스로 기록한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BigDecimal deduct(Point point, BigDecimal amount, String description) {
+        return apply(point, PointTransactionType.USE, amount, description, p -> p.use(amount));
     }
 
+    /**
+     * 스냅샷 이후 원장을 points 행에 반영한다. 원장 쓰기는 points 행을 잠그지 않으므로, 이 잠금은 스냅샷 작업끼리만 경합한다.
+     */
     @Transactional
-    public BigDecimal usePoint(String userId, BigDecimal amount) {
-        Point point = pointRepository.findByUserId(userId)
+    public void materializeSnapshot(String userId) {
+        Point point = pointRepository.findByUserIdWithLock(userId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND,
                 "포인트 정보를 찾을 수 없습니다: " + userId));
+        point.applySnapshot(pointHistoryRepository.findLedgerTail(userId, point.getSnapshotSequence()));
+    }
 
-        point.use(amount);
-
-        PointHistory history = PointHistory.builder()
-            .userId(userId)
-            .transactionType(PointTransactionType.USE)
-            .amount(amount)
-            .balanceAfter(point.getBalance())
-            .description("포인트 사용")
-            .build();
-        pointHistoryRepository.save(history);
+    @Transactional(readOnly = true)
+    public List<String> findUserIdsWithLedgerTail(String afterUserId, int limit) {
+        return pointHistoryRepository.findUserIdsWithLedgerTail(afterUserId, limit);
+    }
 
-        return point.getBalance();
+    @Transactional(readOnly = true)
+    public List<PointHistory> getPointHistories(String userId, PointHistoryCondition condition,
+        PointHistoryCursor cursor, int limit) {
+        return pointHistoryRepository.findPage(userId, condition, cursor, limit);
     }
 
-    @Transactional
-    public BigDecimal refundPoint(String userId, BigDecimal amount) {
+    private BigDecimal record(String userId, PointTransactionType type, BigDecimal amount, String description,
+        Consumer<Point> operation) {
         Point point = pointRepository.findByUserId(userId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND,
                 "포인트 정보를 찾을 수 없습니다: " + userId));
+        return apply(point, type, amount, description, operation);
+    }
 
-        point.refund(amount);
+    private BigDecimal apply(Point point, PointTransactionType type, BigDecimal amount, String description,
+        Consumer<Point> operation) {
+        if (ledgerProperties.enabled()) {
+            return append(point, type, amount, description, operation);
+        }
+
+        operation.accept(point);
+        pointBalanceCache.putAfterCommit(List.of(point));
 
         PointHistory history = PointHistory.builder()
-            .userId(userId)
-            .transactionType(PointTransactionType.REFUND)
+            .userId(point.getUserId())
+            .transactionType(type)
             .amount(amount)
             .balanceAfter(point.getBalance())
-            .description("포인트 환불")
+            .description(description)
             .build();
         pointHistoryRepository.save(history);
 
         return point.getBalance();
     }
 
-    @Transactional(readOnly = true)
-    public List<PointHistory> getPointHistories(String userId) {
-        return pointHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    /**
+     * 원장 모드: points 행은 읽기만 하고 point_histories 에 다음 시퀀스로 INSERT 한다.
+     * 동시에 같은 시퀀스를 기록한 거래가 있으면 (user_id, sequence) 유니크 제약으로 실패하므로, 잔액 검증이 오래된 값으로 통과하는 일이 없다.
+     */
+    private BigDecimal append(Point snapshot, PointTransactionType type, BigDecimal amount, String description,
+        Consumer<Point> operation) {
+        PointLedgerTail tail = pointHistoryRepository.findLedgerTail(snapshot.getUserId(),
+            snapshot.getSnapshotSequence());
+        Point current = snapshot.withLedgerTail(tail);
+        operation.accept(current);
+
+        PointHistory history = PointHistory.builder()
+            .userId(snapshot.getUserId())
+            .transactionType(type)
+            .amount(amount)
+            .balanceAfter(current.getBalance())
+            .description(description)
+            .sequence(tail.lastSequence() + 1)
+            .build();
+        try {
+            pointHistoryRepository.save(history);
+        } catch (DataIntegrityViolationException e) {
+            // 재시도 실행기가 새 트랜잭션에서 최신 원장으로 다시 계산한다. 정산은 배치 전체가 롤백되어 다시 전달된다.
+            throw new OptimisticLockingFailureException("포인트 원장 시퀀스 충돌: " + snapshot.getUserId(), e);
+        }
+
+        return current.getBalance();
     }
 }
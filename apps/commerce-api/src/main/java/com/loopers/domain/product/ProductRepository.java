@@ -1,6 +1,7 @@
 package com.loopers.domain.product;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +19,22 @@ public interface ProductRepository {
      */
     Optional<Product> findByIdWithLock(Long id);
 
+    /**
+     * 여러 상품을 비관적 락으로 조회한다. 데드락 방지를 위해 ID 오름차순으로 락을 획득한다.
+     *
+     * @param ids Product ID 목록
+     * @return Product 목록 (ID 오름차순)
+     */
+    List<Product> findAllByIdInWithLock(List<Long> ids);
+
+    /**
+     * 여러 상품의 재고를 단일 UPDATE 문으로 복구한다.
+     *
+     * @param quantitiesByProductId 상품 ID 별 복구 수량
+     * @return 갱신된 상품 수
+     */
+    int restoreStocks(Map<Long, Integer> quantitiesByProductId);
+
     Page<Product> findAll(Pageable pageable);
 
     Page<Product> findByBrandId(Long brandId, Pageable pageable);
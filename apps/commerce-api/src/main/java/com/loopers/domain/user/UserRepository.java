@@ -1,9 +1,17 @@
 package com.loopers.domain.user;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
     User save(User user);
     Optional<User> findByUserId(String userId);
     boolean existsByUserId(String userId);
+
+    /**
+     * User ID 를 키셋(user_id &gt; afterUserId ORDER BY user_id)으로 조회한다.
+     */
+    List<String> findUserIdsAfter(String afterUserId, int limit);
+
+    long count();
 }
@@ -4,6 +4,7 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +16,22 @@ public class UserService {
 
     @Transactional
     public User registerUser(User user) {
-        if (userRepository.existsByUserId(user.getUserId())) {
-            throw new CoreException(ErrorType.BAD_REQUEST,
-                "이미 가입된 ID입니다: " + user.getUserId());
+        return registerUser(user, true);
+    }
+
+    /**
+     * @param mayExist false 면 중복 조회를 생략하고 바로 저장한다. 이 경우에도 중복 가입은 uk_users_user_id 가 막는다.
+     */
+    @Transactional
+    public User registerUser(User user, boolean mayExist) {
+        if (mayExist && userRepository.existsByUserId(user.getUserId())) {
+            throw duplicated(user.getUserId());
+        }
+        try {
+            return userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicated(user.getUserId());
         }
-        return userRepository.save(user);
     }
 
     @Transactional(readOnly = true)
@@ -54,4 +66,8 @@ public class UserService {
         user.chargePoint(amount);
         return user.getPoint();
     }
+
+    private static CoreException duplicated(String userId) {
+        return new CoreException(ErrorType.BAD_REQUEST, "이미 가입된 ID입니다: " + userId);
+    }
 }
@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.domain.brand.BrandStats;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BrandStatsJpaRepository extends JpaRepository<BrandStats, Long> {
+
+    @Modifying
+    @Query(value = "UPDATE brand_stats SET "
+        + "product_count = product_count + :productCountDelta, "
+        + "in_stock_count = in_stock_count + :inStockCountDelta, "
+        + "like_count = like_count + :likeCountDelta, "
+        + "min_price = CASE WHEN :price IS NULL THEN min_price ELSE LEAST(COALESCE(min_price, :price), :price) END, "
+        + "max_price = CASE WHEN :price IS NULL THEN max_price ELSE GREATEST(COALESCE(max_price, :price), :price) END, "
+        + "updated_at = :now "
+        + "WHERE brand_id = :brandId", nativeQuery = true)
+    int addDelta(@Param("brandId") Long brandId, @Param("productCountDelta") int productCountDelta,
+        @Param("inStockCountDelta") int inStockCountDelta, @Param("likeCountDelta") long likeCountDelta,
+        @Param("price") BigDecimal price, @Param("now") ZonedDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE brand_stats s, "
+        + "(SELECT MIN(price) AS min_price, MAX(price) AS max_price FROM products "
+        + "WHERE brand_id = :brandId AND deleted_at IS NULL) p "
+        + "SET s.min_price = p.min_price, s.max_price = p.max_price, s.updated_at = :now "
+        + "WHERE s.brand_id = :brandId", nativeQuery = true)
+    int refreshPriceRange(@Param("brandId") Long brandId, @Param("now") ZonedDateTime now);
+
+    @Modifying
+    @Query(value = "INSERT INTO brand_stats "
+        + "(brand_id, product_count, in_stock_count, min_price, max_price, like_count, updated_at) "
+        + "SELECT :brandId, COUNT(*), COALESCE(SUM(CASE WHEN p.stock > 0 THEN 1 ELSE 0 END), 0), "
+        + "MIN(p.price), MAX(p.price), "
+        + "(SELECT COUNT(*) FROM likes l JOIN products lp ON lp.id = l.product_id "
+        + "WHERE lp.brand_id = :brandId AND lp.deleted_at IS NULL AND l.deleted_at IS NULL), :now "
+        + "FROM products p WHERE p.brand_id = :brandId AND p.deleted_at IS NULL "
+        + "ON DUPLICATE KEY UPDATE product_count = VALUES(product_count), in_stock_count = VALUES(in_stock_count), "
+        + "min_price = VALUES(min_price), max_price = VALUES(max_price), like_count = VALUES(like_count), "
+        + "updated_at = VALUES(updated_at)", nativeQuery = true)
+    int recompute(@Param("brandId") Long brandId, @Param("now") ZonedDateTime now);
+}
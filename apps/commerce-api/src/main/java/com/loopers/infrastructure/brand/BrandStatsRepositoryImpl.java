@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.domain.brand.BrandStats;
+import com.loopers.domain.brand.BrandStatsRepository;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class BrandStatsRepositoryImpl implements BrandStatsRepository {
+
+    private final BrandStatsJpaRepository brandStatsJpaRepository;
+
+    @Override
+    public Optional<BrandStats> findByBrandId(Long brandId) {
+        return brandStatsJpaRepository.findById(brandId);
+    }
+
+    @Override
+    public boolean addDelta(Long brandId, int productCountDelta, int inStockCountDelta, long likeCountDelta,
+        BigDecimal price, ZonedDateTime now) {
+        return brandStatsJpaRepository.addDelta(brandId, productCountDelta, inStockCountDelta, likeCountDelta,
+            price, now) > 0;
+    }
+
+    @Override
+    public void refreshPriceRange(Long brandId, ZonedDateTime now) {
+        brandStatsJpaRepository.refreshPriceRange(brandId, now);
+    }
+
+    @Override
+    public void recompute(Long brandId, ZonedDateTime now) {
+        brandStatsJpaRepository.recompute(brandId, now);
+    }
+}
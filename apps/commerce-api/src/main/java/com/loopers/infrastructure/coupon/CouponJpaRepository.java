@@ -1,7 +1,17 @@
 package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.Coupon;
+import java.time.ZonedDateTime;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
+
+    @Query("SELECT c FROM Coupon c WHERE c.validUntil <= :expiredBefore "
+        + "AND (c.validUntil > :afterValidUntil OR (c.validUntil = :afterValidUntil AND c.id > :afterId)) "
+        + "ORDER BY c.validUntil, c.id")
+    List<Coupon> findExpiredAfter(@Param("afterValidUntil") ZonedDateTime afterValidUntil,
+        @Param("afterId") Long afterId, @Param("expiredBefore") ZonedDateTime expiredBefore);
 }
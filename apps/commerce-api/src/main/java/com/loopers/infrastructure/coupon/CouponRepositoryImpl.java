@@ -2,6 +2,7 @@ package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.Coupon;
 import com.loopers.domain.coupon.CouponRepository;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -27,4 +28,10 @@ public class CouponRepositoryImpl implements CouponRepository {
     public List<Coupon> findAll() {
         return couponJpaRepository.findAll();
     }
+
+    @Override
+    public List<Coupon> findExpiredAfter(ZonedDateTime afterValidUntil, Long afterId,
+        ZonedDateTime expiredBefore) {
+        return couponJpaRepository.findExpiredAfter(afterValidUntil, afterId, expiredBefore);
+    }
 }
@@ -2,21 +2,48 @@ package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.UserCoupon;
 import jakarta.persistence.LockModeType;
+import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface UserCouponJpaRepository extends JpaRepository<UserCoupon, Long> {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT uc FROM UserCoupon uc WHERE uc.id = :id")
-    Optional<UserCoupon> findByIdWithLock(@Param("id") Long id);
+    @Query("SELECT uc FROM UserCoupon uc WHERE uc.id IN :ids ORDER BY uc.id")
+    List<UserCoupon> findAllByIdInWithLock(@Param("ids") List<Long> ids);
 
-    List<UserCoupon> findByUserId(String userId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserCoupon uc SET uc.isUsed = true, uc.usedAt = :usedAt, uc.updatedAt = :usedAt, uc.version = uc.version + 1 "
+        + "WHERE uc.id = :id AND uc.userId = :userId AND uc.isUsed = false AND uc.deletedAt IS NULL "
+        + "AND EXISTS (SELECT 1 FROM Coupon c WHERE c.id = uc.coupon.id "
+        + "AND (c.validFrom IS NULL OR c.validFrom <= :usedAt) AND (c.validUntil IS NULL OR c.validUntil > :usedAt))")
+    int markUsedIfAvailable(@Param("id") Long id, @Param("userId") String userId,
+        @Param("usedAt") ZonedDateTime usedAt);
 
-    @Query("SELECT uc FROM UserCoupon uc WHERE uc.userId = :userId AND uc.isUsed = false AND uc.deletedAt IS NULL")
-    List<UserCoupon> findByUserIdAndIsAvailable(@Param("userId") String userId);
+    @Query("SELECT uc FROM UserCoupon uc JOIN FETCH uc.coupon WHERE uc.userId = :userId ORDER BY uc.id")
+    List<UserCoupon> findByUserId(@Param("userId") String userId);
+
+    @Query("SELECT uc FROM UserCoupon uc JOIN FETCH uc.coupon c "
+        + "WHERE uc.userId = :userId AND uc.isUsed = false AND uc.deletedAt IS NULL "
+        + "AND (c.validFrom IS NULL OR c.validFrom <= :now) AND (c.validUntil IS NULL OR c.validUntil > :now) "
+        + "ORDER BY uc.id")
+    List<UserCoupon> findByUserIdAndIsAvailable(@Param("userId") String userId, @Param("now") ZonedDateTime now);
+
+    @Query("SELECT uc.id FROM UserCoupon uc WHERE uc.coupon.id = :couponId AND uc.isUsed = false "
+        + "AND uc.deletedAt IS NULL AND uc.id > :afterId ORDER BY uc.id")
+    List<Long> findUnusedIdsByCouponId(@Param("couponId") Long couponId, @Param("afterId") Long afterId,
+        Limit limit);
+
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.coupon.id = :couponId")
+    List<String> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
+    @Modifying
+    @Query("UPDATE UserCoupon uc SET uc.deletedAt = :now, uc.updatedAt = :now, uc.version = uc.version + 1 "
+        + "WHERE uc.id IN :ids AND uc.isUsed = false AND uc.deletedAt IS NULL")
+    int softDeleteUnusedByIdIn(@Param("ids") List<Long> ids, @Param("now") ZonedDateTime now);
 }
@@ -1,17 +1,33 @@
 package com.loopers.infrastructure.coupon;
 
+import com.loopers.domain.coupon.CouponIssuance;
 import com.loopers.domain.coupon.UserCoupon;
 import com.loopers.domain.coupon.UserCouponRepository;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
 import java.util.List;
 import java.util.Optional;
+import java.util.TimeZone;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
 @Component
 public class UserCouponRepositoryImpl implements UserCouponRepository {
 
+    // 선착순 쿠폰 발급분만 저장하므로 limited_coupon_id 를 채우며, uk_user_coupons_user_limited_coupon 에 걸리는 행은 건너뛴다 (영향 행 수 0).
+    private static final String INSERT_IF_ABSENT_SQL = """
+        INSERT IGNORE INTO user_coupons (user_id, coupon_id, limited_coupon_id, is_used, version, created_at, updated_at)
+        VALUES (?, ?, ?, false, 0, ?, ?)
+        """;
+
     private final UserCouponJpaRepository userCouponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public UserCoupon save(UserCoupon userCoupon) {
@@ -24,8 +40,13 @@ public class UserCouponRepositoryImpl implements UserCouponRepository {
     }
 
     @Override
-    public Optional<UserCoupon> findByIdWithLock(Long id) {
-        return userCouponJpaRepository.findByIdWithLock(id);
+    public List<UserCoupon> findAllByIdInWithLock(List<Long> ids) {
+        return userCouponJpaRepository.findAllByIdInWithLock(ids);
+    }
+
+    @Override
+    public boolean markUsedIfAvailable(Long id, String userId, ZonedDateTime usedAt) {
+        return userCouponJpaRepository.markUsedIfAvailable(id, userId, usedAt) == 1;
     }
 
     @Override
@@ -35,6 +56,46 @@ public class UserCouponRepositoryImpl implements UserCouponRepository {
 
     @Override
     public List<UserCoupon> findByUserIdAndIsAvailable(String userId) {
-        return userCouponJpaRepository.findByUserIdAndIsAvailable(userId);
+        return userCouponJpaRepository.findByUserIdAndIsAvailable(userId, ZonedDateTime.now());
+    }
+
+    @Override
+    public List<Long> findUnusedIdsByCouponId(Long couponId, Long afterId, int limit) {
+        return userCouponJpaRepository.findUnusedIdsByCouponId(couponId, afterId, Limit.of(limit));
+    }
+
+    @Override
+    public int softDeleteUnused(List<Long> ids, ZonedDateTime deletedAt) {
+        return userCouponJpaRepository.softDeleteUnusedByIdIn(ids, deletedAt);
+    }
+
+    @Override
+    public List<String> findUserIdsByCouponId(Long couponId) {
+        return userCouponJpaRepository.findUserIdsByCouponId(couponId);
+    }
+
+    /**
+     * IDENTITY 전략에서는 Hibernate 배치 INSERT 가 동작하지 않으므로 JDBC 배치로 저장한다 (rewriteBatchedStatements 적용).
+     */
+    @Override
+    public int saveAllIfAbsent(List<CouponIssuance> issuances) {
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, issuances, issuances.size(),
+            (ps, issuance) -> {
+                Timestamp issuedAt = Timestamp.from(issuance.issuedAt().toInstant());
+                ps.setString(1, issuance.userId());
+                ps.setLong(2, issuance.couponId());
+                ps.setLong(3, issuance.couponId());
+                ps.setTimestamp(4, issuedAt, utcCalendar());
+                ps.setTimestamp(5, issuedAt, utcCalendar());
+            });
+        return Arrays.stream(results)
+            .flatMapToInt(Arrays::stream)
+            .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+            .sum();
+    }
+
+    // hibernate.jdbc.time_zone: UTC 와 동일한 기준으로 저장한다.
+    private static Calendar utcCalendar() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
     }
 }
@@ -1,11 +1,14 @@
 package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeCursor;
 import com.loopers.domain.like.LikeRepository;
+import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -25,16 +28,66 @@ public interface LikeJpaRepository extends JpaRepository<Like, Long>, LikeReposi
     boolean existsByUserIdAndProductId(@Param("userId") String userId,
         @Param("productId") Long productId);
 
+    /**
+     * 행이 없으면 INSERT IGNORE 로 추가하고, 반영되지 않았을 때만 취소된 행을 되살린다.
+     * 가장 흔한 첫 좋아요는 INSERT 한 문장으로 끝나며, 다시 누른 좋아요와 이미 누른 좋아요만 UPDATE 를 한 번 더 실행한다.
+     * 두 문장 모두 유니크 키/WHERE 로 상태가 바뀌는 행만 건드리므로, 드라이버의 found-rows 설정과 관계없이 영향받은 행 수가 곧 상태 변화 여부다.
+     * 동시에 같은 좋아요가 들어와도 유니크 키에 막혀 한 요청만 true 를 받는다.
+     *
+     * <p>INSERT IGNORE 는 중복 키뿐 아니라 NOT NULL 위반, 길이 초과 같은 오류도 경고로 바꾸어 빈 값이나 잘린 값을 저장한다.
+     * 그래서 엔티티와 같은 검증을 먼저 거치며, user_id 길이는 가입 시 검증된 User ID 만 들어온다는 전제에 기댄다.</p>
+     */
     @Override
+    default boolean insertOrRestore(String userId, Long productId, ZonedDateTime now) {
+        Like.builder().userId(userId).productId(productId).build();
+        return insertIfAbsent(userId, productId, now) > 0 || restoreDeleted(userId, productId, now) > 0;
+    }
+
     @Modifying
-    @Query("UPDATE Like l SET l.deletedAt = CURRENT_TIMESTAMP WHERE l.userId = :userId AND l.productId = :productId AND l.deletedAt IS NULL")
-    void deleteByUserIdAndProductId(@Param("userId") String userId,
-        @Param("productId") Long productId);
+    @Query("UPDATE Like l SET l.deletedAt = NULL, l.createdAt = :now, l.updatedAt = :now "
+        + "WHERE l.userId = :userId AND l.productId = :productId AND l.deletedAt IS NOT NULL")
+    int restoreDeleted(@Param("userId") String userId, @Param("productId") Long productId,
+        @Param("now") ZonedDateTime now);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, product_id, created_at, updated_at, deleted_at) "
+        + "VALUES (:userId, :productId, :now, :now, NULL)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") String userId, @Param("productId") Long productId,
+        @Param("now") ZonedDateTime now);
+
+    @Override
+    default boolean softDelete(String userId, Long productId, ZonedDateTime now) {
+        return softDeleteActive(userId, productId, now) > 0;
+    }
+
+    @Modifying
+    @Query("UPDATE Like l SET l.deletedAt = :now, l.updatedAt = :now "
+        + "WHERE l.userId = :userId AND l.productId = :productId AND l.deletedAt IS NULL")
+    int softDeleteActive(@Param("userId") String userId, @Param("productId") Long productId,
+        @Param("now") ZonedDateTime now);
 
     @Override
     @Query("SELECT l FROM Like l WHERE l.userId = :userId AND l.deletedAt IS NULL ORDER BY l.createdAt DESC")
     Page<Like> findByUserId(@Param("userId") String userId, Pageable pageable);
 
+    @Override
+    default List<Like> findPageByUserId(String userId, LikeCursor cursor, int limit) {
+        if (cursor == null) {
+            return findFirstPageByUserId(userId, Limit.of(limit));
+        }
+        return findPageByUserIdBefore(userId, cursor.createdAt(), cursor.id(), Limit.of(limit));
+    }
+
+    @Query("SELECT l FROM Like l WHERE l.userId = :userId AND l.deletedAt IS NULL "
+        + "ORDER BY l.createdAt DESC, l.id DESC")
+    List<Like> findFirstPageByUserId(@Param("userId") String userId, Limit limit);
+
+    @Query("SELECT l FROM Like l WHERE l.userId = :userId AND l.deletedAt IS NULL "
+        + "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id)) "
+        + "ORDER BY l.createdAt DESC, l.id DESC")
+    List<Like> findPageByUserIdBefore(@Param("userId") String userId, @Param("createdAt") ZonedDateTime createdAt,
+        @Param("id") Long id, Limit limit);
+
     @Override
     @Query("SELECT COUNT(l) FROM Like l WHERE l.productId = :productId AND l.deletedAt IS NULL")
     Long countByProductId(@Param("productId") Long productId);
@@ -0,0 +1,57 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.ArchivedOrder;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedOrderJpaRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    @Query("SELECT o FROM ArchivedOrder o LEFT JOIN FETCH o.orderItems WHERE o.id = :id")
+    Optional<ArchivedOrder> findWithItemsById(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT o FROM ArchivedOrder o LEFT JOIN FETCH o.orderItems WHERE o.id IN :ids")
+    List<ArchivedOrder> findAllWithItemsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT COUNT(o) FROM ArchivedOrder o WHERE o.userId = :userId AND o.deletedAt IS NULL")
+    long countByUserId(@Param("userId") String userId);
+
+    @Query(value = "SELECT id FROM orders_archive WHERE user_id = :userId AND deleted_at IS NULL "
+        + "ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> findIdsByUserId(@Param("userId") String userId, @Param("offset") long offset,
+        @Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM orders WHERE id > :afterId AND created_at < :createdBefore "
+        + "AND status IN ('COMPLETED', 'CANCELED', 'FAILED') AND settlement_pending = false "
+        + "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("createdBefore") ZonedDateTime createdBefore,
+        @Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO orders_archive (id, user_id, status, total_amount, user_coupon_id, failure_reason, "
+        + "canceled_at, created_at, updated_at, deleted_at, archived_at) "
+        + "SELECT id, user_id, status, total_amount, user_coupon_id, failure_reason, "
+        + "canceled_at, created_at, updated_at, deleted_at, :archivedAt FROM orders WHERE id IN :ids",
+        nativeQuery = true)
+    int copyOrders(@Param("ids") List<Long> ids, @Param("archivedAt") ZonedDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO order_items_archive (id, order_id, product_id, product_name, brand_name, quantity, "
+        + "price, created_at, updated_at, deleted_at) "
+        + "SELECT id, order_id, product_id, product_name, brand_name, quantity, "
+        + "price, created_at, updated_at, deleted_at FROM order_items WHERE order_id IN :ids",
+        nativeQuery = true)
+    int copyOrderItems(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM order_items WHERE order_id IN :ids", nativeQuery = true)
+    int deleteOrderItems(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM orders WHERE id IN :ids", nativeQuery = true)
+    int deleteOrders(@Param("ids") List<Long> ids);
+}
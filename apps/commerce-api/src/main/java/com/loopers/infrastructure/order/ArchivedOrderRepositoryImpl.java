@@ -0,0 +1,54 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.ArchivedOrder;
+import com.loopers.domain.order.ArchivedOrderRepository;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class ArchivedOrderRepositoryImpl implements ArchivedOrderRepository {
+
+    private final ArchivedOrderJpaRepository archivedOrderJpaRepository;
+
+    @Override
+    public Optional<ArchivedOrder> findWithItemsById(Long id) {
+        return archivedOrderJpaRepository.findWithItemsById(id);
+    }
+
+    @Override
+    public long countByUserId(String userId) {
+        return archivedOrderJpaRepository.countByUserId(userId);
+    }
+
+    @Override
+    public List<ArchivedOrder> findWithItemsByUserId(String userId, long offset, int limit) {
+        List<Long> ids = archivedOrderJpaRepository.findIdsByUserId(userId, offset, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return archivedOrderJpaRepository.findAllWithItemsByIdIn(ids).stream()
+            .sorted(Comparator.comparing(ArchivedOrder::getCreatedAt)
+                .thenComparing(ArchivedOrder::getId)
+                .reversed())
+            .toList();
+    }
+
+    @Override
+    public List<Long> findArchivableIds(ZonedDateTime createdBefore, Long afterId, int limit) {
+        return archivedOrderJpaRepository.findArchivableIds(createdBefore, afterId, limit);
+    }
+
+    @Override
+    public int archive(List<Long> orderIds) {
+        // 이미 다른 실행이 복사한 행은 INSERT IGNORE 로 건너뛰므로, 이동 건수는 원본에서 삭제된 행 수로 센다.
+        archivedOrderJpaRepository.copyOrders(orderIds, ZonedDateTime.now());
+        archivedOrderJpaRepository.copyOrderItems(orderIds);
+        archivedOrderJpaRepository.deleteOrderItems(orderIds);
+        return archivedOrderJpaRepository.deleteOrders(orderIds);
+    }
+}
@@ -2,9 +2,12 @@ package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderRepository;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,4 +16,35 @@ public interface OrderJpaRepository extends JpaRepository<Order, Long>, OrderRep
     @Override
     @Query("SELECT o FROM Order o WHERE o.userId = :userId AND o.deletedAt IS NULL ORDER BY o.createdAt DESC")
     Page<Order> findByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Override
+    @Query("SELECT o.id FROM Order o WHERE o.userId = :userId AND o.deletedAt IS NULL "
+        + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Override
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.userId = :userId AND o.deletedAt IS NULL")
+    long countByUserId(@Param("userId") String userId);
+
+    @Override
+    @Query(value = "SELECT (SELECT COUNT(*) FROM orders WHERE user_id = :userId AND deleted_at IS NULL) "
+        + "+ (SELECT COUNT(*) FROM orders_archive WHERE user_id = :userId AND deleted_at IS NULL)", nativeQuery = true)
+    long countByUserIdIncludingArchive(@Param("userId") String userId);
+
+    @Override
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id = :id")
+    Optional<Order> findWithItemsById(@Param("id") Long id);
+
+    @Override
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") List<Long> ids);
+
+    @Override
+    @Query("SELECT o.id FROM Order o WHERE o.settlementPending = true AND o.deletedAt IS NULL ORDER BY o.id")
+    List<Long> findIdsAwaitingSettlement();
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.settlementPending = false WHERE o.id = :id AND o.settlementPending = true")
+    int claimSettlement(@Param("id") Long id);
 }
@@ -0,0 +1,34 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.ArchivedPointHistory;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedPointHistoryJpaRepository extends JpaRepository<ArchivedPointHistory, Long> {
+
+    /**
+     * 원장 모드에서 아직 스냅샷에 반영되지 않은 이력(sequence > points.snapshot_sequence)은 현재 잔액의 일부이므로 제외한다.
+     */
+    @Query(value = "SELECT h.id FROM point_histories h LEFT JOIN points p ON p.user_id = h.user_id "
+        + "WHERE h.id > :afterId AND h.created_at < :createdBefore "
+        + "AND (h.sequence IS NULL OR h.sequence <= COALESCE(p.snapshot_sequence, 0)) "
+        + "ORDER BY h.id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("createdBefore") ZonedDateTime createdBefore,
+        @Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO point_histories_archive (id, user_id, transaction_type, amount, balance_after, "
+        + "description, sequence, created_at, updated_at, deleted_at, archived_at) "
+        + "SELECT id, user_id, transaction_type, amount, balance_after, "
+        + "description, sequence, created_at, updated_at, deleted_at, :archivedAt FROM point_histories WHERE id IN :ids",
+        nativeQuery = true)
+    int copyHistories(@Param("ids") List<Long> ids, @Param("archivedAt") ZonedDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM point_histories WHERE id IN :ids", nativeQuery = true)
+    int deleteHistories(@Param("ids") List<Long> ids);
+}
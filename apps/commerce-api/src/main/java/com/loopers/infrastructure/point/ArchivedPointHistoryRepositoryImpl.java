@@ -0,0 +1,59 @@
+package com.loopers.infrastructure.point;
+
+import static com.loopers.domain.point.QArchivedPointHistory.archivedPointHistory;
+
+import com.loopers.domain.point.ArchivedPointHistory;
+import com.loopers.domain.point.ArchivedPointHistoryRepository;
+import com.loopers.domain.point.PointHistoryCondition;
+import com.loopers.domain.point.PointHistoryCursor;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class ArchivedPointHistoryRepositoryImpl implements ArchivedPointHistoryRepository {
+
+    private final ArchivedPointHistoryJpaRepository archivedPointHistoryJpaRepository;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<ArchivedPointHistory> findPage(String userId, PointHistoryCondition condition,
+        PointHistoryCursor cursor, int limit) {
+        BooleanBuilder where = new BooleanBuilder(archivedPointHistory.userId.eq(userId));
+        if (condition.transactionType() != null) {
+            where.and(archivedPointHistory.transactionType.eq(condition.transactionType()));
+        }
+        if (condition.from() != null) {
+            where.and(archivedPointHistory.createdAt.goe(condition.from()));
+        }
+        if (condition.to() != null) {
+            where.and(archivedPointHistory.createdAt.lt(condition.to()));
+        }
+        if (cursor != null) {
+            where.and(archivedPointHistory.createdAt.lt(cursor.createdAt())
+                .or(archivedPointHistory.createdAt.eq(cursor.createdAt())
+                    .and(archivedPointHistory.id.lt(cursor.id()))));
+        }
+
+        return queryFactory.selectFrom(archivedPointHistory)
+            .where(where)
+            .orderBy(archivedPointHistory.createdAt.desc(), archivedPointHistory.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findArchivableIds(ZonedDateTime createdBefore, Long afterId, int limit) {
+        return archivedPointHistoryJpaRepository.findArchivableIds(createdBefore, afterId, limit);
+    }
+
+    @Override
+    public int archive(List<Long> historyIds) {
+        archivedPointHistoryJpaRepository.copyHistories(historyIds, ZonedDateTime.now());
+        return archivedPointHistoryJpaRepository.deleteHistories(historyIds);
+    }
+}
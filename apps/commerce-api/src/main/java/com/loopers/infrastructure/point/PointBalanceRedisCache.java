@@ -0,0 +1,146 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointBalanceCache;
+import com.loopers.domain.point.PointBalanceSnapshot;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 포인트 잔액의 Redis 캐시. 값은 "{version}:{pointId}:{balance}" 문자열이다.
+ *
+ * <p>쓰기는 마스터에서 Lua 로 캐시된 버전과 비교하여 더 새로운 버전만 기록하므로, 늦게 도착한 커밋이나 오래된 조회 결과가 최신 잔액을 덮어쓰지 않는다.
+ * 조회는 레플리카에서 읽는다. 레플리카 지연 동안은 직전 잔액이 보일 수 있지만, 변경 API 는 응답에 변경 후 잔액을 직접 돌려준다.
+ * Redis 장애는 캐시 미스로 취급한다.</p>
+ */
+@Slf4j
+@Component
+public class PointBalanceRedisCache implements PointBalanceCache {
+
+    private static final String KEY_PREFIX = "point:balance:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    /**
+     * KEYS[1] = 잔액 키, ARGV[1] = 버전, ARGV[2] = 값, ARGV[3] = TTL(ms)
+     */
+    private static final byte[] PUT_IF_NEWER_SCRIPT = """
+        local current = redis.call('GET', KEYS[1])
+        if current then
+            local version = tonumber(string.match(current, '^(%d+):'))
+            if version and version >= tonumber(ARGV[1]) then
+                return 0
+            end
+        end
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+
+    public PointBalanceRedisCache(
+        RedisTemplate<String, String> readTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> writeTemplate
+    ) {
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+    }
+
+    @Override
+    public Optional<PointBalanceSnapshot> get(String userId) {
+        try {
+            String cached = readTemplate.opsForValue().get(key(userId));
+            return Optional.ofNullable(cached).map(value -> parse(userId, value));
+        } catch (RuntimeException e) {
+            log.warn("포인트 잔액 캐시 조회에 실패했습니다. userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(PointBalanceSnapshot snapshot) {
+        putAll(List.of(snapshot));
+    }
+
+    @Override
+    public void putAfterCommit(Collection<Point> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putAll(snapshots(points));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putAll(snapshots(points));
+            }
+        });
+    }
+
+    private List<PointBalanceSnapshot> snapshots(Collection<Point> points) {
+        return points.stream()
+            .filter(point -> point.getVersion() != null)
+            .map(PointBalanceSnapshot::from)
+            .toList();
+    }
+
+    private void putAll(List<PointBalanceSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        byte[] ttl = String.valueOf(TTL.toMillis()).getBytes(StandardCharsets.UTF_8);
+        try {
+            writeTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (PointBalanceSnapshot snapshot : snapshots) {
+                    connection.scriptingCommands().eval(PUT_IF_NEWER_SCRIPT, ReturnType.INTEGER, 1,
+                        key(snapshot.userId()).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(snapshot.version()).getBytes(StandardCharsets.UTF_8),
+                        format(snapshot).getBytes(StandardCharsets.UTF_8),
+                        ttl);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 기록하지 못한 잔액은 TTL 이 지나기 전까지 이전 값이 보일 수 있으므로 제거를 시도한다.
+            log.warn("포인트 잔액 캐시 기록에 실패했습니다. 캐시를 제거합니다. 사용자={}명", snapshots.size(), e);
+            evict(snapshots);
+        }
+    }
+
+    private void evict(List<PointBalanceSnapshot> snapshots) {
+        try {
+            writeTemplate.delete(snapshots.stream().map(snapshot -> key(snapshot.userId())).toList());
+        } catch (RuntimeException e) {
+            log.warn("포인트 잔액 캐시 제거에 실패했습니다.", e);
+        }
+    }
+
+    private static String format(PointBalanceSnapshot snapshot) {
+        return snapshot.version() + ":" + snapshot.pointId() + ":" + snapshot.balance().toPlainString();
+    }
+
+    private static PointBalanceSnapshot parse(String userId, String value) {
+        String[] parts = value.split(":", 3);
+        return new PointBalanceSnapshot(Long.parseLong(parts[1]), userId, Long.parseLong(parts[0]),
+            new BigDecimal(parts[2]));
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointGrantCheckpoint;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PointGrantCheckpointJpaRepository extends JpaRepository<PointGrantCheckpoint, Long> {
+    Optional<PointGrantCheckpoint> findByGrantId(String grantId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM PointGrantCheckpoint c WHERE c.grantId = :grantId")
+    Optional<PointGrantCheckpoint> findByGrantIdWithLock(@Param("grantId") String grantId);
+}
@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointGrantCheckpoint;
+import com.loopers.domain.point.PointGrantCheckpointRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class PointGrantCheckpointRepositoryImpl implements PointGrantCheckpointRepository {
+    private final PointGrantCheckpointJpaRepository pointGrantCheckpointJpaRepository;
+
+    @Override
+    public PointGrantCheckpoint save(PointGrantCheckpoint checkpoint) {
+        return pointGrantCheckpointJpaRepository.save(checkpoint);
+    }
+
+    @Override
+    public Optional<PointGrantCheckpoint> findByGrantId(String grantId) {
+        return pointGrantCheckpointJpaRepository.findByGrantId(grantId);
+    }
+
+    @Override
+    public Optional<PointGrantCheckpoint> findByGrantIdWithLock(String grantId) {
+        return pointGrantCheckpointJpaRepository.findByGrantIdWithLock(grantId);
+    }
+}
@@ -0,0 +1,34 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointGrant;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 지급 청크를 (user_id, amount) 파생 테이블로 바인딩한다. 일괄 지급의 UPDATE ... JOIN 과 INSERT ... SELECT 가 같은 형태를 공유한다.
+ */
+final class PointGrantRows {
+
+    private PointGrantRows() {
+    }
+
+    static String derivedTable(int size) {
+        StringBuilder sql = new StringBuilder("(SELECT ? AS user_id, ? AS amount");
+        for (int i = 1; i < size; i++) {
+            sql.append(" UNION ALL SELECT ?, ?");
+        }
+        return sql.append(')').toString();
+    }
+
+    /**
+     * @return 다음에 바인딩할 파라미터 위치
+     */
+    static int bind(PreparedStatement ps, int index, List<PointGrant> grants) throws SQLException {
+        for (PointGrant grant : grants) {
+            ps.setString(index++, grant.userId());
+            ps.setBigDecimal(index++, grant.amount());
+        }
+        return index;
+    }
+}
@@ -1,9 +1,24 @@
 package com.loopers.infrastructure.point;
 
 import com.loopers.domain.point.PointHistory;
+import com.loopers.domain.point.PointLedgerTail;
+import com.loopers.domain.point.PointTransactionType;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PointHistoryJpaRepository extends JpaRepository<PointHistory, Long> {
-    List<PointHistory> findByUserIdOrderByCreatedAtDesc(String userId);
+    @Query("SELECT new com.loopers.domain.point.PointLedgerTail("
+        + "COALESCE(MAX(h.sequence), :afterSequence), "
+        + "COALESCE(SUM(CASE WHEN h.transactionType = :useType THEN -h.amount ELSE h.amount END), 0)) "
+        + "FROM PointHistory h WHERE h.userId = :userId AND h.sequence > :afterSequence")
+    PointLedgerTail findLedgerTail(@Param("userId") String userId, @Param("afterSequence") long afterSequence,
+        @Param("useType") PointTransactionType useType);
+
+    @Query("SELECT DISTINCT h.userId FROM PointHistory h, Point p "
+        + "WHERE p.userId = h.userId AND h.sequence > p.snapshotSequence AND h.userId > :afterUserId "
+        + "ORDER BY h.userId")
+    List<String> findUserIdsWithLedgerTail(@Param("afterUserId") String afterUserId, Pageable pageable);
 }
@@ -1,15 +1,32 @@
 package com.loopers.infrastructure.point;
 
+import static com.loopers.domain.point.QPointHistory.pointHistory;
+
+import com.loopers.domain.point.PointGrant;
 import com.loopers.domain.point.PointHistory;
+import com.loopers.domain.point.PointHistoryCondition;
+import com.loopers.domain.point.PointHistoryCursor;
 import com.loopers.domain.point.PointHistoryRepository;
+import com.loopers.domain.point.PointLedgerTail;
+import com.loopers.domain.point.PointTransactionType;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
 import java.util.List;
+import java.util.TimeZone;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
 @Component
 public class PointHistoryRepositoryImpl implements PointHistoryRepository {
     private final PointHistoryJpaRepository pointHistoryJpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public PointHistory save(PointHistory pointHistory) {
@@ -17,7 +34,64 @@ public class PointHistoryRepositoryImpl implements PointHistoryRepository {
     }
 
     @Override
-    public List<PointHistory> findByUserIdOrderByCreatedAtDesc(String userId) {
-        return pointHistoryJpaRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    public PointLedgerTail findLedgerTail(String userId, long afterSequence) {
+        return pointHistoryJpaRepository.findLedgerTail(userId, afterSequence, PointTransactionType.USE);
+    }
+
+    @Override
+    public List<String> findUserIdsWithLedgerTail(String afterUserId, int limit) {
+        return pointHistoryJpaRepository.findUserIdsWithLedgerTail(afterUserId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<PointHistory> findPage(String userId, PointHistoryCondition condition, PointHistoryCursor cursor,
+        int limit) {
+        // 값이 있는 조건만 WHERE 절에 포함시켜 (user_id, created_at) 인덱스 범위 스캔이 유지되도록 한다.
+        BooleanBuilder where = new BooleanBuilder(pointHistory.userId.eq(userId));
+        if (condition.transactionType() != null) {
+            where.and(pointHistory.transactionType.eq(condition.transactionType()));
+        }
+        if (condition.from() != null) {
+            where.and(pointHistory.createdAt.goe(condition.from()));
+        }
+        if (condition.to() != null) {
+            where.and(pointHistory.createdAt.lt(condition.to()));
+        }
+        if (cursor != null) {
+            where.and(pointHistory.createdAt.lt(cursor.createdAt())
+                .or(pointHistory.createdAt.eq(cursor.createdAt()).and(pointHistory.id.lt(cursor.id()))));
+        }
+
+        return queryFactory.selectFrom(pointHistory)
+            .where(where)
+            .orderBy(pointHistory.createdAt.desc(), pointHistory.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public int saveAllGranted(List<PointGrant> grants, String description, ZonedDateTime grantedAt) {
+        if (grants.isEmpty()) {
+            return 0;
+        }
+        String sql = "INSERT INTO point_histories"
+            + " (user_id, transaction_type, amount, balance_after, description, created_at, updated_at)"
+            + " SELECT p.user_id, ?, g.amount, p.balance, ?, ?, ?"
+            + " FROM points p JOIN " + PointGrantRows.derivedTable(grants.size()) + " g"
+            + " ON g.user_id = p.user_id"
+            + " WHERE p.deleted_at IS NULL";
+        Timestamp timestamp = Timestamp.from(grantedAt.toInstant());
+        return jdbcTemplate.update(sql, ps -> {
+            ps.setString(1, PointTransactionType.CHARGE.name());
+            ps.setString(2, description);
+            ps.setTimestamp(3, timestamp, utcCalendar());
+            ps.setTimestamp(4, timestamp, utcCalendar());
+            PointGrantRows.bind(ps, 5, grants);
+        });
+    }
+
+    // hibernate.jdbc.time_zone: UTC 와 동일한 기준으로 저장한다.
+    private static Calendar utcCalendar() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
     }
 }
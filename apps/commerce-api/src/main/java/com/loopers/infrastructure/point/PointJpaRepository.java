@@ -2,6 +2,7 @@ package com.loopers.infrastructure.point;
 
 import com.loopers.domain.point.Point;
 import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -15,5 +16,11 @@ public interface PointJpaRepository extends JpaRepository<Point, Long> {
     @Query("SELECT p FROM Point p WHERE p.userId = :userId")
     Optional<Point> findByUserIdWithLock(@Param("userId") String userId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Point p WHERE p.userId IN :userIds ORDER BY p.userId")
+    List<Point> findAllByUserIdInWithLock(@Param("userIds") List<String> userIds);
+
+    List<Point> findAllByUserIdIn(List<String> userIds);
+
     boolean existsByUserId(String userId);
 }
@@ -1,15 +1,23 @@
 package com.loopers.infrastructure.point;
 
 import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointGrant;
 import com.loopers.domain.point.PointRepository;
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.List;
 import java.util.Optional;
+import java.util.TimeZone;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
 @Component
 public class PointRepositoryImpl implements PointRepository {
     private final PointJpaRepository pointJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Point save(Point point) {
@@ -26,8 +34,38 @@ public class PointRepositoryImpl implements PointRepository {
         return pointJpaRepository.findByUserIdWithLock(userId);
     }
 
+    @Override
+    public List<Point> findAllByUserIdInWithLock(List<String> userIds) {
+        return pointJpaRepository.findAllByUserIdInWithLock(userIds);
+    }
+
+    @Override
+    public List<Point> findAllByUserIdIn(List<String> userIds) {
+        return pointJpaRepository.findAllByUserIdIn(userIds);
+    }
+
     @Override
     public boolean existsByUserId(String userId) {
         return pointJpaRepository.existsByUserId(userId);
     }
+
+    @Override
+    public int grantAll(List<PointGrant> grants, ZonedDateTime grantedAt) {
+        if (grants.isEmpty()) {
+            return 0;
+        }
+        String sql = "UPDATE points p JOIN " + PointGrantRows.derivedTable(grants.size()) + " g"
+            + " ON g.user_id = p.user_id"
+            + " SET p.balance = p.balance + g.amount, p.version = p.version + 1, p.updated_at = ?"
+            + " WHERE p.deleted_at IS NULL";
+        return jdbcTemplate.update(sql, ps -> {
+            int index = PointGrantRows.bind(ps, 1, grants);
+            ps.setTimestamp(index, Timestamp.from(grantedAt.toInstant()), utcCalendar());
+        });
+    }
+
+    // hibernate.jdbc.time_zone: UTC 와 동일한 기준으로 저장한다.
+    private static Calendar utcCalendar() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
 }
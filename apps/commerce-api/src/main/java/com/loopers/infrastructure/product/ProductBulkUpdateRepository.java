@@ -0,0 +1,11 @@
+package com.loopers.infrastructure.product;
+
+import java.util.Map;
+
+/**
+ * 여러 상품의 재고를 한 번의 UPDATE 로 변경하기 위한 Spring Data 커스텀 fragment.
+ */
+public interface ProductBulkUpdateRepository {
+
+    int restoreStocks(Map<Long, Integer> quantitiesByProductId);
+}
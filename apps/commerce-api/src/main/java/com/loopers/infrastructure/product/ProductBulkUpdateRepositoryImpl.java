@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class ProductBulkUpdateRepositoryImpl implements ProductBulkUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * UPDATE Product SET stock = stock + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+     * 벌크 연산은 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 이미 로딩된 상품 엔티티는 갱신되지 않는다.
+     */
+    @Override
+    public int restoreStocks(Map<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> productIds = new ArrayList<>(quantitiesByProductId.keySet());
+        StringBuilder jpql = new StringBuilder("UPDATE Product p SET p.stock = p.stock + CASE p.id");
+        for (int i = 0; i < productIds.size(); i++) {
+            jpql.append(" WHEN :id").append(i).append(" THEN :quantity").append(i);
+        }
+        jpql.append(" ELSE 0 END, p.version = p.version + 1, p.updatedAt = :now WHERE p.id IN :ids");
+
+        // 동일 트랜잭션의 변경 사항(주문 취소 상태 등)을 먼저 반영한 뒤 벌크 UPDATE 를 수행한다.
+        entityManager.flush();
+        Query query = entityManager.createQuery(jpql.toString());
+        for (int i = 0; i < productIds.size(); i++) {
+            Long productId = productIds.get(i);
+            query.setParameter("id" + i, productId);
+            query.setParameter("quantity" + i, quantitiesByProductId.get(productId));
+        }
+        query.setParameter("now", ZonedDateTime.now());
+        query.setParameter("ids", productIds);
+        return query.executeUpdate();
+    }
+}
@@ -13,13 +13,19 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ProductJpaRepository extends JpaRepository<Product, Long>, ProductRepository {
+public interface ProductJpaRepository extends JpaRepository<Product, Long>, ProductRepository,
+    ProductBulkUpdateRepository {
 
     @Override
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdInWithLock(@Param("ids") List<Long> ids);
+
     @Override
     @Query("SELECT p FROM Product p WHERE p.deletedAt IS NULL")
     Page<Product> findAll(Pageable pageable);
@@ -32,6 +38,7 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long>, Prod
     @Query("SELECT p FROM Product p WHERE p.id IN :ids AND p.deletedAt IS NULL")
     List<Product> findByIdIn(@Param("ids") List<Long> ids);
 
+
     @Override
     default Page<Product> findAllSorted(Pageable pageable, ProductSortType sortType) {
         return switch (sortType) {
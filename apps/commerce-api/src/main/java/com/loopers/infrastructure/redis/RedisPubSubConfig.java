@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.redis;
+
+import com.loopers.config.redis.RedisProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 구독 설정.
+ *
+ * <p>Lettuce 의 Master/Replica 연결은 Pub/Sub 을 지원하지 않으므로, 구독은 마스터 노드에 대한 단독 연결로 수행한다.
+ * 발행은 기존 마스터 템플릿으로 한다.</p>
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    public static final String CONNECTION_PUB_SUB = "redisConnectionPubSub";
+
+    @Qualifier(CONNECTION_PUB_SUB)
+    @Bean
+    public LettuceConnectionFactory pubSubRedisConnectionFactory(RedisProperties redisProperties) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+            redisProperties.master().host(),
+            redisProperties.master().port()
+        );
+        configuration.setDatabase(redisProperties.database());
+        return new LettuceConnectionFactory(configuration);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        @Qualifier(CONNECTION_PUB_SUB) LettuceConnectionFactory connectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -1,10 +1,17 @@
 package com.loopers.infrastructure.user;
 
 import com.loopers.domain.user.User;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserJpaRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(String userId);
     boolean existsByUserId(String userId);
+
+    @Query("SELECT u.userId FROM User u WHERE u.userId > :afterUserId ORDER BY u.userId")
+    List<String> findUserIdsAfter(@Param("afterUserId") String afterUserId, Limit limit);
 }
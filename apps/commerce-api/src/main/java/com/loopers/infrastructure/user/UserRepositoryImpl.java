@@ -2,8 +2,10 @@ package com.loopers.infrastructure.user;
 
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserRepository;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -25,4 +27,14 @@ public class UserRepositoryImpl implements UserRepository {
     public boolean existsByUserId(String userId) {
         return userJpaRepository.existsByUserId(userId);
     }
+
+    @Override
+    public List<String> findUserIdsAfter(String afterUserId, int limit) {
+        return userJpaRepository.findUserIdsAfter(afterUserId, Limit.of(limit));
+    }
+
+    @Override
+    public long count() {
+        return userJpaRepository.count();
+    }
 }
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -102,6 +103,12 @@ public class ApiControllerAdvice {
         }
     }
 
+    @ExceptionHandler
+    public ResponseEntity<ApiResponse<?>> handleConflict(OptimisticLockingFailureException e) {
+        log.warn("OptimisticLockingFailureException : {}", e.getMessage());
+        return failureResponse(ErrorType.CONFLICT, "동시에 같은 데이터가 변경되었습니다. 다시 시도해주세요.");
+    }
+
     @ExceptionHandler
     public ResponseEntity<ApiResponse<?>> handleNotFound(NoResourceFoundException e) {
         return failureResponse(ErrorType.NOT_FOUND, null);
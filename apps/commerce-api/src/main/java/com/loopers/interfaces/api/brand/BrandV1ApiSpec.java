@@ -43,4 +43,13 @@ public interface BrandV1ApiSpec {
         Long brandId,
         BrandV1Dto.UpdateBrandRequest request
     );
+
+    @Operation(
+        summary = "브랜드 상품 통계 조회",
+        description = "브랜드의 상품 수, 재고 보유 상품 수, 최저/최고가, 총 좋아요 수를 조회합니다."
+    )
+    ApiResponse<BrandV1Dto.BrandStatsResponse> getBrandStats(
+        @Schema(description = "브랜드 ID")
+        Long brandId
+    );
 }
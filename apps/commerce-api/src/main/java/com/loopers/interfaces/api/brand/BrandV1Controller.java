@@ -2,6 +2,8 @@ package com.loopers.interfaces.api.brand;
 
 import com.loopers.application.brand.BrandInfo;
 import com.loopers.application.brand.BrandService;
+import com.loopers.application.brand.BrandStatsInfo;
+import com.loopers.application.brand.BrandStatsService;
 import com.loopers.domain.brand.Brand;
 import com.loopers.interfaces.api.ApiResponse;
 import jakarta.validation.Valid;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class BrandV1Controller implements BrandV1ApiSpec {
 
     private final BrandService brandService;
+    private final BrandStatsService brandStatsService;
 
     @PostMapping
     @Override
@@ -38,19 +41,27 @@ public class BrandV1Controller implements BrandV1ApiSpec {
     public ApiResponse<BrandV1Dto.BrandResponse> getBrand(
         @PathVariable Long brandId
     ) {
-        Brand brand = brandService.getBrand(brandId);
-        BrandInfo brandInfo = BrandInfo.from(brand);
+        BrandInfo brandInfo = brandService.getBrand(brandId);
         BrandV1Dto.BrandResponse response = BrandV1Dto.BrandResponse.from(brandInfo);
         return ApiResponse.success(response);
     }
 
+    @GetMapping("/{brandId}/stats")
+    @Override
+    public ApiResponse<BrandV1Dto.BrandStatsResponse> getBrandStats(
+        @PathVariable Long brandId
+    ) {
+        BrandStatsInfo brandStatsInfo = brandStatsService.getStats(brandId);
+        BrandV1Dto.BrandStatsResponse response = BrandV1Dto.BrandStatsResponse.from(brandStatsInfo);
+        return ApiResponse.success(response);
+    }
+
     @GetMapping("/search")
     @Override
     public ApiResponse<BrandV1Dto.BrandResponse> getBrandByName(
         @RequestParam String name
     ) {
-        Brand brand = brandService.getBrandByName(name);
-        BrandInfo brandInfo = BrandInfo.from(brand);
+        BrandInfo brandInfo = brandService.getBrandByName(name);
         BrandV1Dto.BrandResponse response = BrandV1Dto.BrandResponse.from(brandInfo);
         return ApiResponse.success(response);
     }
@@ -1,7 +1,9 @@
 package com.loopers.interfaces.api.brand;
 
 import com.loopers.application.brand.BrandInfo;
+import com.loopers.application.brand.BrandStatsInfo;
 import jakarta.validation.constraints.NotBlank;
+import java.math.BigDecimal;
 
 public class BrandV1Dto {
 
@@ -31,4 +33,24 @@ public class BrandV1Dto {
             );
         }
     }
+
+    public record BrandStatsResponse(
+        Long brandId,
+        long productCount,
+        long inStockCount,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        long likeCount
+    ) {
+        public static BrandStatsResponse from(BrandStatsInfo info) {
+            return new BrandStatsResponse(
+                info.brandId(),
+                info.productCount(),
+                info.inStockCount(),
+                info.minPrice(),
+                info.maxPrice(),
+                info.likeCount()
+            );
+        }
+    }
 }
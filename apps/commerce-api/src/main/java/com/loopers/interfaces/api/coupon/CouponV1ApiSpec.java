@@ -43,6 +43,17 @@ public interface CouponV1ApiSpec {
         Long couponId
     );
 
+    @Operation(
+        summary = "선착순 쿠폰 발급",
+        description = "발급 수량이 제한된 쿠폰을 선착순으로 발급합니다. 순번이 확보되면 보유 쿠폰 목록에는 비동기로 반영되며, 발급 큐 적재 확인이 지연되면 pending 으로 응답합니다."
+    )
+    ApiResponse<CouponV1Dto.ClaimCouponResponse> claimCoupon(
+        @Schema(description = "사용자 ID")
+        String userId,
+        @Schema(description = "쿠폰 ID")
+        Long couponId
+    );
+
     @Operation(
         summary = "사용자 쿠폰 목록 조회",
         description = "특정 사용자가 보유한 모든 쿠폰을 조회합니다."
@@ -1,6 +1,9 @@
 package com.loopers.interfaces.api.coupon;
 
+import com.loopers.application.coupon.CouponClaimInfo;
+import com.loopers.application.coupon.CouponIssueEngine;
 import com.loopers.application.coupon.CouponService;
+import com.loopers.application.coupon.UserCouponInfo;
 import com.loopers.domain.coupon.Coupon;
 import com.loopers.domain.coupon.UserCoupon;
 import com.loopers.interfaces.api.ApiResponse;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CouponV1Controller implements CouponV1ApiSpec {
 
     private final CouponService couponService;
+    private final CouponIssueEngine couponIssueEngine;
 
     @PostMapping
     @Override
@@ -31,6 +35,9 @@ public class CouponV1Controller implements CouponV1ApiSpec {
             .type(request.type())
             .discountValue(request.discountValue())
             .description(request.description())
+            .issueLimit(request.issueLimit())
+            .validFrom(request.validFrom())
+            .validUntil(request.validUntil())
             .build();
 
         Coupon createdCoupon = couponService.createCoupon(coupon);
@@ -70,6 +77,16 @@ public class CouponV1Controller implements CouponV1ApiSpec {
         return ApiResponse.success(response);
     }
 
+    @PostMapping("/users/{userId}/claim/{couponId}")
+    @Override
+    public ApiResponse<CouponV1Dto.ClaimCouponResponse> claimCoupon(
+        @PathVariable String userId,
+        @PathVariable Long couponId
+    ) {
+        CouponClaimInfo claimInfo = couponIssueEngine.issue(userId, couponId);
+        return ApiResponse.success(CouponV1Dto.ClaimCouponResponse.of(couponId, userId, claimInfo));
+    }
+
     @GetMapping("/users/{userId}")
     @Override
     public ApiResponse<List<CouponV1Dto.UserCouponResponse>> getUserCoupons(
@@ -87,7 +104,7 @@ public class CouponV1Controller implements CouponV1ApiSpec {
     public ApiResponse<List<CouponV1Dto.UserCouponResponse>> getAvailableUserCoupons(
         @PathVariable String userId
     ) {
-        List<UserCoupon> userCoupons = couponService.getAvailableUserCoupons(userId);
+        List<UserCouponInfo> userCoupons = couponService.getAvailableUserCouponInfos(userId);
         List<CouponV1Dto.UserCouponResponse> response = userCoupons.stream()
             .map(CouponV1Dto.UserCouponResponse::from)
             .toList();
@@ -1,5 +1,8 @@
 package com.loopers.interfaces.api.coupon;
 
+import com.loopers.application.coupon.CouponClaimInfo;
+import com.loopers.application.coupon.CouponInfo;
+import com.loopers.application.coupon.UserCouponInfo;
 import com.loopers.domain.coupon.Coupon;
 import com.loopers.domain.coupon.CouponType;
 import com.loopers.domain.coupon.UserCoupon;
@@ -19,7 +22,11 @@ public class CouponV1Dto {
         @NotNull(message = "할인 값은 필수입니다.")
         @Positive(message = "할인 값은 0보다 커야 합니다.")
         BigDecimal discountValue,
-        String description
+        String description,
+        @Positive(message = "발급 수량은 1개 이상이어야 합니다.")
+        Integer issueLimit,
+        ZonedDateTime validFrom,
+        ZonedDateTime validUntil
     ) {
     }
 
@@ -28,7 +35,10 @@ public class CouponV1Dto {
         String name,
         CouponType type,
         BigDecimal discountValue,
-        String description
+        String description,
+        Integer issueLimit,
+        ZonedDateTime validFrom,
+        ZonedDateTime validUntil
     ) {
         public static CouponResponse from(Coupon coupon) {
             return new CouponResponse(
@@ -36,7 +46,23 @@ public class CouponV1Dto {
                 coupon.getName(),
                 coupon.getType(),
                 coupon.getDiscountValue(),
-                coupon.getDescription()
+                coupon.getDescription(),
+                coupon.getIssueLimit(),
+                coupon.getValidFrom(),
+                coupon.getValidUntil()
+            );
+        }
+
+        public static CouponResponse from(CouponInfo coupon) {
+            return new CouponResponse(
+                coupon.id(),
+                coupon.name(),
+                coupon.type(),
+                coupon.discountValue(),
+                coupon.description(),
+                coupon.issueLimit(),
+                coupon.validFrom(),
+                coupon.validUntil()
             );
         }
     }
@@ -59,5 +85,27 @@ public class CouponV1Dto {
                 userCoupon.getCreatedAt()
             );
         }
+
+        public static UserCouponResponse from(UserCouponInfo userCoupon) {
+            return new UserCouponResponse(
+                userCoupon.id(),
+                userCoupon.userId(),
+                CouponResponse.from(userCoupon.coupon()),
+                userCoupon.isUsed(),
+                userCoupon.usedAt(),
+                userCoupon.createdAt()
+            );
+        }
+    }
+
+    public record ClaimCouponResponse(
+        Long couponId,
+        String userId,
+        long issueNumber,
+        boolean pending
+    ) {
+        public static ClaimCouponResponse of(Long couponId, String userId, CouponClaimInfo claimInfo) {
+            return new ClaimCouponResponse(couponId, userId, claimInfo.issueNumber(), claimInfo.pending());
+        }
     }
 }
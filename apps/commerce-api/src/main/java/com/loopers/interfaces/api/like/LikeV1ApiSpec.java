@@ -42,6 +42,20 @@ public interface LikeV1ApiSpec {
         Pageable pageable
     );
 
+    @Operation(
+        summary = "좋아요한 상품 목록 조회",
+        description = "사용자가 좋아요한 상품을 최근 순으로 조회합니다. 상품의 가격, 재고, 브랜드, 좋아요 수를 함께 반환하며 "
+            + "응답의 nextCursor 로 다음 페이지를 조회합니다."
+    )
+    ApiResponse<LikeV1Dto.LikedProductsResponse> getLikedProducts(
+        @Schema(description = "사용자 ID")
+        String userId,
+        @Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        String cursor,
+        @Schema(description = "페이지 크기 (최대 100)")
+        int size
+    );
+
     @Operation(
         summary = "상품 좋아요 수 조회",
         description = "특정 상품의 좋아요 수를 조회합니다."
@@ -1,6 +1,7 @@
 package com.loopers.interfaces.api.like;
 
 import com.loopers.application.like.LikeService;
+import com.loopers.application.like.LikedProductPage;
 import com.loopers.domain.like.Like;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -51,6 +53,18 @@ public class LikeV1Controller implements LikeV1ApiSpec {
         return ApiResponse.success(response);
     }
 
+    @GetMapping("/users/{userId}/products")
+    @Override
+    public ApiResponse<LikeV1Dto.LikedProductsResponse> getLikedProducts(
+        @PathVariable String userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + LikeService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        LikedProductPage page = likeService.getLikedProducts(userId, cursor, size);
+        LikeV1Dto.LikedProductsResponse response = LikeV1Dto.LikedProductsResponse.from(page);
+        return ApiResponse.success(response);
+    }
+
     @GetMapping("/products/{productId}/count")
     @Override
     public ApiResponse<LikeV1Dto.LikeCountResponse> getLikeCount(
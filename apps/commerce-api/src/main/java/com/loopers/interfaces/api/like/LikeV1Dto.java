@@ -1,6 +1,11 @@
 package com.loopers.interfaces.api.like;
 
+import com.loopers.application.like.LikedProductInfo;
+import com.loopers.application.like.LikedProductPage;
 import com.loopers.domain.like.Like;
+import com.loopers.interfaces.api.product.ProductV1Dto;
+import java.time.ZonedDateTime;
+import java.util.List;
 
 public class LikeV1Dto {
 
@@ -18,6 +23,31 @@ public class LikeV1Dto {
         }
     }
 
+    public record LikedProductResponse(
+        ZonedDateTime likedAt,
+        ProductV1Dto.ProductResponse product
+    ) {
+        public static LikedProductResponse from(LikedProductInfo info) {
+            return new LikedProductResponse(
+                info.likedAt(),
+                ProductV1Dto.ProductResponse.from(info.product())
+            );
+        }
+    }
+
+    public record LikedProductsResponse(
+        List<LikedProductResponse> products,
+        String nextCursor,
+        boolean hasNext
+    ) {
+        public static LikedProductsResponse from(LikedProductPage page) {
+            List<LikedProductResponse> products = page.products().stream()
+                .map(LikedProductResponse::from)
+                .toList();
+            return new LikedProductsResponse(products, page.nextCursor(), page.hasNext());
+        }
+    }
+
     public record LikeCountResponse(
         Long productId,
         Long likeCount
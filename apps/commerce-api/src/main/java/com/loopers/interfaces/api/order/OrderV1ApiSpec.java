@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.order;
 
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
@@ -12,14 +13,50 @@ public interface OrderV1ApiSpec {
 
     @Operation(
         summary = "주문 생성",
-        description = "새로운 주문을 생성합니다. 쿠폰 적용, 재고 차감, 포인트 차감이 원자적으로 처리됩니다."
+        description = "새로운 주문을 생성합니다. 쿠폰 적용, 재고 차감, 포인트 차감이 원자적으로 처리됩니다. "
+            + "Idempotency-Key 헤더를 전달하면 동일 키의 재시도는 최초 결과를 그대로 반환합니다."
     )
     ApiResponse<OrderV1Dto.OrderResponse> createOrder(
         @Schema(description = "사용자 ID")
         String userId,
+        @Parameter(description = "멱등 키 (재시도 시 동일한 값 전달)")
+        String idempotencyKey,
         OrderV1Dto.CreateOrderRequest request
     );
 
+    @Operation(
+        summary = "주문 금액 미리보기",
+        description = "장바구니의 주문 금액과 사용 가능한 쿠폰별 할인 금액을 계산하여 최적의 쿠폰을 알려줍니다. "
+            + "재고/쿠폰/포인트를 점유하거나 변경하지 않습니다."
+    )
+    ApiResponse<OrderV1Dto.PreviewOrderResponse> previewOrder(
+        @Schema(description = "사용자 ID")
+        String userId,
+        OrderV1Dto.PreviewOrderRequest request
+    );
+
+    @Operation(
+        summary = "비동기 주문 접수",
+        description = "주문을 PENDING 상태로 빠르게 접수합니다. 재고/쿠폰/포인트 차감은 백그라운드 정산에서 처리되며, "
+            + "결과는 주문 상태 조회 API 로 확인합니다."
+    )
+    ApiResponse<OrderV1Dto.OrderResponse> acceptOrder(
+        @Schema(description = "사용자 ID")
+        String userId,
+        @Parameter(description = "멱등 키 (재시도 시 동일한 값 전달)")
+        String idempotencyKey,
+        OrderV1Dto.CreateOrderRequest request
+    );
+
+    @Operation(
+        summary = "주문 상태 조회",
+        description = "비동기 주문의 정산 진행 상태(PENDING/COMPLETED/FAILED)를 조회합니다."
+    )
+    ApiResponse<OrderV1Dto.OrderStatusResponse> getOrderStatus(
+        @Schema(description = "주문 ID")
+        Long orderId
+    );
+
     @Operation(
         summary = "주문 조회",
         description = "주문 ID로 주문 상세 정보를 조회합니다."
@@ -49,4 +86,12 @@ public interface OrderV1ApiSpec {
         @Schema(description = "사용자 ID")
         String userId
     );
+
+    @Operation(
+        summary = "주문 일괄 취소 (관리자)",
+        description = "여러 주문을 한 번에 취소합니다. 재고는 상품별로 합산하여 일괄 복구되고, 포인트는 사용자별로 합산하여 환불됩니다."
+    )
+    ApiResponse<OrderV1Dto.BulkCancelResponse> cancelOrders(
+        OrderV1Dto.BulkCancelRequest request
+    );
 }
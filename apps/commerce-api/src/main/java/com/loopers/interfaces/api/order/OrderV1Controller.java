@@ -2,9 +2,13 @@ package com.loopers.interfaces.api.order;
 
 import com.loopers.application.order.OrderCommand;
 import com.loopers.application.order.OrderCommand.OrderItemRequest;
+import com.loopers.application.order.OrderBulkCancelInfo;
 import com.loopers.application.order.OrderFacade;
 import com.loopers.application.order.OrderInfo;
+import com.loopers.application.order.OrderPreviewInfo;
+import com.loopers.application.order.OrderStatusInfo;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.idempotency.IdempotencyExecutor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,11 +28,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderV1Controller implements OrderV1ApiSpec {
 
     private final OrderFacade orderFacade;
+    private final IdempotencyExecutor idempotencyExecutor;
 
     @PostMapping("/users/{userId}")
     @Override
     public ApiResponse<OrderV1Dto.OrderResponse> createOrder(
         @PathVariable String userId,
+        @RequestHeader(value = IdempotencyExecutor.HEADER_NAME, required = false) String idempotencyKey,
         @Valid @RequestBody OrderV1Dto.CreateOrderRequest request
     ) {
         OrderCommand.Create command = new OrderCommand.Create(
@@ -37,11 +44,69 @@ public class OrderV1Controller implements OrderV1ApiSpec {
             request.userCouponId()
         );
 
-        OrderInfo orderInfo = orderFacade.createOrder(userId, command);
+        OrderInfo orderInfo = idempotencyExecutor.execute(
+            "order:create:" + userId,
+            idempotencyKey,
+            request,
+            OrderInfo.class,
+            () -> orderFacade.createOrder(userId, command)
+        );
+        OrderV1Dto.OrderResponse response = OrderV1Dto.OrderResponse.from(orderInfo);
+        return ApiResponse.success(response);
+    }
+
+    @PostMapping("/users/{userId}/preview")
+    @Override
+    public ApiResponse<OrderV1Dto.PreviewOrderResponse> previewOrder(
+        @PathVariable String userId,
+        @Valid @RequestBody OrderV1Dto.PreviewOrderRequest request
+    ) {
+        OrderCommand.Preview command = new OrderCommand.Preview(
+            request.orderItems().stream()
+                .map(item -> new OrderItemRequest(item.productId(), item.quantity()))
+                .toList()
+        );
+
+        OrderPreviewInfo previewInfo = orderFacade.previewOrder(userId, command);
+        OrderV1Dto.PreviewOrderResponse response = OrderV1Dto.PreviewOrderResponse.from(previewInfo);
+        return ApiResponse.success(response);
+    }
+
+    @PostMapping("/users/{userId}/async")
+    @Override
+    public ApiResponse<OrderV1Dto.OrderResponse> acceptOrder(
+        @PathVariable String userId,
+        @RequestHeader(value = IdempotencyExecutor.HEADER_NAME, required = false) String idempotencyKey,
+        @Valid @RequestBody OrderV1Dto.CreateOrderRequest request
+    ) {
+        OrderCommand.Create command = new OrderCommand.Create(
+            request.orderItems().stream()
+                .map(item -> new OrderItemRequest(item.productId(), item.quantity()))
+                .toList(),
+            request.userCouponId()
+        );
+
+        OrderInfo orderInfo = idempotencyExecutor.execute(
+            "order:accept:" + userId,
+            idempotencyKey,
+            request,
+            OrderInfo.class,
+            () -> orderFacade.acceptOrder(userId, command)
+        );
         OrderV1Dto.OrderResponse response = OrderV1Dto.OrderResponse.from(orderInfo);
         return ApiResponse.success(response);
     }
 
+    @GetMapping("/{orderId}/status")
+    @Override
+    public ApiResponse<OrderV1Dto.OrderStatusResponse> getOrderStatus(
+        @PathVariable Long orderId
+    ) {
+        OrderStatusInfo statusInfo = orderFacade.getOrderStatus(orderId);
+        OrderV1Dto.OrderStatusResponse response = OrderV1Dto.OrderStatusResponse.from(statusInfo);
+        return ApiResponse.success(response);
+    }
+
     @GetMapping("/{orderId}")
     @Override
     public ApiResponse<OrderV1Dto.OrderResponse> getOrder(
@@ -73,4 +138,14 @@ public class OrderV1Controller implements OrderV1ApiSpec {
         orderFacade.cancelOrder(orderId, userId);
         return ApiResponse.success(null);
     }
+
+    @PostMapping("/admin/cancel")
+    @Override
+    public ApiResponse<OrderV1Dto.BulkCancelResponse> cancelOrders(
+        @Valid @RequestBody OrderV1Dto.BulkCancelRequest request
+    ) {
+        OrderBulkCancelInfo result = orderFacade.cancelOrders(request.orderIds());
+        OrderV1Dto.BulkCancelResponse response = OrderV1Dto.BulkCancelResponse.from(result);
+        return ApiResponse.success(response);
+    }
 }
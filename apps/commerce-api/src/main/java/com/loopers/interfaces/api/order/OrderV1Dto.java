@@ -1,8 +1,12 @@
 package com.loopers.interfaces.api.order;
 
+import com.loopers.application.order.OrderBulkCancelInfo;
 import com.loopers.application.order.OrderInfo;
 import com.loopers.application.order.OrderItemInfo;
+import com.loopers.application.order.OrderPreviewInfo;
+import com.loopers.application.order.OrderStatusInfo;
 import com.loopers.domain.order.OrderStatus;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -51,6 +55,84 @@ public class OrderV1Dto {
         }
     }
 
+    public record PreviewOrderRequest(
+        @NotEmpty(message = "주문 항목은 비어있을 수 없습니다.")
+        List<@Valid OrderItemRequest> orderItems
+    ) {
+    }
+
+    public record PreviewOrderResponse(
+        BigDecimal totalAmount,
+        BigDecimal discountAmount,
+        BigDecimal paymentAmount,
+        Long bestUserCouponId,
+        List<CouponDiscountResponse> coupons
+    ) {
+        public static PreviewOrderResponse from(OrderPreviewInfo info) {
+            return new PreviewOrderResponse(
+                info.totalAmount(),
+                info.discountAmount(),
+                info.paymentAmount(),
+                info.bestUserCouponId(),
+                info.coupons().stream()
+                    .map(CouponDiscountResponse::from)
+                    .toList()
+            );
+        }
+    }
+
+    public record CouponDiscountResponse(
+        Long userCouponId,
+        Long couponId,
+        String couponName,
+        BigDecimal discountAmount
+    ) {
+        public static CouponDiscountResponse from(OrderPreviewInfo.CouponDiscount discount) {
+            return new CouponDiscountResponse(
+                discount.userCouponId(),
+                discount.couponId(),
+                discount.couponName(),
+                discount.discountAmount()
+            );
+        }
+    }
+
+    public record BulkCancelRequest(
+        @NotEmpty(message = "취소할 주문 ID는 비어있을 수 없습니다.")
+        List<@NotNull Long> orderIds
+    ) {
+    }
+
+    public record BulkCancelResponse(
+        List<Long> canceledOrderIds,
+        List<Long> skippedOrderIds,
+        List<Long> failedOrderIds
+    ) {
+        public static BulkCancelResponse from(OrderBulkCancelInfo info) {
+            return new BulkCancelResponse(
+                info.canceledOrderIds(),
+                info.skippedOrderIds(),
+                info.failedOrderIds()
+            );
+        }
+    }
+
+    public record OrderStatusResponse(
+        Long orderId,
+        OrderStatus status,
+        boolean settlementPending,
+        String failureReason
+    ) {
+        public static OrderStatusResponse from(OrderStatusInfo info) {
+            return new OrderStatusResponse(
+                info.orderId(),
+                info.status(),
+                info.settlementPending(),
+                info.failureReason()
+            );
+        }
+    }
+
     public record OrderItemResponse(
         Long id,
         Long productId,
@@ -0,0 +1,89 @@
+package com.loopers.interfaces.api.point;
+
+import com.loopers.domain.point.PointGrant;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * "userId,amount" 형식의 일괄 지급 입력을 한 줄씩 읽는다. 요청 본문 전체를 메모리에 올리지 않는다.
+ *
+ * <p>첫 줄이 {@link #HEADER} 이면 건너뛰고, 빈 줄은 무시한다. 형식이 잘못된 줄은 줄 번호와 함께 BAD_REQUEST 로 실패한다.</p>
+ */
+final class PointGrantCsvReader implements Iterator<PointGrant> {
+
+    static final String HEADER = "userId,amount";
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private PointGrant next;
+
+    PointGrantCsvReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public PointGrant next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PointGrant current = next;
+        next = null;
+        return current;
+    }
+
+    private PointGrant readNext() {
+        String line;
+        while ((line = readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || (lineNumber == 1 && trimmed.equalsIgnoreCase(HEADER))) {
+                continue;
+            }
+            return parse(trimmed);
+        }
+        return null;
+    }
+
+    private PointGrant parse(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 2) {
+            throw invalidLine("열 개수가 올바르지 않습니다");
+        }
+        try {
+            return new PointGrant(columns[0].strip(), new BigDecimal(columns[1].strip()));
+        } catch (NumberFormatException e) {
+            throw invalidLine("지급 금액이 숫자가 아닙니다");
+        } catch (CoreException e) {
+            throw invalidLine(e.getMessage());
+        }
+    }
+
+    private CoreException invalidLine(String reason) {
+        return new CoreException(ErrorType.BAD_REQUEST, lineNumber + "번째 줄: " + reason);
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.interfaces.api.point;
+
+import com.loopers.application.point.PointHistoryInfo;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 이력을 행 단위로 바로 응답 스트림에 기록한다.
+ */
+final class PointHistoryCsvWriter {
+
+    static final String HEADER = "id,transactionType,amount,balanceAfter,description,createdAt";
+
+    private PointHistoryCsvWriter() {
+    }
+
+    static void write(OutputStream outputStream, Consumer<Consumer<PointHistoryInfo>> source) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+        try {
+            source.accept(history -> writeRow(writer, history));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    static String toRow(PointHistoryInfo history) {
+        return String.join(",",
+            String.valueOf(history.id()),
+            history.transactionType().name(),
+            history.amount().toPlainString(),
+            history.balanceAfter().toPlainString(),
+            escape(history.description()),
+            history.createdAt().toOffsetDateTime().toString()
+        );
+    }
+
+    private static void writeRow(Writer writer, PointHistoryInfo history) {
+        try {
+            writer.write(toRow(history));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -1,10 +1,15 @@
 package com.loopers.interfaces.api.point;
 
+import com.loopers.domain.point.PointTransactionType;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import java.time.LocalDate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Point V1 API", description = "포인트 관리 API")
 public interface PointV1ApiSpec {
@@ -43,6 +48,8 @@ public interface PointV1ApiSpec {
     ApiResponse<PointV1Dto.BalanceResponse> chargePoint(
         @Parameter(description = "사용자 ID", required = true)
         String userId,
+        @Parameter(description = "멱등 키 (재시도 시 동일한 값 전달)")
+        String idempotencyKey,
         @Schema(description = "충전 요청 정보")
         PointV1Dto.ChargeRequest request
     );
@@ -54,6 +61,8 @@ public interface PointV1ApiSpec {
     ApiResponse<PointV1Dto.BalanceResponse> usePoint(
         @Parameter(description = "사용자 ID", required = true)
         String userId,
+        @Parameter(description = "멱등 키 (재시도 시 동일한 값 전달)")
+        String idempotencyKey,
         @Schema(description = "사용 요청 정보")
         PointV1Dto.UseRequest request
     );
@@ -65,16 +74,67 @@ public interface PointV1ApiSpec {
     ApiResponse<PointV1Dto.BalanceResponse> refundPoint(
         @Parameter(description = "사용자 ID", required = true)
         String userId,
+        @Parameter(description = "멱등 키 (재시도 시 동일한 값 전달)")
+        String idempotencyKey,
         @Schema(description = "환불 요청 정보")
         PointV1Dto.RefundRequest request
     );
 
     @Operation(
         summary = "포인트 내역 조회",
-        description = "사용자의 포인트 거래 내역을 조회합니다."
+        description = "사용자의 포인트 거래 내역을 최신순으로 커서 기반 페이지 조회합니다. 응답의 nextCursor 로 다음 페이지를 조회합니다."
     )
     ApiResponse<PointV1Dto.PointHistoriesResponse> getPointHistories(
         @Parameter(description = "사용자 ID", required = true)
-        String userId
+        String userId,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)")
+        int size,
+        @Parameter(description = "거래 유형 (CHARGE, USE, REFUND)")
+        PointTransactionType type,
+        @Parameter(description = "조회 시작일 (yyyy-MM-dd, 포함)")
+        LocalDate from,
+        @Parameter(description = "조회 종료일 (yyyy-MM-dd, 포함)")
+        LocalDate to
+    );
+
+    @Operation(
+        summary = "포인트 내역 CSV 내보내기",
+        description = "조건에 맞는 포인트 거래 내역 전체를 CSV 로 스트리밍합니다."
+    )
+    ResponseEntity<StreamingResponseBody> exportPointHistories(
+        @Parameter(description = "사용자 ID", required = true)
+        String userId,
+        @Parameter(description = "거래 유형 (CHARGE, USE, REFUND)")
+        PointTransactionType type,
+        @Parameter(description = "조회 시작일 (yyyy-MM-dd, 포함)")
+        LocalDate from,
+        @Parameter(description = "조회 종료일 (yyyy-MM-dd, 포함)")
+        LocalDate to
+    );
+
+    @Operation(
+        summary = "포인트 일괄 지급 (관리자)",
+        description = "\"userId,amount\" 형식의 CSV 본문을 청크 단위로 지급합니다. "
+            + "중단된 지급은 같은 지급 ID 와 같은 본문으로 다시 요청하면 이미 반영된 줄을 건너뛰고 이어서 처리하며, "
+            + "이미 반영된 줄과 본문이 다르면 409 로 실패합니다."
+    )
+    ApiResponse<PointV1Dto.PointGrantResponse> grantPoints(
+        @Parameter(description = "지급 ID (캠페인 식별자)", required = true)
+        String grantId,
+        @Parameter(description = "지급 사유 (포인트 이력에 기록)", required = true)
+        String description,
+        @Parameter(hidden = true)
+        InputStream body
+    );
+
+    @Operation(
+        summary = "포인트 일괄 지급 진행 조회 (관리자)",
+        description = "일괄 지급의 진행 위치와 지급/미지급 사용자 수를 조회합니다."
+    )
+    ApiResponse<PointV1Dto.PointGrantResponse> getPointGrant(
+        @Parameter(description = "지급 ID (캠페인 식별자)", required = true)
+        String grantId
     );
 }
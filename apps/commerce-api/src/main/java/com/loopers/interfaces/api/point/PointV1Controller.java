@@ -1,19 +1,34 @@
 package com.loopers.interfaces.api.point;
 
 import com.loopers.application.point.PointFacade;
-import com.loopers.application.point.PointHistoryInfo;
+import com.loopers.application.point.PointGrantFacade;
+import com.loopers.application.point.PointGrantInfo;
+import com.loopers.application.point.PointHistoryPage;
 import com.loopers.application.point.PointInfo;
+import com.loopers.domain.point.PointHistoryCondition;
+import com.loopers.domain.point.PointTransactionType;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.idempotency.IdempotencyExecutor;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.math.BigDecimal;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
 @RestController
@@ -21,6 +36,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class PointV1Controller implements PointV1ApiSpec {
 
     private final PointFacade pointFacade;
+    private final PointGrantFacade pointGrantFacade;
+    private final IdempotencyExecutor idempotencyExecutor;
 
     @PostMapping("/{userId}/initialize")
     @Override
@@ -56,9 +73,16 @@ public class PointV1Controller implements PointV1ApiSpec {
     @Override
     public ApiResponse<PointV1Dto.BalanceResponse> chargePoint(
         @PathVariable String userId,
+        @RequestHeader(value = IdempotencyExecutor.HEADER_NAME, required = false) String idempotencyKey,
         @Valid @RequestBody PointV1Dto.ChargeRequest request
     ) {
-        BigDecimal balance = pointFacade.chargePoint(userId, request.amount());
+        BigDecimal balance = idempotencyExecutor.execute(
+            "point:charge:" + userId,
+            idempotencyKey,
+            request,
+            BigDecimal.class,
+            () -> pointFacade.chargePoint(userId, request.amount())
+        );
         PointV1Dto.BalanceResponse response = PointV1Dto.BalanceResponse.from(balance);
         return ApiResponse.success(response);
     }
@@ -67,9 +91,16 @@ public class PointV1Controller implements PointV1ApiSpec {
     @Override
     public ApiResponse<PointV1Dto.BalanceResponse> usePoint(
         @PathVariable String userId,
+        @RequestHeader(value = IdempotencyExecutor.HEADER_NAME, required = false) String idempotencyKey,
         @Valid @RequestBody PointV1Dto.UseRequest request
     ) {
-        BigDecimal balance = pointFacade.usePoint(userId, request.amount());
+        BigDecimal balance = idempotencyExecutor.execute(
+            "point:use:" + userId,
+            idempotencyKey,
+            request,
+            BigDecimal.class,
+            () -> pointFacade.usePoint(userId, request.amount())
+        );
         PointV1Dto.BalanceResponse response = PointV1Dto.BalanceResponse.from(balance);
         return ApiResponse.success(response);
     }
@@ -78,9 +109,16 @@ public class PointV1Controller implements PointV1ApiSpec {
     @Override
     public ApiResponse<PointV1Dto.BalanceResponse> refundPoint(
         @PathVariable String userId,
+        @RequestHeader(value = IdempotencyExecutor.HEADER_NAME, required = false) String idempotencyKey,
         @Valid @RequestBody PointV1Dto.RefundRequest request
     ) {
-        BigDecimal balance = pointFacade.refundPoint(userId, request.amount());
+        BigDecimal balance = idempotencyExecutor.execute(
+            "point:refund:" + userId,
+            idempotencyKey,
+            request,
+            BigDecimal.class,
+            () -> pointFacade.refundPoint(userId, request.amount())
+        );
         PointV1Dto.BalanceResponse response = PointV1Dto.BalanceResponse.from(balance);
         return ApiResponse.success(response);
     }
@@ -88,11 +126,66 @@ public class PointV1Controller implements PointV1ApiSpec {
     @GetMapping("/{userId}/histories")
     @Override
     public ApiResponse<PointV1Dto.PointHistoriesResponse> getPointHistories(
-        @PathVariable String userId
+        @PathVariable String userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + PointFacade.DEFAULT_PAGE_SIZE) int size,
+        @RequestParam(required = false) PointTransactionType type,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        PointHistoryPage page = pointFacade.getPointHistories(userId, toCondition(type, from, to), cursor, size);
+        PointV1Dto.PointHistoriesResponse response = PointV1Dto.PointHistoriesResponse.from(page);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping(value = "/{userId}/histories/export", produces = "text/csv")
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportPointHistories(
+        @PathVariable String userId,
+        @RequestParam(required = false) PointTransactionType type,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        PointHistoryCondition condition = toCondition(type, from, to);
+        StreamingResponseBody body = outputStream ->
+            PointHistoryCsvWriter.write(outputStream,
+                consumer -> pointFacade.exportPointHistories(userId, condition, consumer));
+
+        return ResponseEntity.ok()
+            .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"point-histories-" + userId + ".csv\"")
+            .body(body);
+    }
+
+    @PostMapping(value = "/admin/grants/{grantId}", consumes = "text/csv")
+    @Override
+    public ApiResponse<PointV1Dto.PointGrantResponse> grantPoints(
+        @PathVariable String grantId,
+        @RequestParam String description,
+        InputStream body
+    ) {
+        PointGrantInfo info = pointGrantFacade.grant(grantId, description, new PointGrantCsvReader(body));
+        PointV1Dto.PointGrantResponse response = PointV1Dto.PointGrantResponse.from(info);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/admin/grants/{grantId}")
+    @Override
+    public ApiResponse<PointV1Dto.PointGrantResponse> getPointGrant(
+        @PathVariable String grantId
     ) {
-        List<PointHistoryInfo> histories = pointFacade.getPointHistories(userId);
-        PointV1Dto.PointHistoriesResponse response = PointV1Dto.PointHistoriesResponse.from(
-            histories);
+        PointGrantInfo info = pointGrantFacade.getGrant(grantId);
+        PointV1Dto.PointGrantResponse response = PointV1Dto.PointGrantResponse.from(info);
         return ApiResponse.success(response);
     }
+
+    private PointHistoryCondition toCondition(PointTransactionType type, LocalDate from, LocalDate to) {
+        ZoneId zone = ZoneId.systemDefault();
+        return new PointHistoryCondition(
+            type,
+            from == null ? null : from.atStartOfDay(zone),
+            to == null ? null : to.plusDays(1).atStartOfDay(zone)
+        );
+    }
 }
@@ -1,6 +1,8 @@
 package com.loopers.interfaces.api.point;
 
+import com.loopers.application.point.PointGrantInfo;
 import com.loopers.application.point.PointHistoryInfo;
+import com.loopers.application.point.PointHistoryPage;
 import com.loopers.application.point.PointInfo;
 import com.loopers.domain.point.PointTransactionType;
 import java.math.BigDecimal;
@@ -69,13 +71,37 @@ public class PointV1Dto {
     }
 
     public record PointHistoriesResponse(
-        List<PointHistoryResponse> histories
+        List<PointHistoryResponse> histories,
+        String nextCursor,
+        boolean hasNext
     ) {
-        public static PointHistoriesResponse from(List<PointHistoryInfo> infos) {
-            List<PointHistoryResponse> histories = infos.stream()
+        public static PointHistoriesResponse from(PointHistoryPage page) {
+            List<PointHistoryResponse> histories = page.histories().stream()
                 .map(PointHistoryResponse::from)
                 .toList();
-            return new PointHistoriesResponse(histories);
+            return new PointHistoriesResponse(histories, page.nextCursor(), page.hasNext());
+        }
+    }
+
+    public record PointGrantResponse(
+        String grantId,
+        String description,
+        long processedCount,
+        long grantedCount,
+        long skippedCount,
+        boolean completed,
+        ZonedDateTime completedAt
+    ) {
+        public static PointGrantResponse from(PointGrantInfo info) {
+            return new PointGrantResponse(
+                info.grantId(),
+                info.description(),
+                info.processedCount(),
+                info.grantedCount(),
+                info.skippedCount(),
+                info.completed(),
+                info.completedAt()
+            );
         }
     }
 }
@@ -4,6 +4,7 @@ import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -27,6 +28,17 @@ public interface ProductV1ApiSpec {
         Long productId
     );
 
+    @Operation(
+        summary = "함께 좋아요한 상품 추천",
+        description = "이 상품을 좋아한 고객이 함께 좋아한 상품을 유사도 순으로 조회합니다."
+    )
+    ApiResponse<List<ProductV1Dto.RecommendedProductResponse>> getRecommendations(
+        @Schema(description = "상품 ID")
+        Long productId,
+        @Schema(description = "조회할 상품 수 (최대 20)")
+        int size
+    );
+
     @Operation(
         summary = "전체 상품 목록 조회",
         description = "전체 상품 목록을 페이징하여 조회합니다."
@@ -1,10 +1,14 @@
 package com.loopers.interfaces.api.product;
 
 import com.loopers.application.product.ProductInfo;
+import com.loopers.application.product.ProductRecommendationService;
 import com.loopers.application.product.ProductService;
+import com.loopers.application.product.ProductViewCollector;
+import com.loopers.application.product.RecommendedProductInfo;
 import com.loopers.domain.product.Product;
 import com.loopers.interfaces.api.ApiResponse;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -22,6 +27,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductV1Controller implements ProductV1ApiSpec {
 
     private final ProductService productService;
+    private final ProductViewCollector productViewCollector;
+    private final ProductRecommendationService productRecommendationService;
 
     @PostMapping
     @Override
@@ -35,7 +42,7 @@ public class ProductV1Controller implements ProductV1ApiSpec {
             request.stock(),
             request.description()
         );
-        ProductInfo productInfo = ProductInfo.from(product);
+        ProductInfo productInfo = productService.toInfo(product);
         ProductV1Dto.ProductResponse response = ProductV1Dto.ProductResponse.from(productInfo);
         return ApiResponse.success(response);
     }
@@ -46,11 +53,25 @@ public class ProductV1Controller implements ProductV1ApiSpec {
         @PathVariable Long productId
     ) {
         Product product = productService.getProduct(productId);
-        ProductInfo productInfo = ProductInfo.from(product);
+        productViewCollector.record(productId);
+        ProductInfo productInfo = productService.toInfo(product);
         ProductV1Dto.ProductResponse response = ProductV1Dto.ProductResponse.from(productInfo);
         return ApiResponse.success(response);
     }
 
+    @GetMapping("/{productId}/recommendations")
+    @Override
+    public ApiResponse<List<ProductV1Dto.RecommendedProductResponse>> getRecommendations(
+        @PathVariable Long productId,
+        @RequestParam(defaultValue = "" + ProductRecommendationService.DEFAULT_SIZE) int size
+    ) {
+        List<RecommendedProductInfo> recommendations = productRecommendationService.getCoLikedProducts(productId, size);
+        List<ProductV1Dto.RecommendedProductResponse> response = recommendations.stream()
+            .map(ProductV1Dto.RecommendedProductResponse::from)
+            .toList();
+        return ApiResponse.success(response);
+    }
+
     @GetMapping
     @Override
     public ApiResponse<Page<ProductV1Dto.ProductResponse>> getProducts(
@@ -58,7 +79,7 @@ public class ProductV1Controller implements ProductV1ApiSpec {
     ) {
         Page<Product> products = productService.getProducts(pageable);
         Page<ProductV1Dto.ProductResponse> response = products
-            .map(ProductInfo::from)
+            .map(productService::toInfo)
             .map(ProductV1Dto.ProductResponse::from);
         return ApiResponse.success(response);
     }
@@ -71,7 +92,7 @@ public class ProductV1Controller implements ProductV1ApiSpec {
     ) {
         Page<Product> products = productService.getProductsByBrand(brandId, pageable);
         Page<ProductV1Dto.ProductResponse> response = products
-            .map(ProductInfo::from)
+            .map(productService::toInfo)
             .map(ProductV1Dto.ProductResponse::from);
         return ApiResponse.success(response);
     }
@@ -89,7 +110,7 @@ public class ProductV1Controller implements ProductV1ApiSpec {
             request.stock(),
             request.description()
         );
-        ProductInfo productInfo = ProductInfo.from(product);
+        ProductInfo productInfo = productService.toInfo(product);
         ProductV1Dto.ProductResponse response = ProductV1Dto.ProductResponse.from(productInfo);
         return ApiResponse.success(response);
     }
@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.product;
 
 import com.loopers.application.brand.BrandInfo;
 import com.loopers.application.product.ProductInfo;
+import com.loopers.application.product.RecommendedProductInfo;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -37,6 +38,15 @@ public class ProductV1Dto {
     ) {
     }
 
+    public record RecommendedProductResponse(
+        double score,
+        ProductResponse product
+    ) {
+        public static RecommendedProductResponse from(RecommendedProductInfo info) {
+            return new RecommendedProductResponse(info.score(), ProductResponse.from(info.product()));
+        }
+    }
+
     public record ProductResponse(
         Long id,
         String name,
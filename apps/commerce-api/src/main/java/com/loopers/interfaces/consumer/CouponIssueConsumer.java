@@ -0,0 +1,61 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.coupon.CouponService;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.coupon.CouponIssuance;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 선착순 쿠폰 발급 큐를 배치로 소비하여 user_coupons 에 일괄 저장한다.
+ * 저장이 끝난 뒤에만 커밋하며, 재전달된 메시지는 저장 시 (user_id, coupon_id) 유니크 키로 걸러진다.
+ * 역직렬화할 수 없는 메시지는 재전달해도 성공할 수 없으므로, 배치 전체를 막지 않도록 로그를 남기고 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueConsumer {
+
+    private final CouponService couponService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        topics = {"${coupon.issue.topic-name}"},
+        containerFactory = KafkaConfig.BATCH_LISTENER,
+        autoStartup = "${coupon.issue.consumer-enabled}"
+    )
+    public void consume(
+        List<ConsumerRecord<Object, Object>> messages,
+        Acknowledgment acknowledgment
+    ) {
+        List<CouponIssuance> issuances = messages.stream()
+            .map(this::read)
+            .filter(Objects::nonNull)
+            .toList();
+        int saved = couponService.saveIssuances(issuances);
+        log.debug("선착순 쿠폰 발급 저장. 수신={}건, 저장={}건", issuances.size(), saved);
+        acknowledgment.acknowledge();
+    }
+
+    private CouponIssuance read(ConsumerRecord<Object, Object> message) {
+        try {
+            Object value = message.value();
+            if (value instanceof byte[] bytes) {
+                return objectMapper.readValue(bytes, CouponIssuance.class);
+            }
+            return objectMapper.readValue(String.valueOf(value), CouponIssuance.class);
+        } catch (IOException e) {
+            log.error("역직렬화할 수 없는 쿠폰 발급 메시지를 건너뜁니다. partition={}, offset={}",
+                message.partition(), message.offset(), e);
+            return null;
+        }
+    }
+}
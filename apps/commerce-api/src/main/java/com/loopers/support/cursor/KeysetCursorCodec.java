@@ -0,0 +1,46 @@
+package com.loopers.support.cursor;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.function.BiFunction;
+
+/**
+ * (created_at, id) 키셋 커서를 클라이언트에 노출할 불투명 문자열로 변환한다. 형식: base64url("{epochSecond}.{nano}:{id}")
+ */
+public final class KeysetCursorCodec {
+
+    private KeysetCursorCodec() {
+    }
+
+    public static String encode(ZonedDateTime createdAt, Long id) {
+        Instant instant = createdAt.toInstant();
+        String raw = instant.getEpochSecond() + "." + instant.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor {@link #encode} 로 만든 문자열. 비어 있으면 첫 페이지로 보고 null 을 반환한다.
+     * @param factory 디코딩한 (created_at, id) 로 도메인 커서를 만든다.
+     * @throws CoreException 형식이 올바르지 않으면 {@link ErrorType#BAD_REQUEST}
+     */
+    public static <T> T decode(String cursor, BiFunction<ZonedDateTime, Long, T> factory) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] positionAndId = raw.split(":");
+            String[] secondAndNano = positionAndId[0].split("\\.");
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(secondAndNano[0]), Long.parseLong(secondAndNano[1]));
+            return factory.apply(instant.atZone(ZoneId.systemDefault()), Long.parseLong(positionAndId[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.loopers.support.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.annotation.PreDestroy;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 기반으로 동일 요청의 중복 실행을 막는다.
+ *
+ * <p>최초 요청은 Redis 에 처리 중(in-flight) 마커를 선점한 뒤 실제 로직을 수행하고, 결과를 짧은 TTL 로 저장한다.
+ * 동시에 들어온 중복 요청은 락(Point/Product 행 락)을 다시 잡지 않고 마커가 결과로 바뀔 때까지 대기한 뒤 저장된 결과를 그대로 반환한다.
+ * 최초 요청이 실패하면 마커를 제거하여 클라이언트가 같은 키로 재시도할 수 있도록 한다.</p>
+ *
+ * <p>마커와 결과에는 요청 본문의 지문(SHA-256)을 함께 저장하여, 같은 키로 다른 본문이 들어오면 이전 결과를 재생하지 않고 거절한다.
+ * 로직이 실행되는 동안에는 마커의 TTL 을 주기적으로 연장하므로, 오래 걸리는 요청도 중복 요청에 의해 다시 실행되지 않는다.</p>
+ *
+ * <p>결과 저장은 {@code action} 이 반환된 이후, 즉 호출한 트랜잭션이 커밋된 이후에 수행되어야 하므로
+ * 트랜잭션 경계 바깥(Controller)에서 호출한다.</p>
+ */
+@Slf4j
+@Component
+public class IdempotencyExecutor {
+
+    public static final String HEADER_NAME = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "__IN_PROGRESS__|";
+    private static final char SEPARATOR = '|';
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30); // 처리 중 서버가 죽어도 키가 영구히 잠기지 않도록
+    private static final Duration LEASE_RENEW_INTERVAL = Duration.ofSeconds(10); // 실행 중에는 TTL 이 만료되기 전에 연장
+    private static final Duration RESULT_TTL = Duration.ofMinutes(10); // 클라이언트 재시도 윈도우
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5); // 중복 요청이 선행 요청을 기다리는 최대 시간
+    private static final long POLL_INTERVAL_MS = 50L;
+
+    // 자신이 선점한 마커일 때만 TTL 을 연장한다. (만료 후 다른 요청이 선점한 마커를 연장하지 않도록)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService leaseRenewer;
+
+    public IdempotencyExecutor(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    /**
+     * 멱등 키가 주어진 경우 최초 1회만 {@code action} 을 실행하고, 이후 동일 키 요청에는 저장된 결과를 반환한다.
+     *
+     * @param scope 키 충돌을 막기 위한 범위 (예: "order:create:{userId}")
+     * @param idempotencyKey 클라이언트가 전달한 Idempotency-Key (null 이면 멱등 처리 없이 바로 실행)
+     * @param request 요청 본문. 같은 키로 다른 본문이 들어오면 CONFLICT 로 거절한다.
+     * @param resultType 결과 역직렬화 타입
+     * @param action 실제 수행할 로직
+     * @return 최초 실행 결과
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request, Class<T> resultType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        validateKey(idempotencyKey);
+
+        String redisKey = KEY_PREFIX + scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        String marker = IN_PROGRESS_PREFIX + fingerprint + SEPARATOR + UUID.randomUUID();
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT.toMillis();
+
+        while (true) {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(redisKey, marker, IN_PROGRESS_TTL);
+            if (Boolean.TRUE.equals(acquired)) {
+                return executeAndStore(redisKey, marker, fingerprint, resultType, action);
+            }
+
+            String stored = redisTemplate.opsForValue().get(redisKey);
+            if (stored != null) {
+                verifyFingerprint(stored, fingerprint);
+                if (!stored.startsWith(IN_PROGRESS_PREFIX)) {
+                    return deserialize(stored.substring(fingerprint.length() + 1), resultType);
+                }
+            }
+
+            // 선행 요청이 처리 중이거나, 실패하여 마커가 막 제거된 경우(stored == null) 잠시 후 재시도
+            if (System.currentTimeMillis() >= deadline) {
+                throw new CoreException(ErrorType.CONFLICT, "동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            sleep();
+        }
+    }
+
+    private <T> T executeAndStore(String redisKey, String marker, String fingerprint, Class<T> resultType,
+        Supplier<T> action) {
+        T result;
+        ScheduledFuture<?> lease = leaseRenewer.scheduleAtFixedRate(() -> renew(redisKey, marker),
+            LEASE_RENEW_INTERVAL.toMillis(), LEASE_RENEW_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            lease.cancel(false);
+            redisTemplate.delete(redisKey);
+            throw e;
+        }
+        lease.cancel(false);
+
+        try {
+            redisTemplate.opsForValue()
+                .set(redisKey, fingerprint + SEPARATOR + objectMapper.writeValueAsString(result), RESULT_TTL);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 이미 커밋된 요청이므로 마커를 지우면 재시도가 로직을 다시 실행한다. 마커를 결과 TTL 만큼 남겨 재실행을 막는다.
+            log.warn("멱등 결과 저장에 실패했습니다. 처리 중 마커를 유지합니다. key={}", redisKey, e);
+            renewQuietly(redisKey, marker, RESULT_TTL);
+        }
+        return result;
+    }
+
+    private void renew(String redisKey, String marker) {
+        renewQuietly(redisKey, marker, IN_PROGRESS_TTL);
+    }
+
+    private void renewQuietly(String redisKey, String marker, Duration ttl) {
+        try {
+            redisTemplate.execute(RENEW_SCRIPT, List.of(redisKey), marker, String.valueOf(ttl.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("멱등 마커 TTL 연장에 실패했습니다. key={}", redisKey, e);
+        }
+    }
+
+    private void verifyFingerprint(String stored, String fingerprint) {
+        String body = stored.startsWith(IN_PROGRESS_PREFIX) ? stored.substring(IN_PROGRESS_PREFIX.length()) : stored;
+        if (!body.startsWith(fingerprint + SEPARATOR)) {
+            throw new CoreException(ErrorType.CONFLICT,
+                "같은 " + HEADER_NAME + " 로 다른 요청이 전달되었습니다. 새 키를 사용해주세요.");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "요청 지문을 계산할 수 없습니다.");
+        }
+    }
+
+    private <T> T deserialize(String stored, Class<T> resultType) {
+        try {
+            return objectMapper.readValue(stored, resultType);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "저장된 멱등 결과를 읽을 수 없습니다.");
+        }
+    }
+
+    private void validateKey(String idempotencyKey) {
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CoreException(ErrorType.BAD_REQUEST,
+                HEADER_NAME + " 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "요청 대기 중 인터럽트가 발생했습니다.");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.loopers.support.lock;
+
+import com.loopers.config.redis.RedisConfig;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드에서 같은 스케줄 잡이 동시에 실행되지 않도록 Redis 키로 잡 단위 상호 배제를 제공한다.
+ *
+ * <p>잡을 시작한 노드만 임의 토큰으로 키를 선점하고, 실행되는 동안 리스를 주기적으로 연장한다. 연장과 해제는 토큰이 일치할 때만 수행되므로,
+ * 리스가 만료된 뒤 다른 노드가 잡은 락을 연장하거나 지우지 않는다. 노드가 죽으면 리스가 만료되어 다음 주기에 다른 노드가 이어받는다.</p>
+ *
+ * <p>락을 얻지 못하거나 Redis 에 접근할 수 없으면 이번 주기를 건너뛴다. 잡은 다음 주기에 다시 시도되므로 동시 실행보다 한 번 쉬는 편이 안전하다.</p>
+ */
+@Slf4j
+@Component
+public class JobLock {
+
+    private static final String KEY_PREFIX = "job:lock:";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        end
+        return 0
+        """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ScheduledExecutorService leaseRenewer;
+
+    public JobLock(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lock-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    /**
+     * 락을 얻은 경우에만 {@code job} 을 실행한다.
+     *
+     * @param jobName 잡 이름 (락 키)
+     * @param lease 락 보유 시간. 실행 중에는 {@code lease / 3} 마다 연장된다.
+     * @return 락을 얻어 실행했으면 true, 다른 노드가 실행 중이라 건너뛰었으면 false
+     */
+    public boolean runExclusively(String jobName, Duration lease, Runnable job) {
+        String key = KEY_PREFIX + jobName;
+        String token = UUID.randomUUID().toString();
+        if (!acquire(key, token, lease)) {
+            return false;
+        }
+
+        long renewIntervalMs = Math.max(1L, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(() -> renew(key, token, lease),
+            renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+        try {
+            job.run();
+            return true;
+        } finally {
+            renewal.cancel(false);
+            release(key, token);
+        }
+    }
+
+    private boolean acquire(String key, String token, Duration lease) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, lease));
+        } catch (RuntimeException e) {
+            log.warn("잡 락을 확인할 수 없어 이번 주기를 건너뜁니다. key={}", key, e);
+            return false;
+        }
+    }
+
+    private void renew(String key, String token, Duration lease) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(lease.toMillis()));
+            if (renewed == null || renewed == 0L) {
+                log.warn("잡 락 리스를 잃었습니다. 다른 노드가 같은 잡을 시작할 수 있습니다. key={}", key);
+            }
+        } catch (RuntimeException e) {
+            log.warn("잡 락 리스 연장에 실패했습니다. key={}", key, e);
+        }
+    }
+
+    private void release(String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (RuntimeException e) {
+            // 해제에 실패해도 리스가 만료되면 풀린다.
+            log.warn("잡 락 해제에 실패했습니다. key={}", key, e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.loopers.support.retry;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 낙관적 락 충돌 시 트랜잭션 전체를 다시 실행한다.
+ *
+ * <p>행 락을 잡지 않고 경합을 처리하기 위한 실행기로, 시도마다 새 트랜잭션을 열고 충돌하면 지터가 섞인 지수 백오프 후 재시도한다.
+ * 시도 횟수는 {@link #MAX_ATTEMPTS} 로 제한되며, 모두 실패하면 CONFLICT 로 응답한다.</p>
+ *
+ * <p>이미 바깥 트랜잭션이 진행 중이면 재시도하지 않고 그대로 참여한다. 충돌은 바깥 트랜잭션 전체를 무효로 만들기 때문에
+ * 재시도 경계는 가장 바깥 트랜잭션이 가져야 한다.</p>
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    public static final int MAX_ATTEMPTS = 5;
+    static final String METRIC_NAME = "optimistic.lock.attempts";
+
+    private static final long BASE_BACKOFF_MS = 10L;
+    private static final long MAX_BACKOFF_MS = 200L;
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockRetryExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param operation 메트릭 태그로 사용할 작업 이름 (예: "point.charge")
+     * @param action 한 트랜잭션 안에서 수행할 로직
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = transactionTemplate.execute(status -> action.get());
+                count(operation, attempt == 1 ? "success" : "recovered");
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    count(operation, "exhausted");
+                    log.warn("낙관적 락 충돌 재시도 횟수를 초과했습니다. operation={}, attempts={}", operation, attempt);
+                    throw new CoreException(ErrorType.CONFLICT, "요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                count(operation, "conflict");
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void execute(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void count(String operation, String outcome) {
+        meterRegistry.counter(METRIC_NAME, "operation", operation, "outcome", outcome).increment();
+    }
+
+    /**
+     * Full jitter: [0, min(MAX, BASE * 2^(attempt-1))] 구간에서 무작위로 대기하여 충돌한 요청들이 같은 시점에 다시 몰리지 않도록 한다.
+     */
+    private void backoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << (attempt - 1));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "재시도 대기 중 인터럽트가 발생했습니다.");
+        }
+    }
+}
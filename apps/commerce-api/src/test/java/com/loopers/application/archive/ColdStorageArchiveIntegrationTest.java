@@ -0,0 +1,311 @@
+package com.loopers.application.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderInfo;
+import com.loopers.application.point.PointFacade;
+import com.loopers.application.point.PointHistoryInfo;
+import com.loopers.application.point.PointHistoryPage;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.order.ArchivedOrderRepository;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.point.PointHistoryCondition;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+    "archive.enabled=true",
+    "archive.retention-days=30",
+    "archive.chunk-size=2",
+    "archive.throttle=0ms",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("콜드 스토리지 아카이브 통합 테스트")
+class ColdStorageArchiveIntegrationTest {
+
+    private static final String USER_ID = "user1";
+
+    @Autowired
+    private ColdStorageArchiveJob coldStorageArchiveJob;
+
+    @Autowired
+    private ArchiveChunkMover archiveChunkMover;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private PointFacade pointFacade;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = ((JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+            .name("테스트 브랜드")
+            .description("테스트용 브랜드")
+            .build());
+        product = ((JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+            .brand(brand)
+            .name("테스트 상품")
+            .price(BigDecimal.valueOf(1000))
+            .stock(100)
+            .description("테스트용 상품")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("아카이브 잡")
+    @Nested
+    class Job {
+
+        @DisplayName("보관 기간이 지난 종료 상태의 주문만 이동하고, 대기/정산 중이거나 최근 주문은 남긴다")
+        @Test
+        void movesOnlyOldTerminalOrders() {
+            // given
+            Order completed = saveOrder(OrderStatus.COMPLETED, true);
+            Order canceled = saveOrder(OrderStatus.CANCELED, true);
+            Order failed = saveOrder(OrderStatus.FAILED, true);
+            Order pending = saveOrder(OrderStatus.PENDING, true);
+            Order settling = saveSettlingOrder();
+            Order recent = saveOrder(OrderStatus.COMPLETED, false);
+
+            // when
+            coldStorageArchiveJob.run();
+
+            // then
+            assertAll(
+                () -> assertThat(orderRepository.findById(completed.getId())).isEmpty(),
+                () -> assertThat(orderRepository.findById(canceled.getId())).isEmpty(),
+                () -> assertThat(orderRepository.findById(failed.getId())).isEmpty(),
+                () -> assertThat(archivedOrderRepository.findWithItemsById(completed.getId()))
+                    .hasValueSatisfying(archived -> assertThat(archived.getOrderItems()).hasSize(1)),
+                () -> assertThat(orderRepository.findById(pending.getId())).isPresent(),
+                () -> assertThat(orderRepository.findById(settling.getId())).isPresent(),
+                () -> assertThat(orderRepository.findById(recent.getId())).isPresent()
+            );
+        }
+
+        @DisplayName("다른 노드가 잡 락을 보유하고 있으면 아무 것도 이동하지 않는다")
+        @Test
+        void skips_whenAnotherNodeHoldsLock() {
+            // given
+            Order completed = saveOrder(OrderStatus.COMPLETED, true);
+            redisTemplate.opsForValue().set("job:lock:cold-storage-archive", "other-node", Duration.ofMinutes(1));
+
+            // when
+            coldStorageArchiveJob.run();
+
+            // then
+            assertThat(orderRepository.findById(completed.getId())).isPresent();
+        }
+
+        @DisplayName("이미 아카이브에 복사된 주문이 있어도 중복 키로 중단되지 않고 원본을 정리한다")
+        @Test
+        void moverIsIdempotent_whenRowsAlreadyCopied() {
+            // given - 다른 실행이 복사만 하고 삭제 전에 중단된 상태
+            Order completed = saveOrder(OrderStatus.COMPLETED, true);
+            jdbcTemplate.update("INSERT INTO orders_archive (id, user_id, status, total_amount, created_at, "
+                + "updated_at, archived_at) SELECT id, user_id, status, total_amount, created_at, updated_at, NOW() "
+                + "FROM orders WHERE id = ?", completed.getId());
+
+            // when
+            int moved = archiveChunkMover.moveOrders(List.of(completed.getId()));
+
+            // then
+            assertAll(
+                () -> assertThat(moved).isEqualTo(1),
+                () -> assertThat(orderRepository.findById(completed.getId())).isEmpty(),
+                () -> assertThat(archivedOrderRepository.findWithItemsById(completed.getId())).isPresent()
+            );
+        }
+
+        @DisplayName("보관 기간이 지난 포인트 이력을 이동하고, 이력 조회는 핫 이력에 이어 아카이브 이력을 반환한다")
+        @Test
+        void movesPointHistories_andReadsThemBack() {
+            // given
+            pointService.initializePoint(USER_ID);
+            pointService.chargePoint(USER_ID, BigDecimal.valueOf(1000));
+            pointService.chargePoint(USER_ID, BigDecimal.valueOf(2000));
+            jdbcTemplate.update("UPDATE point_histories SET created_at = created_at - INTERVAL 400 DAY");
+            pointService.chargePoint(USER_ID, BigDecimal.valueOf(3000));
+
+            // when
+            coldStorageArchiveJob.run();
+            PointHistoryPage page = pointFacade.getPointHistories(USER_ID, PointHistoryCondition.none(), null, 10);
+
+            // then
+            assertAll(
+                () -> assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_histories", Long.class))
+                    .isEqualTo(1L),
+                () -> assertThat(page.histories()).extracting(PointHistoryInfo::amount)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(BigDecimal.valueOf(3000), BigDecimal.valueOf(2000), BigDecimal.valueOf(1000))
+            );
+        }
+    }
+
+    @DisplayName("주문 조회")
+    @Nested
+    class Read {
+
+        @DisplayName("아카이브된 주문도 ID 로 조회된다")
+        @Test
+        void getOrder_fallsBackToArchive() {
+            // given
+            Order completed = saveOrder(OrderStatus.COMPLETED, true);
+            coldStorageArchiveJob.run();
+
+            // when
+            OrderInfo orderInfo = orderFacade.getOrder(completed.getId());
+
+            // then
+            assertAll(
+                () -> assertThat(orderInfo.status()).isEqualTo(OrderStatus.COMPLETED),
+                () -> assertThat(orderInfo.orderItems()).hasSize(1)
+            );
+        }
+
+        @DisplayName("주문 목록은 핫 주문에 이어 아카이브 주문을 최신순으로 이어 붙이고, 전체 건수는 두 테이블의 합이다")
+        @Test
+        void getOrdersByUser_spansHotAndArchive() {
+            // given - 아카이브 3건(더 오래된 주문), 핫 3건
+            List<Long> archivedIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                archivedIds.add(saveOrder(OrderStatus.COMPLETED, true).getId());
+            }
+            coldStorageArchiveJob.run();
+            List<Long> hotIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                hotIds.add(saveOrder(OrderStatus.PENDING, false).getId());
+            }
+
+            // when
+            Page<OrderInfo> page0 = orderFacade.getOrdersByUser(USER_ID, PageRequest.of(0, 2));
+            Page<OrderInfo> page1 = orderFacade.getOrdersByUser(USER_ID, PageRequest.of(1, 2));
+            Page<OrderInfo> page2 = orderFacade.getOrdersByUser(USER_ID, PageRequest.of(2, 2));
+            Page<OrderInfo> page3 = orderFacade.getOrdersByUser(USER_ID, PageRequest.of(3, 2));
+
+            // then
+            assertAll(
+                () -> assertThat(page0.getContent()).extracting(OrderInfo::id)
+                    .containsExactly(hotIds.get(2), hotIds.get(1)),
+                () -> assertThat(page1.getContent()).extracting(OrderInfo::id)
+                    .containsExactly(hotIds.get(0), archivedIds.get(2)),
+                () -> assertThat(page2.getContent()).extracting(OrderInfo::id)
+                    .containsExactly(archivedIds.get(1), archivedIds.get(0)),
+                () -> assertThat(page3.getContent()).isEmpty(),
+                () -> assertThat(List.of(page0, page1, page2, page3))
+                    .allSatisfy(page -> assertThat(page.getTotalElements()).isEqualTo(6))
+            );
+        }
+
+        @DisplayName("핫 주문만으로 채워지는 페이지는 ID 페이지, fetch join, count 세 쿼리로 끝나고 아카이브를 읽지 않는다")
+        @Test
+        void getOrdersByUser_skipsArchive_whenHotRowsFillPage() {
+            // given
+            for (int i = 0; i < 3; i++) {
+                saveOrder(OrderStatus.PENDING, false);
+            }
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            // when
+            Page<OrderInfo> page = orderFacade.getOrdersByUser(USER_ID, PageRequest.of(0, 2));
+
+            // then
+            assertAll(
+                () -> assertThat(page.getTotalElements()).isEqualTo(3),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(3)
+            );
+        }
+    }
+
+    private Order saveOrder(OrderStatus status, boolean old) {
+        Order order = Order.builder().userId(USER_ID).status(status).build();
+        order.addOrderItem(OrderItem.from(product, 1));
+        order.calculateTotalAmount();
+        Order saved = orderRepository.save(order);
+        if (old) {
+            age(saved.getId());
+        }
+        return saved;
+    }
+
+    private Order saveSettlingOrder() {
+        Order order = Order.builder().userId(USER_ID).build();
+        order.addOrderItem(OrderItem.from(product, 1));
+        order.calculateTotalAmount();
+        order.requestSettlement(null);
+        Order saved = orderRepository.save(order);
+        age(saved.getId());
+        return saved;
+    }
+
+    private void age(Long orderId) {
+        jdbcTemplate.update("UPDATE orders SET created_at = created_at - INTERVAL 400 DAY WHERE id = ?", orderId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.loopers.application.brand;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@SpringBootTest
+@DisplayName("BrandRegistry 통합 테스트")
+class BrandRegistryIntegrationTest {
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("한 노드에서 브랜드를 변경하면 Pub/Sub 알림을 받은 다른 노드의 레지스트리도 다시 적재된다")
+    @Test
+    void otherNodeRefreshes_whenBrandChanged() throws InterruptedException {
+        // given
+        Brand brand = brandService.createBrand("나이키", "스포츠 브랜드");
+        BrandRegistry otherNode = new BrandRegistry(brandRepository, redisTemplate, listenerContainer);
+        otherNode.subscribe();
+        otherNode.refresh();
+        Thread.sleep(200); // 실행 중인 리스너 컨테이너는 구독을 비동기로 추가한다.
+
+        // when
+        brandService.updateBrand(brand.getId(), "뉴발란스", null);
+
+        // then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!"뉴발란스".equals(otherNode.get(brand.getId()).name()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(otherNode.get(brand.getId()).name()).isEqualTo("뉴발란스");
+        assertThat(brandService.getBrand(brand.getId()).name()).isEqualTo("뉴발란스");
+    }
+}
@@ -0,0 +1,129 @@
+package com.loopers.application.brand;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("BrandRegistry 테스트")
+class BrandRegistryTest {
+
+    private BrandRepository brandRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private BrandRegistry brandRegistry;
+
+    @BeforeEach
+    void setUp() {
+        brandRepository = mock(BrandRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        brandRegistry = new BrandRegistry(brandRepository, redisTemplate, mock(RedisMessageListenerContainer.class));
+    }
+
+    @DisplayName("적재된 브랜드는 DB 를 거치지 않고 id 와 이름으로 조회한다")
+    @Test
+    void findsFromSnapshot_afterRefresh() {
+        // given
+        when(brandRepository.findAll()).thenReturn(List.of(brand(1L, "나이키")));
+        brandRegistry.refresh();
+
+        // when & then
+        assertThat(brandRegistry.get(1L).name()).isEqualTo("나이키");
+        assertThat(brandRegistry.findByName("나이키")).map(BrandInfo::id).contains(1L);
+        verify(brandRepository, never()).findById(any());
+        verify(brandRepository, never()).findByName(any());
+    }
+
+    @DisplayName("스냅샷에 없는 브랜드는 DB 에서 읽어 추가한다")
+    @Test
+    void loadsAndAdds_whenMissing() {
+        // given
+        when(brandRepository.findById(2L)).thenReturn(Optional.of(brand(2L, "아디다스")));
+
+        // when
+        brandRegistry.find(2L);
+        Optional<BrandInfo> found = brandRegistry.find(2L);
+
+        // then
+        assertThat(found).map(BrandInfo::name).contains("아디다스");
+        verify(brandRepository, times(1)).findById(2L);
+    }
+
+    @DisplayName("변경이 커밋되면 다시 적재하고 다른 노드에 알린다")
+    @Test
+    void refreshesAndPublishes_whenBrandChanged() {
+        // given
+        when(brandRepository.findAll()).thenReturn(List.of(brand(1L, "나이키")));
+
+        // when
+        brandRegistry.onBrandChanged(new BrandChangedEvent(1L));
+
+        // then
+        assertThat(brandRegistry.get(1L).name()).isEqualTo("나이키");
+        verify(redisTemplate).convertAndSend(eq(BrandRegistry.CHANNEL), any(String.class));
+    }
+
+    @DisplayName("다른 노드의 변경 알림을 받으면 다시 적재하고, 자신이 보낸 알림은 무시한다")
+    @Test
+    void refreshesOnlyOnOtherNodesMessage() {
+        // given
+        when(brandRepository.findAll()).thenReturn(List.of(brand(1L, "나이키")));
+        brandRegistry.onBrandChanged(new BrandChangedEvent(1L));
+        ArgumentCaptor<String> ownNodeId = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(BrandRegistry.CHANNEL), ownNodeId.capture());
+        when(brandRepository.findAll()).thenReturn(List.of(brand(1L, "뉴발란스")));
+
+        // when
+        brandRegistry.onMessage(message(ownNodeId.getValue()), null);
+        String afterOwnMessage = brandRegistry.get(1L).name();
+        brandRegistry.onMessage(message("other-node"), null);
+
+        // then
+        assertThat(afterOwnMessage).isEqualTo("나이키");
+        assertThat(brandRegistry.get(1L).name()).isEqualTo("뉴발란스");
+    }
+
+    @DisplayName("놓친 변경으로 이름이 겹치면 나중에 생성된 브랜드를 우선한다")
+    @Test
+    void prefersLatestBrand_whenNamesCollide() {
+        // given
+        when(brandRepository.findAll()).thenReturn(List.of(brand(1L, "나이키"), brand(3L, "나이키")));
+
+        // when
+        brandRegistry.refresh();
+
+        // then
+        assertThat(brandRegistry.findByName("나이키")).map(BrandInfo::id).contains(3L);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(BrandRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Brand brand(Long id, String name) {
+        Brand brand = Brand.builder()
+            .name(name)
+            .description("설명")
+            .build();
+        ReflectionTestUtils.setField(brand, "id", id);
+        return brand;
+    }
+}
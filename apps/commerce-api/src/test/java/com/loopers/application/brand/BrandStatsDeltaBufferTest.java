@@ -0,0 +1,112 @@
+package com.loopers.application.brand;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.application.like.LikeChangedEvent;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("BrandStatsDeltaBuffer 테스트")
+class BrandStatsDeltaBufferTest {
+
+    private BrandStatsService brandStatsService;
+    private ProductRepository productRepository;
+    private BrandStatsDeltaBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        brandStatsService = mock(BrandStatsService.class);
+        productRepository = mock(ProductRepository.class);
+        buffer = new BrandStatsDeltaBuffer(brandStatsService, productRepository);
+    }
+
+    @DisplayName("같은 브랜드의 변화량은 합쳐서 반영 주기마다 한 번만 반영한다")
+    @Test
+    void appliesOncePerBrand() {
+        // given
+        buffer.onDelta(BrandStatsDelta.stockChanged(1L, 0, 3));
+        buffer.onDelta(BrandStatsDelta.stockChanged(1L, 0, 2));
+        buffer.onDelta(BrandStatsDelta.stockChanged(2L, 4, 0));
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<BrandStatsDelta> captor = ArgumentCaptor.forClass(BrandStatsDelta.class);
+        verify(brandStatsService, times(2)).apply(captor.capture());
+        assertThat(captor.getAllValues())
+            .extracting(BrandStatsDelta::brandId, BrandStatsDelta::inStockCountDelta)
+            .containsExactlyInAnyOrder(
+                tuple(1L, 2),
+                tuple(2L, -1)
+            );
+    }
+
+    @DisplayName("좋아요는 상품별로 모았다가 상품 IN 조회 한 번으로 브랜드를 찾아 반영한다")
+    @Test
+    void resolvesLikeBrandsInOneLookup() {
+        // given
+        when(productRepository.findByIdIn(anyList())).thenReturn(List.of(product(10L, 1L), product(11L, 1L)));
+        buffer.onLikeChanged(new LikeChangedEvent("user1", 10L, true));
+        buffer.onLikeChanged(new LikeChangedEvent("user2", 10L, true));
+        buffer.onLikeChanged(new LikeChangedEvent("user3", 11L, true));
+        buffer.onLikeChanged(new LikeChangedEvent("user1", 11L, false));
+        buffer.onLikeChanged(new LikeChangedEvent("user4", 11L, true));
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<BrandStatsDelta> captor = ArgumentCaptor.forClass(BrandStatsDelta.class);
+        verify(productRepository, times(1)).findByIdIn(anyList());
+        verify(brandStatsService).apply(captor.capture());
+        assertThat(captor.getValue().brandId()).isEqualTo(1L);
+        assertThat(captor.getValue().likeCountDelta()).isEqualTo(3L);
+    }
+
+    @DisplayName("좋아요와 취소가 상쇄된 상품은 브랜드를 조회하지 않는다")
+    @Test
+    void skipsCancelledLikes() {
+        // given
+        buffer.onLikeChanged(new LikeChangedEvent("user1", 10L, true));
+        buffer.onLikeChanged(new LikeChangedEvent("user1", 10L, false));
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(productRepository, never()).findByIdIn(anyList());
+        verify(brandStatsService, never()).apply(any());
+    }
+
+    private static Product product(Long id, Long brandId) {
+        Brand brand = Brand.builder().name("브랜드" + brandId).description("설명").build();
+        ReflectionTestUtils.setField(brand, "id", brandId);
+        Product product = Product.builder()
+            .brand(brand)
+            .name("상품" + id)
+            .price(BigDecimal.valueOf(1000))
+            .stock(1)
+            .description("설명")
+            .build();
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.application.brand;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BrandStatsDelta 테스트")
+class BrandStatsDeltaTest {
+
+    @DisplayName("재고가 0 을 넘나들 때만 재고 보유 상품 수가 변한다")
+    @Test
+    void inStockDelta_onlyWhenCrossingZero() {
+        assertThat(BrandStatsDelta.stockChanged(1L, 5, 0).inStockCountDelta()).isEqualTo(-1);
+        assertThat(BrandStatsDelta.stockChanged(1L, 0, 3).inStockCountDelta()).isEqualTo(1);
+        assertThat(BrandStatsDelta.stockChanged(1L, 5, 2).inStockCountDelta()).isZero();
+        assertThat(BrandStatsDelta.stockChanged(1L, 5, 2).isEmpty()).isTrue();
+    }
+
+    @DisplayName("가격이 바뀌면 새 가격을 범위에 반영하고 범위 재계산을 요청한다")
+    @Test
+    void productUpdated_marksPriceRangeStale_whenPriceChanges() {
+        BrandStatsDelta delta = BrandStatsDelta.productUpdated(1L, 3, 3,
+            BigDecimal.valueOf(1000), BigDecimal.valueOf(800));
+
+        assertThat(delta.price()).isEqualByComparingTo(BigDecimal.valueOf(800));
+        assertThat(delta.priceRangeStale()).isTrue();
+    }
+
+    @DisplayName("가격과 재고 구간이 그대로면 빈 변화량이다")
+    @Test
+    void productUpdated_isEmpty_whenNothingRelevantChanges() {
+        BrandStatsDelta delta = BrandStatsDelta.productUpdated(1L, 3, 7,
+            BigDecimal.valueOf(1000), new BigDecimal("1000.00"));
+
+        assertThat(delta.isEmpty()).isTrue();
+    }
+
+    @DisplayName("변화량을 합치면 카운트는 더하고, 가격이 하나뿐이면 그 가격을 유지한다")
+    @Test
+    void merge_sumsCountsAndKeepsSinglePrice() {
+        BrandStatsDelta merged = BrandStatsDelta.productCreated(1L, 5, BigDecimal.valueOf(1000))
+            .merge(BrandStatsDelta.likeChanged(1L, 3L))
+            .merge(BrandStatsDelta.stockChanged(1L, 5, 0));
+
+        assertThat(merged.productCountDelta()).isEqualTo(1);
+        assertThat(merged.inStockCountDelta()).isZero();
+        assertThat(merged.likeCountDelta()).isEqualTo(3L);
+        assertThat(merged.price()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+        assertThat(merged.priceRangeStale()).isFalse();
+    }
+
+    @DisplayName("범위에 넣을 가격이 둘 이상이면 가격 대신 범위 재계산을 요청한다")
+    @Test
+    void merge_marksPriceRangeStale_whenBothHavePrices() {
+        BrandStatsDelta merged = BrandStatsDelta.productCreated(1L, 1, BigDecimal.valueOf(1000))
+            .merge(BrandStatsDelta.productCreated(1L, 1, BigDecimal.valueOf(3000)));
+
+        assertThat(merged.productCountDelta()).isEqualTo(2);
+        assertThat(merged.price()).isNull();
+        assertThat(merged.priceRangeStale()).isTrue();
+    }
+}
@@ -0,0 +1,185 @@
+package com.loopers.application.brand;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.application.like.LikeService;
+import com.loopers.application.product.ProductService;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandStats;
+import com.loopers.domain.brand.BrandStatsRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 반영 주기를 늘려 flush() 를 직접 호출한 시점에만 반영되도록 한다.
+@SpringBootTest(properties = "brand.stats.flush-interval=1h")
+@DisplayName("브랜드 통계 통합 테스트")
+class BrandStatsIntegrationTest {
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private BrandStatsService brandStatsService;
+
+    @Autowired
+    private BrandStatsDeltaBuffer brandStatsDeltaBuffer;
+
+    @Autowired
+    private BrandStatsRecomputeJob brandStatsRecomputeJob;
+
+    @Autowired
+    private BrandStatsRepository brandStatsRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Brand brand;
+
+    @BeforeEach
+    void setUp() {
+        brand = brandService.createBrand("나이키", "스포츠 브랜드");
+    }
+
+    @AfterEach
+    void tearDown() {
+        brandStatsDeltaBuffer.flush();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("재계산은 삭제되지 않은 상품과 좋아요로 집계 행을 만들거나 덮어쓴다")
+    @Test
+    void recompute_aggregatesProductsAndLikes() {
+        // given
+        Product cheap = productService.createProduct(brand.getId(), "상품1", BigDecimal.valueOf(1000), 0, "설명");
+        Product expensive = productService.createProduct(brand.getId(), "상품2", BigDecimal.valueOf(5000), 3, "설명");
+        Product deleted = productService.createProduct(brand.getId(), "상품3", BigDecimal.valueOf(9000), 3, "설명");
+        likeService.like("user1", cheap.getId());
+        likeService.like("user2", expensive.getId());
+        likeService.like("user1", deleted.getId());
+        jdbcTemplate.update("UPDATE products SET deleted_at = NOW() WHERE id = ?", deleted.getId());
+
+        // when
+        brandStatsDeltaBuffer.flush();
+        brandStatsService.recompute(brand.getId());
+
+        // then
+        BrandStats stats = brandStatsRepository.findByBrandId(brand.getId()).orElseThrow();
+        assertAll(
+            () -> assertThat(stats.getProductCount()).isEqualTo(2),
+            () -> assertThat(stats.getInStockCount()).isEqualTo(1),
+            () -> assertThat(stats.getMinPrice()).isEqualByComparingTo(BigDecimal.valueOf(1000)),
+            () -> assertThat(stats.getMaxPrice()).isEqualByComparingTo(BigDecimal.valueOf(5000)),
+            () -> assertThat(stats.getLikeCount()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("증분 반영은 카운트를 더하고 가격 범위는 넓히기만 하며, 집계 행이 없으면 false 를 반환한다")
+    @Test
+    void addDelta_appliesRelativeUpdate() {
+        // given
+        productService.createProduct(brand.getId(), "상품1", BigDecimal.valueOf(3000), 1, "설명");
+        brandStatsDeltaBuffer.flush();
+        brandStatsService.recompute(brand.getId());
+        ZonedDateTime now = ZonedDateTime.now();
+
+        // when
+        boolean applied = brandStatsRepository.addDelta(brand.getId(), 1, 1, 5L, BigDecimal.valueOf(2000), now);
+        boolean missing = brandStatsRepository.addDelta(brand.getId() + 1, 1, 0, 0L, null, now);
+
+        // then
+        BrandStats stats = brandStatsRepository.findByBrandId(brand.getId()).orElseThrow();
+        assertAll(
+            () -> assertThat(applied).isTrue(),
+            () -> assertThat(missing).isFalse(),
+            () -> assertThat(stats.getProductCount()).isEqualTo(2),
+            () -> assertThat(stats.getInStockCount()).isEqualTo(2),
+            () -> assertThat(stats.getLikeCount()).isEqualTo(5),
+            () -> assertThat(stats.getMinPrice()).isEqualByComparingTo(BigDecimal.valueOf(2000)),
+            () -> assertThat(stats.getMaxPrice()).isEqualByComparingTo(BigDecimal.valueOf(3000))
+        );
+    }
+
+    @DisplayName("가격 범위 재계산은 좁아진 범위를 반영한다")
+    @Test
+    void refreshPriceRange_narrowsRange() {
+        // given
+        productService.createProduct(brand.getId(), "상품1", BigDecimal.valueOf(1000), 1, "설명");
+        Product expensive = productService.createProduct(brand.getId(), "상품2", BigDecimal.valueOf(9000), 1, "설명");
+        brandStatsDeltaBuffer.flush();
+        brandStatsService.recompute(brand.getId());
+        jdbcTemplate.update("UPDATE products SET price = 4000 WHERE id = ?", expensive.getId());
+
+        // when
+        brandStatsRepository.refreshPriceRange(brand.getId(), ZonedDateTime.now());
+
+        // then
+        assertThat(brandStatsRepository.findByBrandId(brand.getId()).orElseThrow().getMaxPrice())
+            .isEqualByComparingTo(BigDecimal.valueOf(4000));
+    }
+
+    @DisplayName("좋아요/취소는 버퍼에 모였다가 반영 주기에 브랜드 좋아요 수로 반영된다")
+    @Test
+    void likesAreBufferedAndFlushed() {
+        // given
+        Product product = productService.createProduct(brand.getId(), "상품1", BigDecimal.valueOf(1000), 1, "설명");
+        brandStatsDeltaBuffer.flush();
+        brandStatsService.recompute(brand.getId());
+
+        // when
+        likeService.like("user1", product.getId());
+        likeService.like("user2", product.getId());
+        likeService.unlike("user1", product.getId());
+        long beforeFlush = brandStatsRepository.findByBrandId(brand.getId()).orElseThrow().getLikeCount();
+        brandStatsDeltaBuffer.flush();
+
+        // then
+        assertThat(beforeFlush).isZero();
+        assertThat(brandStatsRepository.findByBrandId(brand.getId()).orElseThrow().getLikeCount()).isEqualTo(1);
+    }
+
+    @DisplayName("다른 노드가 재계산 잡 락을 잡고 있으면 이번 주기를 건너뛴다")
+    @Test
+    void recomputeJob_skips_whenAnotherNodeHoldsLock() {
+        // given
+        productService.createProduct(brand.getId(), "상품1", BigDecimal.valueOf(1000), 1, "설명");
+        brandStatsDeltaBuffer.flush();
+        brandStatsService.recompute(brand.getId());
+        jdbcTemplate.update("UPDATE brand_stats SET product_count = 99 WHERE brand_id = ?", brand.getId());
+        redisTemplate.opsForValue().set("job:lock:brand-stats-recompute", "other-node", Duration.ofMinutes(1));
+
+        // when
+        brandStatsRecomputeJob.run();
+
+        // then
+        assertThat(brandStatsRepository.findByBrandId(brand.getId()).orElseThrow().getProductCount()).isEqualTo(99);
+    }
+}
@@ -3,6 +3,7 @@ package com.loopers.application.concurrency;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import com.loopers.application.coupon.CouponService;
 import com.loopers.application.like.LikeService;
 import com.loopers.application.order.OrderCommand;
 import com.loopers.application.order.OrderCommand.OrderItemRequest;
@@ -23,6 +24,7 @@ import com.loopers.infrastructure.point.PointJpaRepository;
 import com.loopers.infrastructure.product.ProductJpaRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -45,6 +47,9 @@ class ConcurrencyTest {
     @Autowired
     private OrderFacade orderFacade;
 
+    @Autowired
+    private CouponService couponService;
+
     @Autowired
     private LikeJpaRepository likeJpaRepository;
 
@@ -69,9 +74,13 @@ class ConcurrencyTest {
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @DisplayName("동시성 테스트 1: 동일 상품에 여러 사용자가 동시에 좋아요/싫어요 요청")
@@ -205,15 +214,19 @@ class ConcurrencyTest {
         // 모든 작업 완료 대기
         CompletableFuture.allOf(futures).join();
 
-        // then - 1개만 성공하고 나머지는 실패해야 함 (비관적 락에 의해)
+        // then - 1개만 성공하고 나머지는 실패해야 함 (조건부 UPDATE 에 의해), 실패한 주문의 재고/포인트 차감은 롤백된다
         UserCoupon finalUserCoupon = userCouponJpaRepository.findById(userCoupon.getId())
             .orElseThrow();
+        Product finalProduct = productRepository.findById(productId).orElseThrow();
+        Point finalPoint = pointJpaRepository.findByUserId(userId).orElseThrow();
 
         assertAll(
             () -> assertThat(successCount.get()).isEqualTo(1),
             () -> assertThat(failCount.get()).isEqualTo(4),
             () -> assertThat(finalUserCoupon.isUsed()).isTrue(),
-            () -> assertThat(finalUserCoupon.getUsedAt()).isNotNull()
+            () -> assertThat(finalUserCoupon.getUsedAt()).isNotNull(),
+            () -> assertThat(finalProduct.getStock()).isEqualTo(99),
+            () -> assertThat(finalPoint.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(95000))
         );
     }
 
@@ -344,4 +357,47 @@ class ConcurrencyTest {
             () -> assertThat(finalProduct.getStock()).isEqualTo(0)
         );
     }
+
+    @DisplayName("동시성 테스트 5: 같은 쿠폰에 조건부 사용 UPDATE 가 동시에 들어오면 한 번만 반영된다")
+    @Test
+    void concurrentConditionalCouponUse() {
+        // given
+        Coupon coupon = couponJpaRepository.save(Coupon.builder()
+            .name("5000원 할인 쿠폰")
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(5000))
+            .build());
+        String userId = "user123";
+        UserCoupon userCoupon = userCouponJpaRepository.save(UserCoupon.builder()
+            .userId(userId)
+            .coupon(coupon)
+            .build());
+        final Long userCouponId = userCoupon.getId();
+        int threadCount = 10;
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        CompletableFuture<?>[] futures = IntStream.range(0, threadCount)
+            .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                try {
+                    couponService.useCouponForOrder(userId, userCouponId);
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    failCount.incrementAndGet();
+                }
+            }))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        // then
+        UserCoupon finalUserCoupon = userCouponJpaRepository.findById(userCouponId).orElseThrow();
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(1),
+            () -> assertThat(failCount.get()).isEqualTo(threadCount - 1),
+            () -> assertThat(finalUserCoupon.isUsed()).isTrue(),
+            () -> assertThat(finalUserCoupon.getVersion()).isEqualTo(1L)
+        );
+    }
 }
@@ -0,0 +1,70 @@
+package com.loopers.application.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SpringBootTest
+@DisplayName("AvailableUserCouponCache 통합 테스트")
+class AvailableUserCouponCacheIntegrationTest {
+
+    private static final String USER_ID = "user1";
+
+    @Autowired
+    private AvailableUserCouponCache availableUserCouponCache;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("무효화 이후에 늦게 도착한 적재는 톰스톤에 막혀 반영되지 않는다")
+    @Test
+    void rejectsStalePut_afterEviction() {
+        // given
+        availableUserCouponCache.put(USER_ID, List.of(userCouponInfo(1L)));
+
+        // when
+        availableUserCouponCache.onUserCouponChanged(UserCouponChangedEvent.of(USER_ID));
+        availableUserCouponCache.put(USER_ID, List.of(userCouponInfo(1L)));
+
+        // then
+        assertThat(availableUserCouponCache.get(USER_ID)).isEmpty();
+    }
+
+    @DisplayName("캐시가 비어 있으면 적재한 목록을 그대로 읽는다")
+    @Test
+    void returnsPutValue_whenAbsent() {
+        // given
+        availableUserCouponCache.put(USER_ID, List.of(userCouponInfo(1L)));
+
+        // when & then
+        assertThat(availableUserCouponCache.get(USER_ID))
+            .hasValueSatisfying(userCoupons -> assertThat(userCoupons)
+                .extracting(UserCouponInfo::id)
+                .containsExactly(1L));
+    }
+
+    private UserCouponInfo userCouponInfo(Long id) {
+        Coupon coupon = Coupon.builder()
+            .name("쿠폰")
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(1000))
+            .build();
+        ReflectionTestUtils.setField(coupon, "id", 10L);
+        return new UserCouponInfo(id, USER_ID, CouponInfo.from(coupon), false, null, null);
+    }
+}
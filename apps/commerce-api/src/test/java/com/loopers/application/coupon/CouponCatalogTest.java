@@ -0,0 +1,121 @@
+package com.loopers.application.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.CouponType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("CouponCatalog 테스트")
+class CouponCatalogTest {
+
+    private CouponRepository couponRepository;
+    private CouponCatalog couponCatalog;
+
+    @BeforeEach
+    void setUp() {
+        couponRepository = mock(CouponRepository.class);
+        couponCatalog = new CouponCatalog(couponRepository);
+    }
+
+    @DisplayName("적재된 쿠폰은 DB 를 거치지 않고 스냅샷에서 조회한다")
+    @Test
+    void findsFromSnapshot_afterRefresh() {
+        // given
+        Coupon coupon = coupon(1L);
+        when(couponRepository.findAll()).thenReturn(List.of(coupon));
+        couponCatalog.refresh();
+
+        // when
+        Optional<Coupon> found = couponCatalog.find(1L);
+
+        // then
+        assertThat(found).containsSame(coupon);
+        assertThat(couponCatalog.findAll()).containsExactly(coupon);
+        verify(couponRepository, never()).findById(1L);
+    }
+
+    @DisplayName("캐시에 없는 쿠폰은 DB 에서 읽어 스냅샷에 추가한다")
+    @Test
+    void loadsAndAdds_whenMissing() {
+        // given
+        Coupon coupon = coupon(2L);
+        when(couponRepository.findById(2L)).thenReturn(Optional.of(coupon));
+
+        // when
+        couponCatalog.find(2L);
+        Optional<Coupon> found = couponCatalog.find(2L);
+
+        // then
+        assertThat(found).containsSame(coupon);
+        assertThat(couponCatalog.findAll()).containsExactly(coupon);
+        verify(couponRepository, times(1)).findById(2L);
+    }
+
+    @DisplayName("DB 에도 없는 쿠폰 ID 는 기억해 두어 반복 조회해도 DB 를 한 번만 읽는다")
+    @Test
+    void cachesMiss_whenCouponDoesNotExist() {
+        // given
+        when(couponRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // when
+        couponCatalog.find(9L);
+        Optional<Coupon> found = couponCatalog.find(9L);
+
+        // then
+        assertThat(found).isEmpty();
+        verify(couponRepository, times(1)).findById(9L);
+    }
+
+    @DisplayName("재적재하면 기억해 둔 미스를 잊고 다시 DB 를 읽는다")
+    @Test
+    void forgetsMisses_afterRefresh() {
+        // given
+        Coupon coupon = coupon(9L);
+        when(couponRepository.findById(9L)).thenReturn(Optional.empty(), Optional.of(coupon));
+        couponCatalog.find(9L);
+
+        // when
+        couponCatalog.refresh();
+        Optional<Coupon> found = couponCatalog.find(9L);
+
+        // then
+        assertThat(found).containsSame(coupon);
+        verify(couponRepository, times(2)).findById(9L);
+    }
+
+    @DisplayName("스냅샷은 외부에서 변경할 수 없다")
+    @Test
+    void snapshotIsImmutable() {
+        // given
+        when(couponRepository.findAll()).thenReturn(List.of(coupon(1L)));
+        couponCatalog.refresh();
+
+        // when & then
+        assertThrows(UnsupportedOperationException.class,
+            () -> couponCatalog.findAll().add(coupon(3L)));
+    }
+
+    private Coupon coupon(Long id) {
+        Coupon coupon = Coupon.builder()
+            .name("쿠폰" + id)
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(1000))
+            .build();
+        ReflectionTestUtils.setField(coupon, "id", id);
+        return coupon;
+    }
+}
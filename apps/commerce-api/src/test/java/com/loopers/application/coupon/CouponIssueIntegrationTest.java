@@ -0,0 +1,210 @@
+package com.loopers.application.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponIssuance;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@SpringBootTest
+@DisplayName("선착순 쿠폰 발급 통합 테스트")
+class CouponIssueIntegrationTest {
+
+    @Autowired
+    private CouponIssueEngine couponIssueEngine;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @MockBean
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        coupon = couponService.createCoupon(Coupon.builder()
+            .name("선착순 쿠폰")
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(1000))
+            .issueLimit(2)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("발급 수량까지만 발급하고, 같은 사용자의 재요청은 충돌로 거절한다")
+    @Test
+    void issuesUpToLimit() {
+        // when
+        long first = couponIssueEngine.issue("user1", coupon.getId()).issueNumber();
+        CoreException duplicated = assertThrows(CoreException.class,
+            () -> couponIssueEngine.issue("user1", coupon.getId()));
+        long second = couponIssueEngine.issue("user2", coupon.getId()).issueNumber();
+        CoreException soldOut = assertThrows(CoreException.class,
+            () -> couponIssueEngine.issue("user3", coupon.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(first).isEqualTo(1L),
+            () -> assertThat(second).isEqualTo(2L),
+            () -> assertThat(duplicated.getErrorType()).isEqualTo(ErrorType.CONFLICT),
+            () -> assertThat(soldOut.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST)
+        );
+    }
+
+    @DisplayName("큐 적재 확인이 지연되면 순번을 유지한 채 대기로 응답하여, 다른 사용자가 같은 순번을 받지 못한다")
+    @Test
+    void keepsClaim_whenPublishTimesOut() {
+        // given
+        CompletableFuture<SendResult<Object, Object>> inFlight = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), eq(coupon.getId() + ":user1"), any())).thenReturn(inFlight);
+
+        // when
+        CouponClaimInfo delayed = couponIssueEngine.issue("user1", coupon.getId());
+        long second = couponIssueEngine.issue("user2", coupon.getId()).issueNumber();
+        CoreException soldOut = assertThrows(CoreException.class,
+            () -> couponIssueEngine.issue("user3", coupon.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(delayed.pending()).isTrue(),
+            () -> assertThat(delayed.issueNumber()).isEqualTo(1L),
+            () -> assertThat(second).isEqualTo(2L),
+            () -> assertThat(soldOut.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST)
+        );
+    }
+
+    @DisplayName("대기 중이던 발급의 큐 적재가 최종 실패하면 순번을 반납하여 다른 사용자가 발급받을 수 있다")
+    @Test
+    void releasesClaim_whenPendingPublishFinallyFails() {
+        // given
+        CompletableFuture<SendResult<Object, Object>> inFlight = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), eq(coupon.getId() + ":user1"), any())).thenReturn(inFlight);
+        couponIssueEngine.issue("user1", coupon.getId());
+        couponIssueEngine.issue("user2", coupon.getId());
+
+        // when
+        inFlight.completeExceptionally(new TimeoutException("delivery.timeout.ms 초과"));
+        long third = couponIssueEngine.issue("user3", coupon.getId()).issueNumber();
+
+        // then
+        assertThat(third).isEqualTo(2L);
+    }
+
+    @DisplayName("큐 적재가 실패로 확정되면 순번을 반납하고 오류로 응답한다")
+    @Test
+    void releasesClaim_whenPublishFails() {
+        // given
+        when(kafkaTemplate.send(anyString(), eq(coupon.getId() + ":user1"), any()))
+            .thenReturn(CompletableFuture.failedFuture(new TimeoutException("delivery.timeout.ms 초과")));
+
+        // when
+        CoreException failed = assertThrows(CoreException.class,
+            () -> couponIssueEngine.issue("user1", coupon.getId()));
+        long retried = couponIssueEngine.issue("user2", coupon.getId()).issueNumber();
+
+        // then
+        assertAll(
+            () -> assertThat(failed.getErrorType()).isEqualTo(ErrorType.INTERNAL_ERROR),
+            () -> assertThat(retried).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("Redis 의 발급 상태가 유실되면 DB 의 발급분으로 복원하여 중복 발급과 초과 발급을 막는다")
+    @Test
+    void seedsFromDatabase_whenRedisStateIsLost() {
+        // given
+        couponService.saveIssuances(List.of(new CouponIssuance(coupon.getId(), "user1", ZonedDateTime.now())));
+        redisCleanUp.truncateAll();
+
+        // when
+        CoreException duplicated = assertThrows(CoreException.class,
+            () -> couponIssueEngine.issue("user1", coupon.getId()));
+        long second = couponIssueEngine.issue("user2", coupon.getId()).issueNumber();
+        CoreException soldOut = assertThrows(CoreException.class,
+            () -> couponIssueEngine.issue("user3", coupon.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(duplicated.getErrorType()).isEqualTo(ErrorType.CONFLICT),
+            () -> assertThat(second).isEqualTo(2L),
+            () -> assertThat(soldOut.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST)
+        );
+    }
+
+    @DisplayName("재전달된 발급분은 (user_id, limited_coupon_id) 유니크 키로 걸러져 한 번만 저장된다")
+    @Test
+    void savesIssuanceOnce_whenRedelivered() {
+        // given
+        CouponIssuance issuance = new CouponIssuance(coupon.getId(), "user1", ZonedDateTime.now());
+        couponService.saveIssuances(List.of(issuance));
+
+        // when
+        couponService.saveIssuances(List.of(issuance, new CouponIssuance(coupon.getId(), "user2", ZonedDateTime.now())));
+
+        // then
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT user_id FROM user_coupons WHERE coupon_id = ? ORDER BY user_id", String.class, coupon.getId()))
+            .containsExactly("user1", "user2");
+    }
+
+    @DisplayName("한 사용자당 한 장 제약은 선착순 쿠폰에만 적용되어, 일반 쿠폰은 같은 사용자에게 여러 번 발급할 수 있다")
+    @Test
+    void issuesRegularCouponRepeatedly() {
+        // given
+        Coupon regular = couponService.createCoupon(Coupon.builder()
+            .name("일반 쿠폰")
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(1000))
+            .build());
+
+        // when
+        couponService.issueCouponToUser("user1", regular.getId());
+        couponService.issueCouponToUser("user1", regular.getId());
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM user_coupons WHERE user_id = ? AND coupon_id = ?", Long.class, "user1", regular.getId()))
+            .isEqualTo(2L);
+    }
+}
@@ -0,0 +1,155 @@
+package com.loopers.application.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.domain.coupon.UserCoupon;
+import com.loopers.infrastructure.coupon.CouponJpaRepository;
+import com.loopers.infrastructure.coupon.UserCouponJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+    "coupon.cleanup.enabled=true",
+    "coupon.cleanup.chunk-size=2",
+    "coupon.cleanup.throttle=0ms"
+})
+@DisplayName("만료 쿠폰 정리 잡 통합 테스트")
+class ExpiredCouponCleanupJobIntegrationTest {
+
+    @Autowired
+    private ExpiredCouponCleanupJob expiredCouponCleanupJob;
+
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    private UserCouponJpaRepository userCouponJpaRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("만료된 쿠폰의 미사용 사용자 쿠폰만 소프트 삭제하고, 사용한 쿠폰과 만료되지 않은 쿠폰은 남긴다")
+    @Test
+    void deletesOnlyUnusedCouponsOfExpiredCoupons() {
+        // given
+        Coupon expired = coupon(ZonedDateTime.now().minusDays(2));
+        Coupon valid = coupon(ZonedDateTime.now().plusDays(2));
+        UserCoupon unused1 = userCoupon("user1", expired);
+        UserCoupon unused2 = userCoupon("user2", expired);
+        UserCoupon unused3 = userCoupon("user3", expired);
+        UserCoupon used = userCoupon("user4", expired);
+        jdbcTemplate.update("UPDATE user_coupons SET is_used = true WHERE id = ?", used.getId());
+        UserCoupon notExpired = userCoupon("user1", valid);
+
+        // when
+        expiredCouponCleanupJob.run();
+
+        // then
+        assertAll(
+            () -> assertThat(isDeleted(unused1)).isTrue(),
+            () -> assertThat(isDeleted(unused2)).isTrue(),
+            () -> assertThat(isDeleted(unused3)).isTrue(),
+            () -> assertThat(isDeleted(used)).isFalse(),
+            () -> assertThat(isDeleted(notExpired)).isFalse()
+        );
+    }
+
+    @DisplayName("만료된 지 유예 시간이 지나지 않은 쿠폰은 늦게 저장되는 발급분이 있을 수 있어 아직 정리하지 않는다")
+    @Test
+    void skipsCouponsWithinLateIssuanceGrace() {
+        // given
+        Coupon justExpired = coupon(ZonedDateTime.now().minusMinutes(1));
+        UserCoupon unused = userCoupon("user1", justExpired);
+
+        // when
+        expiredCouponCleanupJob.run();
+
+        // then
+        assertThat(isDeleted(unused)).isFalse();
+    }
+
+    @DisplayName("워터마크 이전에 정리한 쿠폰은 다음 실행에서 다시 조회하지 않는다")
+    @Test
+    void doesNotRescanCouponsBeforeWatermark() {
+        // given
+        Coupon expired = coupon(ZonedDateTime.now().minusDays(2));
+        userCoupon("user1", expired);
+        expiredCouponCleanupJob.run();
+        UserCoupon lateArrival = userCoupon("user2", expired);
+        Coupon newlyExpired = coupon(ZonedDateTime.now().minusDays(1));
+        UserCoupon newlyExpiredUnused = userCoupon("user1", newlyExpired);
+
+        // when
+        expiredCouponCleanupJob.run();
+
+        // then
+        assertAll(
+            () -> assertThat(isDeleted(lateArrival)).isFalse(),
+            () -> assertThat(isDeleted(newlyExpiredUnused)).isTrue()
+        );
+    }
+
+    @DisplayName("다른 노드가 잡 락을 잡고 있으면 이번 주기를 건너뛴다")
+    @Test
+    void skips_whenAnotherNodeHoldsLock() {
+        // given
+        Coupon expired = coupon(ZonedDateTime.now().minusDays(2));
+        UserCoupon unused = userCoupon("user1", expired);
+        redisTemplate.opsForValue().set("job:lock:expired-coupon-cleanup", "other-node", Duration.ofMinutes(1));
+
+        // when
+        expiredCouponCleanupJob.run();
+
+        // then
+        assertThat(isDeleted(unused)).isFalse();
+    }
+
+    private Coupon coupon(ZonedDateTime validUntil) {
+        return couponJpaRepository.save(Coupon.builder()
+            .name("쿠폰")
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(1000))
+            .validUntil(validUntil)
+            .build());
+    }
+
+    private UserCoupon userCoupon(String userId, Coupon coupon) {
+        return userCouponJpaRepository.save(UserCoupon.builder()
+            .userId(userId)
+            .coupon(coupon)
+            .build());
+    }
+
+    private boolean isDeleted(UserCoupon userCoupon) {
+        return jdbcTemplate.queryForObject("SELECT deleted_at IS NOT NULL FROM user_coupons WHERE id = ?",
+            Boolean.class, userCoupon.getId());
+    }
+}
@@ -0,0 +1,226 @@
+package com.loopers.application.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@SpringBootTest(properties = {
+    "like.count.reconcile.enabled=true",
+    "like.count.reconcile.cron=-",
+    "like.count.reconcile.throttle=0ms"
+})
+@DisplayName("LikeCountCache 통합 테스트")
+class LikeCountCacheIntegrationTest {
+
+    private static final String DIRTY_KEY = "like:count:dirty";
+
+    @Autowired
+    private LikeCountCache likeCountCache;
+
+    @Autowired
+    private LikeCountReconcileJob likeCountReconcileJob;
+
+    @Autowired
+    private LikeService likeService;
+
+    @SpyBean
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = ((JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+            .name("테스트 브랜드")
+            .description("테스트용 브랜드")
+            .build());
+        product = ((JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+            .brand(brand)
+            .name("테스트 상품")
+            .price(BigDecimal.valueOf(10000))
+            .stock(10)
+            .description("테스트용 상품")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("카운터가 있으면 커밋된 좋아요/취소마다 증감하고, 상품을 보정 대상으로 기록한다")
+    @Test
+    void adjustsCachedCounter_andMarksDirty() {
+        // given
+        likeService.like("user1", product.getId());
+        assertThat(likeCountCache.getCount(product.getId())).isEqualTo(1L);
+
+        // when
+        likeService.like("user2", product.getId());
+        likeService.like("user3", product.getId());
+        likeService.unlike("user1", product.getId());
+
+        // then
+        assertAll(
+            () -> assertThat(redisTemplate.opsForValue().get(countKey())).isEqualTo("2"),
+            () -> assertThat(redisTemplate.opsForSet().members(DIRTY_KEY)).containsExactly(String.valueOf(product.getId()))
+        );
+    }
+
+    @DisplayName("카운터가 없으면 증감으로 만들지 않고, 다음 조회에서 DB 집계로 채운다")
+    @Test
+    void doesNotCreateCounter_whenAbsent() {
+        // given
+        likeService.like("user1", product.getId());
+        likeService.like("user2", product.getId());
+
+        // when
+        Boolean cachedBeforeRead = redisTemplate.hasKey(countKey());
+        long count = likeCountCache.getCount(product.getId());
+
+        // then
+        assertAll(
+            () -> assertThat(cachedBeforeRead).isFalse(),
+            () -> assertThat(count).isEqualTo(2L),
+            () -> assertThat(redisTemplate.opsForValue().get(countKey())).isEqualTo("2")
+        );
+    }
+
+    @DisplayName("상태가 바뀌지 않는 중복 좋아요/취소는 카운터를 지우지도 바꾸지도 않는다")
+    @Test
+    void keepsCounter_onRepeatedRequests() {
+        // given
+        likeService.like("user1", product.getId());
+        likeCountCache.getCount(product.getId());
+
+        // when
+        likeService.like("user1", product.getId());
+        likeService.unlike("user2", product.getId());
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(countKey())).isEqualTo("1");
+    }
+
+    @DisplayName("보정은 어긋난 카운터를 DB 집계로 덮어쓰고, 캐시되지 않은 상품은 채우지 않는다")
+    @Test
+    void reconcilesDriftedCounter() {
+        // given
+        Product other = ((JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+            .brand(product.getBrand())
+            .name("다른 상품")
+            .price(BigDecimal.valueOf(5000))
+            .stock(10)
+            .description("테스트용 상품")
+            .build());
+        likeService.like("user1", product.getId());
+        redisTemplate.opsForValue().set(countKey(), "5", Duration.ofMinutes(1));
+
+        // when
+        int repaired = likeCountCache.reconcile(List.of(product.getId(), other.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(repaired).isEqualTo(1),
+            () -> assertThat(redisTemplate.opsForValue().get(countKey())).isEqualTo("1"),
+            () -> assertThat(redisTemplate.getExpire(countKey())).isPositive(),
+            () -> assertThat(redisTemplate.hasKey("like:count:" + other.getId())).isFalse()
+        );
+    }
+
+    @DisplayName("비교하는 동안 카운터가 증감되면 보정으로 덮어쓰지 않는다")
+    @Test
+    void skipsCounter_changedDuringReconcile() {
+        // given
+        likeService.like("user1", product.getId());
+        redisTemplate.opsForValue().set(countKey(), "5", Duration.ofMinutes(1));
+        doAnswer(invocation -> {
+            redisTemplate.opsForValue().increment(countKey());
+            return invocation.callRealMethod();
+        }).when(likeRepository).countByProductIds(anyList());
+
+        // when
+        int repaired = likeCountCache.reconcile(List.of(product.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(repaired).isZero(),
+            () -> assertThat(redisTemplate.opsForValue().get(countKey())).isEqualTo("6")
+        );
+    }
+
+    @DisplayName("보정 잡은 보정 대상 집합의 상품만 보정하고 집합을 비운다")
+    @Test
+    void jobReconcilesDirtyProducts() {
+        // given
+        likeService.like("user1", product.getId());
+        redisTemplate.opsForValue().set(countKey(), "5", Duration.ofMinutes(1));
+
+        // when
+        likeCountReconcileJob.run();
+
+        // then
+        assertAll(
+            () -> assertThat(redisTemplate.opsForValue().get(countKey())).isEqualTo("1"),
+            () -> assertThat(redisTemplate.hasKey(DIRTY_KEY)).isFalse()
+        );
+    }
+
+    @DisplayName("다른 노드가 보정 잡 락을 잡고 있으면 보정하지 않는다")
+    @Test
+    void jobSkips_whenLockedByOtherNode() {
+        // given
+        likeService.like("user1", product.getId());
+        redisTemplate.opsForValue().set(countKey(), "5", Duration.ofMinutes(1));
+        redisTemplate.opsForValue().set("job:lock:like-count-reconcile", "other-node", Duration.ofMinutes(1));
+
+        // when
+        likeCountReconcileJob.run();
+
+        // then
+        assertAll(
+            () -> assertThat(redisTemplate.opsForValue().get(countKey())).isEqualTo("5"),
+            () -> assertThat(redisTemplate.opsForSet().isMember(DIRTY_KEY, String.valueOf(product.getId()))).isTrue()
+        );
+    }
+
+    private String countKey() {
+        return "like:count:" + product.getId();
+    }
+}
@@ -0,0 +1,166 @@
+package com.loopers.application.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@DisplayName("좋아요한 상품 목록 통합 테스트")
+class LikeServiceIntegrationTest {
+
+    private static final String USER_ID = "user1";
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = ((JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+            .name("테스트 브랜드")
+            .description("테스트용 브랜드")
+            .build());
+        // 같은 시각에 누른 좋아요가 섞이도록 두 개씩 같은 created_at 을 준다.
+        ZonedDateTime base = ZonedDateTime.now().minusDays(1);
+        for (int i = 0; i < 5; i++) {
+            Product product = ((JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+                .brand(brand)
+                .name("상품" + i)
+                .price(BigDecimal.valueOf(1000L * (i + 1)))
+                .stock(10)
+                .description("테스트용 상품")
+                .build());
+            products.add(product);
+            likeService.like(USER_ID, product.getId());
+            jdbcTemplate.update("UPDATE likes SET created_at = ? WHERE product_id = ?",
+                base.plusMinutes(i / 2).toOffsetDateTime(), product.getId());
+        }
+        likeService.like("user2", products.get(0).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("커서를 따라가면 최근에 좋아요한 순서로 빠짐없이, 중복 없이 조회된다")
+    @Test
+    void pagesThroughLikesNewestFirst() {
+        // when
+        LikedProductPage first = likeService.getLikedProducts(USER_ID, null, 2);
+        LikedProductPage second = likeService.getLikedProducts(USER_ID, first.nextCursor(), 2);
+        LikedProductPage third = likeService.getLikedProducts(USER_ID, second.nextCursor(), 2);
+
+        // then
+        List<Long> productIds = new ArrayList<>();
+        for (LikedProductPage page : List.of(first, second, third)) {
+            page.products().forEach(liked -> productIds.add(liked.product().id()));
+        }
+        assertAll(
+            () -> assertThat(productIds).containsExactly(
+                products.get(4).getId(), products.get(3).getId(), products.get(2).getId(),
+                products.get(1).getId(), products.get(0).getId()),
+            () -> assertThat(first.hasNext()).isTrue(),
+            () -> assertThat(second.hasNext()).isTrue(),
+            () -> assertThat(third.hasNext()).isFalse()
+        );
+    }
+
+    @DisplayName("상품 정보에는 좋아요 수와 브랜드가 함께 조합된다")
+    @Test
+    void composesLikeCountAndBrand() {
+        // when
+        LikedProductPage page = likeService.getLikedProducts(USER_ID, null, 10);
+
+        // then
+        LikedProductInfo oldest = page.products().get(page.products().size() - 1);
+        assertAll(
+            () -> assertThat(oldest.product().id()).isEqualTo(products.get(0).getId()),
+            () -> assertThat(oldest.product().likeCount()).isEqualTo(2L),
+            () -> assertThat(oldest.product().brand().name()).isEqualTo("테스트 브랜드")
+        );
+    }
+
+    @DisplayName("삭제된 상품은 제외하되 커서는 읽은 좋아요 위치로 이어진다")
+    @Test
+    void skipsDeletedProducts() {
+        // given
+        jdbcTemplate.update("UPDATE products SET deleted_at = NOW() WHERE id = ?", products.get(3).getId());
+
+        // when
+        LikedProductPage first = likeService.getLikedProducts(USER_ID, null, 2);
+        LikedProductPage second = likeService.getLikedProducts(USER_ID, first.nextCursor(), 2);
+
+        // then
+        assertAll(
+            () -> assertThat(first.products()).extracting(liked -> liked.product().id())
+                .containsExactly(products.get(4).getId()),
+            () -> assertThat(second.products()).extracting(liked -> liked.product().id())
+                .containsExactly(products.get(2).getId(), products.get(1).getId())
+        );
+    }
+
+    @DisplayName("취소한 좋아요는 목록에 나오지 않는다")
+    @Test
+    void excludesUnliked() {
+        // given
+        likeService.unlike(USER_ID, products.get(4).getId());
+
+        // when
+        LikedProductPage page = likeService.getLikedProducts(USER_ID, null, 10);
+
+        // then
+        assertThat(page.products()).extracting(liked -> liked.product().id())
+            .doesNotContain(products.get(4).getId())
+            .hasSize(4);
+    }
+
+    @DisplayName("유효하지 않은 커서면 BAD_REQUEST 예외가 발생한다")
+    @Test
+    void throwsBadRequest_whenCursorIsInvalid() {
+        // when
+        CoreException exception = assertThrows(CoreException.class,
+            () -> likeService.getLikedProducts(USER_ID, "invalid!", 10));
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+    }
+}
@@ -3,6 +3,8 @@ package com.loopers.application.order;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.loopers.application.coupon.CouponService;
 import com.loopers.application.order.OrderCommand.OrderItemRequest;
@@ -10,6 +12,7 @@ import com.loopers.domain.brand.Brand;
 import com.loopers.domain.coupon.Coupon;
 import com.loopers.domain.coupon.CouponType;
 import com.loopers.domain.coupon.UserCoupon;
+import com.loopers.domain.coupon.UserCouponRepository;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderStatus;
 import com.loopers.domain.point.Point;
@@ -21,7 +24,9 @@ import com.loopers.infrastructure.order.OrderJpaRepository;
 import com.loopers.infrastructure.point.PointJpaRepository;
 import com.loopers.infrastructure.product.ProductJpaRepository;
 import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import java.math.BigDecimal;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
@@ -30,6 +35,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -66,12 +73,22 @@ class OrderFacadeIntegrationTest {
     @Autowired
     private UserCouponJpaRepository userCouponJpaRepository;
 
+    @SpyBean
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @DisplayName("주문 생성 성공 시나리오")
@@ -275,6 +292,85 @@ class OrderFacadeIntegrationTest {
         }
     }
 
+    @DisplayName("쿠폰을 사용한 주문은 사전 검증에서 읽은 쿠폰 행만 사용하고, 사용 처리 후 다시 읽지 않는다")
+    @Test
+    void createOrder_readsUserCouponOnce() {
+        // given
+        String userId = "user123";
+        Product product = saveProduct(10);
+        UserCoupon userCoupon = saveUserCoupon(userId);
+        savePoint(userId, BigDecimal.valueOf(50000));
+
+        // when
+        orderFacade.createOrder(userId, new OrderCommand.Create(
+            List.of(new OrderItemRequest(product.getId(), 1)), userCoupon.getId()));
+
+        // then
+        verify(userCouponRepository, times(1)).findById(userCoupon.getId());
+        assertThat(userCouponJpaRepository.findById(userCoupon.getId()).orElseThrow().isUsed()).isTrue();
+    }
+
+    @DisplayName("비동기 주문 접수")
+    @Nested
+    class AcceptOrder {
+
+        @DisplayName("사용 가능 쿠폰 목록이 캐시된 뒤 사용된 쿠폰은 접수 단계에서 거절한다")
+        @Test
+        void acceptOrder_rejectsCouponUsedAfterListWasCached() {
+            // given
+            String userId = "user123";
+            Product product = saveProduct(10);
+            UserCoupon userCoupon = saveUserCoupon(userId);
+            couponService.getAvailableUserCouponInfos(userId);
+            // 캐시 무효화 이벤트 없이 쿠폰을 사용 처리하여, 캐시에는 아직 사용 가능으로 남아 있는 상태를 만든다.
+            jdbcTemplate.update("UPDATE user_coupons SET is_used = true, used_at = NOW() WHERE id = ?", userCoupon.getId());
+
+            // when
+            CoreException exception = assertThrows(CoreException.class, () -> orderFacade.acceptOrder(userId,
+                new OrderCommand.Create(List.of(new OrderItemRequest(product.getId(), 1)), userCoupon.getId())));
+
+            // then
+            assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(orderJpaRepository.count()).isZero()
+            );
+        }
+    }
+
+    private Product saveProduct(int stock) {
+        Brand brand = ((org.springframework.data.jpa.repository.JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+            .name("테스트 브랜드")
+            .description("테스트용 브랜드")
+            .build());
+        return ((org.springframework.data.jpa.repository.JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+            .brand(brand)
+            .name("테스트 상품")
+            .price(BigDecimal.valueOf(10000))
+            .stock(stock)
+            .description("테스트용 상품")
+            .build());
+    }
+
+    private UserCoupon saveUserCoupon(String userId) {
+        Coupon coupon = ((org.springframework.data.jpa.repository.JpaRepository<Coupon, Long>) couponJpaRepository).save(Coupon.builder()
+            .name("5000원 할인 쿠폰")
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(5000))
+            .description("테스트용 쿠폰")
+            .build());
+        return ((org.springframework.data.jpa.repository.JpaRepository<UserCoupon, Long>) userCouponJpaRepository).save(UserCoupon.builder()
+            .userId(userId)
+            .coupon(coupon)
+            .build());
+    }
+
+    private void savePoint(String userId, BigDecimal balance) {
+        ((org.springframework.data.jpa.repository.JpaRepository<Point, Long>) pointJpaRepository).save(Point.builder()
+            .userId(userId)
+            .balance(balance)
+            .build());
+    }
+
     @DisplayName("주문 생성 실패 시나리오")
     @Nested
     class CreateOrderFailure {
@@ -592,4 +688,213 @@ class OrderFacadeIntegrationTest {
             );
         }
     }
+
+    @DisplayName("주문 내역 조회")
+    @Nested
+    class GetOrdersByUser {
+
+        @DisplayName("본인 주문만 최신순으로 페이지 단위로 조회하고, 주문 항목을 함께 반환한다")
+        @Test
+        void returnsNewestFirst_withItems() {
+            // given
+            Brand brand = ((org.springframework.data.jpa.repository.JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+                .name("테스트 브랜드")
+                .description("테스트용 브랜드")
+                .build());
+            Product product = ((org.springframework.data.jpa.repository.JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+                .brand(brand)
+                .name("테스트 상품")
+                .price(BigDecimal.valueOf(1000))
+                .stock(100)
+                .description("테스트용 상품")
+                .build());
+            List<Long> orderIds = new java.util.ArrayList<>();
+            for (int quantity = 1; quantity <= 5; quantity++) {
+                Order order = Order.builder().userId("user1").build();
+                order.addOrderItem(com.loopers.domain.order.OrderItem.from(product, quantity));
+                order.calculateTotalAmount();
+                orderIds.add(orderRepository.save(order).getId());
+            }
+            Order others = Order.builder().userId("user2").build();
+            others.addOrderItem(com.loopers.domain.order.OrderItem.from(product, 1));
+            orderRepository.save(others);
+
+            // when
+            org.springframework.data.domain.Page<OrderInfo> first =
+                orderFacade.getOrdersByUser("user1", org.springframework.data.domain.PageRequest.of(0, 2));
+            org.springframework.data.domain.Page<OrderInfo> last =
+                orderFacade.getOrdersByUser("user1", org.springframework.data.domain.PageRequest.of(2, 2));
+
+            // then
+            assertAll(
+                () -> assertThat(first.getTotalElements()).isEqualTo(5),
+                () -> assertThat(first.getContent()).extracting(OrderInfo::id)
+                    .containsExactly(orderIds.get(4), orderIds.get(3)),
+                () -> assertThat(first.getContent().get(0).orderItems()).hasSize(1),
+                () -> assertThat(first.getContent().get(0).orderItems().get(0).quantity()).isEqualTo(5),
+                () -> assertThat(last.getTotalElements()).isEqualTo(5),
+                () -> assertThat(last.getContent()).extracting(OrderInfo::id).containsExactly(orderIds.get(0))
+            );
+        }
+    }
+
+    @DisplayName("관리자 일괄 취소")
+    @Nested
+    class CancelOrders {
+
+        @DisplayName("취소 가능한 주문만 취소하고, 사용자별 합산 금액을 환불하며 상품별 합산 수량만큼 재고를 복구한다")
+        @Test
+        void cancelsCancelableOrders_andRefundsSummedAmounts() {
+            // given
+            Product product = saveProduct(10);
+            savePoint("user1", 0);
+            savePoint("user2", 0);
+            Order first = saveOrder("user1", product, 2);
+            Order second = saveOrder("user1", product, 1);
+            Order other = saveOrder("user2", product, 3);
+            Order completed = saveOrder("user2", product, 1);
+            completed.complete();
+            orderRepository.save(completed);
+
+            // when
+            OrderBulkCancelInfo result = orderFacade.cancelOrders(
+                List.of(first.getId(), second.getId(), other.getId(), completed.getId(), 9999L, first.getId()));
+
+            // then
+            assertAll(
+                () -> assertThat(result.canceledOrderIds())
+                    .containsExactlyInAnyOrder(first.getId(), second.getId(), other.getId()),
+                () -> assertThat(result.skippedOrderIds()).containsExactlyInAnyOrder(completed.getId(), 9999L),
+                () -> assertThat(result.failedOrderIds()).isEmpty(),
+                () -> assertThat(orderRepository.findById(first.getId()).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.CANCELED),
+                () -> assertThat(orderRepository.findById(completed.getId()).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.COMPLETED),
+                () -> assertThat(pointJpaRepository.findByUserId("user1").orElseThrow().getBalance())
+                    .isEqualByComparingTo(BigDecimal.valueOf(30000)),
+                () -> assertThat(pointJpaRepository.findByUserId("user2").orElseThrow().getBalance())
+                    .isEqualByComparingTo(BigDecimal.valueOf(30000)),
+                () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(16)
+            );
+        }
+
+        @DisplayName("한 청크가 실패하면 그 청크만 롤백되어 실패 목록에 담기고, 다른 청크의 취소는 유지된다")
+        @Test
+        void keepsOtherChunks_whenOneChunkFails() {
+            // given - 첫 청크는 정상, 두 번째 청크는 포인트 정보가 없는 사용자의 주문이라 환불에서 실패한다
+            Product product = saveProduct(1000);
+            savePoint("user1", 0);
+            List<Long> orderIds = new java.util.ArrayList<>();
+            for (int i = 0; i < OrderFacade.BULK_CANCEL_CHUNK_SIZE; i++) {
+                orderIds.add(saveOrder("user1", product, 1).getId());
+            }
+            Order withoutPoint = saveOrder("ghost", product, 5);
+            orderIds.add(withoutPoint.getId());
+
+            // when
+            OrderBulkCancelInfo result = orderFacade.cancelOrders(orderIds);
+
+            // then
+            assertAll(
+                () -> assertThat(result.canceledOrderIds()).hasSize(OrderFacade.BULK_CANCEL_CHUNK_SIZE),
+                () -> assertThat(result.failedOrderIds()).containsExactly(withoutPoint.getId()),
+                () -> assertThat(orderRepository.findById(withoutPoint.getId()).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.PENDING),
+                () -> assertThat(pointJpaRepository.findByUserId("user1").orElseThrow().getBalance())
+                    .isEqualByComparingTo(BigDecimal.valueOf(10000L * OrderFacade.BULK_CANCEL_CHUNK_SIZE)),
+                () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getStock())
+                    .isEqualTo(1000 + OrderFacade.BULK_CANCEL_CHUNK_SIZE)
+            );
+        }
+
+        private Product saveProduct(int stock) {
+            Brand brand = ((org.springframework.data.jpa.repository.JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+                .name("테스트 브랜드")
+                .description("테스트용 브랜드")
+                .build());
+            return ((org.springframework.data.jpa.repository.JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+                .brand(brand)
+                .name("테스트 상품")
+                .price(BigDecimal.valueOf(10000))
+                .stock(stock)
+                .description("테스트용 상품")
+                .build());
+        }
+
+        private void savePoint(String userId, long balance) {
+            ((org.springframework.data.jpa.repository.JpaRepository<Point, Long>) pointJpaRepository).save(Point.builder()
+                .userId(userId)
+                .balance(BigDecimal.valueOf(balance))
+                .build());
+        }
+
+        /**
+         * 재고/포인트 차감이 끝난 주문이라고 가정하고 대기 상태의 주문만 저장한다.
+         */
+        private Order saveOrder(String userId, Product product, int quantity) {
+            Order order = Order.builder().userId(userId).build();
+            order.addOrderItem(com.loopers.domain.order.OrderItem.from(product, quantity));
+            order.calculateTotalAmount();
+            return orderRepository.save(order);
+        }
+    }
+
+    @DisplayName("주문 금액 미리보기")
+    @Nested
+    class PreviewOrder {
+
+        @DisplayName("사용 가능한 쿠폰 중 할인 금액이 가장 큰 쿠폰을 추천하고, 아무 것도 변경하지 않는다")
+        @Test
+        void previewOrder_recommendsBestCoupon() {
+            // given
+            String userId = "user123";
+
+            Brand brand = ((org.springframework.data.jpa.repository.JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+                .name("테스트 브랜드")
+                .description("테스트용 브랜드")
+                .build());
+            Product product = ((org.springframework.data.jpa.repository.JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+                .brand(brand)
+                .name("테스트 상품")
+                .price(BigDecimal.valueOf(10000))
+                .stock(10)
+                .description("테스트용 상품")
+                .build());
+
+            Coupon fixedCoupon = couponService.createCoupon(Coupon.builder()
+                .name("3000원 할인")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(3000))
+                .build());
+            Coupon percentageCoupon = couponService.createCoupon(Coupon.builder()
+                .name("20% 할인")
+                .type(CouponType.PERCENTAGE)
+                .discountValue(BigDecimal.valueOf(20))
+                .build());
+            UserCoupon fixedUserCoupon = couponService.issueCouponToUser(userId, fixedCoupon.getId());
+            UserCoupon percentageUserCoupon = couponService.issueCouponToUser(userId, percentageCoupon.getId());
+
+            OrderCommand.Preview command = new OrderCommand.Preview(
+                List.of(new OrderItemRequest(product.getId(), 2))
+            );
+
+            // when
+            OrderPreviewInfo preview = orderFacade.previewOrder(userId, command);
+
+            // then
+            Product unchangedProduct = productRepository.findById(product.getId()).orElseThrow();
+            assertAll(
+                () -> assertThat(preview.totalAmount()).isEqualByComparingTo(BigDecimal.valueOf(20000)),
+                () -> assertThat(preview.bestUserCouponId()).isEqualTo(percentageUserCoupon.getId()),
+                () -> assertThat(preview.discountAmount()).isEqualByComparingTo(BigDecimal.valueOf(4000)),
+                () -> assertThat(preview.paymentAmount()).isEqualByComparingTo(BigDecimal.valueOf(16000)),
+                () -> assertThat(preview.coupons())
+                    .extracting(OrderPreviewInfo.CouponDiscount::userCouponId)
+                    .containsExactly(percentageUserCoupon.getId(), fixedUserCoupon.getId()),
+                () -> assertThat(unchangedProduct.getStock()).isEqualTo(10),
+                () -> assertThat(userCouponJpaRepository.findById(percentageUserCoupon.getId()).orElseThrow().isUsed())
+                    .isFalse()
+            );
+        }
+    }
 }
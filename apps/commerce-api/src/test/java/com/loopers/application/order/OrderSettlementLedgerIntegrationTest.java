@@ -0,0 +1,176 @@
+package com.loopers.application.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.application.archive.ColdStorageArchiveJob;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.point.PointJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+    "point.ledger.enabled=true",
+    "archive.enabled=true",
+    "archive.retention-days=30",
+    "archive.throttle=0ms"
+})
+@DisplayName("원장 모드 주문 정산 통합 테스트")
+class OrderSettlementLedgerIntegrationTest {
+
+    private static final String USER_ID = "user1";
+
+    @Autowired
+    private OrderSettlementProcessor orderSettlementProcessor;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private ColdStorageArchiveJob coldStorageArchiveJob;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private PointJpaRepository pointJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = ((JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+            .name("테스트 브랜드")
+            .description("테스트용 브랜드")
+            .build());
+        product = ((JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+            .brand(brand)
+            .name("테스트 상품")
+            .price(BigDecimal.valueOf(10000))
+            .stock(10)
+            .description("테스트용 상품")
+            .build());
+        ((JpaRepository<Point, Long>) pointJpaRepository).save(Point.builder()
+            .userId(USER_ID)
+            .balance(BigDecimal.ZERO)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("스냅샷 이후 원장에 기록된 충전/사용을 반영한 잔액으로 정산하고, 차감을 다음 시퀀스로 기록한다")
+    @Test
+    void settlesAgainstLedgerTail() {
+        // given
+        pointService.chargePoint(USER_ID, BigDecimal.valueOf(50000));
+        pointService.usePoint(USER_ID, BigDecimal.valueOf(10000));
+        Order order = acceptedOrder(2);
+
+        // when
+        orderSettlementProcessor.settle(List.of(order.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.COMPLETED),
+            () -> assertThat(pointService.getBalance(USER_ID)).isEqualByComparingTo(BigDecimal.valueOf(20000)),
+            () -> assertThat(jdbcTemplate.queryForList(
+                "SELECT sequence FROM point_histories WHERE user_id = ? ORDER BY sequence", Long.class, USER_ID))
+                .containsExactly(1L, 2L, 3L),
+            () -> assertThat(pointJpaRepository.findByUserId(USER_ID).orElseThrow().getBalance())
+                .isEqualByComparingTo(BigDecimal.ZERO)
+        );
+    }
+
+    @DisplayName("원장 잔액이 부족하면 스냅샷 잔액과 무관하게 실패하고, 같은 배치의 앞선 차감도 잔액에 반영된다")
+    @Test
+    void failsWhenLedgerBalanceIsInsufficient() {
+        // given
+        pointService.chargePoint(USER_ID, BigDecimal.valueOf(30000));
+        Order first = acceptedOrder(2);
+        Order second = acceptedOrder(2);
+
+        // when
+        orderSettlementProcessor.settle(List.of(first.getId(), second.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(orderRepository.findById(first.getId()).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.COMPLETED),
+            () -> assertThat(orderRepository.findById(second.getId()).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.FAILED),
+            () -> assertThat(pointService.getBalance(USER_ID)).isEqualByComparingTo(BigDecimal.valueOf(10000))
+        );
+    }
+
+    @DisplayName("스냅샷에 반영되지 않은 원장 이력은 보관 기간이 지나도 아카이브하지 않는다")
+    @Test
+    void keepsUnsnapshottedLedgerRows() {
+        // given
+        pointService.chargePoint(USER_ID, BigDecimal.valueOf(30000));
+        pointService.chargePoint(USER_ID, BigDecimal.valueOf(20000));
+        pointService.materializeSnapshot(USER_ID);
+        pointService.usePoint(USER_ID, BigDecimal.valueOf(5000));
+        jdbcTemplate.update("UPDATE point_histories SET created_at = created_at - INTERVAL 400 DAY");
+
+        // when
+        coldStorageArchiveJob.run();
+
+        // then
+        assertAll(
+            () -> assertThat(jdbcTemplate.queryForList(
+                "SELECT sequence FROM point_histories WHERE user_id = ?", Long.class, USER_ID))
+                .containsExactly(3L),
+            () -> assertThat(pointService.getBalance(USER_ID)).isEqualByComparingTo(BigDecimal.valueOf(45000))
+        );
+    }
+
+    /**
+     * 이벤트를 발행하지 않고 정산 대기 주문을 저장하여, 백그라운드 워커와 경합하지 않도록 한다.
+     */
+    private Order acceptedOrder(int quantity) {
+        Order order = Order.builder().userId(USER_ID).build();
+        order.addOrderItem(OrderItem.from(product, quantity));
+        order.calculateTotalAmount();
+        order.requestSettlement(null);
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,195 @@
+package com.loopers.application.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.point.Point;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.point.PointJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+@SpringBootTest
+@DisplayName("OrderSettlementProcessor 통합 테스트")
+class OrderSettlementProcessorIntegrationTest {
+
+    private static final String USER_ID = "user1";
+
+    @Autowired
+    private OrderSettlementProcessor orderSettlementProcessor;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private PointJpaRepository pointJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = ((JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+            .name("테스트 브랜드")
+            .description("테스트용 브랜드")
+            .build());
+        product = ((JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+            .brand(brand)
+            .name("테스트 상품")
+            .price(BigDecimal.valueOf(10000))
+            .stock(10)
+            .description("테스트용 상품")
+            .build());
+        ((JpaRepository<Point, Long>) pointJpaRepository).save(Point.builder()
+            .userId(USER_ID)
+            .balance(BigDecimal.valueOf(50000))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("정산하면 재고와 포인트를 차감하고 주문을 완료한다")
+    @Test
+    void settlesOrder() {
+        // given
+        Order order = acceptedOrder(2);
+
+        // when
+        orderSettlementProcessor.settle(List.of(order.getId()));
+
+        // then
+        Order settled = orderRepository.findById(order.getId()).orElseThrow();
+        assertAll(
+            () -> assertThat(settled.getStatus()).isEqualTo(OrderStatus.COMPLETED),
+            () -> assertThat(settled.isSettlementPending()).isFalse(),
+            () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(8),
+            () -> assertThat(pointJpaRepository.findByUserId(USER_ID).orElseThrow().getBalance())
+                .isEqualByComparingTo(BigDecimal.valueOf(30000))
+        );
+    }
+
+    @DisplayName("조건을 만족하지 못한 주문만 아무 것도 차감하지 않고 실패하며, 같은 배치의 다른 주문은 정산된다")
+    @Test
+    void failsOnlyUnsatisfiableOrder() {
+        // given
+        Order tooMany = acceptedOrder(11);
+        Order fits = acceptedOrder(3);
+
+        // when
+        orderSettlementProcessor.settle(List.of(tooMany.getId(), fits.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(orderRepository.findById(tooMany.getId()).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.FAILED),
+            () -> assertThat(orderRepository.findById(fits.getId()).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.COMPLETED),
+            () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(7),
+            () -> assertThat(pointJpaRepository.findByUserId(USER_ID).orElseThrow().getBalance())
+                .isEqualByComparingTo(BigDecimal.valueOf(20000))
+        );
+    }
+
+    @DisplayName("이미 정산된 주문을 다시 정산하면 아무 것도 차감하지 않는다 (재기동 복구 중복)")
+    @Test
+    void settlesOnce_whenSettledAgain() {
+        // given
+        Order order = acceptedOrder(2);
+        orderSettlementProcessor.settle(List.of(order.getId()));
+
+        // when
+        orderSettlementProcessor.settle(List.of(order.getId()));
+
+        // then
+        assertAll(
+            () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(8),
+            () -> assertThat(pointJpaRepository.findByUserId(USER_ID).orElseThrow().getBalance())
+                .isEqualByComparingTo(BigDecimal.valueOf(30000))
+        );
+    }
+
+    @DisplayName("여러 노드가 같은 주문을 동시에 정산해도 한 번만 차감된다")
+    @Test
+    void settlesOnce_whenSettledConcurrently() {
+        // given
+        Order order = acceptedOrder(2);
+
+        // when
+        CompletableFuture<?>[] futures = IntStream.range(0, 4)
+            .mapToObj(i -> CompletableFuture.runAsync(() -> orderSettlementProcessor.settle(List.of(order.getId()))))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        // then
+        assertAll(
+            () -> assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.COMPLETED),
+            () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(8),
+            () -> assertThat(pointJpaRepository.findByUserId(USER_ID).orElseThrow().getBalance())
+                .isEqualByComparingTo(BigDecimal.valueOf(30000))
+        );
+    }
+
+    @DisplayName("이미 정산된 주문은 실패 처리하지 않는다")
+    @Test
+    void doesNotFail_whenAlreadySettled() {
+        // given
+        Order order = acceptedOrder(2);
+        orderSettlementProcessor.settle(List.of(order.getId()));
+
+        // when
+        orderSettlementProcessor.fail(order.getId(), "오류");
+
+        // then
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getStatus())
+            .isEqualTo(OrderStatus.COMPLETED);
+    }
+
+    /**
+     * 이벤트를 발행하지 않고 정산 대기 주문을 저장하여, 백그라운드 워커와 경합하지 않도록 한다.
+     */
+    private Order acceptedOrder(int quantity) {
+        Order order = Order.builder().userId(USER_ID).build();
+        order.addOrderItem(OrderItem.from(product, quantity));
+        order.calculateTotalAmount();
+        order.requestSettlement(null);
+        return orderRepository.save(order);
+    }
+}
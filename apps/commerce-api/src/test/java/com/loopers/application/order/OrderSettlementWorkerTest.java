@@ -0,0 +1,141 @@
+package com.loopers.application.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderRepository;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OrderSettlementWorker 테스트")
+class OrderSettlementWorkerTest {
+
+    private static final long TIMEOUT_MS = 2000L;
+
+    private OrderSettlementProcessor orderSettlementProcessor;
+    private OrderRepository orderRepository;
+    private OrderSettlementWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        orderSettlementProcessor = mock(OrderSettlementProcessor.class);
+        orderRepository = mock(OrderRepository.class);
+        worker = new OrderSettlementWorker(orderSettlementProcessor, orderRepository);
+        worker.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.stop();
+    }
+
+    @DisplayName("접수된 주문을 정산 프로세서에 전달한다")
+    @Test
+    void settlesAcceptedOrder() {
+        // when
+        worker.onOrderAccepted(new OrderAcceptedEvent(1L, 10L));
+
+        // then
+        verify(orderSettlementProcessor, timeout(TIMEOUT_MS)).settle(List.of(1L));
+    }
+
+    @DisplayName("정산 중에 쌓인 주문은 대표 상품별로 묶어 다음 배치에서 정산한다")
+    @Test
+    void groupsQueuedOrdersByPrimaryProduct() throws InterruptedException {
+        // given - 첫 정산을 붙잡아 두는 동안 같은 파티션(10 % 4 == 14 % 4)에 주문을 쌓는다
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(orderSettlementProcessor).settle(List.of(1L));
+        worker.onOrderAccepted(new OrderAcceptedEvent(1L, 10L));
+        assertThat(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+
+        // when
+        worker.onOrderAccepted(new OrderAcceptedEvent(2L, 10L));
+        worker.onOrderAccepted(new OrderAcceptedEvent(3L, 14L));
+        worker.onOrderAccepted(new OrderAcceptedEvent(4L, 10L));
+        release.countDown();
+
+        // then
+        verify(orderSettlementProcessor, timeout(TIMEOUT_MS)).settle(List.of(2L, 4L));
+        verify(orderSettlementProcessor, timeout(TIMEOUT_MS)).settle(List.of(3L));
+    }
+
+    @DisplayName("배치 정산이 실패하면 건별로 다시 정산하고, 건별로도 실패한 주문만 실패 처리한다")
+    @Test
+    void retriesOneByOne_whenBatchFails() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(orderSettlementProcessor).settle(List.of(1L));
+        doThrow(new IllegalStateException("lock wait timeout"))
+            .when(orderSettlementProcessor).settle(List.of(2L, 3L));
+        doThrow(new IllegalStateException("boom")).when(orderSettlementProcessor).settle(List.of(3L));
+        worker.onOrderAccepted(new OrderAcceptedEvent(1L, 10L));
+        assertThat(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+
+        // when
+        worker.onOrderAccepted(new OrderAcceptedEvent(2L, 10L));
+        worker.onOrderAccepted(new OrderAcceptedEvent(3L, 10L));
+        release.countDown();
+
+        // then
+        verify(orderSettlementProcessor, timeout(TIMEOUT_MS)).fail(eq(3L), anyString());
+        verify(orderSettlementProcessor).settle(List.of(2L));
+        verify(orderSettlementProcessor, never()).fail(eq(2L), anyString());
+    }
+
+    @DisplayName("재기동 시 정산 대기 상태로 남은 주문을 다시 큐에 적재하여 정산한다")
+    @Test
+    void recoversOrdersAwaitingSettlement() {
+        // given
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(5L);
+        when(order.getPrimaryProductId()).thenReturn(30L);
+        when(orderRepository.findIdsAwaitingSettlement()).thenReturn(List.of(5L));
+        when(orderRepository.findAllWithItemsByIdIn(List.of(5L))).thenReturn(List.of(order));
+
+        // when
+        worker.recover();
+
+        // then
+        verify(orderSettlementProcessor, timeout(TIMEOUT_MS)).settle(List.of(5L));
+    }
+
+    @DisplayName("정산 대기 주문이 없으면 아무 것도 적재하지 않는다")
+    @Test
+    void recoversNothing_whenNoOrdersAwaiting() {
+        // given
+        when(orderRepository.findIdsAwaitingSettlement()).thenReturn(List.of());
+
+        // when
+        worker.recover();
+
+        // then
+        verify(orderRepository, never()).findAllWithItemsByIdIn(anyList());
+        verify(orderSettlementProcessor, after(200).never()).settle(anyList());
+    }
+}
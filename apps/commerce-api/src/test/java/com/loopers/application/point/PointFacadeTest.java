@@ -0,0 +1,65 @@
+package com.loopers.application.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.point.ArchivedPointHistoryRepository;
+import com.loopers.domain.point.PointBalanceCache;
+import com.loopers.domain.point.PointBalanceSnapshot;
+import com.loopers.domain.point.PointService;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PointFacade 잔액 조회 테스트")
+class PointFacadeTest {
+
+    private PointService pointService;
+    private PointBalanceCache pointBalanceCache;
+    private PointFacade pointFacade;
+
+    @BeforeEach
+    void setUp() {
+        pointService = mock(PointService.class);
+        pointBalanceCache = mock(PointBalanceCache.class);
+        pointFacade = new PointFacade(pointService, mock(ArchivedPointHistoryRepository.class), pointBalanceCache);
+    }
+
+    @DisplayName("잔액 캐시에 있으면 DB 를 조회하지 않는다")
+    @Test
+    void returnsCachedBalance_whenCacheHit() {
+        // given
+        when(pointBalanceCache.get("user1"))
+            .thenReturn(Optional.of(new PointBalanceSnapshot(1L, "user1", 3L, BigDecimal.valueOf(5000))));
+
+        // when
+        BigDecimal balance = pointFacade.getBalance("user1");
+
+        // then
+        assertThat(balance).isEqualByComparingTo(BigDecimal.valueOf(5000));
+        verify(pointService, never()).getPoint(anyString());
+    }
+
+    @DisplayName("원장 모드에서는 잔액 캐시를 거치지 않는다")
+    @Test
+    void bypassesCache_whenLedgerEnabled() {
+        // given
+        when(pointService.isLedgerEnabled()).thenReturn(true);
+        when(pointService.getBalance("user1")).thenReturn(BigDecimal.valueOf(700));
+
+        // when
+        BigDecimal balance = pointFacade.getBalance("user1");
+
+        // then
+        assertThat(balance).isEqualByComparingTo(BigDecimal.valueOf(700));
+        verify(pointBalanceCache, never()).get(anyString());
+        verify(pointBalanceCache, never()).put(any());
+    }
+}
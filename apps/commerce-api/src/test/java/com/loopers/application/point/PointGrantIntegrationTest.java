@@ -0,0 +1,213 @@
+package com.loopers.application.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointGrant;
+import com.loopers.domain.point.PointGrantDigest;
+import com.loopers.domain.point.PointGrantService;
+import com.loopers.domain.point.PointHistoryRepository;
+import com.loopers.domain.point.PointRepository;
+import com.loopers.infrastructure.point.PointJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@DisplayName("포인트 일괄 지급 통합 테스트")
+class PointGrantIntegrationTest {
+
+    private static final String GRANT_ID = "campaign-1";
+    private static final String DESCRIPTION = "가입 축하 포인트";
+
+    @Autowired
+    private PointGrantFacade pointGrantFacade;
+
+    @Autowired
+    private PointGrantService pointGrantService;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private PointJpaRepository pointJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        savePoint("user1", 1000);
+        savePoint("user2", 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("grantAll 은 초기화된 사용자의 잔액과 버전을 한 번에 올리고, 삭제되었거나 없는 사용자는 제외한다")
+    @Test
+    void grantAll_updatesInitializedPoints() {
+        // given
+        savePoint("user3", 500);
+        jdbcTemplate.update("UPDATE points SET deleted_at = NOW() WHERE user_id = 'user3'");
+        List<PointGrant> grants = List.of(grant("ghost", 10), grant("user1", 100), grant("user2", 200),
+            grant("user3", 300));
+
+        // when
+        Integer granted = transactionTemplate.execute(status -> pointRepository.grantAll(grants, ZonedDateTime.now()));
+
+        // then
+        assertAll(
+            () -> assertThat(granted).isEqualTo(2),
+            () -> assertThat(balanceOf("user1")).isEqualByComparingTo(BigDecimal.valueOf(1100)),
+            () -> assertThat(balanceOf("user2")).isEqualByComparingTo(BigDecimal.valueOf(200)),
+            () -> assertThat(balanceOf("user3")).isEqualByComparingTo(BigDecimal.valueOf(500)),
+            () -> assertThat(versionOf("user1")).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("saveAllGranted 는 같은 트랜잭션에서 갱신된 잔액을 거래 후 잔액으로 기록한다")
+    @Test
+    void saveAllGranted_recordsBalanceAfter() {
+        // given
+        List<PointGrant> grants = List.of(grant("ghost", 10), grant("user1", 100), grant("user2", 200));
+
+        // when
+        Integer saved = transactionTemplate.execute(status -> {
+            ZonedDateTime now = ZonedDateTime.now();
+            pointRepository.grantAll(grants, now);
+            return pointHistoryRepository.saveAllGranted(grants, DESCRIPTION, now);
+        });
+
+        // then
+        List<Map<String, Object>> histories = jdbcTemplate.queryForList(
+            "SELECT user_id, transaction_type, amount, balance_after, description FROM point_histories ORDER BY user_id");
+        assertAll(
+            () -> assertThat(saved).isEqualTo(2),
+            () -> assertThat(histories).extracting(row -> row.get("user_id")).containsExactly("user1", "user2"),
+            () -> assertThat((BigDecimal) histories.get(0).get("balance_after")).isEqualByComparingTo("1100"),
+            () -> assertThat((BigDecimal) histories.get(1).get("amount")).isEqualByComparingTo("200"),
+            () -> assertThat(histories.get(0).get("transaction_type")).isEqualTo("CHARGE"),
+            () -> assertThat(histories.get(0).get("description")).isEqualTo(DESCRIPTION)
+        );
+    }
+
+    @DisplayName("일괄 지급은 중복 사용자를 합쳐 지급하고 지급/미지급 수를 기록한 뒤 완료한다")
+    @Test
+    void grant_mergesDuplicatesAndCompletes() {
+        // when
+        PointGrantInfo info = pointGrantFacade.grant(GRANT_ID, DESCRIPTION, List.of(
+            grant("user1", 100), grant("user2", 200), grant("user1", 50), grant("ghost", 10)).iterator());
+
+        // then
+        assertAll(
+            () -> assertThat(info.completed()).isTrue(),
+            () -> assertThat(info.processedCount()).isEqualTo(4),
+            () -> assertThat(info.grantedCount()).isEqualTo(2),
+            () -> assertThat(info.skippedCount()).isEqualTo(1),
+            () -> assertThat(balanceOf("user1")).isEqualByComparingTo(BigDecimal.valueOf(1150)),
+            () -> assertThat(balanceOf("user2")).isEqualByComparingTo(BigDecimal.valueOf(200)),
+            () -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT balance_after FROM point_histories WHERE user_id = 'user1'", BigDecimal.class))
+                .isEqualByComparingTo("1150")
+        );
+    }
+
+    @DisplayName("중단된 지급을 같은 본문으로 재개하면 반영된 줄을 건너뛰고 나머지만 지급한다")
+    @Test
+    void grant_resumesFromCheckpoint() {
+        // given
+        List<PointGrant> body = List.of(grant("user1", 100), grant("user2", 200));
+        interruptAfterFirstLine(body);
+
+        // when
+        PointGrantInfo info = pointGrantFacade.grant(GRANT_ID, DESCRIPTION, body.iterator());
+
+        // then
+        assertAll(
+            () -> assertThat(info.processedCount()).isEqualTo(2),
+            () -> assertThat(balanceOf("user1")).isEqualByComparingTo(BigDecimal.valueOf(1100)),
+            () -> assertThat(balanceOf("user2")).isEqualByComparingTo(BigDecimal.valueOf(200))
+        );
+    }
+
+    @DisplayName("중단된 지급을 다른 본문으로 재개하면 CONFLICT 로 실패하고 더 지급하지 않는다")
+    @Test
+    void grant_rejectsDifferentBodyOnResume() {
+        // given
+        interruptAfterFirstLine(List.of(grant("user1", 100), grant("user2", 200)));
+        List<PointGrant> otherBody = List.of(grant("user2", 100), grant("user1", 200));
+
+        // when
+        CoreException exception = assertThrows(CoreException.class,
+            () -> pointGrantFacade.grant(GRANT_ID, DESCRIPTION, otherBody.iterator()));
+
+        // then
+        assertAll(
+            () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT),
+            () -> assertThat(balanceOf("user1")).isEqualByComparingTo(BigDecimal.valueOf(1100)),
+            () -> assertThat(balanceOf("user2")).isEqualByComparingTo(BigDecimal.ZERO),
+            () -> assertThat(pointGrantFacade.getGrant(GRANT_ID).processedCount()).isEqualTo(1)
+        );
+    }
+
+    /**
+     * 첫 줄만 반영된 채 중단된 지급을 만든다.
+     */
+    private void interruptAfterFirstLine(List<PointGrant> body) {
+        PointGrantDigest digest = new PointGrantDigest();
+        digest.update(body.get(0));
+        pointGrantService.open(GRANT_ID, DESCRIPTION);
+        pointGrantService.applyChunk(GRANT_ID, 0, List.of(body.get(0)), digest.current());
+    }
+
+    private void savePoint(String userId, long balance) {
+        ((JpaRepository<Point, Long>) pointJpaRepository).save(Point.builder()
+            .userId(userId)
+            .balance(BigDecimal.valueOf(balance))
+            .build());
+    }
+
+    private BigDecimal balanceOf(String userId) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM points WHERE user_id = ?", BigDecimal.class, userId);
+    }
+
+    private Long versionOf(String userId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM points WHERE user_id = ?", Long.class, userId);
+    }
+
+    private static PointGrant grant(String userId, long amount) {
+        return new PointGrant(userId, BigDecimal.valueOf(amount));
+    }
+}
@@ -0,0 +1,98 @@
+package com.loopers.application.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@DisplayName("ProductPriceCache 통합 테스트")
+class ProductPriceCacheIntegrationTest {
+
+    @Autowired
+    private ProductPriceCache productPriceCache;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = ((JpaRepository<Brand, Long>) brandJpaRepository).save(Brand.builder()
+            .name("테스트 브랜드")
+            .description("테스트용 브랜드")
+            .build());
+        product = ((JpaRepository<Product, Long>) productJpaRepository).save(Product.builder()
+            .brand(brand)
+            .name("테스트 상품")
+            .price(BigDecimal.valueOf(10000))
+            .stock(10)
+            .description("테스트용 상품")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("무효화된 가격은 톰스톤 동안 DB 에서 읽고, 그 사이 적재를 시도해도 캐시에 남지 않는다")
+    @Test
+    void readsFromDatabase_whileTombstoned() {
+        // given
+        productPriceCache.getPrices(List.of(product.getId()));
+        jdbcTemplate.update("UPDATE products SET price = 12000 WHERE id = ?", product.getId());
+
+        // when
+        productPriceCache.evict(product.getId());
+        BigDecimal first = productPriceCache.getPrices(List.of(product.getId())).get(product.getId());
+        jdbcTemplate.update("UPDATE products SET price = 15000 WHERE id = ?", product.getId());
+        BigDecimal second = productPriceCache.getPrices(List.of(product.getId())).get(product.getId());
+
+        // then
+        assertThat(first).isEqualByComparingTo(BigDecimal.valueOf(12000));
+        assertThat(second).isEqualByComparingTo(BigDecimal.valueOf(15000));
+    }
+
+    @DisplayName("비어 있는 키에는 DB 에서 읽은 가격을 적재한다")
+    @Test
+    void putsPrice_whenAbsent() {
+        // when
+        productPriceCache.getPrices(List.of(product.getId()));
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("product:price:" + product.getId())).isEqualTo("10000");
+    }
+}
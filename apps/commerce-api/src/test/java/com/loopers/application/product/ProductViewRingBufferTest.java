@@ -0,0 +1,78 @@
+package com.loopers.application.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductViewRingBuffer 테스트")
+class ProductViewRingBufferTest {
+
+    @DisplayName("담은 순서대로 읽고, 읽은 슬롯은 다시 쓸 수 있다")
+    @Test
+    void drainsInOrder_andReusesSlots() {
+        ProductViewRingBuffer buffer = new ProductViewRingBuffer(4);
+        List<Long> drained = new ArrayList<>();
+
+        for (long round = 0; round < 3; round++) {
+            for (long i = 1; i <= 4; i++) {
+                assertThat(buffer.offer(round * 10 + i)).isTrue();
+            }
+            buffer.drain(drained::add);
+        }
+
+        assertThat(drained).containsExactly(1L, 2L, 3L, 4L, 11L, 12L, 13L, 14L, 21L, 22L, 23L, 24L);
+    }
+
+    @DisplayName("가득 차면 기다리지 않고 버리며 버린 개수를 센다")
+    @Test
+    void dropsWhenFull() {
+        ProductViewRingBuffer buffer = new ProductViewRingBuffer(2);
+
+        assertThat(buffer.offer(1L)).isTrue();
+        assertThat(buffer.offer(2L)).isTrue();
+        assertThat(buffer.offer(3L)).isFalse();
+
+        assertThat(buffer.takeDropped()).isEqualTo(1L);
+        assertThat(buffer.takeDropped()).isZero();
+    }
+
+    @DisplayName("여러 스레드가 동시에 담아도 담긴 값은 빠짐없이 한 번씩 읽힌다")
+    @Test
+    void concurrentOffers_areDrainedExactlyOnce() {
+        ProductViewRingBuffer buffer = new ProductViewRingBuffer(1 << 16);
+        int threads = 8;
+        int perThread = 5_000;
+
+        CompletableFuture<?>[] producers = IntStream.range(0, threads)
+            .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    buffer.offer(t + 1L);
+                }
+            }))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(producers).join();
+
+        AtomicLong count = new AtomicLong();
+        AtomicLong sum = new AtomicLong();
+        buffer.drain(value -> {
+            count.incrementAndGet();
+            sum.addAndGet(value);
+        });
+
+        assertThat(count.get()).isEqualTo((long) threads * perThread);
+        assertThat(sum.get()).isEqualTo(perThread * (long) IntStream.rangeClosed(1, threads).sum());
+    }
+
+    @DisplayName("크기가 2의 거듭제곱이 아니면 생성할 수 없다")
+    @Test
+    void rejectsNonPowerOfTwoCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ProductViewRingBuffer(3));
+    }
+}
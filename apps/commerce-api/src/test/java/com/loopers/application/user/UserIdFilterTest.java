@@ -0,0 +1,149 @@
+package com.loopers.application.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.user.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@DisplayName("UserIdFilter 테스트")
+class UserIdFilterTest {
+
+    private UserRepository userRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private UserIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        filter = new UserIdFilter(new UserIdFilterProperties(true, 1_000, 0.01), userRepository, redisTemplate,
+            mock(RedisMessageListenerContainer.class));
+        when(userRepository.count()).thenReturn(2L);
+    }
+
+    @DisplayName("구성 전에는 어떤 ID 도 없다고 확신하지 않는다")
+    @Test
+    void isNotKnownAbsent_beforeRebuild() {
+        // when & then
+        assertAll(
+            () -> assertThat(filter.mightContain("ghost")).isTrue(),
+            () -> assertThat(filter.isKnownAbsent("ghost")).isFalse()
+        );
+    }
+
+    @DisplayName("재구성하면 가입된 ID 만 필터에 담긴다")
+    @Test
+    void rebuildsFromRepository() {
+        // given
+        when(userRepository.findUserIdsAfter(eq(""), anyInt())).thenReturn(List.of("user1", "user2"));
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertAll(
+            () -> assertThat(filter.isKnownAbsent("user1")).isFalse(),
+            () -> assertThat(filter.isKnownAbsent("user2")).isFalse(),
+            () -> assertThat(filter.isKnownAbsent("ghost")).isTrue()
+        );
+    }
+
+    @DisplayName("재구성 중에는 부정 결과도 DB 로 확인하도록 없다고 확신하지 않는다")
+    @Test
+    void isNotKnownAbsent_whileRebuilding() {
+        // given
+        when(userRepository.findUserIdsAfter(eq(""), anyInt())).thenReturn(List.of("user1"));
+        filter.rebuild();
+        AtomicBoolean knownAbsentDuringRebuild = new AtomicBoolean(true);
+        when(userRepository.findUserIdsAfter(eq(""), anyInt())).thenAnswer(invocation -> {
+            knownAbsentDuringRebuild.set(filter.isKnownAbsent("ghost"));
+            return List.of("user1");
+        });
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertAll(
+            () -> assertThat(knownAbsentDuringRebuild.get()).isFalse(),
+            () -> assertThat(filter.isKnownAbsent("ghost")).isTrue()
+        );
+    }
+
+    @DisplayName("재구성 중에 받은 가입 알림은 교체된 필터에도 남는다")
+    @Test
+    void keepsRegistrations_duringRebuild() {
+        // given
+        when(userRepository.findUserIdsAfter(eq(""), anyInt())).thenAnswer(invocation -> {
+            // 키셋이 이미 지나간 위치에 가입이 커밋되어 알림만 도착한 경우
+            filter.onMessage(new DefaultMessage("user:registered".getBytes(StandardCharsets.UTF_8),
+                "late".getBytes(StandardCharsets.UTF_8)), null);
+            return List.of("user1");
+        });
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertThat(filter.isKnownAbsent("late")).isFalse();
+    }
+
+    @DisplayName("가입을 등록하면 자신의 필터에 추가하고 다른 노드에 알린다")
+    @Test
+    void registersAndPublishes() {
+        // given
+        when(userRepository.findUserIdsAfter(eq(""), anyInt())).thenReturn(List.of());
+        filter.rebuild();
+
+        // when
+        filter.register("newbie");
+
+        // then
+        assertThat(filter.isKnownAbsent("newbie")).isFalse();
+        verify(redisTemplate).convertAndSend(UserIdFilter.CHANNEL, "newbie");
+    }
+
+    @DisplayName("가입 알림 발행에 실패해도 자신의 필터에는 추가된다")
+    @Test
+    void registers_whenPublishFails() {
+        // given
+        when(userRepository.findUserIdsAfter(eq(""), anyInt())).thenReturn(List.of());
+        filter.rebuild();
+        doThrow(new IllegalStateException("Redis 장애")).when(redisTemplate).convertAndSend(UserIdFilter.CHANNEL, "newbie");
+
+        // when
+        filter.register("newbie");
+
+        // then
+        assertThat(filter.isKnownAbsent("newbie")).isFalse();
+    }
+
+    @DisplayName("필터가 비활성화되면 구성하지 않고 어떤 ID 도 없다고 확신하지 않는다")
+    @Test
+    void doesNothing_whenDisabled() {
+        // given
+        UserIdFilter disabled = new UserIdFilter(new UserIdFilterProperties(false, 1_000, 0.01), userRepository,
+            redisTemplate, mock(RedisMessageListenerContainer.class));
+
+        // when
+        disabled.rebuild();
+
+        // then
+        assertThat(disabled.isKnownAbsent("ghost")).isFalse();
+    }
+}
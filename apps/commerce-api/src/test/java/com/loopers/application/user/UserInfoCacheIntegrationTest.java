@@ -0,0 +1,78 @@
+package com.loopers.application.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.user.Gender;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@SpringBootTest
+@DisplayName("UserInfoCache 통합 테스트")
+class UserInfoCacheIntegrationTest {
+
+    @Autowired
+    private UserInfoCache userInfoCache;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("저장한 사용자 정보를 그대로 읽고 TTL 을 건다")
+    @Test
+    void putsAndGets() {
+        // given
+        UserInfo userInfo = sample();
+
+        // when
+        userInfoCache.put(userInfo);
+        Optional<UserInfo> cached = userInfoCache.get("user1");
+
+        // then
+        assertAll(
+            () -> assertThat(cached).contains(userInfo),
+            () -> assertThat(redisTemplate.getExpire("user:info:user1")).isPositive()
+        );
+    }
+
+    @DisplayName("제거한 사용자 정보는 캐시 미스가 된다")
+    @Test
+    void evicts() {
+        // given
+        userInfoCache.put(sample());
+
+        // when
+        userInfoCache.evict("user1");
+
+        // then
+        assertThat(userInfoCache.get("user1")).isEmpty();
+    }
+
+    @DisplayName("역직렬화할 수 없는 값은 캐시 미스로 취급한다")
+    @Test
+    void treatsCorruptedValueAsMiss() {
+        // given
+        redisTemplate.opsForValue().set("user:info:user1", "{not-json");
+
+        // when & then
+        assertThat(userInfoCache.get("user1")).isEmpty();
+    }
+
+    private static UserInfo sample() {
+        return new UserInfo(1L, "user1", "user1@test.com", "1990-01-01", Gender.MALE, BigDecimal.valueOf(1000));
+    }
+}
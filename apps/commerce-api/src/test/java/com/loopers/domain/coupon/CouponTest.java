@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.loopers.support.error.CoreException;
 import java.math.BigDecimal;
+import java.time.ZonedDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -184,6 +185,38 @@ class CouponTest {
             // then
             assertThat(coupon.getDiscountValue()).isEqualByComparingTo(BigDecimal.valueOf(100));
         }
+
+        @DisplayName("발급 수량을 지정하면 선착순 쿠폰으로 생성된다")
+        @Test
+        void createLimitedCoupon_success() {
+            // when
+            Coupon coupon = Coupon.builder()
+                .name("선착순 쿠폰")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(1000))
+                .issueLimit(100)
+                .build();
+
+            // then
+            assertThat(coupon.isLimited()).isTrue();
+            assertThat(coupon.getIssueLimit()).isEqualTo(100);
+        }
+
+        @DisplayName("발급 수량이 0이면 예외가 발생한다")
+        @Test
+        void createLimitedCoupon_withZeroIssueLimit_throwsException() {
+            // when & then
+            CoreException exception = assertThrows(CoreException.class, () ->
+                Coupon.builder()
+                    .name("선착순 쿠폰")
+                    .type(CouponType.FIXED_AMOUNT)
+                    .discountValue(BigDecimal.valueOf(1000))
+                    .issueLimit(0)
+                    .build()
+            );
+
+            assertThat(exception.getMessage()).contains("발급 수량은 1개 이상이어야 합니다");
+        }
     }
 
     @DisplayName("할인 금액 계산 시 - 정액 할인")
@@ -404,4 +437,77 @@ class CouponTest {
             assertThat(discountAmount).isEqualByComparingTo(BigDecimal.valueOf(100));
         }
     }
+
+    @DisplayName("사용 기간 검증 시")
+    @Nested
+    class ValidPeriod {
+
+        private final ZonedDateTime now = ZonedDateTime.now();
+
+        @DisplayName("사용 기간이 없으면 언제나 사용 가능하다")
+        @Test
+        void isValidAt_withoutPeriod_returnsTrue() {
+            // given
+            Coupon coupon = Coupon.builder()
+                .name("상시 쿠폰")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(1000))
+                .build();
+
+            // when & then
+            assertThat(coupon.isValidAt(now)).isTrue();
+            assertThat(coupon.isExpiredAt(now)).isFalse();
+        }
+
+        @DisplayName("종료 시각이 지나면 만료된 것으로 본다")
+        @Test
+        void isValidAt_afterValidUntil_returnsFalse() {
+            // given
+            Coupon coupon = Coupon.builder()
+                .name("기간 쿠폰")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(1000))
+                .validFrom(now.minusDays(7))
+                .validUntil(now)
+                .build();
+
+            // when & then
+            assertThat(coupon.isValidAt(now.minusSeconds(1))).isTrue();
+            assertThat(coupon.isValidAt(now)).isFalse();
+            assertThat(coupon.isExpiredAt(now)).isTrue();
+        }
+
+        @DisplayName("시작 시각 이전에는 사용할 수 없지만 만료된 것은 아니다")
+        @Test
+        void isValidAt_beforeValidFrom_returnsFalse() {
+            // given
+            Coupon coupon = Coupon.builder()
+                .name("예정 쿠폰")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(1000))
+                .validFrom(now.plusDays(1))
+                .build();
+
+            // when & then
+            assertThat(coupon.isValidAt(now)).isFalse();
+            assertThat(coupon.isExpiredAt(now)).isFalse();
+        }
+
+        @DisplayName("종료 시각이 시작 시각 이전이면 예외가 발생한다")
+        @Test
+        void createCoupon_withInvalidPeriod_throwsException() {
+            // when & then
+            CoreException exception = assertThrows(CoreException.class, () ->
+                Coupon.builder()
+                    .name("기간 쿠폰")
+                    .type(CouponType.FIXED_AMOUNT)
+                    .discountValue(BigDecimal.valueOf(1000))
+                    .validFrom(now)
+                    .validUntil(now.minusDays(1))
+                    .build()
+            );
+
+            assertThat(exception.getMessage()).contains("쿠폰 사용 종료 시각은 시작 시각 이후여야 합니다");
+        }
+    }
 }
@@ -0,0 +1,166 @@
+package com.loopers.domain.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@DisplayName("LikeRepository 통합 테스트")
+class LikeRepositoryIntegrationTest {
+
+    private static final String USER_ID = "user1";
+    private static final Long PRODUCT_ID = 1L;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("좋아요 upsert 는 새로 추가하거나 취소된 행을 되살릴 때만 true 를 반환한다")
+    @Test
+    void insertOrRestore_reportsStateChange() {
+        // when
+        boolean inserted = insertOrRestore();
+        boolean repeated = insertOrRestore();
+        boolean deleted = softDelete();
+        boolean deletedAgain = softDelete();
+        boolean restored = insertOrRestore();
+
+        // then
+        assertAll(
+            () -> assertThat(inserted).isTrue(),
+            () -> assertThat(repeated).isFalse(),
+            () -> assertThat(deleted).isTrue(),
+            () -> assertThat(deletedAgain).isFalse(),
+            () -> assertThat(restored).isTrue(),
+            () -> assertThat(activeRows()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("행이 없는 좋아요 취소는 false 를 반환한다")
+    @Test
+    void softDelete_returnsFalse_whenAbsent() {
+        // when
+        boolean deleted = softDelete();
+
+        // then
+        assertThat(deleted).isFalse();
+    }
+
+    @DisplayName("같은 사용자의 좋아요가 동시에 들어와도 행은 하나이고 한 요청만 상태 변화를 보고한다")
+    @Test
+    void insertOrRestore_concurrentDoubleTap() {
+        // given
+        int threadCount = 10;
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<CompletableFuture<Boolean>> futures = IntStream.range(0, threadCount)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                await(start);
+                return insertOrRestore();
+            }))
+            .toList();
+        start.countDown();
+        long changed = futures.stream().map(CompletableFuture::join).filter(Boolean::booleanValue).count();
+
+        // then
+        assertAll(
+            () -> assertThat(changed).isEqualTo(1L),
+            () -> assertThat(activeRows()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("취소된 좋아요를 동시에 되살려도 한 요청만 상태 변화를 보고한다")
+    @Test
+    void insertOrRestore_concurrentRestore() {
+        // given
+        insertOrRestore();
+        softDelete();
+        int threadCount = 10;
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<CompletableFuture<Boolean>> futures = IntStream.range(0, threadCount)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                await(start);
+                return insertOrRestore();
+            }))
+            .toList();
+        start.countDown();
+        long changed = futures.stream().map(CompletableFuture::join).filter(Boolean::booleanValue).count();
+
+        // then
+        assertAll(
+            () -> assertThat(changed).isEqualTo(1L),
+            () -> assertThat(activeRows()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("INSERT IGNORE 가 NULL 을 빈 값으로 바꿔 저장하지 않도록, User ID 가 없으면 저장하지 않고 실패한다")
+    @Test
+    void insertOrRestore_rejectsBlankUserId() {
+        // when
+        CoreException exception = assertThrows(CoreException.class, () -> transactionTemplate.execute(status ->
+            likeRepository.insertOrRestore(null, PRODUCT_ID, ZonedDateTime.now())));
+
+        // then
+        assertAll(
+            () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+            () -> assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes", Integer.class)).isZero()
+        );
+    }
+
+    private boolean insertOrRestore() {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+            likeRepository.insertOrRestore(USER_ID, PRODUCT_ID, ZonedDateTime.now())));
+    }
+
+    private boolean softDelete() {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+            likeRepository.softDelete(USER_ID, PRODUCT_ID, ZonedDateTime.now())));
+    }
+
+    private int activeRows() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM likes WHERE user_id = ? AND product_id = ? AND deleted_at IS NULL",
+            Integer.class, USER_ID, PRODUCT_ID);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.loopers.domain.brand.Brand;
 import com.loopers.domain.product.Product;
 import com.loopers.support.error.CoreException;
 import java.math.BigDecimal;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -158,6 +159,30 @@ class OrderTest {
         }
     }
 
+    @DisplayName("상품별 수량 집계 시")
+    @Nested
+    class QuantitiesByProductId {
+
+        @DisplayName("같은 상품의 주문 항목은 수량을 합산한다")
+        @Test
+        void getQuantitiesByProductId_sumsSameProduct() {
+            // given
+            Order order = Order.builder()
+                .userId("user123")
+                .build();
+            order.addOrderItem(OrderItem.builder().productId(1L).productName("상품1")
+                .quantity(2).price(BigDecimal.valueOf(1000)).build());
+            order.addOrderItem(OrderItem.builder().productId(2L).productName("상품2")
+                .quantity(1).price(BigDecimal.valueOf(2000)).build());
+            order.addOrderItem(OrderItem.builder().productId(1L).productName("상품1")
+                .quantity(3).price(BigDecimal.valueOf(1000)).build());
+
+            // when & then
+            assertThat(order.getQuantitiesByProductId())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(1L, 5, 2L, 1));
+        }
+    }
+
     @DisplayName("취소 가능 여부 확인 시")
     @Nested
     class CanCancel {
@@ -200,4 +225,99 @@ class OrderTest {
             assertThat(order.canCancel()).isFalse();
         }
     }
+
+    @DisplayName("비동기 정산 시")
+    @Nested
+    class Settlement {
+
+        @DisplayName("정산을 요청하면 정산 대기 상태가 되고, 취소할 수 없다")
+        @Test
+        void requestSettlement_marksPendingAndBlocksCancel() {
+            // given
+            Order order = Order.builder()
+                .userId("user123")
+                .build();
+
+            // when
+            order.requestSettlement(1L);
+
+            // then
+            assertAll(
+                () -> assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING),
+                () -> assertThat(order.isSettlementPending()).isTrue(),
+                () -> assertThat(order.getUserCouponId()).isEqualTo(1L),
+                () -> assertThat(order.canCancel()).isFalse()
+            );
+            CoreException exception = assertThrows(CoreException.class, order::cancel);
+            assertThat(exception.getMessage()).contains("결제 처리 중인 주문은 취소할 수 없습니다");
+        }
+
+        @DisplayName("정산이 완료되면 COMPLETED 로 전이되고 정산 대기 상태가 해제된다")
+        @Test
+        void complete_clearsSettlementPending() {
+            // given
+            Order order = Order.builder()
+                .userId("user123")
+                .build();
+            order.requestSettlement(null);
+
+            // when
+            order.complete();
+
+            // then
+            assertAll(
+                () -> assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED),
+                () -> assertThat(order.isSettlementPending()).isFalse()
+            );
+        }
+
+        @DisplayName("정산에 실패하면 FAILED 로 전이되고 실패 사유가 기록된다")
+        @Test
+        void fail_recordsReason() {
+            // given
+            Order order = Order.builder()
+                .userId("user123")
+                .build();
+            order.requestSettlement(null);
+
+            // when
+            order.fail("포인트 잔액이 부족합니다.");
+
+            // then
+            assertAll(
+                () -> assertThat(order.getStatus()).isEqualTo(OrderStatus.FAILED),
+                () -> assertThat(order.isSettlementPending()).isFalse(),
+                () -> assertThat(order.getFailureReason()).isEqualTo("포인트 잔액이 부족합니다.")
+            );
+        }
+
+        @DisplayName("대기 상태가 아닌 주문은 실패 처리할 수 없다")
+        @Test
+        void fail_completedOrder_throwsException() {
+            // given
+            Order order = Order.builder()
+                .userId("user123")
+                .build();
+            order.complete();
+
+            // when & then
+            assertThrows(CoreException.class, () -> order.fail("사유"));
+        }
+
+        @DisplayName("대표 상품 ID 는 주문 항목 중 가장 작은 상품 ID 이다")
+        @Test
+        void getPrimaryProductId_returnsMinProductId() {
+            // given
+            Order order = Order.builder()
+                .userId("user123")
+                .build();
+            order.addOrderItem(OrderItem.builder().productId(7L).productName("상품7")
+                .quantity(1).price(BigDecimal.valueOf(1000)).build());
+            order.addOrderItem(OrderItem.builder().productId(3L).productName("상품3")
+                .quantity(1).price(BigDecimal.valueOf(1000)).build());
+
+            // when & then
+            assertThat(order.getPrimaryProductId()).isEqualTo(3L);
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package com.loopers.domain.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("포인트 일괄 지급")
+class PointGrantCheckpointTest {
+
+    @DisplayName("지급 입력 생성 시")
+    @Nested
+    class CreateGrant {
+        @DisplayName("지급 금액이 0 이하이면, 실패한다.")
+        @Test
+        void throwsException_whenAmountIsNotPositive() {
+            // when & then
+            CoreException exception = assertThrows(CoreException.class, () ->
+                new PointGrant("user1", BigDecimal.ZERO));
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @DisplayName("지급 금액에 소수점이 있으면, 실패한다.")
+        @Test
+        void throwsException_whenAmountHasFraction() {
+            // when & then
+            CoreException exception = assertThrows(CoreException.class, () ->
+                new PointGrant("user1", new BigDecimal("10.5")));
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("청크를 반영할 때")
+    @Nested
+    class Advance {
+        @DisplayName("처리한 줄 수와 지급/미지급 사용자 수가 누적된다.")
+        @Test
+        void accumulatesCounts() {
+            // given
+            PointGrantCheckpoint checkpoint = new PointGrantCheckpoint("campaign-1", "가입 축하 포인트");
+
+            // when
+            checkpoint.advance(1000, 990, 5, "digest-1");
+            checkpoint.advance(200, 200, 0, "digest-2");
+
+            // then
+            assertAll(
+                () -> assertThat(checkpoint.getProcessedCount()).isEqualTo(1200),
+                () -> assertThat(checkpoint.getGrantedCount()).isEqualTo(1190),
+                () -> assertThat(checkpoint.getSkippedCount()).isEqualTo(5),
+                () -> assertThat(checkpoint.getContentDigest()).isEqualTo("digest-2"),
+                () -> assertThat(checkpoint.isCompleted()).isFalse()
+            );
+        }
+
+        @DisplayName("이미 완료된 지급이면, 실패한다.")
+        @Test
+        void throwsException_whenCompleted() {
+            // given
+            PointGrantCheckpoint checkpoint = new PointGrantCheckpoint("campaign-1", "가입 축하 포인트");
+            checkpoint.complete();
+
+            // when & then
+            CoreException exception = assertThrows(CoreException.class, () -> checkpoint.advance(1, 1, 0, "digest"));
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        }
+    }
+
+    @DisplayName("재개할 때")
+    @Nested
+    class Resume {
+        @DisplayName("건너뛴 줄의 요약이 반영된 줄의 요약과 같으면, 통과한다.")
+        @Test
+        void passes_whenSameContent() {
+            // given
+            PointGrantCheckpoint checkpoint = new PointGrantCheckpoint("campaign-1", "가입 축하 포인트");
+            checkpoint.advance(2, 2, 0, digestOf("user1,100", "user2,200"));
+
+            // when & then
+            checkpoint.verifyProcessed(2, digestOf("user1,100.00", "user2,200"));
+        }
+
+        @DisplayName("건너뛴 줄의 내용이 다르면, 실패한다.")
+        @Test
+        void throwsException_whenContentDiffers() {
+            // given
+            PointGrantCheckpoint checkpoint = new PointGrantCheckpoint("campaign-1", "가입 축하 포인트");
+            checkpoint.advance(2, 2, 0, digestOf("user1,100", "user2,200"));
+
+            // when & then
+            CoreException exception = assertThrows(CoreException.class, () ->
+                checkpoint.verifyProcessed(2, digestOf("user3,100", "user2,200")));
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        }
+
+        @DisplayName("본문이 반영된 줄 수보다 짧으면, 실패한다.")
+        @Test
+        void throwsException_whenBodyIsShorter() {
+            // given
+            PointGrantCheckpoint checkpoint = new PointGrantCheckpoint("campaign-1", "가입 축하 포인트");
+            checkpoint.advance(2, 2, 0, digestOf("user1,100", "user2,200"));
+
+            // when & then
+            CoreException exception = assertThrows(CoreException.class, () ->
+                checkpoint.verifyProcessed(1, digestOf("user1,100")));
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        }
+
+        private String digestOf(String... lines) {
+            PointGrantDigest digest = new PointGrantDigest();
+            for (String line : lines) {
+                String[] columns = line.split(",");
+                digest.update(new PointGrant(columns[0], new BigDecimal(columns[1])));
+            }
+            return digest.current();
+        }
+    }
+
+    @DisplayName("청크 안에 같은 사용자가 여러 번 있으면, 금액을 합쳐 User ID 오름차순으로 정렬한다.")
+    @Test
+    void mergesDuplicateUsers() {
+        // given
+        List<PointGrant> chunk = List.of(
+            new PointGrant("user2", BigDecimal.valueOf(100)),
+            new PointGrant("user1", BigDecimal.valueOf(300)),
+            new PointGrant("user2", BigDecimal.valueOf(50))
+        );
+
+        // when
+        List<PointGrant> merged = PointGrantService.mergeByUserId(chunk);
+
+        // then
+        assertThat(merged).extracting(PointGrant::userId).containsExactly("user1", "user2");
+        assertThat(merged).extracting(PointGrant::amount)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(BigDecimal.valueOf(300), BigDecimal.valueOf(150));
+    }
+}
@@ -5,11 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
 
-import com.loopers.infrastructure.point.PointHistoryJpaRepository;
 import com.loopers.infrastructure.point.PointJpaRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import java.math.BigDecimal;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
@@ -35,14 +35,15 @@ class PointServiceIntegrationTest {
     private PointJpaRepository pointJpaRepository;
 
     @Autowired
-    private PointHistoryJpaRepository pointHistoryJpaRepository;
+    private DatabaseCleanUp databaseCleanUp;
 
     @Autowired
-    private DatabaseCleanUp databaseCleanUp;
+    private RedisCleanUp redisCleanUp;
 
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @DisplayName("포인트 초기화 시")
@@ -186,8 +187,7 @@ class PointServiceIntegrationTest {
             assertThat(newBalance).isEqualTo(BigDecimal.valueOf(1500));
 
             // then - 히스토리 확인
-            List<PointHistory> histories = pointHistoryJpaRepository.findByUserIdOrderByCreatedAtDesc(
-                userId);
+            List<PointHistory> histories = pointHistoryRepository.findPage(userId, PointHistoryCondition.none(), null, 10);
             assertAll(
                 () -> assertThat(histories).hasSize(1),
                 () -> assertThat(histories.get(0).getTransactionType()).isEqualTo(
@@ -234,8 +234,7 @@ class PointServiceIntegrationTest {
             assertThat(newBalance).isEqualTo(BigDecimal.valueOf(700));
 
             // then - 히스토리 확인
-            List<PointHistory> histories = pointHistoryJpaRepository.findByUserIdOrderByCreatedAtDesc(
-                userId);
+            List<PointHistory> histories = pointHistoryRepository.findPage(userId, PointHistoryCondition.none(), null, 10);
             assertAll(
                 () -> assertThat(histories).hasSize(1),
                 () -> assertThat(histories.get(0).getTransactionType()).isEqualTo(
@@ -287,8 +286,7 @@ class PointServiceIntegrationTest {
             assertThat(newBalance).isEqualTo(BigDecimal.valueOf(1200));
 
             // then - 히스토리 확인
-            List<PointHistory> histories = pointHistoryJpaRepository.findByUserIdOrderByCreatedAtDesc(
-                userId);
+            List<PointHistory> histories = pointHistoryRepository.findPage(userId, PointHistoryCondition.none(), null, 10);
             assertAll(
                 () -> assertThat(histories).hasSize(1),
                 () -> assertThat(histories.get(0).getTransactionType()).isEqualTo(
@@ -320,7 +318,8 @@ class PointServiceIntegrationTest {
             pointService.refundPoint(userId, BigDecimal.valueOf(100));
 
             // when
-            List<PointHistory> histories = pointService.getPointHistories(userId);
+            List<PointHistory> histories = pointService.getPointHistories(userId,
+                PointHistoryCondition.none(), null, 10);
 
             // then
             assertAll(
@@ -334,6 +333,60 @@ class PointServiceIntegrationTest {
             );
         }
 
+        @DisplayName("거래 유형으로 필터링할 수 있다.")
+        @Test
+        void returnsHistories_filteredByTransactionType() {
+            // given
+            String userId = "user123";
+            Point point = Point.builder()
+                .userId(userId)
+                .balance(BigDecimal.ZERO)
+                .build();
+            pointJpaRepository.save(point);
+            pointService.chargePoint(userId, BigDecimal.valueOf(1000));
+            pointService.usePoint(userId, BigDecimal.valueOf(300));
+            pointService.chargePoint(userId, BigDecimal.valueOf(500));
+
+            // when
+            List<PointHistory> histories = pointService.getPointHistories(userId,
+                new PointHistoryCondition(PointTransactionType.CHARGE, null, null), null, 10);
+
+            // then
+            assertThat(histories)
+                .extracting(PointHistory::getTransactionType)
+                .containsOnly(PointTransactionType.CHARGE)
+                .hasSize(2);
+        }
+
+        @DisplayName("커서 이후의 이력만 이어서 반환된다.")
+        @Test
+        void returnsNextPage_afterCursor() {
+            // given
+            String userId = "user123";
+            Point point = Point.builder()
+                .userId(userId)
+                .balance(BigDecimal.ZERO)
+                .build();
+            pointJpaRepository.save(point);
+            pointService.chargePoint(userId, BigDecimal.valueOf(1000));
+            pointService.usePoint(userId, BigDecimal.valueOf(300));
+            pointService.refundPoint(userId, BigDecimal.valueOf(100));
+            List<PointHistory> firstPage = pointService.getPointHistories(userId,
+                PointHistoryCondition.none(), null, 2);
+            PointHistory last = firstPage.get(firstPage.size() - 1);
+
+            // when
+            List<PointHistory> secondPage = pointService.getPointHistories(userId,
+                PointHistoryCondition.none(), new PointHistoryCursor(last.getCreatedAt(), last.getId()), 2);
+
+            // then
+            assertAll(
+                () -> assertThat(firstPage).hasSize(2),
+                () -> assertThat(secondPage).hasSize(1),
+                () -> assertThat(secondPage.get(0).getTransactionType()).isEqualTo(PointTransactionType.CHARGE)
+            );
+        }
+
         @DisplayName("거래 내역이 없으면, 빈 리스트가 반환된다.")
         @Test
         void returnsEmptyList_whenNoHistory() {
@@ -341,7 +394,8 @@ class PointServiceIntegrationTest {
             String userId = "user123";
 
             // when
-            List<PointHistory> histories = pointService.getPointHistories(userId);
+            List<PointHistory> histories = pointService.getPointHistories(userId,
+                PointHistoryCondition.none(), null, 10);
 
             // then
             assertThat(histories).isEmpty();
@@ -320,4 +320,65 @@ class PointTest {
             assertThat(point1).isNotEqualTo(point2);
         }
     }
+
+    @DisplayName("원장 스냅샷 처리 시")
+    @Nested
+    class LedgerSnapshot {
+        @DisplayName("원장 tail 을 반영한 계산용 인스턴스는 스냅샷 잔액에 변화량을 더한 잔액을 갖는다.")
+        @Test
+        void withLedgerTail_addsDelta() {
+            // given
+            Point point = Point.builder()
+                .userId("user123")
+                .balance(BigDecimal.valueOf(1000))
+                .build();
+
+            // when
+            Point current = point.withLedgerTail(new PointLedgerTail(3L, BigDecimal.valueOf(-300)));
+
+            // then
+            assertAll(
+                () -> assertThat(current.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(700)),
+                () -> assertThat(point.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(1000))
+            );
+        }
+
+        @DisplayName("계산용 인스턴스에서 잔액보다 많이 사용하면, 실패한다.")
+        @Test
+        void withLedgerTail_rejectsOveruse() {
+            // given
+            Point point = Point.builder()
+                .userId("user123")
+                .balance(BigDecimal.valueOf(1000))
+                .build();
+            Point current = point.withLedgerTail(new PointLedgerTail(1L, BigDecimal.valueOf(-800)));
+
+            // when & then
+            CoreException exception = assertThrows(CoreException.class, () ->
+                current.use(BigDecimal.valueOf(300))
+            );
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @DisplayName("스냅샷을 반영하면 잔액과 스냅샷 시퀀스가 전진하고, 같은 시퀀스는 다시 반영되지 않는다.")
+        @Test
+        void applySnapshot_isIdempotentPerSequence() {
+            // given
+            Point point = Point.builder()
+                .userId("user123")
+                .balance(BigDecimal.valueOf(1000))
+                .build();
+            PointLedgerTail tail = new PointLedgerTail(5L, BigDecimal.valueOf(500));
+
+            // when
+            point.applySnapshot(tail);
+            point.applySnapshot(tail);
+
+            // then
+            assertAll(
+                () -> assertThat(point.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(1500)),
+                () -> assertThat(point.getSnapshotSequence()).isEqualTo(5L)
+            );
+        }
+    }
 }
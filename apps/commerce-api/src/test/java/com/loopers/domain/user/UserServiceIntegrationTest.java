@@ -3,6 +3,7 @@ package com.loopers.domain.user;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.loopers.infrastructure.user.UserJpaRepository;
@@ -10,6 +11,12 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -89,6 +96,73 @@ class UserServiceIntegrationTest {
 
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
         }
+
+        @DisplayName("중복 조회를 생략해도, 이미 가입된 ID 는 유니크 키 위반이 BAD_REQUEST 로 변환되어 실패한다.")
+        @Test
+        void throwsException_whenDuplicateUserIdWithoutLookup() {
+            // given
+            userJpaRepository.save(user("duplicate"));
+
+            // when
+            CoreException exception = assertThrows(CoreException.class, () ->
+                userService.registerUser(user("duplicate"), false)
+            );
+
+            // then
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+            verify(userRepository, never()).existsByUserId("duplicate");
+        }
+
+        @DisplayName("같은 ID 로 동시에 가입하면, 하나만 성공하고 나머지는 BAD_REQUEST 로 실패한다.")
+        @Test
+        void allowsOnlyOne_whenRegisteringConcurrently() throws InterruptedException {
+            // given
+            int threadCount = 5;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch ready = new CountDownLatch(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger();
+            List<ErrorType> errorTypes = new CopyOnWriteArrayList<>();
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        ready.countDown();
+                        start.await();
+                        userService.registerUser(user("racer"), false);
+                        successCount.incrementAndGet();
+                    } catch (CoreException e) {
+                        errorTypes.add(e.getErrorType());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.await();
+            start.countDown();
+            done.await();
+            executor.shutdown();
+
+            // then
+            assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(1),
+                () -> assertThat(errorTypes).hasSize(threadCount - 1).containsOnly(ErrorType.BAD_REQUEST),
+                () -> assertThat(userJpaRepository.findByUserId("racer")).isPresent()
+            );
+        }
+
+        private User user(String userId) {
+            return User.builder()
+                .userId(userId)
+                .email(userId + "@test.com")
+                .birthdate("1990-01-01")
+                .gender(Gender.MALE)
+                .build();
+        }
     }
 
     @DisplayName("내 정보 조회 시")
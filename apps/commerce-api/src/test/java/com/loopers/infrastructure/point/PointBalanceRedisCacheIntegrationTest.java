@@ -0,0 +1,130 @@
+package com.loopers.infrastructure.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointBalanceCache;
+import com.loopers.domain.point.PointBalanceSnapshot;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@DisplayName("PointBalanceRedisCache 통합 테스트")
+class PointBalanceRedisCacheIntegrationTest {
+
+    private static final String USER_ID = "user1";
+
+    @Autowired
+    private PointBalanceCache pointBalanceCache;
+
+    @Autowired
+    private PointJpaRepository pointJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("새 버전이 기록된 뒤 늦게 도착한 이전 버전은 캐시를 덮어쓰지 않는다")
+    @Test
+    void keepsNewerVersion_whenOlderArrivesLater() {
+        // given
+        pointBalanceCache.put(new PointBalanceSnapshot(1L, USER_ID, 2, BigDecimal.valueOf(3000)));
+
+        // when
+        pointBalanceCache.put(new PointBalanceSnapshot(1L, USER_ID, 1, BigDecimal.valueOf(5000)));
+        pointBalanceCache.put(new PointBalanceSnapshot(1L, USER_ID, 2, BigDecimal.valueOf(4000)));
+
+        // then
+        PointBalanceSnapshot cached = pointBalanceCache.get(USER_ID).orElseThrow();
+        assertAll(
+            () -> assertThat(cached.version()).isEqualTo(2),
+            () -> assertThat(cached.balance()).isEqualByComparingTo(BigDecimal.valueOf(3000))
+        );
+    }
+
+    @DisplayName("더 새로운 버전은 캐시를 덮어쓴다")
+    @Test
+    void overwritesWithNewerVersion() {
+        // given
+        pointBalanceCache.put(new PointBalanceSnapshot(1L, USER_ID, 1, BigDecimal.valueOf(5000)));
+
+        // when
+        pointBalanceCache.put(new PointBalanceSnapshot(1L, USER_ID, 2, BigDecimal.valueOf(3000)));
+
+        // then
+        assertThat(pointBalanceCache.get(USER_ID).orElseThrow().balance()).isEqualByComparingTo(BigDecimal.valueOf(3000));
+    }
+
+    @DisplayName("커밋된 뒤에만 잔액을 기록하고, 먼저 읽어 둔 이전 버전의 엔티티가 나중에 기록되어도 커밋된 잔액을 유지한다")
+    @Test
+    void writesAfterCommit_andIgnoresStaleEntity() {
+        // given
+        Point saved = ((JpaRepository<Point, Long>) pointJpaRepository).save(Point.builder()
+            .userId(USER_ID)
+            .balance(BigDecimal.valueOf(10000))
+            .build());
+        Point stale = pointJpaRepository.findByUserId(USER_ID).orElseThrow();
+        AtomicReference<Boolean> cachedBeforeCommit = new AtomicReference<>();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            Point point = pointJpaRepository.findByUserId(USER_ID).orElseThrow();
+            point.use(BigDecimal.valueOf(4000));
+            pointBalanceCache.putAfterCommit(List.of(point));
+            cachedBeforeCommit.set(pointBalanceCache.get(USER_ID).isPresent());
+        });
+        pointBalanceCache.putAfterCommit(List.of(stale));
+
+        // then
+        PointBalanceSnapshot cached = pointBalanceCache.get(USER_ID).orElseThrow();
+        assertAll(
+            () -> assertThat(cachedBeforeCommit.get()).isFalse(),
+            () -> assertThat(cached.pointId()).isEqualTo(saved.getId()),
+            () -> assertThat(cached.version()).isGreaterThan(stale.getVersion()),
+            () -> assertThat(cached.balance()).isEqualByComparingTo(BigDecimal.valueOf(6000))
+        );
+    }
+
+    @DisplayName("트랜잭션이 롤백되면 잔액을 기록하지 않는다")
+    @Test
+    void doesNotWrite_whenRolledBack() {
+        // given
+        ((JpaRepository<Point, Long>) pointJpaRepository).save(Point.builder()
+            .userId(USER_ID)
+            .balance(BigDecimal.valueOf(10000))
+            .build());
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            Point point = pointJpaRepository.findByUserId(USER_ID).orElseThrow();
+            point.use(BigDecimal.valueOf(4000));
+            pointBalanceCache.putAfterCommit(List.of(point));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(pointBalanceCache.get(USER_ID)).isEmpty();
+    }
+}
@@ -0,0 +1,82 @@
+package com.loopers.interfaces.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.application.coupon.CouponService;
+import com.loopers.domain.coupon.CouponIssuance;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.support.Acknowledgment;
+
+@DisplayName("CouponIssueConsumer 테스트")
+class CouponIssueConsumerTest {
+
+    private static final String TOPIC = "coupon-issue.v1";
+
+    private CouponService couponService;
+    private CouponIssueConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        couponService = mock(CouponService.class);
+        consumer = new CouponIssueConsumer(couponService, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @DisplayName("역직렬화할 수 없는 메시지는 건너뛰고 나머지를 저장한 뒤 커밋한다")
+    @Test
+    void skipsMalformedMessage() {
+        // given
+        when(couponService.saveIssuances(anyList())).thenReturn(1);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        List<ConsumerRecord<Object, Object>> messages = List.of(
+            record(0, "{not-json"),
+            record(1, "{\"couponId\":1,\"userId\":\"user1\",\"issuedAt\":\"2026-01-01T00:00:00Z\"}")
+        );
+
+        // when
+        consumer.consume(messages, acknowledgment);
+
+        // then
+        ArgumentCaptor<List<CouponIssuance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(couponService).saveIssuances(captor.capture());
+        assertThat(captor.getValue())
+            .extracting(CouponIssuance::couponId, CouponIssuance::userId)
+            .containsExactly(tuple(1L, "user1"));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @DisplayName("저장에 실패하면 커밋하지 않아 배치가 재전달된다")
+    @Test
+    void doesNotAcknowledge_whenSaveFails() {
+        // given
+        when(couponService.saveIssuances(anyList())).thenThrow(new IllegalStateException("DB 장애"));
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        List<ConsumerRecord<Object, Object>> messages = List.of(
+            record(0, "{\"couponId\":1,\"userId\":\"user1\",\"issuedAt\":\"2026-01-01T00:00:00Z\"}")
+        );
+
+        // when
+        assertThrows(IllegalStateException.class, () -> consumer.consume(messages, acknowledgment));
+
+        // then
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private static ConsumerRecord<Object, Object> record(long offset, String json) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, "1:user1", json.getBytes(StandardCharsets.UTF_8));
+    }
+}
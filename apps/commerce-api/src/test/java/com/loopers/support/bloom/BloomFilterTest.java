@@ -0,0 +1,46 @@
+package com.loopers.support.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @DisplayName("추가한 키는 항상 포함될 수 있다고 판단한다")
+    @Test
+    void neverReturnsFalseNegative() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+        // when & then
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("user" + i))).isTrue();
+    }
+
+    @DisplayName("예상 키 수까지 추가해도 오탐률이 목표치 근처로 유지된다")
+    @Test
+    void keepsFalsePositiveRateNearTarget() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+            .filter(i -> filter.mightContain("guest" + i))
+            .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @DisplayName("목표 오탐률이 0과 1 사이가 아니면 생성에 실패한다")
+    @Test
+    void throwsException_whenFalsePositiveRateIsOutOfRange() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+    }
+}
@@ -0,0 +1,67 @@
+package com.loopers.support.cursor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeysetCursorCodec 테스트")
+class KeysetCursorCodecTest {
+
+    record Position(ZonedDateTime createdAt, Long id) {
+    }
+
+    @DisplayName("인코딩한 커서를 디코딩하면 나노초까지 같은 위치를 얻는다")
+    @Test
+    void roundTrips() {
+        // given
+        ZonedDateTime createdAt = ZonedDateTime.parse("2026-10-19T13:01:53.123456789+09:00[Asia/Seoul]");
+
+        // when
+        Position decoded = KeysetCursorCodec.decode(KeysetCursorCodec.encode(createdAt, 42L), Position::new);
+
+        // then
+        assertAll(
+            () -> assertThat(decoded.createdAt().toInstant()).isEqualTo(createdAt.toInstant()),
+            () -> assertThat(decoded.id()).isEqualTo(42L)
+        );
+    }
+
+    @DisplayName("커서가 비어 있으면 첫 페이지로 보고 null 을 반환한다")
+    @Test
+    void returnsNull_whenBlank() {
+        // when & then
+        assertAll(
+            () -> assertThat(KeysetCursorCodec.decode(null, Position::new)).isNull(),
+            () -> assertThat(KeysetCursorCodec.decode(" ", Position::new)).isNull()
+        );
+    }
+
+    @DisplayName("형식이 올바르지 않은 커서는 BAD_REQUEST 예외가 발생한다")
+    @Test
+    void throwsBadRequest_whenMalformed() {
+        // given
+        List<String> cursors = Stream.of("1700000000.0", "abc.def:1", "1700000000.0:x")
+            .map(raw -> Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)))
+            .collect(Collectors.toCollection(ArrayList::new));
+        cursors.add("not-base64!");
+
+        // when & then
+        assertAll(cursors.stream().map(cursor -> () -> {
+            CoreException exception = assertThrows(CoreException.class,
+                () -> KeysetCursorCodec.decode(cursor, Position::new));
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }));
+    }
+}
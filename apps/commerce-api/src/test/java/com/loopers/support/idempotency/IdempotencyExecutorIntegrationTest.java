@@ -0,0 +1,107 @@
+package com.loopers.support.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@DisplayName("IdempotencyExecutor 통합 테스트")
+class IdempotencyExecutorIntegrationTest {
+
+    @Autowired
+    private IdempotencyExecutor idempotencyExecutor;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("같은 키와 본문으로 동시에 요청하면 로직은 한 번만 실행되고 모두 같은 결과를 받는다")
+    @Test
+    void executesOnce_whenConcurrentDuplicates() {
+        // given
+        Map<String, Object> request = Map.of("amount", 1000);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        List<CompletableFuture<BigDecimal>> futures = IntStream.range(0, 10)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() ->
+                idempotencyExecutor.execute("point:charge:user1", "key-1", request, BigDecimal.class, () -> {
+                    executions.incrementAndGet();
+                    sleep(200);
+                    return BigDecimal.valueOf(1000);
+                })))
+            .toList();
+        List<BigDecimal> results = futures.stream().map(CompletableFuture::join).toList();
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(results).allSatisfy(result -> assertThat(result).isEqualByComparingTo(BigDecimal.valueOf(1000)));
+    }
+
+    @DisplayName("완료된 키를 다른 본문으로 재사용하면 CONFLICT 를 던지고 로직을 실행하지 않는다")
+    @Test
+    void throwsConflict_whenKeyReusedWithDifferentBody() {
+        // given
+        idempotencyExecutor.execute("point:charge:user1", "key-1", Map.of("amount", 1000), BigDecimal.class,
+            () -> BigDecimal.valueOf(1000));
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        CoreException exception = assertThrows(CoreException.class, () ->
+            idempotencyExecutor.execute("point:charge:user1", "key-1", Map.of("amount", 5000), BigDecimal.class,
+                () -> {
+                    executions.incrementAndGet();
+                    return BigDecimal.valueOf(5000);
+                })
+        );
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        assertThat(executions.get()).isZero();
+    }
+
+    @DisplayName("실패한 요청은 같은 키로 다시 실행할 수 있다")
+    @Test
+    void allowsRetry_whenFirstAttemptFailed() {
+        // given
+        Map<String, Object> request = Map.of("amount", 1000);
+        assertThrows(CoreException.class, () ->
+            idempotencyExecutor.execute("point:use:user1", "key-1", request, BigDecimal.class, () -> {
+                throw new CoreException(ErrorType.BAD_REQUEST, "잔액 부족");
+            })
+        );
+
+        // when
+        BigDecimal result = idempotencyExecutor.execute("point:use:user1", "key-1", request, BigDecimal.class,
+            () -> BigDecimal.TEN);
+
+        // then
+        assertThat(result).isEqualByComparingTo(BigDecimal.TEN);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.loopers.support.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@DisplayName("IdempotencyExecutor 테스트")
+class IdempotencyExecutorTest {
+
+    private static final Map<String, Object> REQUEST = Map.of("amount", 1500);
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private IdempotencyExecutor idempotencyExecutor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        idempotencyExecutor = new IdempotencyExecutor(redisTemplate, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyExecutor.shutdown();
+    }
+
+    @DisplayName("멱등 키가 없으면 Redis 를 거치지 않고 바로 실행한다")
+    @Test
+    void executesDirectly_whenKeyIsNull() {
+        // when
+        BigDecimal result = idempotencyExecutor.execute("point:charge:user1", null, REQUEST, BigDecimal.class,
+            () -> BigDecimal.TEN);
+
+        // then
+        assertThat(result).isEqualByComparingTo(BigDecimal.TEN);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @DisplayName("최초 요청은 로직을 실행하고 요청 지문과 함께 결과를 저장한다")
+    @Test
+    void executesAndStoresResult_whenFirstRequest() throws Exception {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // when
+        BigDecimal result = idempotencyExecutor.execute("point:charge:user1", "key-1", REQUEST, BigDecimal.class,
+            () -> BigDecimal.valueOf(1500));
+
+        // then
+        assertThat(result).isEqualByComparingTo(BigDecimal.valueOf(1500));
+        verify(valueOperations).set(eq("idempotency:point:charge:user1:key-1"), eq(fingerprint(REQUEST) + "|1500"),
+            any(Duration.class));
+    }
+
+    @DisplayName("이미 완료된 요청이 있으면 로직을 다시 실행하지 않고 저장된 결과를 반환한다")
+    @Test
+    void returnsStoredResult_whenDuplicateRequest() throws Exception {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("idempotency:point:charge:user1:key-1")).thenReturn(fingerprint(REQUEST) + "|1500");
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        BigDecimal result = idempotencyExecutor.execute("point:charge:user1", "key-1", REQUEST, BigDecimal.class,
+            () -> {
+                executions.incrementAndGet();
+                return BigDecimal.ZERO;
+            });
+
+        // then
+        assertThat(result).isEqualByComparingTo(BigDecimal.valueOf(1500));
+        assertThat(executions.get()).isZero();
+    }
+
+    @DisplayName("같은 키로 다른 본문이 들어오면 저장된 결과를 재생하지 않고 CONFLICT 를 던진다")
+    @Test
+    void throwsConflict_whenBodyDiffers() throws Exception {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("idempotency:point:charge:user1:key-1")).thenReturn(fingerprint(REQUEST) + "|1500");
+
+        // when
+        CoreException exception = assertThrows(CoreException.class, () ->
+            idempotencyExecutor.execute("point:charge:user1", "key-1", Map.of("amount", 9999), BigDecimal.class,
+                () -> BigDecimal.ZERO)
+        );
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+    }
+
+    @DisplayName("로직이 실패하면 처리 중 마커를 제거하여 재시도를 허용한다")
+    @Test
+    void removesMarker_whenActionFails() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // when & then
+        assertThrows(CoreException.class, () ->
+            idempotencyExecutor.execute("point:use:user1", "key-1", REQUEST, BigDecimal.class, () -> {
+                throw new CoreException(ErrorType.BAD_REQUEST, "잔액 부족");
+            })
+        );
+        verify(redisTemplate).delete("idempotency:point:use:user1:key-1");
+    }
+
+    @DisplayName("결과 저장에 실패해도 이미 실행된 요청이 재실행되지 않도록 처리 중 마커를 지우지 않는다")
+    @Test
+    void keepsMarker_whenStoringResultFails() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), startsWith("__IN_PROGRESS__|"), any(Duration.class)))
+            .thenReturn(true);
+        doThrow(new RedisConnectionFailureException("down"))
+            .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        // when
+        BigDecimal result = idempotencyExecutor.execute("point:use:user1", "key-1", REQUEST, BigDecimal.class,
+            () -> BigDecimal.ONE);
+
+        // then
+        assertThat(result).isEqualByComparingTo(BigDecimal.ONE);
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    private String fingerprint(Object request) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(new ObjectMapper().writeValueAsBytes(request));
+        return HexFormat.of().formatHex(digest);
+    }
+}
@@ -0,0 +1,119 @@
+package com.loopers.support.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("OptimisticLockRetryExecutor 테스트")
+class OptimisticLockRetryExecutorTest {
+
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticLockRetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        retryExecutor = new OptimisticLockRetryExecutor(transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @DisplayName("낙관적 락 충돌이 발생하면 새 트랜잭션으로 재시도하여 성공한다")
+    @Test
+    void retriesUntilSuccess_whenConflictOccurs() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = retryExecutor.execute("point.charge", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(count("point.charge", "conflict")).isEqualTo(2);
+        assertThat(count("point.charge", "recovered")).isEqualTo(1);
+    }
+
+    @DisplayName("최대 시도 횟수를 모두 충돌하면 CONFLICT 예외가 발생한다")
+    @Test
+    void throwsConflict_whenAttemptsExhausted() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        CoreException exception = assertThrows(CoreException.class, () ->
+            retryExecutor.execute("coupon.use", () -> {
+                attempts.incrementAndGet();
+                throw new OptimisticLockingFailureException("conflict");
+            })
+        );
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        assertThat(attempts.get()).isEqualTo(OptimisticLockRetryExecutor.MAX_ATTEMPTS);
+        assertThat(count("coupon.use", "exhausted")).isEqualTo(1);
+    }
+
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않는다")
+    @Test
+    void doesNotRetry_whenBusinessExceptionOccurs() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThrows(CoreException.class, () ->
+            retryExecutor.execute("point.use", () -> {
+                attempts.incrementAndGet();
+                throw new CoreException(ErrorType.BAD_REQUEST, "잔액 부족");
+            })
+        );
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @DisplayName("바깥 트랜잭션이 진행 중이면 새 트랜잭션을 열지 않고 참여한다")
+    @Test
+    void joinsOuterTransaction_whenTransactionActive() {
+        // given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when
+        String result = retryExecutor.execute("point.refund", () -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    private double count(String operation, String outcome) {
+        return meterRegistry.counter(OptimisticLockRetryExecutor.METRIC_NAME,
+            "operation", operation, "outcome", outcome).count();
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.application.recommendation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param topK 상품별로 저장할 이웃 수
+ * @param minCoLikes 이웃으로 인정할 최소 동시 좋아요 수 (우연한 1회 겹침 제외)
+ * @param maxLikesPerUser 한 사용자에서 쌍을 만들 최근 좋아요 수 (사용자당 O(n^2) 을 제한). 전체 재계산과 증분 갱신에 같이 적용한다.
+ * @param maxLikersPerProduct 증분 갱신할 상품의 최대 좋아요 수. 이보다 많으면 증분 갱신을 건너뛰고 전체 재계산에 맡긴다.
+ * @param scanChunkSize 전체 재계산 시 likes 키셋 청크 크기
+ * @param rebuildPartitions 전체 재계산을 상품 ID 기준으로 나누어 처리할 파티션 수 (한 번에 힙에 두는 동시 좋아요 행을 제한)
+ * @param writeChunkSize 한 파이프라인으로 저장할 상품 수
+ */
+@ConfigurationProperties(value = "recommendation.co-like")
+public record CoLikeProperties(
+    int topK,
+    int minCoLikes,
+    int maxLikesPerUser,
+    int maxLikersPerProduct,
+    int scanChunkSize,
+    int rebuildPartitions,
+    int writeChunkSize
+) { }
@@ -0,0 +1,36 @@
+package com.loopers.application.recommendation;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시 좋아요 이웃 목록을 주기적으로 전체 재계산한다. 증분 갱신이 놓친 상대 상품 쪽 점수 변화와 삭제된 좋아요를 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoLikeRebuildJob {
+
+    private final CoLikeRecommendationService coLikeRecommendationService;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${recommendation.co-like.rebuild-cron}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            int products = coLikeRecommendationService.rebuildAll();
+            log.info("동시 좋아요 추천 재계산 완료. 상품={}개, 소요={}ms", products, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("동시 좋아요 추천 재계산에 실패했습니다.", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
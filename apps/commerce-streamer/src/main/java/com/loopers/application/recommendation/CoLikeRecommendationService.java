@@ -0,0 +1,208 @@
+package com.loopers.application.recommendation;
+
+import com.loopers.domain.recommendation.LikeMatrixRepository;
+import com.loopers.domain.recommendation.NeighborStore;
+import com.loopers.domain.recommendation.Neighbors;
+import com.loopers.domain.recommendation.UserLike;
+import com.loopers.support.collection.LongFloatHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * "이 상품을 좋아한 고객이 함께 좋아한 상품" 계산.
+ *
+ * <p>상품 i, j 의 유사도는 코사인 유사도 co(i, j) / sqrt(n(i) * n(j)) 로 계산한다. co 는 두 상품을 모두 좋아한 사용자 수, n 은 상품의 좋아요 수다.
+ * co 와 n 은 항상 같은 좋아요 집합에서 센다. 상품별 희소 벡터는 {@link LongFloatHashMap} 으로 박싱 없이 누적하고,
+ * 상위 {@link CoLikeProperties#topK()} 개만 {@link NeighborStore} 에 저장한다.</p>
+ *
+ * <ul>
+ *     <li>전체 재계산: likes 를 (user_id, product_id) 순서로 훑으며 사용자별 최근 좋아요 {@link CoLikeProperties#maxLikesPerUser()} 개의
+ *     모든 쌍을 센다. 상품 ID 파티션마다 한 번씩 훑어 한 번에 한 파티션의 행만 힙에 둔다.</li>
+ *     <li>증분 갱신: 좋아요가 바뀐 상품마다 그 상품의 모든 좋아요 사용자 기준으로 이웃 목록만 다시 계산한다.
+ *     co 와 n 모두 전체 재계산과 같이 사용자별 최근 좋아요 {@link CoLikeProperties#maxLikesPerUser()} 개만 센다.
+ *     좋아요가 {@link CoLikeProperties#maxLikersPerProduct()} 보다 많은 상품은 건너뛰고, 상대 상품 쪽 점수 변화와 함께 다음 전체 재계산에서 맞춰진다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CoLikeRecommendationService {
+
+    private static final int CANDIDATE_FACTOR = 10; // 증분 갱신 시 동시 좋아요 수 상위 topK * 10 개만 점수를 계산한다.
+
+    private final CoLikeProperties properties;
+    private final LikeMatrixRepository likeMatrixRepository;
+    private final NeighborStore neighborStore;
+
+    /**
+     * @return 이웃 목록을 저장한 상품 수
+     */
+    public int rebuildAll() {
+        int partitions = Math.max(1, properties.rebuildPartitions());
+        LongFloatHashMap likeCounts = new LongFloatHashMap(1024);
+        int written = 0;
+        for (int partition = 0; partition < partitions; partition++) {
+            Map<Long, LongFloatHashMap> coLikes = new HashMap<>();
+            // n(i) 는 co 와 같은 사용자별 최근 좋아요 집합에서 첫 번째 스캔에 센다.
+            scanUserLikes(partitions, partition, coLikes, partition == 0 ? likeCounts : null);
+            written += writeNeighbors(coLikes, likeCounts);
+        }
+        return written;
+    }
+
+    /**
+     * 좋아요가 바뀐 상품들의 이웃 목록을 다시 계산한다. 좋아요가 모두 취소된 상품은 목록을 지운다.
+     */
+    public void refresh(Collection<Long> productIds) {
+        Map<Long, Neighbors> batch = new HashMap<>();
+        for (Long productId : productIds) {
+            Neighbors neighbors = recompute(productId);
+            if (neighbors == null) {
+                log.debug("좋아요가 많은 상품은 증분 갱신을 건너뜁니다. productId={}", productId);
+                continue;
+            }
+            batch.put(productId, neighbors);
+            if (batch.size() >= properties.writeChunkSize()) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+    }
+
+    private void scanUserLikes(int partitions, int partition, Map<Long, LongFloatHashMap> coLikes,
+        LongFloatHashMap likeCounts) {
+        RecentLikes userLikes = new RecentLikes(properties.maxLikesPerUser());
+        String currentUserId = null;
+
+        UserLike after = null;
+        while (true) {
+            List<UserLike> chunk = likeMatrixRepository.findActiveLikesAfter(after, properties.scanChunkSize());
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (UserLike like : chunk) {
+                if (!like.userId().equals(currentUserId)) {
+                    accumulate(userLikes, partitions, partition, coLikes, likeCounts);
+                    currentUserId = like.userId();
+                    userLikes.clear();
+                }
+                userLikes.add(like.productId(), like.likedAt());
+            }
+            after = chunk.get(chunk.size() - 1);
+        }
+        accumulate(userLikes, partitions, partition, coLikes, likeCounts);
+    }
+
+    /**
+     * 좋아요가 상한보다 많아 일부 사용자만 읽어야 하는 상품은 co 와 n 이 어긋나므로 null 을 반환하여 건너뛴다.
+     */
+    private Neighbors recompute(long productId) {
+        LongFloatHashMap productLikeCount = new LongFloatHashMap(1);
+        likeMatrixRepository.countLikesByProducts(List.of(productId), properties.maxLikesPerUser(), productLikeCount);
+        float likeCount = productLikeCount.get(productId);
+        if (likeCount <= 0) {
+            return Neighbors.empty();
+        }
+        if (likeCount > properties.maxLikersPerProduct()) {
+            return null;
+        }
+
+        List<String> likerIds = likeMatrixRepository.findRecentLikerIds(productId, properties.maxLikersPerProduct(),
+            properties.maxLikesPerUser());
+        if (likerIds.isEmpty()) {
+            return Neighbors.empty();
+        }
+        LongFloatHashMap coLikes = new LongFloatHashMap(256);
+        likeMatrixRepository.countLikesByUsers(likerIds, properties.maxLikesPerUser(), coLikes);
+
+        TopKNeighbors candidates = new TopKNeighbors(properties.topK() * CANDIDATE_FACTOR);
+        coLikes.forEach((candidateId, count) -> {
+            if (candidateId != productId && count >= properties.minCoLikes()) {
+                candidates.offer(candidateId, count);
+            }
+        });
+        Neighbors candidateNeighbors = candidates.toNeighbors();
+        if (candidateNeighbors.isEmpty()) {
+            return Neighbors.empty();
+        }
+
+        List<Long> countTargets = new ArrayList<>(candidateNeighbors.size());
+        for (long candidateId : candidateNeighbors.productIds()) {
+            countTargets.add(candidateId);
+        }
+        LongFloatHashMap likeCounts = new LongFloatHashMap(countTargets.size() + 1);
+        likeMatrixRepository.countLikesByProducts(countTargets, properties.maxLikesPerUser(), likeCounts);
+        // 읽은 사용자 수로 n(i) 를 맞춘다. 그 사이 바뀐 좋아요는 다음 이벤트에서 다시 계산된다.
+        likeCounts.put(productId, likerIds.size());
+
+        // 후보가 아닌 상품은 likeCounts 에 없으므로 score 에서 건너뛴다.
+        return score(productId, likeCounts.get(productId), coLikes, likeCounts);
+    }
+
+    private void accumulate(RecentLikes userLikes, int partitions, int partition,
+        Map<Long, LongFloatHashMap> coLikes, LongFloatHashMap likeCounts) {
+        long[] items = userLikes.productIds();
+        int count = userLikes.size();
+        for (int i = 0; i < count; i++) {
+            if (likeCounts != null) {
+                likeCounts.addTo(items[i], 1f);
+            }
+            if (Math.floorMod(items[i], partitions) != partition) {
+                continue;
+            }
+            LongFloatHashMap row = coLikes.computeIfAbsent(items[i], id -> new LongFloatHashMap());
+            for (int j = 0; j < count; j++) {
+                if (i != j) {
+                    row.addTo(items[j], 1f);
+                }
+            }
+        }
+    }
+
+    private int writeNeighbors(Map<Long, LongFloatHashMap> coLikes, LongFloatHashMap likeCounts) {
+        int written = 0;
+        Map<Long, Neighbors> batch = new HashMap<>();
+        for (Map.Entry<Long, LongFloatHashMap> row : coLikes.entrySet()) {
+            long productId = row.getKey();
+            batch.put(productId, score(productId, likeCounts.get(productId), row.getValue(), likeCounts));
+            if (batch.size() >= properties.writeChunkSize()) {
+                written += flush(batch);
+            }
+        }
+        written += flush(batch);
+        return written;
+    }
+
+    private Neighbors score(long productId, float productLikeCount, LongFloatHashMap coLikes,
+        LongFloatHashMap likeCounts) {
+        if (productLikeCount <= 0) {
+            return Neighbors.empty();
+        }
+        TopKNeighbors top = new TopKNeighbors(properties.topK());
+        coLikes.forEach((neighborId, count) -> {
+            if (neighborId == productId || count < properties.minCoLikes()) {
+                return;
+            }
+            float neighborLikeCount = likeCounts.get(neighborId);
+            if (neighborLikeCount <= 0) {
+                return;
+            }
+            double similarity = count / Math.sqrt((double) productLikeCount * neighborLikeCount);
+            top.offer(neighborId, (float) Math.min(1.0, similarity));
+        });
+        return top.toNeighbors();
+    }
+
+    private int flush(Map<Long, Neighbors> batch) {
+        int size = batch.size();
+        neighborStore.replaceAll(batch);
+        batch.clear();
+        return size;
+    }
+}
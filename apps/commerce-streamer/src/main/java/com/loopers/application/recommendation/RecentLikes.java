@@ -0,0 +1,53 @@
+package com.loopers.application.recommendation;
+
+/**
+ * 한 사용자의 좋아요 중 가장 최근 것만 최대 {@code capacity} 개 남긴다 (primitive 배열 기반).
+ *
+ * <p>likes 는 (user_id, product_id) 순서로 읽히므로, 앞에서부터 자르면 ID 가 작은 오래된 상품으로 쏠린다.
+ * 가득 찬 뒤에는 가장 오래된 좋아요보다 최근 것만 그 자리를 대신한다.</p>
+ */
+final class RecentLikes {
+
+    private final long[] productIds;
+    private final long[] likedAts;
+    private int size;
+
+    RecentLikes(int capacity) {
+        this.productIds = new long[capacity];
+        this.likedAts = new long[capacity];
+    }
+
+    void add(long productId, long likedAt) {
+        if (size < productIds.length) {
+            productIds[size] = productId;
+            likedAts[size] = likedAt;
+            size++;
+            return;
+        }
+        int oldest = -1;
+        for (int i = 0; i < size; i++) {
+            if (oldest < 0 || likedAts[i] < likedAts[oldest]) {
+                oldest = i;
+            }
+        }
+        if (oldest >= 0 && likedAt > likedAts[oldest]) {
+            productIds[oldest] = productId;
+            likedAts[oldest] = likedAt;
+        }
+    }
+
+    /**
+     * @return 앞의 {@link #size()} 개만 유효하다.
+     */
+    long[] productIds() {
+        return productIds;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.loopers.application.recommendation;
+
+import com.loopers.domain.recommendation.Neighbors;
+
+/**
+ * 점수 상위 K 개만 남기는 최소 힙 (primitive 배열 기반).
+ *
+ * <p>점수가 같으면 상품 ID 가 작은 쪽을 앞에 둔다. 후보를 넣는 순서(맵 순회 순서)와 무관하게 결과가 정해져야
+ * 전체 재계산과 증분 갱신이 같은 목록을 만든다.</p>
+ */
+final class TopKNeighbors {
+
+    private final long[] ids;
+    private final float[] scores;
+    private int size;
+
+    TopKNeighbors(int k) {
+        this.ids = new long[k];
+        this.scores = new float[k];
+    }
+
+    void offer(long id, float score) {
+        if (size < ids.length) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+            return;
+        }
+        if (ids.length == 0 || !worse(ids[0], scores[0], id, score)) {
+            return;
+        }
+        ids[0] = id;
+        scores[0] = score;
+        siftDown(0);
+    }
+
+    /**
+     * @return 점수 내림차순 목록
+     */
+    Neighbors toNeighbors() {
+        long[] sortedIds = new long[size];
+        float[] sortedScores = new float[size];
+        long[] heapIds = ids.clone();
+        float[] heapScores = scores.clone();
+        int remaining = size;
+        for (int i = size - 1; i >= 0; i--) {
+            sortedIds[i] = heapIds[0];
+            sortedScores[i] = heapScores[0];
+            remaining--;
+            heapIds[0] = heapIds[remaining];
+            heapScores[0] = heapScores[remaining];
+            siftDown(heapIds, heapScores, remaining, 0);
+        }
+        return new Neighbors(sortedIds, sortedScores);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!worse(ids[index], scores[index], ids[parent], scores[parent])) {
+                return;
+            }
+            swap(ids, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        siftDown(ids, scores, size, index);
+    }
+
+    private static void siftDown(long[] ids, float[] scores, int size, int index) {
+        while (true) {
+            int left = (index << 1) + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && worse(ids[left + 1], scores[left + 1], ids[left], scores[left])
+                ? left + 1 : left;
+            if (!worse(ids[smallest], scores[smallest], ids[index], scores[index])) {
+                return;
+            }
+            swap(ids, scores, index, smallest);
+            index = smallest;
+        }
+    }
+
+    // a 가 b 보다 순위가 낮으면 true
+    private static boolean worse(long aId, float aScore, long bId, float bScore) {
+        return aScore < bScore || (aScore == bScore && aId > bId);
+    }
+
+    private static void swap(long[] ids, float[] scores, int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
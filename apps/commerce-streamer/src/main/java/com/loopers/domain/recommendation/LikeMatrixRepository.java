@@ -0,0 +1,34 @@
+package com.loopers.domain.recommendation;
+
+import com.loopers.support.collection.LongFloatHashMap;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 동시 좋아요 계산을 위해 likes 를 읽는다. 결과는 박싱 없이 {@link LongFloatHashMap} 에 바로 누적한다.
+ */
+public interface LikeMatrixRepository {
+
+    /**
+     * 활성 좋아요를 (user_id, product_id) 키셋 순서로 조회한다.
+     *
+     * @param after 이 위치 다음부터 조회 (null 이면 처음부터)
+     */
+    List<UserLike> findActiveLikesAfter(UserLike after, int limit);
+
+    /**
+     * 상품을 최근에 좋아요한 사용자 ID 를 최신순으로 조회한다.
+     * 그 좋아요가 사용자의 최근 {@code recentLikesPerUser} 개 안에 드는 사용자만 포함한다.
+     */
+    List<String> findRecentLikerIds(long productId, int limit, int recentLikesPerUser);
+
+    /**
+     * 주어진 사용자들의 최근 {@code recentLikesPerUser} 개 좋아요를 상품별 인원 수로 {@code into} 에 더한다.
+     */
+    void countLikesByUsers(Collection<String> userIds, int recentLikesPerUser, LongFloatHashMap into);
+
+    /**
+     * 상품별로, 그 상품이 최근 {@code recentLikesPerUser} 개 좋아요 안에 드는 사용자 수를 {@code into} 에 더한다.
+     */
+    void countLikesByProducts(Collection<Long> productIds, int recentLikesPerUser, LongFloatHashMap into);
+}
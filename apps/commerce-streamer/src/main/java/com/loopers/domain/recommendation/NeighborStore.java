@@ -0,0 +1,14 @@
+package com.loopers.domain.recommendation;
+
+import java.util.Map;
+
+/**
+ * 상품별 이웃 목록 저장소. 조회 측(commerce-api)은 같은 키를 읽는다.
+ */
+public interface NeighborStore {
+
+    /**
+     * 상품들의 이웃 목록을 교체한다. 빈 목록이면 삭제한다.
+     */
+    void replaceAll(Map<Long, Neighbors> neighborsByProduct);
+}
@@ -0,0 +1,25 @@
+package com.loopers.domain.recommendation;
+
+/**
+ * 한 상품과 함께 좋아요된 상위 상품 목록 (점수 내림차순).
+ *
+ * @param productIds 이웃 상품 ID
+ * @param scores 유사도 (0 초과 1 이하, productIds 와 같은 순서)
+ */
+public record Neighbors(
+    long[] productIds,
+    float[] scores
+) {
+
+    public static Neighbors empty() {
+        return new Neighbors(new long[0], new float[0]);
+    }
+
+    public int size() {
+        return productIds.length;
+    }
+
+    public boolean isEmpty() {
+        return productIds.length == 0;
+    }
+}
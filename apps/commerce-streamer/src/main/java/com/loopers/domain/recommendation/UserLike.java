@@ -0,0 +1,12 @@
+package com.loopers.domain.recommendation;
+
+/**
+ * @param likedAt 좋아요 시각 (epoch micros). 사용자당 쌍 상한을 넘으면 최근 좋아요를 남기는 데 쓴다.
+ *                created_at 의 정밀도를 그대로 두어야 증분 갱신의 SQL 순위와 같은 좋아요가 남는다.
+ */
+public record UserLike(
+    String userId,
+    long productId,
+    long likedAt
+) {
+}
@@ -0,0 +1,110 @@
+package com.loopers.infrastructure.recommendation;
+
+import com.loopers.domain.recommendation.LikeMatrixRepository;
+import com.loopers.domain.recommendation.UserLike;
+import com.loopers.support.collection.LongFloatHashMap;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * likes 테이블 읽기 전용 JDBC 구현. 엔티티를 만들지 않고 행을 바로 primitive 맵에 누적한다.
+ *
+ * <p>키셋 스캔은 uk_likes_user_product (user_id, product_id), 상품별 조회는
+ * idx_likes_product_deleted_created (product_id, deleted_at, created_at) 인덱스를 탄다.
+ * 증분 갱신용 집계는 전체 재계산과 같은 좋아요 집합을 보도록 사용자별 최근 좋아요 순위(ROW_NUMBER)로 자른다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeMatrixJdbcRepository implements LikeMatrixRepository {
+
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    /**
+     * 사용자별 좋아요 순위 (rn = 1 이 가장 최근). 전체 재계산의 {@code RecentLikes} 와 같은 좋아요를 남기도록,
+     * 같은 시각이면 상품 ID 가 작은 쪽을 앞에 둔다. 뒤에 WHERE 절을 이어 붙여 쓴다.
+     */
+    private static final String RANKED_LIKES = "SELECT user_id, product_id, created_at, "
+        + "ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY created_at DESC, product_id) AS rn FROM likes ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<UserLike> findActiveLikesAfter(UserLike after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(
+                "SELECT user_id, product_id, created_at FROM likes WHERE deleted_at IS NULL "
+                    + "ORDER BY user_id, product_id LIMIT ?",
+                (rs, rowNum) -> new UserLike(rs.getString(1), rs.getLong(2), epochMicros(rs.getTimestamp(3))),
+                limit);
+        }
+        return jdbcTemplate.query(
+            "SELECT user_id, product_id, created_at FROM likes WHERE deleted_at IS NULL "
+                + "AND (user_id > ? OR (user_id = ? AND product_id > ?)) "
+                + "ORDER BY user_id, product_id LIMIT ?",
+            (rs, rowNum) -> new UserLike(rs.getString(1), rs.getLong(2), epochMicros(rs.getTimestamp(3))),
+            after.userId(), after.userId(), after.productId(), limit);
+    }
+
+    @Override
+    public List<String> findRecentLikerIds(long productId, int limit, int recentLikesPerUser) {
+        return namedParameterJdbcTemplate.queryForList(
+            "SELECT user_id FROM (" + RANKED_LIKES
+                + "WHERE deleted_at IS NULL AND user_id IN ("
+                + "SELECT user_id FROM likes WHERE product_id = :id AND deleted_at IS NULL)"
+                + ") ranked WHERE product_id = :id AND rn <= :cap ORDER BY created_at DESC LIMIT :limit",
+            Map.of("id", productId, "cap", recentLikesPerUser, "limit", limit),
+            String.class);
+    }
+
+    @Override
+    public void countLikesByUsers(Collection<String> userIds, int recentLikesPerUser, LongFloatHashMap into) {
+        for (List<String> chunk : chunks(userIds)) {
+            namedParameterJdbcTemplate.query(
+                "SELECT product_id, COUNT(*) FROM (" + RANKED_LIKES
+                    + "WHERE user_id IN (:ids) AND deleted_at IS NULL"
+                    + ") ranked WHERE rn <= :cap GROUP BY product_id",
+                Map.of("ids", chunk, "cap", recentLikesPerUser),
+                rs -> {
+                    into.addTo(rs.getLong(1), rs.getLong(2));
+                });
+        }
+    }
+
+    @Override
+    public void countLikesByProducts(Collection<Long> productIds, int recentLikesPerUser, LongFloatHashMap into) {
+        for (List<Long> chunk : chunks(productIds)) {
+            namedParameterJdbcTemplate.query(
+                "SELECT product_id, COUNT(*) FROM (" + RANKED_LIKES
+                    + "WHERE deleted_at IS NULL AND user_id IN ("
+                    + "SELECT user_id FROM likes WHERE product_id IN (:ids) AND deleted_at IS NULL)"
+                    + ") ranked WHERE product_id IN (:ids) AND rn <= :cap GROUP BY product_id",
+                Map.of("ids", chunk, "cap", recentLikesPerUser),
+                rs -> {
+                    into.addTo(rs.getLong(1), rs.getLong(2));
+                });
+        }
+    }
+
+    private static long epochMicros(Timestamp timestamp) {
+        Instant instant = timestamp.toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + IN_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+}
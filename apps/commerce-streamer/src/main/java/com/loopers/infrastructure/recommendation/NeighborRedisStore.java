@@ -0,0 +1,72 @@
+package com.loopers.infrastructure.recommendation;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.recommendation.NeighborStore;
+import com.loopers.domain.recommendation.Neighbors;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이웃 목록을 상품별 ZSET(reco:colike:{productId}, member=이웃 상품 ID, score=유사도)으로 저장한다.
+ *
+ * <p>임시 키에 ZADD 한 뒤 RENAME 으로 교체하여 조회 측이 비어 있거나 반쯤 쓰인 목록을 보지 않도록 하고,
+ * 여러 상품을 한 파이프라인으로 보낸다. 갱신되지 않는 상품의 목록은 TTL 로 정리된다.</p>
+ */
+@Component
+public class NeighborRedisStore implements NeighborStore {
+
+    static final String KEY_PREFIX = "reco:colike:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public NeighborRedisStore(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        @Value("${recommendation.co-like.neighbor-ttl}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void replaceAll(Map<Long, Neighbors> neighborsByProduct) {
+        if (neighborsByProduct.isEmpty()) {
+            return;
+        }
+        String tmpSuffix = ":tmp:" + UUID.randomUUID();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            neighborsByProduct.forEach((productId, neighbors) -> {
+                byte[] key = bytes(KEY_PREFIX + productId);
+                if (neighbors.isEmpty()) {
+                    connection.keyCommands().del(key);
+                    return;
+                }
+                byte[] tmpKey = bytes(KEY_PREFIX + productId + tmpSuffix);
+                Set<Tuple> tuples = new LinkedHashSet<>(neighbors.size());
+                for (int i = 0; i < neighbors.size(); i++) {
+                    tuples.add(new DefaultTuple(bytes(String.valueOf(neighbors.productIds()[i])),
+                        (double) neighbors.scores()[i]));
+                }
+                connection.zSetCommands().zAdd(tmpKey, tuples);
+                connection.keyCommands().expire(tmpKey, ttl.toSeconds());
+                connection.keyCommands().rename(tmpKey, key);
+            });
+            return null;
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,73 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.recommendation.CoLikeRecommendationService;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.KeyOrderedBatchProcessor;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 이벤트를 배치로 소비하여 좋아요가 바뀐 상품의 추천 이웃 목록을 갱신한다.
+ * 같은 배치에 여러 번 등장한 상품은 한 번만 다시 계산하며, 갱신이 끝난 뒤에만 커밋한다.
+ * 이벤트 키(상품 ID)별로 레인을 나누어 병렬 갱신하므로 같은 상품은 한 레인에서만 계산된다.
+ * 역직렬화할 수 없는 메시지는 재전달해도 실패하므로 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeEventConsumer {
+
+    private final CoLikeRecommendationService coLikeRecommendationService;
+    private final KeyOrderedBatchProcessor keyOrderedBatchProcessor;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        topics = {"${recommendation.co-like.topic-name}"},
+        containerFactory = KafkaConfig.BATCH_LISTENER,
+        autoStartup = "${recommendation.co-like.consumer-enabled}"
+    )
+    public void consume(
+        List<ConsumerRecord<Object, Object>> messages,
+        Acknowledgment acknowledgment
+    ) {
+        keyOrderedBatchProcessor.process(messages, this::refresh);
+        log.debug("동시 좋아요 추천 증분 갱신. 수신={}건", messages.size());
+        acknowledgment.acknowledge();
+    }
+
+    private void refresh(List<ConsumerRecord<Object, Object>> lane) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (ConsumerRecord<Object, Object> message : lane) {
+            JsonNode event = read(message);
+            JsonNode productId = event == null ? null : event.get("productId");
+            if (productId != null && productId.canConvertToLong()) {
+                productIds.add(productId.asLong());
+            }
+        }
+        coLikeRecommendationService.refresh(productIds);
+    }
+
+    private JsonNode read(ConsumerRecord<Object, Object> message) {
+        try {
+            Object value = message.value();
+            if (value instanceof byte[] bytes) {
+                return objectMapper.readTree(bytes);
+            }
+            return objectMapper.readTree(String.valueOf(value));
+        } catch (IOException e) {
+            log.error("역직렬화할 수 없는 좋아요 이벤트를 건너뜁니다. partition={}, offset={}",
+                message.partition(), message.offset(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.loopers.support.collection;
+
+import java.util.Arrays;
+
+/**
+ * long 키, float 값을 박싱 없이 담는 개방 주소법(선형 탐사) 해시 맵.
+ *
+ * <p>희소 벡터(상품 ID -&gt; 동시 좋아요 수 등)를 대량으로 만들 때 {@code HashMap<Long, Float>} 의 엔트리/박싱 객체 할당을 피하기 위해 쓴다.
+ * 삭제는 지원하지 않으며, 스레드 안전하지 않다.</p>
+ */
+public final class LongFloatHashMap {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long FREE = 0L; // 빈 슬롯 표시. 키 0 은 별도 필드로 보관한다.
+
+    private long[] keys;
+    private float[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    private boolean hasZeroKey;
+    private float zeroValue;
+
+    public LongFloatHashMap() {
+        this(16);
+    }
+
+    public LongFloatHashMap(int expectedSize) {
+        allocate(tableSizeFor(Math.max(expectedSize, 4)));
+    }
+
+    public float get(long key) {
+        if (key == FREE) {
+            return hasZeroKey ? zeroValue : 0f;
+        }
+        int index = indexOf(key);
+        return keys[index] == key ? values[index] : 0f;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasZeroKey;
+        }
+        return keys[indexOf(key)] == key;
+    }
+
+    public void put(long key, float value) {
+        if (key == FREE) {
+            size += hasZeroKey ? 0 : 1;
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            values[index] = value;
+            return;
+        }
+        insertAt(index, key, value);
+    }
+
+    /**
+     * 키의 값에 {@code delta} 를 더한다. 키가 없으면 0 에서 시작한다.
+     *
+     * @return 더한 뒤의 값
+     */
+    public float addTo(long key, float delta) {
+        if (key == FREE) {
+            size += hasZeroKey ? 0 : 1;
+            hasZeroKey = true;
+            zeroValue += delta;
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            values[index] += delta;
+            return values[index];
+        }
+        insertAt(index, key, delta);
+        return delta;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(LongFloatConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(FREE, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private void insertAt(int index, long key, float value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * 키가 있으면 그 위치를, 없으면 삽입할 빈 슬롯 위치를 돌려준다.
+     */
+    private int indexOf(long key) {
+        int index = mix(key) & mask;
+        while (keys[index] != FREE && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        float[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new float[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit((int) Math.ceil(expectedSize / LOAD_FACTOR));
+        return capacity < expectedSize / LOAD_FACTOR ? capacity << 1 : capacity;
+    }
+
+    // 연속된 ID 가 인접 슬롯에 몰리지 않도록 64비트 황금비 상수를 곱하고(피보나치 해싱) 상위 비트를 하위로 접는다.
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h ^= h >>> 16;
+        return (int) h;
+    }
+
+    @FunctionalInterface
+    public interface LongFloatConsumer {
+        void accept(long key, float value);
+    }
+}
@@ -0,0 +1,209 @@
+package com.loopers.application.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.recommendation.LikeMatrixRepository;
+import com.loopers.domain.recommendation.NeighborStore;
+import com.loopers.domain.recommendation.Neighbors;
+import com.loopers.domain.recommendation.UserLike;
+import com.loopers.support.collection.LongFloatHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CoLikeRecommendationService 테스트")
+class CoLikeRecommendationServiceTest {
+
+    private final InMemoryLikeMatrix likeMatrix = new InMemoryLikeMatrix();
+    private final Map<Long, Neighbors> stored = new HashMap<>();
+    private final NeighborStore neighborStore = stored::putAll;
+
+    @DisplayName("파티션을 나누어 재계산해도 한 번에 계산한 결과와 같다")
+    @Test
+    void rebuildAll_isIndependentOfPartitions() {
+        // given
+        for (int user = 0; user < 20; user++) {
+            for (long product = 1; product <= 6; product++) {
+                if ((user + product) % 3 != 0) {
+                    likeMatrix.like("user" + user, product, user * 10L + product);
+                }
+            }
+        }
+
+        // when
+        service(200, 1_000, 1).rebuildAll();
+        Map<Long, Neighbors> single = new HashMap<>(stored);
+        stored.clear();
+        int written = service(200, 1_000, 4).rebuildAll();
+
+        // then
+        assertThat(written).isEqualTo(single.size());
+        single.forEach((productId, neighbors) -> assertAll(
+            () -> assertThat(stored.get(productId).productIds()).containsExactly(neighbors.productIds()),
+            () -> assertThat(stored.get(productId).scores()).containsExactly(neighbors.scores())
+        ));
+    }
+
+    @DisplayName("사용자당 상한을 넘으면 상품 ID 가 아니라 최근 좋아요를 남긴다")
+    @Test
+    void rebuildAll_keepsRecentLikesPerUser() {
+        // given
+        for (String user : List.of("user1", "user2")) {
+            likeMatrix.like(user, 1L, 1L);  // 가장 오래된 좋아요
+            likeMatrix.like(user, 50L, 3L);
+            likeMatrix.like(user, 90L, 2L);
+        }
+
+        // when
+        service(2, 1_000, 1).rebuildAll();
+
+        // then
+        assertAll(
+            () -> assertThat(stored.get(50L).productIds()).containsExactly(90L),
+            () -> assertThat(stored.get(50L).scores()).containsExactly(1f),
+            () -> assertThat(stored).doesNotContainKey(1L)
+        );
+    }
+
+    @DisplayName("증분 갱신은 상품의 모든 좋아요 사용자로 co 와 n 을 함께 센다")
+    @Test
+    void refresh_scoresWithConsistentCounts() {
+        // given
+        likeMatrix.like("user1", 1L, 1L);
+        likeMatrix.like("user2", 1L, 2L);
+        likeMatrix.like("user1", 2L, 3L);
+        likeMatrix.like("user2", 2L, 4L);
+        likeMatrix.like("user3", 2L, 5L);
+        likeMatrix.like("user4", 2L, 6L);
+
+        // when
+        service(200, 2, 1).refresh(List.of(1L));
+
+        // then: co(1,2) = 2, n(1) = 2, n(2) = 4
+        assertAll(
+            () -> assertThat(stored.get(1L).productIds()).containsExactly(2L),
+            () -> assertThat(stored.get(1L).scores()[0]).isEqualTo((float) (2 / Math.sqrt(2.0 * 4)))
+        );
+    }
+
+    @DisplayName("사용자당 최근 좋아요 상한이 걸려도 증분 갱신은 전체 재계산과 같은 점수를 낸다")
+    @Test
+    void refresh_matchesRebuild_withRecentLikesCap() {
+        // given - 사용자마다 좋아요 4개 중 최근 3개만 센다. 같은 시각의 좋아요도 섞는다.
+        for (int user = 0; user < 12; user++) {
+            for (long product = 1; product <= 6; product++) {
+                if ((user + product) % 3 != 0) {
+                    likeMatrix.like("user" + user, product, (user * 7L + product * 3L) % 5);
+                }
+            }
+        }
+        List<Long> productIds = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+
+        // when
+        service(3, 1_000, 2).rebuildAll();
+        Map<Long, Neighbors> rebuilt = new HashMap<>(stored);
+        stored.clear();
+        service(3, 1_000, 2).refresh(productIds);
+
+        // then
+        assertThat(rebuilt).isNotEmpty();
+        productIds.forEach(productId -> {
+            Neighbors expected = rebuilt.getOrDefault(productId, Neighbors.empty());
+            assertAll(
+                () -> assertThat(stored.get(productId).productIds()).containsExactly(expected.productIds()),
+                () -> assertThat(stored.get(productId).scores()).containsExactly(expected.scores())
+            );
+        });
+    }
+
+    @DisplayName("좋아요가 상한보다 많은 상품은 증분 갱신을 건너뛰어 기존 목록을 남긴다")
+    @Test
+    void refresh_skipsProductsAboveCap() {
+        // given
+        for (int user = 0; user < 3; user++) {
+            likeMatrix.like("user" + user, 1L, user);
+            likeMatrix.like("user" + user, 2L, user);
+        }
+
+        // when
+        service(200, 2, 1).refresh(List.of(1L, 2L));
+
+        // then
+        assertThat(stored).isEmpty();
+    }
+
+    @DisplayName("좋아요가 모두 취소된 상품은 빈 목록으로 교체한다")
+    @Test
+    void refresh_clearsProductWithoutLikes() {
+        // when
+        service(200, 2, 1).refresh(List.of(1L));
+
+        // then
+        assertThat(stored.get(1L).isEmpty()).isTrue();
+    }
+
+    private CoLikeRecommendationService service(int maxLikesPerUser, int maxLikersPerProduct, int partitions) {
+        CoLikeProperties properties = new CoLikeProperties(10, 2, maxLikesPerUser, maxLikersPerProduct, 3,
+            partitions, 2);
+        return new CoLikeRecommendationService(properties, likeMatrix, neighborStore);
+    }
+
+    private static class InMemoryLikeMatrix implements LikeMatrixRepository {
+
+        private final List<UserLike> likes = new ArrayList<>();
+
+        void like(String userId, long productId, long likedAt) {
+            likes.add(new UserLike(userId, productId, likedAt));
+        }
+
+        @Override
+        public List<UserLike> findActiveLikesAfter(UserLike after, int limit) {
+            Comparator<UserLike> order = Comparator.comparing(UserLike::userId).thenComparingLong(UserLike::productId);
+            return likes.stream()
+                .filter(like -> after == null || order.compare(like, after) > 0)
+                .sorted(order)
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public List<String> findRecentLikerIds(long productId, int limit, int recentLikesPerUser) {
+            return recentLikes(recentLikesPerUser).stream()
+                .filter(like -> like.productId() == productId)
+                .sorted(Comparator.comparingLong(UserLike::likedAt).reversed())
+                .limit(limit)
+                .map(UserLike::userId)
+                .toList();
+        }
+
+        @Override
+        public void countLikesByUsers(Collection<String> userIds, int recentLikesPerUser, LongFloatHashMap into) {
+            recentLikes(recentLikesPerUser).stream().filter(like -> userIds.contains(like.userId()))
+                .forEach(like -> into.addTo(like.productId(), 1f));
+        }
+
+        @Override
+        public void countLikesByProducts(Collection<Long> productIds, int recentLikesPerUser, LongFloatHashMap into) {
+            recentLikes(recentLikesPerUser).stream().filter(like -> productIds.contains(like.productId()))
+                .forEach(like -> into.addTo(like.productId(), 1f));
+        }
+
+        // LikeMatrixJdbcRepository 의 ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY created_at DESC, product_id) 와 같은 순위
+        private List<UserLike> recentLikes(int recentLikesPerUser) {
+            Comparator<UserLike> recency = Comparator.comparingLong(UserLike::likedAt).reversed()
+                .thenComparingLong(UserLike::productId);
+            return likes.stream()
+                .collect(Collectors.groupingBy(UserLike::userId))
+                .values().stream()
+                .flatMap(userLikes -> userLikes.stream().sorted(recency).limit(recentLikesPerUser))
+                .toList();
+        }
+    }
+}
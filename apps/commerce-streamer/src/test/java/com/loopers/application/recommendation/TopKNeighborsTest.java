@@ -0,0 +1,97 @@
+package com.loopers.application.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.recommendation.Neighbors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TopKNeighbors 테스트")
+class TopKNeighborsTest {
+
+    @DisplayName("점수가 높은 K 개만 남기고 점수 내림차순으로 돌려준다")
+    @Test
+    void keepsTopK_inDescendingOrder() {
+        // given
+        TopKNeighbors top = new TopKNeighbors(3);
+        float[] scores = {0.3f, 0.9f, 0.1f, 0.5f, 0.7f, 0.2f};
+
+        // when
+        for (int i = 0; i < scores.length; i++) {
+            top.offer(i + 1, scores[i]);
+        }
+        Neighbors neighbors = top.toNeighbors();
+
+        // then
+        assertAll(
+            () -> assertThat(neighbors.productIds()).containsExactly(2L, 5L, 4L),
+            () -> assertThat(neighbors.scores()).containsExactly(0.9f, 0.7f, 0.5f)
+        );
+    }
+
+    @DisplayName("점수가 같으면 넣은 순서와 무관하게 상품 ID 가 작은 쪽을 남기고 앞에 둔다")
+    @Test
+    void breaksTiesByProductId() {
+        // given
+        TopKNeighbors ascending = new TopKNeighbors(2);
+        TopKNeighbors descending = new TopKNeighbors(2);
+
+        // when
+        for (long id = 1; id <= 4; id++) {
+            ascending.offer(id, 0.5f);
+            descending.offer(5 - id, 0.5f);
+        }
+
+        // then
+        assertAll(
+            () -> assertThat(ascending.toNeighbors().productIds()).containsExactly(1L, 2L),
+            () -> assertThat(descending.toNeighbors().productIds()).containsExactly(1L, 2L)
+        );
+    }
+
+    @DisplayName("K 개보다 적게 들어오면 들어온 것을 모두 점수 내림차순으로 돌려준다")
+    @Test
+    void returnsAll_whenFewerThanK() {
+        // given
+        TopKNeighbors top = new TopKNeighbors(5);
+
+        // when
+        top.offer(10L, 0.2f);
+        top.offer(20L, 0.8f);
+        Neighbors neighbors = top.toNeighbors();
+
+        // then
+        assertThat(neighbors.productIds()).containsExactly(20L, 10L);
+    }
+
+    @DisplayName("결과를 꺼낸 뒤에도 힙이 유지되어 계속 받을 수 있다")
+    @Test
+    void keepsHeap_afterToNeighbors() {
+        // given
+        TopKNeighbors top = new TopKNeighbors(2);
+        top.offer(1L, 0.1f);
+        top.offer(2L, 0.2f);
+        top.toNeighbors();
+
+        // when
+        top.offer(3L, 0.3f);
+        Neighbors neighbors = top.toNeighbors();
+
+        // then
+        assertThat(neighbors.productIds()).containsExactly(3L, 2L);
+    }
+
+    @DisplayName("K 가 0 이면 아무것도 남기지 않는다")
+    @Test
+    void keepsNothing_whenKIsZero() {
+        // given
+        TopKNeighbors top = new TopKNeighbors(0);
+
+        // when
+        top.offer(1L, 1f);
+
+        // then
+        assertThat(top.toNeighbors().isEmpty()).isTrue();
+    }
+}
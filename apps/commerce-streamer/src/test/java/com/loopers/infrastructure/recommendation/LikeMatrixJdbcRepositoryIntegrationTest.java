@@ -0,0 +1,124 @@
+package com.loopers.infrastructure.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.application.recommendation.CoLikeProperties;
+import com.loopers.application.recommendation.CoLikeRecommendationService;
+import com.loopers.domain.recommendation.NeighborStore;
+import com.loopers.domain.recommendation.Neighbors;
+import com.loopers.support.collection.LongFloatHashMap;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "recommendation.co-like.consumer-enabled=false")
+@DisplayName("LikeMatrixJdbcRepository 통합 테스트")
+class LikeMatrixJdbcRepositoryIntegrationTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private LikeMatrixJdbcRepository likeMatrixJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, Neighbors> stored = new HashMap<>();
+    private final NeighborStore neighborStore = stored::putAll;
+
+    @BeforeEach
+    void setUp() {
+        // likes 는 commerce-api 가 소유하는 테이블이므로 이 앱의 스키마 생성에 포함되지 않는다.
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS likes (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                user_id VARCHAR(10) NOT NULL,
+                product_id BIGINT NOT NULL,
+                created_at DATETIME(6) NOT NULL,
+                deleted_at DATETIME(6) NULL,
+                UNIQUE KEY uk_likes_user_product (user_id, product_id)
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS likes");
+    }
+
+    @DisplayName("사용자별 최근 좋아요만 세고, 같은 시각이면 상품 ID 가 작은 좋아요를 남기며, 취소된 좋아요는 세지 않는다")
+    @Test
+    void countsRecentLikesPerUser() {
+        // given
+        like("user1", 1L, 1);
+        like("user1", 2L, 3);
+        like("user1", 3L, 2);
+        like("user1", 4L, 2);
+        like("user2", 1L, 5);
+        like("user2", 4L, 6);
+        jdbcTemplate.update("UPDATE likes SET deleted_at = NOW(6) WHERE user_id = 'user2' AND product_id = 4");
+        LongFloatHashMap byUsers = new LongFloatHashMap(8);
+        LongFloatHashMap byProducts = new LongFloatHashMap(8);
+
+        // when - 최근 2개: user1 은 상품 2, 3 / user2 는 상품 1
+        likeMatrixJdbcRepository.countLikesByUsers(List.of("user1", "user2"), 2, byUsers);
+        likeMatrixJdbcRepository.countLikesByProducts(List.of(1L, 2L, 3L, 4L), 2, byProducts);
+        List<String> likerIds = likeMatrixJdbcRepository.findRecentLikerIds(1L, 10, 2);
+
+        // then
+        assertAll(
+            () -> assertThat(new float[]{byUsers.get(1L), byUsers.get(2L), byUsers.get(3L), byUsers.get(4L)})
+                .containsExactly(1f, 1f, 1f, 0f),
+            () -> assertThat(new float[]{byProducts.get(1L), byProducts.get(2L), byProducts.get(3L), byProducts.get(4L)})
+                .containsExactly(1f, 1f, 1f, 0f),
+            () -> assertThat(likerIds).containsExactly("user2")
+        );
+    }
+
+    @DisplayName("사용자당 최근 좋아요 상한이 걸려도 증분 갱신은 전체 재계산과 같은 점수를 낸다")
+    @Test
+    void refreshMatchesRebuild() {
+        // given
+        for (int user = 0; user < 12; user++) {
+            for (long product = 1; product <= 6; product++) {
+                if ((user + product) % 3 != 0) {
+                    like("user" + user, product, (user * 7 + product * 3) % 5);
+                }
+            }
+        }
+        List<Long> productIds = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+        CoLikeRecommendationService service = new CoLikeRecommendationService(
+            new CoLikeProperties(10, 2, 3, 1_000, 7, 2, 2), likeMatrixJdbcRepository, neighborStore);
+
+        // when
+        service.rebuildAll();
+        Map<Long, Neighbors> rebuilt = new HashMap<>(stored);
+        stored.clear();
+        service.refresh(productIds);
+
+        // then
+        assertThat(rebuilt).isNotEmpty();
+        productIds.forEach(productId -> {
+            Neighbors expected = rebuilt.getOrDefault(productId, Neighbors.empty());
+            assertAll(
+                () -> assertThat(stored.get(productId).productIds()).containsExactly(expected.productIds()),
+                () -> assertThat(stored.get(productId).scores()).containsExactly(expected.scores())
+            );
+        });
+    }
+
+    private void like(String userId, long productId, long secondsAfterBase) {
+        jdbcTemplate.update("INSERT INTO likes (user_id, product_id, created_at) VALUES (?, ?, ?)",
+            userId, productId, Timestamp.from(BASE.plusSeconds(secondsAfterBase)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.loopers.infrastructure.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.recommendation.Neighbors;
+import com.loopers.utils.RedisCleanUp;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@SpringBootTest(properties = "recommendation.co-like.consumer-enabled=false")
+@DisplayName("NeighborRedisStore 통합 테스트")
+class NeighborRedisStoreIntegrationTest {
+
+    @Autowired
+    private NeighborRedisStore neighborRedisStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("이웃 목록을 점수 순 ZSET 으로 교체하고 TTL 을 걸며, 임시 키를 남기지 않는다")
+    @Test
+    void replacesNeighbors() {
+        // given
+        redisTemplate.opsForZSet().add("reco:colike:1", "99", 0.9);
+
+        // when
+        neighborRedisStore.replaceAll(Map.of(
+            1L, new Neighbors(new long[]{3L, 2L}, new float[]{0.8f, 0.5f}),
+            2L, new Neighbors(new long[]{1L}, new float[]{0.5f})
+        ));
+
+        // then
+        assertAll(
+            () -> assertThat(redisTemplate.opsForZSet().reverseRange("reco:colike:1", 0, -1)).containsExactly("3", "2"),
+            () -> assertThat(redisTemplate.opsForZSet().reverseRange("reco:colike:2", 0, -1)).containsExactly("1"),
+            () -> assertThat(redisTemplate.getExpire("reco:colike:1")).isPositive(),
+            () -> assertThat(redisTemplate.keys("reco:colike:*:tmp:*")).isEmpty()
+        );
+    }
+
+    @DisplayName("빈 이웃 목록은 기존 목록을 지운다")
+    @Test
+    void deletesEmptyNeighbors() {
+        // given
+        redisTemplate.opsForZSet().add("reco:colike:1", "2", 0.5);
+
+        // when
+        neighborRedisStore.replaceAll(Map.of(1L, Neighbors.empty()));
+
+        // then
+        assertThat(redisTemplate.hasKey("reco:colike:1")).isFalse();
+    }
+}
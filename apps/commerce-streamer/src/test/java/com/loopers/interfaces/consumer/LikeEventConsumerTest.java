@@ -0,0 +1,94 @@
+package com.loopers.interfaces.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.recommendation.CoLikeRecommendationService;
+import com.loopers.confg.kafka.KeyOrderedBatchProcessor;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeEventConsumer 테스트")
+class LikeEventConsumerTest {
+
+    private static final String TOPIC = "like-event.v1";
+
+    @Captor
+    private ArgumentCaptor<Collection<Long>> captor;
+
+    private CoLikeRecommendationService coLikeRecommendationService;
+    private KeyOrderedBatchProcessor keyOrderedBatchProcessor;
+    private LikeEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        coLikeRecommendationService = mock(CoLikeRecommendationService.class);
+        keyOrderedBatchProcessor = new KeyOrderedBatchProcessor(1);
+        consumer = new LikeEventConsumer(coLikeRecommendationService, keyOrderedBatchProcessor, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyOrderedBatchProcessor.shutdown();
+    }
+
+    @DisplayName("역직렬화할 수 없는 메시지는 건너뛰고, 같은 상품은 한 번만 갱신한 뒤 커밋한다")
+    @Test
+    void skipsMalformedMessage() {
+        // given
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        List<ConsumerRecord<Object, Object>> messages = List.of(
+            record(0, "1", "{not-json"),
+            record(1, "1", "{\"userId\":\"user1\",\"productId\":1,\"liked\":true}"),
+            record(2, "1", "{\"userId\":\"user2\",\"productId\":1,\"liked\":true}"),
+            record(3, "2", "{\"userId\":\"user1\",\"productId\":2,\"liked\":false}")
+        );
+
+        // when
+        consumer.consume(messages, acknowledgment);
+
+        // then
+        verify(coLikeRecommendationService).refresh(captor.capture());
+        assertThat(captor.getValue()).containsExactly(1L, 2L);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @DisplayName("갱신에 실패하면 커밋하지 않아 배치가 재전달된다")
+    @Test
+    void doesNotAcknowledge_whenRefreshFails() {
+        // given
+        doThrow(new IllegalStateException("Redis 장애")).when(coLikeRecommendationService).refresh(anyCollection());
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        List<ConsumerRecord<Object, Object>> messages = List.of(
+            record(0, "1", "{\"userId\":\"user1\",\"productId\":1,\"liked\":true}")
+        );
+
+        // when
+        assertThrows(IllegalStateException.class, () -> consumer.consume(messages, acknowledgment));
+
+        // then
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private static ConsumerRecord<Object, Object> record(long offset, String key, String json) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, key, json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package com.loopers.support.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LongFloatHashMap 테스트")
+class LongFloatHashMapTest {
+
+    @DisplayName("초기 크기를 넘겨 여러 번 재해시되어도 모든 값을 유지한다")
+    @Test
+    void keepsValues_acrossRehash() {
+        // given
+        LongFloatHashMap map = new LongFloatHashMap(4);
+
+        // when
+        for (long key = 1; key <= 10_000; key++) {
+            map.put(key, key * 0.5f);
+        }
+
+        // then
+        assertAll(
+            () -> assertThat(map.size()).isEqualTo(10_000),
+            () -> assertThat(map.get(1L)).isEqualTo(0.5f),
+            () -> assertThat(map.get(5_000L)).isEqualTo(2_500f),
+            () -> assertThat(map.get(10_000L)).isEqualTo(5_000f),
+            () -> assertThat(map.containsKey(10_001L)).isFalse()
+        );
+    }
+
+    @DisplayName("키 0 은 빈 슬롯 표시와 겹치지 않게 따로 보관되고 크기와 순회에 포함된다")
+    @Test
+    void storesZeroKey() {
+        // given
+        LongFloatHashMap map = new LongFloatHashMap();
+
+        // when
+        map.addTo(0L, 1f);
+        map.addTo(0L, 2f);
+        map.put(7L, 1f);
+        Map<Long, Float> visited = new HashMap<>();
+        map.forEach(visited::put);
+
+        // then
+        assertAll(
+            () -> assertThat(map.containsKey(0L)).isTrue(),
+            () -> assertThat(map.get(0L)).isEqualTo(3f),
+            () -> assertThat(map.size()).isEqualTo(2),
+            () -> assertThat(visited).containsEntry(0L, 3f).containsEntry(7L, 1f).hasSize(2)
+        );
+    }
+
+    @DisplayName("없는 키는 0 으로 읽히고, addTo 는 0 에서 누적한다")
+    @Test
+    void accumulatesFromZero() {
+        // given
+        LongFloatHashMap map = new LongFloatHashMap();
+
+        // when
+        float first = map.addTo(-3L, 2f);
+        float second = map.addTo(-3L, 1.5f);
+
+        // then
+        assertAll(
+            () -> assertThat(map.get(42L)).isZero(),
+            () -> assertThat(map.containsKey(0L)).isFalse(),
+            () -> assertThat(first).isEqualTo(2f),
+            () -> assertThat(second).isEqualTo(3.5f),
+            () -> assertThat(map.size()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("연속된 키가 한 구간에 몰려도 재해시 후 조회가 정확하다")
+    @Test
+    void handlesClusteredKeys() {
+        // given
+        LongFloatHashMap map = new LongFloatHashMap(16);
+
+        // when
+        for (long key = 0; key < 1_024; key++) {
+            map.addTo(key << 32, 1f);
+            map.addTo(key << 32, 1f);
+        }
+
+        // then
+        assertAll(
+            () -> assertThat(map.size()).isEqualTo(1_024),
+            () -> assertThat(map.get(0L)).isEqualTo(2f),
+            () -> assertThat(map.get(1_023L << 32)).isEqualTo(2f)
+        );
+    }
+}
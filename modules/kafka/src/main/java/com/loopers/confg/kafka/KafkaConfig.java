@@ -28,6 +28,7 @@ public class KafkaConfig {
     public static final int SESSION_TIMEOUT_MS = 60 * 1000; // session timeout = 1m
     public static final int HEARTBEAT_INTERVAL_MS = 20 * 1000; // heartbeat interval = 20s ( 1/3 of session_timeout )
     public static final int MAX_POLL_INTERVAL_MS = 2 * 60 * 1000; // max poll interval = 2m
+    public static final int KEY_ORDERED_PARALLELISM = 8; // 배치 한 건을 키 단위로 나누어 처리할 최대 스레드 수 (컨테이너 간 공유)
 
     @Bean
     public ProducerFactory<Object, Object> producerFactory(KafkaProperties kafkaProperties) {
@@ -72,4 +73,9 @@ public class KafkaConfig {
         factory.setBatchListener(true);
         return factory;
     }
+
+    @Bean(destroyMethod = "shutdown")
+    public KeyOrderedBatchProcessor keyOrderedBatchProcessor() {
+        return new KeyOrderedBatchProcessor(KEY_ORDERED_PARALLELISM);
+    }
 }
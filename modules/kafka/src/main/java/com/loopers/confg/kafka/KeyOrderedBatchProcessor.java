@@ -0,0 +1,146 @@
+package com.loopers.confg.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 배치 리스너가 한 번의 poll 로 받은 레코드를 키 단위로 나누어 병렬 처리한다.
+ *
+ * <p>레코드는 키의 해시로 최대 {@code parallelism} 개의 레인에 배정되고, 각 레인은 poll 순서를 유지한 채 한 스레드에서 처리된다.
+ * 같은 키는 항상 같은 레인에 들어가므로 키별 순서가 보장되고, 파티션 수보다 많은 스레드로 처리량을 늘릴 수 있다.</p>
+ *
+ * <p>{@link #process} 는 모든 레인이 끝날 때까지 반환하지 않는다. 리스너는 반환된 뒤에 수동 커밋해야 하며,
+ * 한 레인이라도 실패하면 나머지 레인이 끝난 뒤 예외를 던져 커밋하지 않는다. 이 경우 배치 전체가 재전달되므로 처리는 멱등해야 한다.
+ * 여러 레인이 실패하면 먼저 제출된 레인의 예외를 던지고, 나머지는 suppressed 로 붙인다.</p>
+ */
+@Slf4j
+public class KeyOrderedBatchProcessor {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int parallelism;
+    private final ThreadPoolExecutor executor;
+
+    public KeyOrderedBatchProcessor(int parallelism) {
+        this(parallelism, parallelism * 4);
+    }
+
+    KeyOrderedBatchProcessor(int parallelism, int queueCapacity) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism 은 1 이상이어야 합니다: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        AtomicInteger sequence = new AtomicInteger();
+        // 리스너 컨테이너 여러 개가 공유하므로 큐를 제한하고, 가득 차면 리스너 스레드가 직접 레인을 처리한다.
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "kafka-key-ordered-" + sequence.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // CallerRunsPolicy 는 종료된 뒤의 작업을 버려 join 이 끝나지 않으므로, 종료 여부와 무관하게 호출 스레드에서 실행한다.
+            (runnable, pool) -> runnable.run());
+    }
+
+    /**
+     * 레코드 키({@link ConsumerRecord#key()})로 나누어 처리한다.
+     */
+    public <K, V> void process(List<ConsumerRecord<K, V>> records, Consumer<List<ConsumerRecord<K, V>>> handler) {
+        process(records, ConsumerRecord::key, handler);
+    }
+
+    /**
+     * @param keyExtractor 순서를 보장할 키. null 이면 파티션 단위로 순서를 보장한다.
+     * @param handler 한 레인의 레코드를 poll 순서대로 받는다. 서로 다른 레인에서 동시에 호출된다.
+     */
+    public <K, V> void process(
+        List<ConsumerRecord<K, V>> records,
+        Function<ConsumerRecord<K, V>, ?> keyExtractor,
+        Consumer<List<ConsumerRecord<K, V>>> handler
+    ) {
+        List<List<ConsumerRecord<K, V>>> lanes = split(records, keyExtractor);
+        if (lanes.size() <= 1) {
+            lanes.forEach(handler);
+            return;
+        }
+
+        CompletableFuture<?>[] futures = lanes.stream()
+            .map(lane -> CompletableFuture.runAsync(() -> handler.accept(lane), executor))
+            .toArray(CompletableFuture[]::new);
+        try {
+            // allOf 는 실패한 레인이 있어도 모든 레인이 끝난 뒤에 완료된다.
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            throw failureOf(futures);
+        }
+    }
+
+    /**
+     * 새 레인을 받지 않고, 처리 중인 레인이 끝날 때까지 최대 {@link #SHUTDOWN_TIMEOUT} 동안 기다린다.
+     * 시간 안에 끝나지 않으면 인터럽트한다. 커밋되지 않은 배치는 재전달된다.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("키 순서 배치 처리 레인이 {} 안에 끝나지 않아 중단합니다.", SHUTDOWN_TIMEOUT);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RuntimeException failureOf(CompletableFuture<?>[] futures) {
+        Throwable failure = null;
+        for (CompletableFuture<?> future : futures) {
+            if (future.isCompletedExceptionally()) {
+                Throwable cause = future.exceptionNow();
+                if (failure == null) {
+                    failure = cause;
+                } else if (cause != failure) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(failure);
+    }
+
+    private <K, V> List<List<ConsumerRecord<K, V>>> split(
+        List<ConsumerRecord<K, V>> records,
+        Function<ConsumerRecord<K, V>, ?> keyExtractor
+    ) {
+        List<List<ConsumerRecord<K, V>>> lanes = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (ConsumerRecord<K, V> record : records) {
+            Object key = keyExtractor.apply(record);
+            int hash = key != null ? Objects.hashCode(key) : Objects.hash(record.topic(), record.partition());
+            lanes.get(Math.floorMod(hash ^ (hash >>> 16), parallelism)).add(record);
+        }
+        lanes.removeIf(List::isEmpty);
+        return lanes;
+    }
+}
@@ -0,0 +1,186 @@
+package com.loopers.confg.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeyOrderedBatchProcessor 테스트")
+class KeyOrderedBatchProcessorTest {
+
+    private static final String TOPIC = "test.v1";
+
+    // parallelism 2 에서 "a" 와 "b" 는 서로 다른 레인에 배정된다.
+    private static final String LANE_A_KEY = "a";
+    private static final String LANE_B_KEY = "b";
+
+    private KeyOrderedBatchProcessor processor;
+
+    @AfterEach
+    void tearDown() {
+        if (processor != null) {
+            processor.shutdown();
+        }
+    }
+
+    @DisplayName("같은 키의 레코드는 한 스레드에서 poll 순서대로 처리된다")
+    @Test
+    void keepsOrderPerKey() {
+        // given
+        processor = new KeyOrderedBatchProcessor(4);
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (int offset = 0; offset < 200; offset++) {
+            records.add(record(offset, "key-" + (offset % 10)));
+        }
+        Map<Object, List<Long>> offsetsByKey = new ConcurrentHashMap<>();
+        Map<Object, Set<String>> threadsByKey = new ConcurrentHashMap<>();
+
+        // when
+        processor.process(records, lane -> lane.forEach(record -> {
+            offsetsByKey.computeIfAbsent(record.key(), key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(record.offset());
+            threadsByKey.computeIfAbsent(record.key(), key -> ConcurrentHashMap.newKeySet())
+                .add(Thread.currentThread().getName());
+        }));
+
+        // then
+        assertAll(
+            () -> assertThat(offsetsByKey).hasSize(10),
+            () -> assertThat(offsetsByKey.values()).allSatisfy(offsets -> assertThat(offsets).hasSize(20).isSorted()),
+            () -> assertThat(threadsByKey.values()).allSatisfy(threads -> assertThat(threads).hasSize(1))
+        );
+    }
+
+    @DisplayName("한 레인이 실패해도 다른 레인이 모두 끝난 뒤에 예외를 던진다")
+    @Test
+    void throwsAfterAllLanesFinish() {
+        // given
+        processor = new KeyOrderedBatchProcessor(2);
+        AtomicBoolean slowLaneFinished = new AtomicBoolean();
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+            processor.process(List.of(record(0, LANE_A_KEY), record(1, LANE_B_KEY)), lane -> {
+                if (LANE_A_KEY.equals(lane.get(0).key())) {
+                    throw new IllegalStateException("레인 실패");
+                }
+                sleep(200);
+                slowLaneFinished.set(true);
+            }));
+
+        // then
+        assertAll(
+            () -> assertThat(exception).hasMessage("레인 실패"),
+            () -> assertThat(slowLaneFinished).isTrue()
+        );
+    }
+
+    @DisplayName("여러 레인이 실패하면 하나를 던지고 나머지는 suppressed 로 붙인다")
+    @Test
+    void attachesOtherFailuresAsSuppressed() {
+        // given
+        processor = new KeyOrderedBatchProcessor(2);
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+            processor.process(List.of(record(0, LANE_A_KEY), record(1, LANE_B_KEY)), lane -> {
+                throw new IllegalStateException("레인 실패: " + lane.get(0).key());
+            }));
+
+        // then
+        assertThat(exception.getSuppressed()).hasSize(1);
+        assertThat(List.of(exception.getMessage(), exception.getSuppressed()[0].getMessage()))
+            .containsExactlyInAnyOrder("레인 실패: a", "레인 실패: b");
+    }
+
+    @DisplayName("작업 큐가 가득 차면 호출 스레드가 레인을 직접 처리한다")
+    @Test
+    void runsInCaller_whenQueueIsFull() throws Exception {
+        // given - 다른 리스너의 배치가 두 워커를 모두 점유하고, 큐에는 한 레인만 들어갈 수 있다.
+        processor = new KeyOrderedBatchProcessor(2, 1);
+        CountDownLatch workersBusy = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> otherListener = CompletableFuture.runAsync(() ->
+            processor.process(List.of(record(0, LANE_A_KEY), record(1, LANE_B_KEY)), lane -> {
+                workersBusy.countDown();
+                await(release);
+            }));
+        assertThat(workersBusy.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread caller = Thread.currentThread();
+        Set<Thread> handlerThreads = ConcurrentHashMap.newKeySet();
+
+        // when
+        processor.process(List.of(record(2, LANE_A_KEY), record(3, LANE_B_KEY)), lane -> {
+            handlerThreads.add(Thread.currentThread());
+            if (Thread.currentThread() == caller) {
+                release.countDown();
+            }
+        });
+
+        // then
+        otherListener.get(5, TimeUnit.SECONDS);
+        assertAll(
+            () -> assertThat(handlerThreads).hasSize(2).contains(caller),
+            () -> assertThat(release.getCount()).isZero()
+        );
+    }
+
+    @DisplayName("종료는 처리 중인 레인이 끝날 때까지 기다린다")
+    @Test
+    void shutdownAwaitsRunningLanes() throws Exception {
+        // given
+        processor = new KeyOrderedBatchProcessor(2);
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicBoolean finished = new AtomicBoolean();
+        CompletableFuture<Void> listener = CompletableFuture.runAsync(() ->
+            processor.process(List.of(record(0, LANE_A_KEY), record(1, LANE_B_KEY)), lane -> {
+                started.countDown();
+                sleep(200);
+                finished.set(true);
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        processor.shutdown();
+
+        // then
+        assertThat(finished).isTrue();
+        listener.get(5, TimeUnit.SECONDS);
+    }
+
+    private static ConsumerRecord<Object, Object> record(long offset, String key) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, key, "value-" + offset);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}